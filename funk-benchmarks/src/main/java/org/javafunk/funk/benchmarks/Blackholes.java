@@ -0,0 +1,27 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+final class Blackholes {
+    private Blackholes() {}
+
+    static void consumeAll(Iterable<?> iterable, Blackhole blackhole) {
+        for (Object element : iterable) {
+            blackhole.consume(element);
+        }
+    }
+
+    static void consumeNested(Iterable<? extends Iterable<?>> iterables, Blackhole blackhole) {
+        for (Iterable<?> iterable : iterables) {
+            consumeAll(iterable, blackhole);
+        }
+    }
+}
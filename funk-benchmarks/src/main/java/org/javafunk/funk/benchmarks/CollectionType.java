@@ -0,0 +1,64 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Lazily;
+import org.javafunk.funk.functors.Mapper;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.javafunk.funk.Sequences.increasing;
+import static org.javafunk.funk.Sequences.integersFrom;
+
+/**
+ * The shapes of input {@code Iterable} that each benchmark is run against.
+ * Funk behaves differently for random access lists, sequential lists and
+ * lazily computed iterables so each is measured separately.
+ */
+public enum CollectionType {
+    ARRAY_LIST {
+        @Override public <T> Iterable<T> from(List<T> elements) {
+            return new ArrayList<T>(elements);
+        }
+    },
+    LINKED_LIST {
+        @Override public <T> Iterable<T> from(List<T> elements) {
+            return new LinkedList<T>(elements);
+        }
+    },
+    LAZY {
+        @Override public <T> Iterable<T> from(final List<T> elements) {
+            return Lazily.map(elements, new Mapper<T, T>() {
+                @Override public T map(T input) {
+                    return input;
+                }
+            });
+        }
+    };
+
+    public abstract <T> Iterable<T> from(List<T> elements);
+
+    public Iterable<Integer> integers(int size) {
+        return from(integerList(0, size));
+    }
+
+    public Iterable<Integer> integers(int start, int size) {
+        return from(integerList(start, size));
+    }
+
+    static List<Integer> integerList(int start, int size) {
+        List<Integer> integers = new ArrayList<Integer>(size);
+        for (Integer integer : Lazily.take(integersFrom(start, increasing()), size)) {
+            integers.add(integer);
+        }
+        return integers;
+    }
+}
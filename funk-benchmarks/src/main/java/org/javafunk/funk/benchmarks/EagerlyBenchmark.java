@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Eagerly;
+import org.javafunk.funk.datastructures.NumericSummary;
+import org.javafunk.funk.functors.Indexer;
+import org.javafunk.funk.functors.Reducer;
+import org.javafunk.funk.monads.Option;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EagerlyBenchmark {
+    private static final Reducer<Integer, Long> SUM = new Reducer<Integer, Long>() {
+        @Override public Long accumulate(Long accumulator, Integer element) {
+            return accumulator + element;
+        }
+    };
+
+    private static final Indexer<Integer, Integer> BY_LAST_DIGIT = new Indexer<Integer, Integer>() {
+        @Override public Integer index(Integer item) {
+            return item % 10;
+        }
+    };
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "LAZY"})
+    public CollectionType collectionType;
+
+    private Iterable<Integer> input;
+
+    @Setup
+    public void setUp() {
+        input = collectionType.integers(size);
+    }
+
+    @Benchmark
+    public Long reduce() {
+        return Eagerly.reduce(input, 0L, SUM);
+    }
+
+    @Benchmark
+    public List<Integer> sortBy() {
+        return Eagerly.sortBy(input, BY_LAST_DIGIT);
+    }
+
+    @Benchmark
+    public List<Integer> topN() {
+        return Eagerly.topN(input, 100);
+    }
+
+    @Benchmark
+    public NumericSummary summarizeNumbers() {
+        return Eagerly.summarizeNumbers(input);
+    }
+
+    @Benchmark
+    public Map<Integer, Collection<Integer>> group() {
+        return Eagerly.group(input, BY_LAST_DIGIT);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> groupReduce() {
+        return Eagerly.groupReduce(input, BY_LAST_DIGIT, 0L, SUM);
+    }
+
+    @Benchmark
+    public Map<Integer, Long> groupCount() {
+        return Eagerly.groupCount(input, BY_LAST_DIGIT);
+    }
+
+    @Benchmark
+    public Collection<Integer> slice() {
+        return Eagerly.slice(input, size / 4, size - size / 4, 2);
+    }
+
+    @Benchmark
+    public Collection<Integer> reverse() {
+        return Eagerly.reverse(input);
+    }
+
+    @Benchmark
+    public Option<Integer> last() {
+        return Eagerly.last(input);
+    }
+
+    @Benchmark
+    public Collection<Integer> lastN() {
+        return Eagerly.lastN(input, 10);
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Lazily;
+import org.javafunk.funk.Literals;
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.Predicate;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.javafunk.funk.benchmarks.Blackholes.consumeAll;
+import static org.javafunk.funk.benchmarks.Blackholes.consumeNested;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LazilyBenchmark {
+    private static final Mapper<Integer, Integer> DOUBLE = new Mapper<Integer, Integer>() {
+        @Override public Integer map(Integer input) {
+            return input * 2;
+        }
+    };
+
+    private static final Predicate<Integer> EVEN = new Predicate<Integer>() {
+        @Override public boolean evaluate(Integer input) {
+            return input % 2 == 0;
+        }
+    };
+
+    private static final Iterable<Predicate<Integer>> GUARDS = Literals.<Predicate<Integer>>iterableWith(
+            notDivisibleBy(3), notDivisibleBy(5), notDivisibleBy(7),
+            notDivisibleBy(11), notDivisibleBy(13), notDivisibleBy(17));
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "LAZY"})
+    public CollectionType collectionType;
+
+    private Iterable<Integer> input;
+    private Iterable<Integer> otherInput;
+    private Iterable<Integer> dimension;
+
+    @Setup
+    public void setUp() {
+        input = collectionType.integers(size);
+        otherInput = collectionType.integers(size, size);
+        dimension = collectionType.integers(10);
+    }
+
+    @Benchmark
+    public void map(Blackhole blackhole) {
+        consumeAll(Lazily.map(input, DOUBLE), blackhole);
+    }
+
+    @Benchmark
+    public void filter(Blackhole blackhole) {
+        consumeAll(Lazily.filter(input, EVEN), blackhole);
+    }
+
+    @Benchmark
+    public void mapFilterTake(Blackhole blackhole) {
+        consumeAll(Lazily.take(Lazily.filter(Lazily.map(input, DOUBLE), EVEN), size / 2), blackhole);
+    }
+
+    @Benchmark
+    public void comprehensionWithSixGuards(Blackhole blackhole) {
+        consumeAll(Lazily.comprehension(DOUBLE, input, GUARDS), blackhole);
+    }
+
+    @Benchmark
+    public void batch(Blackhole blackhole) {
+        consumeNested(Lazily.batch(input, 100), blackhole);
+    }
+
+    @Benchmark
+    public void batchAsViews(Blackhole blackhole) {
+        consumeNested(Lazily.batchAsViews(input, 100), blackhole);
+    }
+
+    @Benchmark
+    public void batchReusingBuffer(Blackhole blackhole) {
+        consumeNested(Lazily.batchReusingBuffer(input, 100), blackhole);
+    }
+
+    @Benchmark
+    public void slice(Blackhole blackhole) {
+        consumeAll(Lazily.slice(input, size / 4, size - size / 4, 2), blackhole);
+    }
+
+    @Benchmark
+    public void rest(Blackhole blackhole) {
+        consumeAll(Lazily.rest(input), blackhole);
+    }
+
+    @Benchmark
+    public void zip(Blackhole blackhole) {
+        consumeAll(Lazily.zip(input, otherInput), blackhole);
+    }
+
+    @Benchmark
+    public void zipOfIterables(Blackhole blackhole) {
+        consumeAll(Lazily.zip(Literals.<Iterable<?>>iterableWith(input, otherInput, input)), blackhole);
+    }
+
+    @Benchmark
+    public void cartesianProduct(Blackhole blackhole) {
+        consumeAll(Lazily.cartesianProduct(input, dimension), blackhole);
+    }
+
+    @Benchmark
+    public void mergeSorted(Blackhole blackhole) {
+        consumeAll(Lazily.mergeSorted(Literals.<Iterable<Integer>>iterableWith(input, otherInput, input)), blackhole);
+    }
+
+    @Benchmark
+    public void sample(Blackhole blackhole) {
+        consumeAll(Lazily.sample(input, 10), blackhole);
+    }
+
+    private static Predicate<Integer> notDivisibleBy(final int divisor) {
+        return new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input % divisor != 0;
+            }
+        };
+    }
+}
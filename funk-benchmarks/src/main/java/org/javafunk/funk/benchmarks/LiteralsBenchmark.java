@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import com.google.common.collect.Multiset;
+import org.javafunk.funk.builders.MapBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.javafunk.funk.Literals.*;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LiteralsBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "LAZY"})
+    public CollectionType collectionType;
+
+    private Iterable<Integer> input;
+
+    @Setup
+    public void setUp() {
+        input = collectionType.integers(size);
+    }
+
+    @Benchmark
+    public List<Integer> listFromIterable() {
+        return listFrom(input);
+    }
+
+    @Benchmark
+    public Set<Integer> setFromIterable() {
+        return setFrom(input);
+    }
+
+    @Benchmark
+    public Multiset<Integer> multisetFromIterable() {
+        return multisetFrom(input);
+    }
+
+    @Benchmark
+    public List<Integer> listBuilderWithRepeatedAnd() {
+        return listBuilderFrom(input).and(input).with(1, 2, 3).build();
+    }
+
+    @Benchmark
+    public Map<Integer, Integer> mapBuilderWithKeyValuePairs() {
+        MapBuilder<Integer, Integer> builder = mapBuilder();
+        for (Integer element : input) {
+            builder.withKeyValuePair(element, element);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public List<Integer> listWithTenElements() {
+        return listWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.javafunk.funk.Numbers;
+import org.javafunk.funk.Parallelly;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NumbersBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "LAZY"})
+    public CollectionType collectionType;
+
+    private Iterable<Integer> input;
+    private int[] values;
+
+    @Setup
+    public void setUp() {
+        input = collectionType.integers(size);
+        values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i;
+        }
+    }
+
+    @Benchmark
+    public Integer sumOrThrow() {
+        return Numbers.sumOrThrow(input, Integer.class);
+    }
+
+    @Benchmark
+    public Number sumOf() {
+        return Numbers.sumOf(input);
+    }
+
+    @Benchmark
+    public long sumOfArray() {
+        return Numbers.sumOf(values);
+    }
+
+    @Benchmark
+    public Number parallelSum() {
+        return Parallelly.sum(input);
+    }
+
+    @Benchmark
+    public double meanOf() {
+        return Numbers.meanOf(input);
+    }
+}
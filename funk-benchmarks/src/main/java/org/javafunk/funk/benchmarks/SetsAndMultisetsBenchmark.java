@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import com.google.common.collect.Multiset;
+import org.javafunk.funk.Multisets;
+import org.javafunk.funk.Sets;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SetsAndMultisetsBenchmark {
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Param({"ARRAY_LIST", "LINKED_LIST", "LAZY"})
+    public CollectionType collectionType;
+
+    private Iterable<Integer> first;
+    private Iterable<Integer> second;
+
+    @Setup
+    public void setUp() {
+        first = collectionType.integers(size);
+        second = collectionType.integers(size / 2, size);
+    }
+
+    @Benchmark
+    public Set<Integer> setUnion() {
+        return Sets.union(first, second);
+    }
+
+    @Benchmark
+    public Set<Integer> setIntersection() {
+        return Sets.intersection(first, second);
+    }
+
+    @Benchmark
+    public Set<Integer> setDifference() {
+        return Sets.difference(first, second);
+    }
+
+    @Benchmark
+    public Set<Integer> setSymmetricDifference() {
+        return Sets.symmetricDifference(first, second);
+    }
+
+    @Benchmark
+    public Multiset<Integer> multisetUnion() {
+        return Multisets.union(first, second);
+    }
+
+    @Benchmark
+    public Multiset<Integer> multisetIntersection() {
+        return Multisets.intersection(first, second);
+    }
+
+    @Benchmark
+    public Multiset<Integer> multisetDifference() {
+        return Multisets.difference(first, second);
+    }
+
+    @Benchmark
+    public Multiset<Integer> multisetConcatenate() {
+        return Multisets.concatenate(first, second);
+    }
+}
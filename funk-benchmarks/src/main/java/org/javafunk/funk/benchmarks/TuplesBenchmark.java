@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.benchmarks;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.javafunk.funk.datastructures.tuples.AbstractTuple;
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.datastructures.tuples.Triple;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.javafunk.funk.Lazily.zip;
+import static org.javafunk.funk.Literals.tuple;
+
+/**
+ * Compares the field based, cached {@code equals} and {@code hashCode} of
+ * tuples with the previous implementation, which zipped and iterated the
+ * tuples' values through commons-lang builders, reproduced here as
+ * {@code legacyEquals} and {@code legacyHashCode}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TuplesBenchmark {
+    @Param({"1000"})
+    public int size;
+
+    private Pair<Integer, String> pair;
+    private Pair<Integer, String> equalPair;
+    private Triple<Integer, String, Long> triple;
+    private Triple<Integer, String, Long> equalTriple;
+    private Map<Pair<Integer, String>, Integer> map;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        pair = tuple(42, "forty-two");
+        equalPair = tuple(42, "forty-two");
+        triple = tuple(42, "forty-two", 42L);
+        equalTriple = tuple(42, "forty-two", 42L);
+        map = new HashMap<Pair<Integer, String>, Integer>();
+        for (int i = 0; i < size; i++) {
+            map.put(tuple(i, String.valueOf(i)), i);
+        }
+    }
+
+    @Benchmark
+    public boolean pairEquals() {
+        return pair.equals(equalPair);
+    }
+
+    @Benchmark
+    public boolean pairEqualsLegacy() {
+        return legacyEquals(pair, equalPair);
+    }
+
+    @Benchmark
+    public boolean tripleEquals() {
+        return triple.equals(equalTriple);
+    }
+
+    @Benchmark
+    public boolean tripleEqualsLegacy() {
+        return legacyEquals(triple, equalTriple);
+    }
+
+    @Benchmark
+    public int pairHashCodeCached() {
+        return pair.hashCode();
+    }
+
+    @Benchmark
+    public int pairHashCodeUncached() {
+        return tuple(next, "forty-two").hashCode();
+    }
+
+    @Benchmark
+    public int pairHashCodeLegacy() {
+        return legacyHashCode(tuple(next, "forty-two"));
+    }
+
+    @Benchmark
+    public Integer hashMapLookup() {
+        int key = next++ % size;
+        return map.get(tuple(key, String.valueOf(key)));
+    }
+
+    private static boolean legacyEquals(AbstractTuple first, AbstractTuple second) {
+        EqualsBuilder equalsBuilder = new EqualsBuilder();
+        for (Pair<Object, Object> values : zip(first.getValues(), second.getValues())) {
+            equalsBuilder.append(values.getFirst(), values.getSecond());
+        }
+        return equalsBuilder.isEquals();
+    }
+
+    private static int legacyHashCode(AbstractTuple tuple) {
+        HashCodeBuilder hashCodeBuilder = new HashCodeBuilder();
+        for (Object value : tuple.getValues()) {
+            hashCodeBuilder.append(value);
+        }
+        return hashCodeBuilder.toHashCode();
+    }
+}
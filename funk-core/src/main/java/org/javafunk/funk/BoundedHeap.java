@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Retains the {@code capacity} greatest elements offered to it, according to
+ * the supplied {@code Comparator}, in {@code O(capacity)} memory. Each offer
+ * costs {@code O(log capacity)} time since the retained elements are held in
+ * a heap whose root is the least of them, which is all a new element need be
+ * compared against to decide whether it is retained.
+ *
+ * <p>Where elements compare equal, those offered first are preferred, so
+ * that selection is stable.</p>
+ */
+class BoundedHeap<T> {
+    private static final int INITIAL_CAPACITY = 11;
+
+    private final int capacity;
+    private final PriorityQueue<Offered<T>> heap;
+    private long offered;
+
+    BoundedHeap(int capacity, final Comparator<? super T> comparator) {
+        this.capacity = capacity;
+        this.heap = new PriorityQueue<Offered<T>>(Math.max(1, Math.min(capacity, INITIAL_CAPACITY)), new Comparator<Offered<T>>() {
+            @Override public int compare(Offered<T> first, Offered<T> second) {
+                int comparison = comparator.compare(first.element, second.element);
+                return comparison != 0 ? comparison : Long.compare(second.index, first.index);
+            }
+        });
+    }
+
+    void offer(T element) {
+        Offered<T> candidate = new Offered<T>(element, offered++);
+        if (heap.size() < capacity) {
+            heap.add(candidate);
+        } else if (capacity > 0 && heap.comparator().compare(candidate, heap.peek()) > 0) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+
+    /**
+     * @return The retained elements, greatest first, emptying the heap.
+     */
+    List<T> toList() {
+        List<T> elements = new ArrayList<T>(heap.size());
+        while (!heap.isEmpty()) {
+            elements.add(heap.poll().element);
+        }
+        Collections.reverse(elements);
+        return elements;
+    }
+
+    private static class Offered<T> {
+        private final T element;
+        private final long index;
+
+        Offered(T element, long index) {
+            this.element = element;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+/**
+ * A mutable running sum of {@code double} values using Neumaier's variant of
+ * Kahan summation, so that the rounding error does not grow with the number
+ * of values summed.
+ *
+ * <p>Once the running sum is no longer finite the compensation term is
+ * meaningless, so the plain sum, infinite or {@code NaN}, is returned as is.</p>
+ */
+class CompensatedSum {
+    private double sum;
+    private double compensation;
+
+    CompensatedSum() {
+        this(0, 0);
+    }
+
+    private CompensatedSum(double sum, double compensation) {
+        this.sum = sum;
+        this.compensation = compensation;
+    }
+
+    void add(double value) {
+        double next = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - next) + value;
+        } else {
+            compensation += (value - next) + sum;
+        }
+        sum = next;
+    }
+
+    void add(CompensatedSum other) {
+        add(other.sum);
+        if (isFinite(other.sum)) {
+            add(other.compensation);
+        }
+    }
+
+    CompensatedSum copy() {
+        return new CompensatedSum(sum, compensation);
+    }
+
+    double result() {
+        return isFinite(sum) ? sum + compensation : sum;
+    }
+
+    private static boolean isFinite(double value) {
+        return !Double.isInfinite(value) && !Double.isNaN(value);
+    }
+}
@@ -8,7 +8,11 @@
  */
 package org.javafunk.funk;
 
-import org.javafunk.funk.datastructures.IntegerRange;
+import com.google.common.collect.Ordering;
+import org.javafunk.funk.datastructures.IntRange;
+import org.javafunk.funk.datastructures.NumericSummary;
+import org.javafunk.funk.datastructures.Range;
+import org.javafunk.funk.datastructures.Summary;
 import org.javafunk.funk.datastructures.tuples.*;
 import org.javafunk.funk.functors.Mapper;
 import org.javafunk.funk.functors.Reducer;
@@ -17,6 +21,7 @@ import org.javafunk.funk.functors.functions.UnaryFunction;
 import org.javafunk.funk.functors.predicates.BinaryPredicate;
 import org.javafunk.funk.functors.predicates.UnaryPredicate;
 import org.javafunk.funk.functors.procedures.UnaryProcedure;
+import org.javafunk.funk.iterators.IntIterator;
 import org.javafunk.funk.monads.Option;
 
 import java.util.*;
@@ -124,6 +129,217 @@ public class Eagerly {
         }), noSuchElementFactory("Minimum value is undefined if all values in the supplied Iterable are null."));
     }
 
+    /**
+     * Returns the element of the supplied {@code Iterable} for which the supplied
+     * {@code keyFunction} returns the greatest key. The key of each element is
+     * computed exactly once and, where several elements share the greatest key,
+     * the first of them is returned.
+     *
+     * @param iterable    The {@code Iterable} to search.
+     * @param keyFunction A {@code UnaryFunction} returning the key of an element.
+     * @param <T>         The type of the elements in the supplied {@code Iterable}.
+     * @param <K>         The type of the keys.
+     * @return The element with the greatest key.
+     * @throws NoSuchElementException if the supplied {@code Iterable} is empty.
+     */
+    public static <T, K extends Comparable<? super K>> T maxBy(
+            Iterable<T> iterable,
+            UnaryFunction<? super T, K> keyFunction) {
+        return extremeBy(iterable, keyFunction, 1);
+    }
+
+    /**
+     * Returns the element of the supplied {@code Iterable} for which the supplied
+     * {@code keyFunction} returns the least key, as described by
+     * {@link #maxBy(Iterable, UnaryFunction)}.
+     *
+     * @param iterable    The {@code Iterable} to search.
+     * @param keyFunction A {@code UnaryFunction} returning the key of an element.
+     * @param <T>         The type of the elements in the supplied {@code Iterable}.
+     * @param <K>         The type of the keys.
+     * @return The element with the least key.
+     * @throws NoSuchElementException if the supplied {@code Iterable} is empty.
+     */
+    public static <T, K extends Comparable<? super K>> T minBy(
+            Iterable<T> iterable,
+            UnaryFunction<? super T, K> keyFunction) {
+        return extremeBy(iterable, keyFunction, -1);
+    }
+
+    /**
+     * Returns the {@code n} greatest elements of the supplied {@code Iterable}
+     * according to the supplied {@code Comparator}, greatest first, without
+     * sorting the whole {@code Iterable}. Elements are selected in a single
+     * pass using a heap bounded to {@code n} elements, taking {@code O(m log n)}
+     * time and {@code O(n)} memory for an {@code Iterable} of {@code m}
+     * elements. Where elements compare equal, those occurring first are
+     * preferred and returned first.
+     *
+     * @param iterable   The {@code Iterable} from which to select elements.
+     * @param n          The maximum number of elements to select.
+     * @param comparator The {@code Comparator} ordering the elements.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code List} of at most {@code n} elements, greatest first.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public static <T> List<T> topN(Iterable<T> iterable, int n, Comparator<? super T> comparator) {
+        checkNotNull(iterable);
+        checkNotNull(comparator);
+        if (n < 0) throw new IllegalArgumentException("Cannot select a negative number of elements.");
+        if (n == 0) return new ArrayList<T>();
+        BoundedHeap<T> heap = new BoundedHeap<T>(n, comparator);
+        for (T element : iterable) {
+            heap.offer(element);
+        }
+        return heap.toList();
+    }
+
+    public static <T extends Comparable<? super T>> List<T> topN(Iterable<T> iterable, int n) {
+        return topN(iterable, n, Ordering.<T>natural());
+    }
+
+    /**
+     * Returns the {@code n} least elements of the supplied {@code Iterable}
+     * according to the supplied {@code Comparator}, least first, as described
+     * by {@link #topN(Iterable, int, Comparator)}.
+     *
+     * @param iterable   The {@code Iterable} from which to select elements.
+     * @param n          The maximum number of elements to select.
+     * @param comparator The {@code Comparator} ordering the elements.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code List} of at most {@code n} elements, least first.
+     * @throws IllegalArgumentException if {@code n} is negative.
+     */
+    public static <T> List<T> bottomN(Iterable<T> iterable, int n, Comparator<? super T> comparator) {
+        return topN(iterable, n, Collections.reverseOrder(checkNotNull(comparator)));
+    }
+
+    public static <T extends Comparable<? super T>> List<T> bottomN(Iterable<T> iterable, int n) {
+        return bottomN(iterable, n, Ordering.<T>natural());
+    }
+
+    /**
+     * Sorts the elements of the supplied {@code Iterable} by the keys returned
+     * for them by the supplied {@code keyFunction}, compared using the supplied
+     * {@code keyComparator}. Each key is computed exactly once, by decorating
+     * each element with its key before sorting and discarding the keys
+     * afterwards, so an expensive {@code keyFunction} is not called on every
+     * comparison. The sort is stable, i.e., elements with equal keys retain
+     * their relative order.
+     *
+     * @param iterable      The {@code Iterable} to sort.
+     * @param keyFunction   A {@code UnaryFunction} returning the sort key of an element.
+     * @param keyComparator The {@code Comparator} ordering the keys.
+     * @param <T>           The type of the elements in the supplied {@code Iterable}.
+     * @param <K>           The type of the keys.
+     * @return A {@code List} of the supplied elements ordered by key.
+     */
+    public static <T, K> List<T> sortBy(
+            Iterable<T> iterable,
+            UnaryFunction<? super T, K> keyFunction,
+            Comparator<? super K> keyComparator) {
+        checkNotNull(keyFunction);
+        checkNotNull(keyComparator);
+        List<Keyed<T, K>> decorated = new ArrayList<Keyed<T, K>>();
+        for (T element : checkNotNull(iterable)) {
+            decorated.add(new Keyed<T, K>(element, keyFunction.call(element)));
+        }
+        Keyed<T, K>[] keyed = decorated.toArray(Keyed.<T, K>newArray(decorated.size()));
+        java.util.Arrays.sort(keyed, Keyed.<T, K>byKey(keyComparator));
+        return Keyed.elementsOf(keyed);
+    }
+
+    /**
+     * Sorts the elements of the supplied {@code Iterable} by the natural order
+     * of the keys returned for them by the supplied {@code keyFunction}, as
+     * described by {@link #sortBy(Iterable, UnaryFunction, Comparator)}.
+     *
+     * @param iterable    The {@code Iterable} to sort.
+     * @param keyFunction A {@code UnaryFunction} returning the sort key of an element.
+     * @param <T>         The type of the elements in the supplied {@code Iterable}.
+     * @param <K>         The type of the keys.
+     * @return A {@code List} of the supplied elements ordered by key.
+     */
+    public static <T, K extends Comparable<? super K>> List<T> sortBy(
+            Iterable<T> iterable,
+            UnaryFunction<? super T, K> keyFunction) {
+        return sortBy(iterable, keyFunction, Ordering.<K>natural());
+    }
+
+    /**
+     * Summarises the supplied {@code Iterable} in a single pass, returning the
+     * number of elements along with the least and greatest of them according
+     * to the supplied {@code Comparator}.
+     *
+     * @param iterable   The {@code Iterable} to summarise.
+     * @param comparator The {@code Comparator} ordering the elements.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code Summary} of the supplied {@code Iterable}.
+     */
+    public static <T> Summary<T> summarize(Iterable<T> iterable, Comparator<? super T> comparator) {
+        checkNotNull(iterable);
+        checkNotNull(comparator);
+        Iterator<T> iterator = iterable.iterator();
+        if (!iterator.hasNext()) {
+            return new Summary<T>(0, Option.<T>none(), Option.<T>none());
+        }
+        T minimum = iterator.next();
+        T maximum = minimum;
+        long count = 1;
+        while (iterator.hasNext()) {
+            T element = iterator.next();
+            if (comparator.compare(element, minimum) < 0) {
+                minimum = element;
+            } else if (comparator.compare(element, maximum) > 0) {
+                maximum = element;
+            }
+            count++;
+        }
+        return new Summary<T>(count, Option.option(minimum), Option.option(maximum));
+    }
+
+    public static <T extends Comparable<? super T>> Summary<T> summarize(Iterable<T> iterable) {
+        return summarize(iterable, Ordering.<T>natural());
+    }
+
+    /**
+     * Summarises the supplied {@code Iterable} of {@code Number}s in a single
+     * pass, returning their count, minimum, maximum, mean and variance as
+     * {@code double} values. The mean and variance are accumulated using
+     * Welford's method so that they remain accurate for large numbers of
+     * values with a small spread.
+     *
+     * @param iterable The {@code Iterable} of {@code Number}s to summarise.
+     * @return A {@code NumericSummary} of the supplied numbers.
+     * @throws NullPointerException if the supplied {@code Iterable} is
+     *                              {@code null} or contains {@code null}
+     *                              elements.
+     */
+    public static NumericSummary summarizeNumbers(Iterable<? extends Number> iterable) {
+        long count = 0;
+        double minimum = Double.NaN;
+        double maximum = Double.NaN;
+        double mean = Double.NaN;
+        double sumOfSquaredDeviations = Double.NaN;
+        for (Number number : checkNotNull(iterable)) {
+            double value = checkNotNull(number).doubleValue();
+            count++;
+            if (count == 1) {
+                minimum = value;
+                maximum = value;
+                mean = value;
+                sumOfSquaredDeviations = 0;
+            } else {
+                minimum = Math.min(minimum, value);
+                maximum = Math.max(maximum, value);
+                double deviation = value - mean;
+                mean += deviation / count;
+                sumOfSquaredDeviations += deviation * (value - mean);
+            }
+        }
+        return new NumericSummary(count, minimum, maximum, mean, sumOfSquaredDeviations);
+    }
+
     /**
      * Maps an {@code Iterable} of elements of type {@code S} into a {@code Collection}
      * of elements of type {@code T} using the supplied {@code UnaryFunction}. The
@@ -1368,14 +1584,71 @@ public class Eagerly {
         Map<T, Collection<S>> groupedElements = new HashMap<T, Collection<S>>();
         for (S element : iterable) {
             T index = indexer.call(element);
-            if (!groupedElements.containsKey(index)) {
-                groupedElements.put(index, new ArrayList<S>());
+            Collection<S> group = groupedElements.get(index);
+            if (group == null) {
+                group = new ArrayList<S>();
+                groupedElements.put(index, group);
             }
-            groupedElements.get(index).add(element);
+            group.add(element);
         }
         return groupedElements;
     }
 
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the index
+     * returned for them by the supplied {@code indexer}, folding each group
+     * into a single value as it is built rather than collecting its elements.
+     *
+     * <p>Each group is folded, in input order, starting from the supplied
+     * {@code initialValue} using the supplied {@code reducer}, so that the
+     * result matches reducing each group returned by
+     * {@link #group(Iterable, UnaryFunction)} while only one accumulated value
+     * per index is ever held in memory.</p>
+     *
+     * @param iterable     The {@code Iterable} to group and reduce.
+     * @param indexer      The {@code UnaryFunction} returning the index of each element.
+     * @param initialValue The value each group is folded from.
+     * @param reducer      The function folding an element into its group's value.
+     * @param <S>          The type of the elements in the supplied {@code Iterable}.
+     * @param <K>          The type of the index values.
+     * @param <T>          The type of the accumulated values.
+     * @return A {@code Map} from each index to the reduction of the elements with that index.
+     */
+    public static <S, K, T> Map<K, T> groupReduce(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, K> indexer,
+            T initialValue,
+            BinaryFunction<T, ? super S, T> reducer) {
+        checkNotNull(iterable);
+        GroupReduction<S, K, T> reduction = GroupReduction.reducing(checkNotNull(indexer), initialValue, checkNotNull(reducer));
+        for (S element : iterable) {
+            reduction.add(element);
+        }
+        return reduction.values();
+    }
+
+    /**
+     * Counts the elements of the supplied {@code Iterable} for each index
+     * returned by the supplied {@code indexer}, without collecting the
+     * elements themselves.
+     *
+     * @param iterable The {@code Iterable} whose elements to count.
+     * @param indexer  The {@code UnaryFunction} returning the index of each element.
+     * @param <S>      The type of the elements in the supplied {@code Iterable}.
+     * @param <K>      The type of the index values.
+     * @return A {@code Map} from each index to the number of elements with that index.
+     */
+    public static <S, K> Map<K, Long> groupCount(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, K> indexer) {
+        checkNotNull(iterable);
+        GroupReduction<S, K, Void> reduction = GroupReduction.counting(checkNotNull(indexer));
+        for (S element : iterable) {
+            reduction.add(element);
+        }
+        return reduction.counts();
+    }
+
     /**
      * Applies the supplied {@code UnaryProcedure} to each element in the
      * supplied {@code Iterable}. Each element in the supplied {@code Iterable} is
@@ -2255,7 +2528,7 @@ public class Eagerly {
      *         {@code Iterable}.
      */
     public static <T> Option<T> last(Iterable<? extends T> iterable) {
-        return first(slice(iterable, -1, null));
+        return nthLast(iterable, 1, Predicates.<T>alwaysTrue());
     }
 
     /**
@@ -2304,7 +2577,7 @@ public class Eagerly {
      *         supplied {@code Iterable}.
      */
     public static <T> Option<T> secondLast(Iterable<T> iterable) {
-        return first(slice(iterable, -2, -1));
+        return nthLast(iterable, 2, Predicates.<T>alwaysTrue());
     }
 
     /**
@@ -2353,7 +2626,7 @@ public class Eagerly {
      *         supplied {@code Iterable}.
      */
     public static <T> Option<T> thirdLast(Iterable<T> iterable) {
-            return first(slice(iterable, -3, -2));
+        return nthLast(iterable, 3, Predicates.<T>alwaysTrue());
     }
 
     /**
@@ -2433,7 +2706,7 @@ public class Eagerly {
     public static <T> Option<T> lastMatching(
             Iterable<T> iterable,
             UnaryPredicate<? super T> predicate) {
-        return last(filter(iterable, predicate));
+        return nthLast(iterable, 1, checkNotNull(predicate));
     }
 
     /**
@@ -2514,7 +2787,7 @@ public class Eagerly {
     public static <T> Option<T> secondLastMatching(
             Iterable<T> iterable,
             UnaryPredicate<? super T> predicate) {
-        return secondLast(filter(iterable, predicate));
+        return nthLast(iterable, 2, checkNotNull(predicate));
     }
 
     /**
@@ -2595,7 +2868,7 @@ public class Eagerly {
     public static <T> Option<T> thirdLastMatching(
             Iterable<T> iterable,
             UnaryPredicate<? super T> predicate) {
-        return thirdLast(filter(iterable, predicate));
+        return nthLast(iterable, 3, checkNotNull(predicate));
     }
 
     /**
@@ -2610,7 +2883,9 @@ public class Eagerly {
      *
      * <p>Since a {@code Collection} instance is returned, the element retrieval is performed
      * eagerly, i.e., an attempt is made to retrieve the elements from the underlying
-     * {@code Iterable} immediately.</p>
+     * {@code Iterable} immediately. Only the last <em>n</em> elements are retained while
+     * the {@code Iterable} is traversed and a {@code List} is read backwards from its
+     * end, so the {@code Iterable} is never copied in full.</p>
      *
      * <h3>Example Usage:</h3>
      *
@@ -2661,10 +2936,11 @@ public class Eagerly {
             throw new IllegalArgumentException(
                     "Number of elements required cannot be negative");
         }
+        checkNotNull(iterable);
         if (numberOfElementsRequired == 0) {
             return emptyList();
         }
-        return slice(iterable, -numberOfElementsRequired, null);
+        return TailBuffer.tailOf(iterable, numberOfElementsRequired, Predicates.<T>alwaysTrue());
     }
 
     /**
@@ -2747,7 +3023,43 @@ public class Eagerly {
             Iterable<T> iterable,
             int numberOfElementsRequired,
             UnaryPredicate<? super T> predicate) {
-        return lastN(filter(iterable, predicate), numberOfElementsRequired);
+        checkNotNull(predicate);
+        if (numberOfElementsRequired < 0) {
+            throw new IllegalArgumentException(
+                    "Number of elements required cannot be negative");
+        }
+        if (numberOfElementsRequired == 0) {
+            return emptyList();
+        }
+        return TailBuffer.tailOf(checkNotNull(iterable), numberOfElementsRequired, predicate);
+    }
+
+    private static <T, K extends Comparable<? super K>> T extremeBy(
+            Iterable<T> iterable,
+            UnaryFunction<? super T, K> keyFunction,
+            int direction) {
+        checkNotNull(iterable);
+        checkNotNull(keyFunction);
+        Iterator<T> iterator = iterable.iterator();
+        T extreme = iterator.next();
+        K extremeKey = keyFunction.call(extreme);
+        while (iterator.hasNext()) {
+            T element = iterator.next();
+            K key = keyFunction.call(element);
+            if (Integer.signum(key.compareTo(extremeKey)) == direction) {
+                extreme = element;
+                extremeKey = key;
+            }
+        }
+        return extreme;
+    }
+
+    private static <T> Option<T> nthLast(
+            Iterable<? extends T> iterable,
+            int n,
+            UnaryPredicate<? super T> predicate) {
+        List<T> tail = TailBuffer.tailOf(checkNotNull(iterable), n, predicate);
+        return tail.size() == n ? Option.some(tail.get(0)) : Option.<T>none();
     }
 
     /**
@@ -3298,7 +3610,9 @@ public class Eagerly {
      *
      * <p>Since a {@code Pair} containing {@code Collection} instances is returned,
      * the partitioning is performed eagerly, i.e., the {@code UnaryPredicate} is
-     * applied to each element in the input {@code Iterable} immediately.</p>
+     * applied to each element in the input {@code Iterable} immediately. The
+     * supplied {@code Iterable} is traversed once and the {@code UnaryPredicate}
+     * is evaluated exactly once per element.</p>
      *
      * <p>If no elements in the supplied {@code Iterable} satisfy the supplied
      * {@code UnaryPredicate}, the first slot in the returned {@code Pair}
@@ -3356,8 +3670,18 @@ public class Eagerly {
     public static <T> Pair<Collection<T>, Collection<T>> partition(
             Iterable<T> iterable,
             UnaryPredicate<? super T> predicate) {
-        Pair<Iterable<T>, Iterable<T>> partition = Lazily.partition(iterable, predicate);
-        return tuple(materialize(partition.getFirst()), materialize(partition.getSecond()));
+        checkNotNull(iterable);
+        checkNotNull(predicate);
+        List<T> matching = new ArrayList<T>();
+        List<T> nonMatching = new ArrayList<T>();
+        for (T element : iterable) {
+            if (predicate.evaluate(element)) {
+                matching.add(element);
+            } else {
+                nonMatching.add(element);
+            }
+        }
+        return tuple((Collection<T>) matching, (Collection<T>) nonMatching);
     }
 
     /**
@@ -3400,6 +3724,42 @@ public class Eagerly {
         return result;
     }
 
+    /**
+     * Returns a {@code Collection} instance containing batches of elements of the
+     * specified size from the supplied {@code Iterable}, as per
+     * {@link #batch(Iterable, int)}, without copying the elements of each batch
+     * when the supplied {@code Iterable} is a {@code RandomAccess} {@code List}.
+     *
+     * <p>For such a {@code List}, each batch is a read-only {@code subList} view
+     * of it and so reflects, and is invalidated by, subsequent structural changes
+     * to it. For any other {@code Iterable}, batches are copied as they are by
+     * {@link #batch(Iterable, int)}.</p>
+     *
+     * @param iterable  The {@code Iterable} to batch into batches of the specified
+     *                  number of elements.
+     * @param batchSize The number of elements required in each batch in the
+     *                  returned {@code Collection}.
+     * @param <T>       The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code Collection} instance of {@code Collection} instances each
+     *         containing the required number of elements, bar the last which may
+     *         have less dependent on availability.
+     * @throws IllegalArgumentException if the required number of elements to take
+     *                                  is not positive.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Collection<Collection<T>> batchAsViews(Iterable<T> iterable, int batchSize) {
+        if (!(checkNotNull(iterable) instanceof List && iterable instanceof RandomAccess)) {
+            return batch(iterable, batchSize);
+        }
+        Iterable<Iterable<T>> batches = Lazily.batchAsViews(iterable, batchSize);
+        int size = ((List<T>) iterable).size();
+        Collection<Collection<T>> result = new ArrayList<Collection<T>>((int) (((long) size + batchSize - 1) / batchSize));
+        for (Iterable<T> batch : batches) {
+            result.add((Collection<T>) batch);
+        }
+        return result;
+    }
+
     public static void times(
             int numberOfTimes,
             UnaryProcedure<? super Integer> procedure) {
@@ -3488,12 +3848,15 @@ public class Eagerly {
      *         from the supplied {@code Iterable} specified by the supplied
      *         start and stop indices and the supplied step size.
      */
+    @SuppressWarnings("unchecked")
     public static <T> Collection<T> slice(
             Iterable<T> iterable,
             Integer start,
             Integer stop,
             Integer step) {
-        List<? extends T> inputCollection = Iterables.asList(checkNotNull(iterable));
+        List<? extends T> inputCollection = checkNotNull(iterable) instanceof Range
+                ? new RangeList<T>((Range<T>) iterable)
+                : Iterables.asList(iterable);
 
         if (inputCollection.size() == 0) {
             return Collections.emptyList();
@@ -3503,11 +3866,12 @@ public class Eagerly {
         int stopIndex = SliceHelper.resolveStopIndex(stop, inputCollection.size());
         int stepSize = SliceHelper.resolveStepSize(step);
 
-        IntegerRange requiredElementIndices = new IntegerRange(startIndex, stopIndex, stepSize);
-        List<T> outputCollection = new ArrayList<T>();
+        IntRange requiredElementIndices = new IntRange(startIndex, stopIndex, stepSize);
+        List<T> outputCollection = new ArrayList<T>((int) requiredElementIndices.size());
 
-        for (Integer elementIndex : requiredElementIndices) {
-            outputCollection.add(inputCollection.get(elementIndex));
+        IntIterator elementIndices = requiredElementIndices.intIterator();
+        while (elementIndices.hasNext()) {
+            outputCollection.add(inputCollection.get(elementIndices.nextInt()));
         }
 
         return outputCollection;
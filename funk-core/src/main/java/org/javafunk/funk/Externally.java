@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import com.google.common.collect.Ordering;
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.external.ExternalIterable;
+import org.javafunk.funk.external.ExternalSorter;
+import org.javafunk.funk.external.SpillSpec;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.javafunk.funk.Literals.tuple;
+
+/**
+ * A suite of functions across {@code Iterable} instances too large to hold
+ * in memory, which spill intermediate results to temporary files on disk.
+ *
+ * <p>Each function reads the supplied {@code Iterable} in full, writing sorted
+ * runs to disk as described by the supplied {@link SpillSpec}, and returns a
+ * single use {@link ExternalIterable} which lazily merges the runs back
+ * together. The temporary files are deleted once the returned
+ * {@code ExternalIterable} is exhausted or closed.</p>
+ *
+ * @see ExternalSorter
+ */
+public class Externally {
+    private Externally() {}
+
+    /**
+     * Sorts the supplied {@code Iterable} according to the supplied
+     * {@code Comparator}, using external memory. The sort is stable.
+     *
+     * @param iterable   The {@code Iterable} to sort.
+     * @param comparator The {@code Comparator} ordering the elements.
+     * @param spec       The {@code SpillSpec} describing how to spill elements.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return A single use {@code ExternalIterable} over the sorted elements.
+     */
+    public static <T> ExternalIterable<T> sort(Iterable<T> iterable, Comparator<? super T> comparator, SpillSpec<T> spec) {
+        return new ExternalSorter<T, T>(new UnaryFunction<T, T>() {
+            @Override public T call(T element) {
+                return element;
+            }
+        }, comparator, spec).sort(iterable);
+    }
+
+    public static <T extends Comparable<? super T>> ExternalIterable<T> sort(Iterable<T> iterable, SpillSpec<T> spec) {
+        return sort(iterable, Ordering.<T>natural(), spec);
+    }
+
+    /**
+     * Sorts the supplied {@code Iterable} by the keys returned for its elements
+     * by the supplied {@code keyFunction}, using external memory, as
+     * {@link Eagerly#sortBy(Iterable, UnaryFunction, Comparator)} does in
+     * memory. The sort is stable.
+     *
+     * @param iterable      The {@code Iterable} to sort.
+     * @param keyFunction   A {@code UnaryFunction} returning the sort key of an element.
+     * @param keyComparator The {@code Comparator} ordering the keys.
+     * @param spec          The {@code SpillSpec} describing how to spill elements.
+     * @param <T>           The type of the elements in the supplied {@code Iterable}.
+     * @param <K>           The type of the keys.
+     * @return A single use {@code ExternalIterable} over the sorted elements.
+     */
+    public static <T, K> ExternalIterable<T> sortBy(
+            Iterable<T> iterable,
+            UnaryFunction<? super T, K> keyFunction,
+            Comparator<? super K> keyComparator,
+            SpillSpec<T> spec) {
+        return new ExternalSorter<T, K>(keyFunction, keyComparator, spec).sort(iterable);
+    }
+
+    /**
+     * Groups the elements of the supplied {@code Iterable} by the keys returned
+     * for them by the supplied {@code indexer}, using external memory. The
+     * elements are sorted by key, after which each run of elements with equal
+     * keys forms a group, so only one group need be held in memory at a time.
+     *
+     * <p>Groups are yielded in key order, as pairs of the key and a
+     * {@code Collection} of the elements with that key in input order. Keys
+     * are considered equal if the supplied {@code keyComparator} considers
+     * them so.</p>
+     *
+     * @param iterable      The {@code Iterable} to group.
+     * @param indexer       A {@code UnaryFunction} returning the key of an element.
+     * @param keyComparator The {@code Comparator} ordering the keys.
+     * @param spec          The {@code SpillSpec} describing how to spill elements.
+     * @param <S>           The type of the elements in the supplied {@code Iterable}.
+     * @param <K>           The type of the keys.
+     * @return A single use {@code ExternalIterable} over the groups.
+     */
+    public static <S, K> ExternalIterable<Pair<K, Collection<S>>> group(
+            Iterable<S> iterable,
+            final UnaryFunction<? super S, K> indexer,
+            final Comparator<? super K> keyComparator,
+            SpillSpec<S> spec) {
+        final ExternalIterable<S> sorted = sortBy(iterable, indexer, keyComparator, spec);
+        final Iterator<S> elements = sorted.iterator();
+        return new ExternalIterable<Pair<K, Collection<S>>>(new Iterator<Pair<K, Collection<S>>>() {
+            private S pending;
+            private boolean hasPending;
+
+            @Override public boolean hasNext() {
+                return hasPending || elements.hasNext();
+            }
+
+            @Override public Pair<K, Collection<S>> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                S first = hasPending ? pending : elements.next();
+                hasPending = false;
+                pending = null;
+                K key = indexer.call(first);
+                List<S> group = new ArrayList<S>();
+                group.add(first);
+                while (elements.hasNext()) {
+                    S element = elements.next();
+                    if (keyComparator.compare(key, indexer.call(element)) != 0) {
+                        pending = element;
+                        hasPending = true;
+                        break;
+                    }
+                    group.add(element);
+                }
+                return tuple(key, (Collection<S>) group);
+            }
+
+            @Override public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        }, sorted);
+    }
+
+    public static <S, K extends Comparable<? super K>> ExternalIterable<Pair<K, Collection<S>>> group(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, K> indexer,
+            SpillSpec<S> spec) {
+        return group(iterable, indexer, Ordering.<K>natural(), spec);
+    }
+}
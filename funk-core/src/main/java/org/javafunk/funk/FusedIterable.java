@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.iterators.FusedIterator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * The {@code Iterable} returned by the {@code map}, {@code filter}, {@code reject}
+ * and {@code take} functions in {@link Lazily}. Applying one of those functions to
+ * a {@code FusedIterable} records an additional stage against the same source
+ * rather than wrapping it, so that a chain of such calls is iterated by a single
+ * {@link FusedIterator}.
+ */
+class FusedIterable<T> implements Iterable<T> {
+    private final Iterable<?> source;
+    private final List<FusedIterator.Stage> stages;
+
+    private FusedIterable(Iterable<?> source, List<FusedIterator.Stage> stages) {
+        this.source = source;
+        this.stages = stages;
+    }
+
+    static <T> Iterable<T> fuse(Iterable<?> iterable, FusedIterator.Stage stage) {
+        if (iterable instanceof FusedIterable) {
+            FusedIterable<?> pipeline = (FusedIterable<?>) iterable;
+            List<FusedIterator.Stage> stages = new ArrayList<FusedIterator.Stage>(pipeline.stages.size() + 1);
+            stages.addAll(pipeline.stages);
+            stages.add(stage);
+            return new FusedIterable<T>(pipeline.source, Collections.unmodifiableList(stages));
+        }
+        return new FusedIterable<T>(iterable, Collections.singletonList(stage));
+    }
+
+    @Override public Iterator<T> iterator() {
+        return new FusedIterator<T>(source.iterator(), stages);
+    }
+}
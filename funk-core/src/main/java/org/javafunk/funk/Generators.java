@@ -13,8 +13,14 @@ import org.javafunk.funk.behaviours.Generatable;
 import org.javafunk.funk.behaviours.Generator;
 import org.javafunk.funk.generators.ConstantGenerator;
 import org.javafunk.funk.generators.FiniteGenerator;
+import org.javafunk.funk.generators.RandomGenerator;
+import org.javafunk.funk.generators.WeightedGenerator;
 
 import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import static com.google.common.base.Preconditions.checkNotNull;
 
 public class Generators {
     private Generators() {}
@@ -27,6 +33,22 @@ public class Generators {
         return new FiniteGenerator<T>(iterable);
     }
 
+    public static <T> Generator<T> randomGenerator(Iterable<T> iterable) {
+        return new RandomGenerator<T>(iterable);
+    }
+
+    public static <T> Generator<T> randomGenerator(Iterable<T> iterable, Random random) {
+        return new RandomGenerator<T>(iterable, random);
+    }
+
+    public static <T> Generator<T> weightedGenerator(Map<T, Double> weights) {
+        return new WeightedGenerator<T>(weights);
+    }
+
+    public static <T> Generator<T> weightedGenerator(Map<T, Double> weights, Random random) {
+        return new WeightedGenerator<T>(weights, checkNotNull(random));
+    }
+
     @ToDo(raisedBy = "Toby",
           date     = "2012-03-25",
           message  = "This needs to tee rather than using the same instance in the same way that toIterable would")
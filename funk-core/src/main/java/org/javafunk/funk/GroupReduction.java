@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.functions.BinaryFunction;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A mutable per key fold of elements, used by
+ * {@link Eagerly#groupReduce(Iterable, UnaryFunction, Object, BinaryFunction)}
+ * and {@link Eagerly#groupCount(Iterable, UnaryFunction)}.
+ *
+ * <p>Each key maps to a mutable {@code Accumulator}, so that folding an
+ * element costs a single hash lookup, with a further insertion only the
+ * first time a key is seen. Partial reductions over separate parts of an
+ * input can be merged, as is done by {@link Parallelly}.</p>
+ */
+class GroupReduction<S, K, T> {
+    private final UnaryFunction<? super S, K> indexer;
+    private final T initialValue;
+    private final BinaryFunction<T, ? super S, T> reducer;
+    private final Map<K, Accumulator<T>> accumulators = new HashMap<K, Accumulator<T>>();
+
+    private GroupReduction(UnaryFunction<? super S, K> indexer, T initialValue, BinaryFunction<T, ? super S, T> reducer) {
+        this.indexer = indexer;
+        this.initialValue = initialValue;
+        this.reducer = reducer;
+    }
+
+    static <S, K, T> GroupReduction<S, K, T> reducing(
+            UnaryFunction<? super S, K> indexer,
+            T initialValue,
+            BinaryFunction<T, ? super S, T> reducer) {
+        return new GroupReduction<S, K, T>(indexer, initialValue, reducer);
+    }
+
+    static <S, K> GroupReduction<S, K, Void> counting(UnaryFunction<? super S, K> indexer) {
+        return new GroupReduction<S, K, Void>(indexer, null, null);
+    }
+
+    GroupReduction<S, K, T> emptyCopy() {
+        return new GroupReduction<S, K, T>(indexer, initialValue, reducer);
+    }
+
+    void add(S element) {
+        K key = indexer.call(element);
+        Accumulator<T> accumulator = accumulators.get(key);
+        if (accumulator == null) {
+            accumulator = new Accumulator<T>(initialValue);
+            accumulators.put(key, accumulator);
+        }
+        accumulator.count++;
+        if (reducer != null) {
+            accumulator.value = reducer.call(accumulator.value, element);
+        }
+    }
+
+    /**
+     * Merges the supplied partial reduction, over elements following those
+     * of this reduction, into this reduction. Values for keys present in
+     * both are combined, this reduction's value first, using the supplied
+     * {@code combiner}, which may be {@code null} when only counting.
+     */
+    void merge(GroupReduction<S, K, T> other, BinaryFunction<T, T, T> combiner) {
+        for (Map.Entry<K, Accumulator<T>> entry : other.accumulators.entrySet()) {
+            Accumulator<T> accumulator = accumulators.get(entry.getKey());
+            if (accumulator == null) {
+                accumulators.put(entry.getKey(), entry.getValue());
+            } else {
+                accumulator.count += entry.getValue().count;
+                if (combiner != null) {
+                    accumulator.value = combiner.call(accumulator.value, entry.getValue().value);
+                }
+            }
+        }
+    }
+
+    Map<K, T> values() {
+        Map<K, T> values = new HashMap<K, T>(capacityFor(accumulators.size()));
+        for (Map.Entry<K, Accumulator<T>> entry : accumulators.entrySet()) {
+            values.put(entry.getKey(), entry.getValue().value);
+        }
+        return values;
+    }
+
+    Map<K, Long> counts() {
+        Map<K, Long> counts = new HashMap<K, Long>(capacityFor(accumulators.size()));
+        for (Map.Entry<K, Accumulator<T>> entry : accumulators.entrySet()) {
+            counts.put(entry.getKey(), entry.getValue().count);
+        }
+        return counts;
+    }
+
+    private static int capacityFor(int size) {
+        return Math.max(16, (int) (size / 0.75f) + 1);
+    }
+
+    private static class Accumulator<T> {
+        private T value;
+        private long count;
+
+        Accumulator(T value) {
+            this.value = value;
+        }
+    }
+}
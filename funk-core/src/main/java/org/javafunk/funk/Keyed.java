@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * An element decorated with its sort key, so that sorting by a key, as in
+ * {@link Eagerly#sortBy(Iterable, org.javafunk.funk.functors.functions.UnaryFunction)},
+ * computes each key once rather than on every comparison.
+ */
+class Keyed<T, K> {
+    private final T element;
+    private final K key;
+
+    Keyed(T element, K key) {
+        this.element = element;
+        this.key = key;
+    }
+
+    static <T, K> Comparator<Keyed<T, K>> byKey(final Comparator<? super K> keyComparator) {
+        return new Comparator<Keyed<T, K>>() {
+            @Override public int compare(Keyed<T, K> first, Keyed<T, K> second) {
+                return keyComparator.compare(first.key, second.key);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, K> Keyed<T, K>[] newArray(int size) {
+        return (Keyed<T, K>[]) new Keyed<?, ?>[size];
+    }
+
+    static <T, K> List<T> elementsOf(Keyed<T, K>[] keyed) {
+        List<T> elements = new ArrayList<T>(keyed.length);
+        for (Keyed<T, K> decorated : keyed) {
+            elements.add(decorated.element);
+        }
+        return elements;
+    }
+}
@@ -8,6 +8,9 @@
  */
 package org.javafunk.funk;
 
+import com.google.common.collect.Ordering;
+import org.javafunk.funk.datastructures.CartesianProduct;
+import org.javafunk.funk.datastructures.MemoizedIterable;
 import org.javafunk.funk.datastructures.tuples.*;
 import org.javafunk.funk.functors.Mapper;
 import org.javafunk.funk.functors.functions.NullaryFunction;
@@ -18,16 +21,20 @@ import org.javafunk.funk.functors.procedures.UnaryProcedure;
 import org.javafunk.funk.iterators.*;
 import org.javafunk.funk.predicates.NotPredicate;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ExecutorService;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
 import static org.javafunk.funk.Checks.returnOrThrowIfContainsNull;
 import static org.javafunk.funk.Eagerly.first;
 import static org.javafunk.funk.Iterables.concat;
 import static org.javafunk.funk.Literals.*;
-import static org.javafunk.funk.Sequences.increasing;
-import static org.javafunk.funk.Sequences.integers;
 import static org.javafunk.funk.UnaryFunctions.compose;
 
 /**
@@ -178,6 +185,73 @@ public class Lazily {
         };
     }
 
+    /**
+     * Returns a lazy {@code Iterable} instance containing batches of elements
+     * of the specified size from the supplied {@code Iterable}, as per
+     * {@link #batch(Iterable, int)}, without copying the elements of each batch
+     * when the supplied {@code Iterable} is a {@code RandomAccess} {@code List}.
+     *
+     * <p>For such a {@code List}, each batch is a read-only {@code subList} view
+     * of it and so reflects, and is invalidated by, subsequent structural
+     * changes to it. For any other {@code Iterable}, batches are copied as
+     * they are by {@link #batch(Iterable, int)}.</p>
+     *
+     * @param iterable  The {@code Iterable} to batch into batches of the specified
+     *                  number of elements.
+     * @param batchSize The number of elements required in each batch in the
+     *                  returned {@code Iterable}.
+     * @param <T>       The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} instance of {@code Iterable} instances each
+     *         containing the required number of elements, bar the last which may
+     *         have less dependent on availability.
+     * @throws IllegalArgumentException if the required number of elements to take
+     *                                  is not positive.
+     */
+    public static <T> Iterable<Iterable<T>> batchAsViews(final Iterable<T> iterable, final int batchSize) {
+        checkNotNull(iterable);
+        if (batchSize <= 0) throw new IllegalArgumentException("Batch size must be greater than zero.");
+        if (!(iterable instanceof List && iterable instanceof RandomAccess)) {
+            return batch(iterable, batchSize);
+        }
+        return new Iterable<Iterable<T>>() {
+            public Iterator<Iterable<T>> iterator() {
+                return new SubListBatchedIterator<T>((List<T>) iterable, batchSize);
+            }
+        };
+    }
+
+    /**
+     * Returns a lazy {@code Iterable} instance containing batches of elements
+     * of the specified size from the supplied {@code Iterable}, as per
+     * {@link #batch(Iterable, int)}, filling a single reusable buffer rather
+     * than allocating a new batch each time.
+     *
+     * <p>Each {@code Iterator} of the returned {@code Iterable} yields the same
+     * read-only batch instance, cleared and refilled whenever the next batch is
+     * requested. A batch is therefore only valid until the next batch is
+     * requested and must be copied by the consumer if it is to be retained.</p>
+     *
+     * @param iterable  The {@code Iterable} to batch into batches of the specified
+     *                  number of elements.
+     * @param batchSize The number of elements required in each batch in the
+     *                  returned {@code Iterable}.
+     * @param <T>       The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} instance of recycled {@code Iterable} instances
+     *         each containing the required number of elements, bar the last which
+     *         may have less dependent on availability.
+     * @throws IllegalArgumentException if the required number of elements to take
+     *                                  is not positive.
+     */
+    public static <T> Iterable<Iterable<T>> batchReusingBuffer(final Iterable<T> iterable, final int batchSize) {
+        checkNotNull(iterable);
+        if (batchSize <= 0) throw new IllegalArgumentException("Batch size must be greater than zero.");
+        return new Iterable<Iterable<T>>() {
+            public Iterator<Iterable<T>> iterator() {
+                return new RecyclingBatchedIterator<T>(iterable.iterator(), batchSize);
+            }
+        };
+    }
+
     /**
      * Returns an infinite lazy {@code Iterable} which repeatedly cycles through the
      * elements in the supplied {@code Iterable} in the order in which they are
@@ -357,11 +431,10 @@ public class Lazily {
     public static <T> Iterable<T> take(final Iterable<T> iterable, final int numberToTake) {
         checkNotNull(iterable);
         if (numberToTake < 0) throw new IllegalArgumentException("Cannot take a negative number of elements.");
-        return new Iterable<T>() {
-            public Iterator<T> iterator() {
-                return new SubSequenceIterator<T>(iterable.iterator(), null, numberToTake);
-            }
-        };
+        if (SubSequenceList.isIndexable(iterable)) {
+            return new SubSequenceList<T>(SubSequenceList.indexableListFrom(iterable), 0, numberToTake, 1);
+        }
+        return FusedIterable.fuse(iterable, FusedIterator.take(numberToTake));
     }
 
     /**
@@ -621,6 +694,9 @@ public class Lazily {
     public static <T> Iterable<T> drop(final Iterable<T> iterable, final int numberToTake) {
         checkNotNull(iterable);
         if (numberToTake < 0) throw new IllegalArgumentException("Cannot drop a negative number of elements.");
+        if (SubSequenceList.isIndexable(iterable)) {
+            return new SubSequenceList<T>(SubSequenceList.indexableListFrom(iterable), numberToTake, null, 1);
+        }
         return new Iterable<T>() {
             public Iterator<T> iterator() {
                 return new SubSequenceIterator<T>(iterable.iterator(), numberToTake, null);
@@ -975,7 +1051,11 @@ public class Lazily {
      */
     public static <T> Iterable<Pair<Integer, T>> enumerate(final Iterable<T> iterable) {
         checkNotNull(iterable);
-        return zip(integers(increasing()), iterable);
+        return new Iterable<Pair<Integer, T>>() {
+            public Iterator<Pair<Integer, T>> iterator() {
+                return new EnumeratedIterator<T>(iterable.iterator());
+            }
+        };
     }
 
     /**
@@ -1131,9 +1211,56 @@ public class Lazily {
     public static <S, T> Iterable<T> map(final Iterable<S> iterable, final UnaryFunction<? super S, T> function) {
         checkNotNull(function);
         checkNotNull(iterable);
+        return FusedIterable.fuse(iterable, FusedIterator.map(function));
+    }
+
+    /**
+     * Lazily maps an {@code Iterable} of elements of type {@code S} into an
+     * {@code Iterable} of elements of type {@code T} using the supplied
+     * {@code UnaryFunction}, running up to {@code maxInFlight} calls of the
+     * {@code UnaryFunction} concurrently on the supplied {@code ExecutorService}.
+     *
+     * <p>Results are returned in the order of the elements in the supplied
+     * {@code Iterable}. Each {@code Iterator} of the returned {@code Iterable}
+     * submits elements ahead of the consumer into a window of at most
+     * {@code maxInFlight} pending calls, topping the window up as more results are
+     * requested, so that slow calls overlap whilst memory use stays bounded. No
+     * calls are submitted until the returned {@code Iterable} is iterated.</p>
+     *
+     * <p>If the {@code UnaryFunction} throws an exception for an element, it is
+     * rethrown when that element's result is reached and the calls then in flight
+     * are cancelled. Checked exceptions are wrapped in a
+     * {@code RuntimeException}.</p>
+     *
+     * @param iterable    The {@code Iterable} of elements to be mapped.
+     * @param function    A {@code UnaryFunction} which, given an element from the
+     *                    input {@code Iterable}, returns that element mapped to a
+     *                    new value potentially of a different type. It must be
+     *                    safe to call from multiple threads.
+     * @param executor    The {@code ExecutorService} on which to call the supplied
+     *                    {@code UnaryFunction}.
+     * @param maxInFlight The maximum number of calls to have submitted but not yet
+     *                    consumed at any time.
+     * @param <S>         The type of the input elements, i.e., the elements to map.
+     * @param <T>         The type of the output elements, i.e., the mapped elements.
+     * @return An {@code Iterable} mapping each instance of {@code S} from the input
+     *         {@code Iterable} to an instance of {@code T} using the supplied
+     *         {@code UnaryFunction}.
+     * @throws IllegalArgumentException if the supplied maximum number in flight is
+     *                                  not positive.
+     */
+    public static <S, T> Iterable<T> mapConcurrently(
+            final Iterable<S> iterable,
+            final UnaryFunction<? super S, T> function,
+            final ExecutorService executor,
+            final int maxInFlight) {
+        checkNotNull(iterable);
+        checkNotNull(function);
+        checkNotNull(executor);
+        if (maxInFlight <= 0) throw new IllegalArgumentException("Maximum number in flight must be greater than zero.");
         return new Iterable<T>() {
             public Iterator<T> iterator() {
-                return new MappedIterator<S, T>(iterable.iterator(), function);
+                return new ConcurrentlyMappedIterator<S, T>(iterable.iterator(), function, executor, maxInFlight);
             }
         };
     }
@@ -1344,11 +1471,7 @@ public class Lazily {
     public static <T> Iterable<T> filter(final Iterable<T> iterable, final UnaryPredicate<? super T> predicate) {
         checkNotNull(predicate);
         checkNotNull(iterable);
-        return new Iterable<T>() {
-            public Iterator<T> iterator() {
-                return new FilteredIterator<T>(iterable.iterator(), predicate);
-            }
-        };
+        return FusedIterable.fuse(iterable, FusedIterator.filter(predicate));
     }
 
     /**
@@ -1475,11 +1598,7 @@ public class Lazily {
     public static <T> Iterable<T> reject(final Iterable<T> iterable, final UnaryPredicate<? super T> predicate) {
         checkNotNull(predicate);
         checkNotNull(iterable);
-        return new Iterable<T>() {
-            public Iterator<T> iterator() {
-                return new FilteredIterator<T>(iterable.iterator(), new NotPredicate<T>(predicate));
-            }
-        };
+        return FusedIterable.fuse(iterable, FusedIterator.reject(predicate));
     }
 
     /**
@@ -1556,6 +1675,265 @@ public class Lazily {
         return tuple(filter(iterable, predicate), reject(iterable, predicate));
     }
 
+    /**
+     * Lazily partitions the supplied {@code Iterable} into those elements that
+     * satisfy the supplied {@code UnaryPredicate} and those elements that do not,
+     * traversing the supplied {@code Iterable} only once.
+     *
+     * <p>Unlike {@link #partition(Iterable, UnaryPredicate)}, both of the returned
+     * {@code Iterable} instances share a single {@code Iterator} over the supplied
+     * {@code Iterable} and the {@code UnaryPredicate} is evaluated exactly once per
+     * element. This makes it suitable for expensive predicates and for one-shot
+     * sources such as those returned by {@link Iterators#asIterable(java.util.Iterator)}.
+     * As a consequence, each returned {@code Iterable} can only be traversed once;
+     * repeated calls to {@code iterator()} return the same {@code Iterator}.</p>
+     *
+     * <p>Elements pulled from the supplied {@code Iterable} by one side on behalf of
+     * the other are queued until the other side consumes them. If more than
+     * {@code bufferCapacity} elements would need to be queued, an
+     * {@code IllegalStateException} is thrown by the side doing the pulling.</p>
+     *
+     * @param iterable       An {@code Iterable} of elements to be partitioned based on
+     *                       whether or not they satisfy the supplied {@code UnaryPredicate}.
+     * @param predicate      A {@code UnaryPredicate} to be used to evaluate which side of the
+     *                       partition each element in the supplied {@code Iterable} should
+     *                       reside.
+     * @param bufferCapacity The maximum number of elements to queue for whichever
+     *                       side of the partition is lagging behind.
+     * @param <T>            The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code Pair} of single use {@code Iterable} instances containing
+     *         those elements which satisfy the supplied {@code UnaryPredicate} in
+     *         the first slot and those which do not in the second slot.
+     * @throws IllegalArgumentException if the supplied buffer capacity is negative.
+     */
+    public static <T> Pair<Iterable<T>, Iterable<T>> partition(
+            final Iterable<T> iterable,
+            final UnaryPredicate<? super T> predicate,
+            final int bufferCapacity) {
+        checkNotNull(predicate);
+        checkNotNull(iterable);
+        final Partitioner<T> partitioner = new Partitioner<T>(iterable.iterator(), predicate, bufferCapacity);
+        Iterable<T> matching = new Iterable<T>() {
+            @Override public Iterator<T> iterator() {
+                return partitioner.matching();
+            }
+        };
+        Iterable<T> nonMatching = new Iterable<T>() {
+            @Override public Iterator<T> iterator() {
+                return partitioner.nonMatching();
+            }
+        };
+        return tuple(matching, nonMatching);
+    }
+
+    /**
+     * Lazily splits the supplied {@code Iterable} into the specified number of
+     * {@code Iterable} instances, each of which yields every element of the
+     * supplied {@code Iterable}, while iterating the supplied {@code Iterable}
+     * exactly once.
+     *
+     * <p>The returned {@code Iterable} instances share a single {@code Iterator}
+     * over the supplied {@code Iterable}, making this suitable for feeding
+     * several pipelines from an expensive or one-shot source. Elements pulled
+     * by the fastest consumer are buffered only until the slowest consumer has
+     * passed them. Each returned {@code Iterable} can only be traversed once;
+     * repeated calls to {@code iterator()} return the same {@code Iterator}.
+     * The returned {@code Iterable} instances may be consumed from different
+     * threads.</p>
+     *
+     * @param iterable          The {@code Iterable} whose elements are required by
+     *                          multiple consumers.
+     * @param numberOfConsumers The number of {@code Iterable} instances to return.
+     * @param <T>               The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code List} of {@code numberOfConsumers} single use {@code Iterable}
+     *         instances each yielding the elements of the supplied {@code Iterable}.
+     * @throws IllegalArgumentException if {@code numberOfConsumers} is not positive.
+     */
+    public static <T> List<Iterable<T>> tee(Iterable<T> iterable, int numberOfConsumers) {
+        return tee(iterable, numberOfConsumers, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Lazily splits the supplied {@code Iterable} into the specified number of
+     * {@code Iterable} instances as described by {@link #tee(Iterable, int)},
+     * spilling buffered elements to a temporary file once more than
+     * {@code spillThreshold} elements are buffered between the slowest and
+     * fastest consumers. Spilled elements must be {@code Serializable}.
+     *
+     * <p>The temporary file is deleted once every consumer has been exhausted.
+     * If any consumer may be abandoned early, construct a
+     * {@link org.javafunk.funk.iterators.Tee} directly and close it instead,
+     * since otherwise the file is kept until the JVM exits.</p>
+     *
+     * @param iterable          The {@code Iterable} whose elements are required by
+     *                          multiple consumers.
+     * @param numberOfConsumers The number of {@code Iterable} instances to return.
+     * @param spillThreshold    The maximum number of elements to buffer in memory.
+     * @param <T>               The type of the elements in the supplied {@code Iterable}.
+     * @return A {@code List} of {@code numberOfConsumers} single use {@code Iterable}
+     *         instances each yielding the elements of the supplied {@code Iterable}.
+     * @throws IllegalArgumentException if {@code numberOfConsumers} or
+     *                                  {@code spillThreshold} is not positive.
+     */
+    public static <T> List<Iterable<T>> tee(
+            final Iterable<T> iterable,
+            final int numberOfConsumers,
+            final int spillThreshold) {
+        checkNotNull(iterable);
+        final Tee<T> tee = new Tee<T>(iterable, numberOfConsumers, spillThreshold);
+        List<Iterable<T>> consumers = new ArrayList<Iterable<T>>(numberOfConsumers);
+        for (int i = 0; i < numberOfConsumers; i++) {
+            final int index = i;
+            consumers.add(new Iterable<T>() {
+                @Override public Iterator<T> iterator() {
+                    return tee.consumer(index);
+                }
+            });
+        }
+        return unmodifiableList(consumers);
+    }
+
+    /**
+     * Lazily memoizes the supplied {@code Iterable} such that it is iterated at
+     * most once, on demand, and every {@code Iterator} returned by the resulting
+     * {@code Iterable} yields all of its elements from the beginning.
+     *
+     * <p>This makes one-shot sources, such as those returned by
+     * {@link Iterators#asIterable(java.util.Iterator)}, safe to iterate
+     * repeatedly. Since further iterators may be requested at any time, every
+     * element retrieved is retained for the lifetime of the returned
+     * {@code Iterable}. The returned {@code Iterable} may be iterated from
+     * different threads.</p>
+     *
+     * @param iterable The {@code Iterable} to memoize.
+     * @param <T>      The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} yielding the elements of the supplied
+     *         {@code Iterable}, iterating it at most once.
+     */
+    public static <T> Iterable<T> memoize(Iterable<T> iterable) {
+        return memoize(iterable, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Lazily memoizes the supplied {@code Iterable} as described by
+     * {@link #memoize(Iterable)}, spilling retained elements to a temporary
+     * file once more than {@code spillThreshold} elements are held in memory.
+     * Spilled elements must be {@code Serializable}.
+     *
+     * <p>Since every retained element remains available to later iterators,
+     * the temporary file is kept until the returned {@code MemoizedIterable}
+     * is closed, or otherwise until the JVM exits.</p>
+     *
+     * @param iterable       The {@code Iterable} to memoize.
+     * @param spillThreshold The maximum number of elements to retain in memory.
+     * @param <T>            The type of the elements in the supplied {@code Iterable}.
+     * @return A closeable {@code Iterable} yielding the elements of the supplied
+     *         {@code Iterable}, iterating it at most once.
+     * @throws IllegalArgumentException if {@code spillThreshold} is not positive.
+     */
+    public static <T> MemoizedIterable<T> memoize(Iterable<T> iterable, int spillThreshold) {
+        return new MemoizedIterable<T>(checkNotNull(iterable), spillThreshold);
+    }
+
+    /**
+     * Lazily samples {@code sampleSize} elements uniformly at random, without
+     * replacement, from the supplied {@code Iterable}, traversing it once and
+     * holding only the sampled elements in memory. The supplied
+     * {@code Iterable} therefore need not be a {@code Collection} nor have a
+     * known size, although it must be finite.
+     *
+     * <p>Since a lazy {@code Iterable} instance is returned, sampling is
+     * performed lazily, i.e., the input {@code Iterable} is only traversed when
+     * the returned {@code Iterable} is iterated and each iteration draws a new
+     * sample. If the input {@code Iterable} contains fewer than
+     * {@code sampleSize} elements, all of them are returned in their original
+     * order, otherwise the sampled elements are returned in no particular
+     * order.</p>
+     *
+     * @param iterable   The {@code Iterable} from which to sample elements.
+     * @param sampleSize The number of elements to sample.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} yielding at most {@code sampleSize} elements
+     *         drawn from the supplied {@code Iterable}.
+     * @throws IllegalArgumentException if {@code sampleSize} is negative.
+     */
+    public static <T> Iterable<T> sample(Iterable<T> iterable, int sampleSize) {
+        checkNotNull(iterable);
+        if (sampleSize < 0) throw new IllegalArgumentException("Cannot sample a negative number of elements.");
+        return new SampledIterable<T>(iterable, sampleSize, null);
+    }
+
+    /**
+     * Lazily samples {@code sampleSize} elements from the supplied
+     * {@code Iterable} as described by {@link #sample(Iterable, int)}, drawing
+     * random numbers from a {@code Random} seeded with the supplied seed. Each
+     * iteration of the returned {@code Iterable} over the same input
+     * {@code Iterable} therefore yields the same sample.
+     *
+     * @param iterable   The {@code Iterable} from which to sample elements.
+     * @param sampleSize The number of elements to sample.
+     * @param seed       The seed from which random numbers are drawn.
+     * @param <T>        The type of the elements in the supplied {@code Iterable}.
+     * @return An {@code Iterable} yielding at most {@code sampleSize} elements
+     *         drawn from the supplied {@code Iterable}.
+     * @throws IllegalArgumentException if {@code sampleSize} is negative.
+     */
+    public static <T> Iterable<T> sample(Iterable<T> iterable, int sampleSize, long seed) {
+        checkNotNull(iterable);
+        if (sampleSize < 0) throw new IllegalArgumentException("Cannot sample a negative number of elements.");
+        return new SampledIterable<T>(iterable, sampleSize, seed);
+    }
+
+    /**
+     * Lazily merges the supplied {@code Iterable} instances, each of which must
+     * already be sorted according to the supplied {@code Comparator}, into a
+     * single {@code Iterable} sorted according to that {@code Comparator}.
+     *
+     * <p>Since a lazy {@code Iterable} instance is returned, the merge is
+     * performed lazily, i.e., each input {@code Iterable} is only iterated as
+     * its elements are required. The next element of each input is held in a
+     * heap, so that each element of the result costs {@code O(log k)}
+     * comparisons for {@code k} inputs, rather than concatenating and sorting
+     * all of the inputs. Where elements of different inputs compare equal,
+     * those from earlier inputs are yielded first.</p>
+     *
+     * @param iterables  The sorted {@code Iterable} instances to merge.
+     * @param comparator The {@code Comparator} by which each input is sorted.
+     * @param <T>        The type of the elements in the supplied {@code Iterable} instances.
+     * @return An {@code Iterable} yielding the elements of all of the supplied
+     *         {@code Iterable} instances in sorted order.
+     */
+    public static <T> Iterable<T> mergeSorted(
+            final Iterable<? extends Iterable<? extends T>> iterables,
+            final Comparator<? super T> comparator) {
+        checkNotNull(iterables);
+        checkNotNull(comparator);
+        return new Iterable<T>() {
+            @Override public Iterator<T> iterator() {
+                List<Iterator<? extends T>> iterators = new ArrayList<Iterator<? extends T>>();
+                for (Iterable<? extends T> iterable : iterables) {
+                    iterators.add(iterable.iterator());
+                }
+                return new MergedIterator<T>(iterators.iterator(), comparator);
+            }
+        };
+    }
+
+    /**
+     * Lazily merges the supplied {@code Iterable} instances, each of which must
+     * already be in natural order, into a single {@code Iterable} in natural
+     * order, as described by {@link #mergeSorted(Iterable, Comparator)}.
+     *
+     * @param iterables The sorted {@code Iterable} instances to merge.
+     * @param <T>       The type of the elements in the supplied {@code Iterable} instances.
+     * @return An {@code Iterable} yielding the elements of all of the supplied
+     *         {@code Iterable} instances in natural order.
+     */
+    public static <T extends Comparable<? super T>> Iterable<T> mergeSorted(
+            Iterable<? extends Iterable<? extends T>> iterables) {
+        return mergeSorted(iterables, Ordering.<T>natural());
+    }
+
     /**
      * Lazily removes the first element from the supplied {@code Iterable} and
      * returns all remaining elements in an {@code Iterable}.
@@ -1648,6 +2026,12 @@ public class Lazily {
      * greatest index of all elements in the {@code Iterable} then an
      * effectively empty {@code Iterable} is returned.</p>
      *
+     * <p>If the supplied {@code Iterable} is a {@code RandomAccess} {@code List}
+     * or a {@link org.javafunk.funk.datastructures.Range}, the returned
+     * {@code Iterable} is a lazy, index based {@code List} view that skips
+     * elements without visiting them and reports its exact size. In this case
+     * invalid start, stop and step values are rejected immediately.</p>
+     *
      * <h3>Example Usage:</h3>
      * Given an {@code Iterable} of {@code DateTime} instances representing
      * some part of a year and given that the first {@code DateTime} is known
@@ -1672,6 +2056,9 @@ public class Lazily {
      */
     public static <T> Iterable<T> slice(final Iterable<T> iterable, final Integer start, final Integer stop, final Integer step) {
         checkNotNull(iterable);
+        if (SubSequenceList.isIndexable(iterable)) {
+            return new SubSequenceList<T>(SubSequenceList.indexableListFrom(iterable), start, stop, step);
+        }
         return new Iterable<T>() {
             public Iterator<T> iterator() {
                 return new SubSequenceIterator<T>(iterable.iterator(), start, stop, step);
@@ -1701,12 +2088,14 @@ public class Lazily {
      *
      * <p>If any of the supplied {@code Iterable} instances is empty, the
      * returned {@code Iterable} is effectively empty. If any of the supplied
-     * {@code Iterable} instances are infinite, then the returned
-     * {@code Iterable} will also be infinite. Be aware that in the case of
-     * an infinite {@code Iterable}, the current algorithm will lead to
-     * minimal variability in the returned {@code Pair} instances, i.e.,
-     * there is a possibility only one slot of the returned {@code Pair}
-     * instances will ever change.</p>
+     * {@code Iterable} instances are infinite, the returned {@code Iterable}
+     * cannot be iterated since each supplied {@code Iterable} is copied into a
+     * random access {@code List} when iteration begins.</p>
+     *
+     * <p>The returned {@link CartesianProduct} yields each {@code Pair} in
+     * turn by advancing an array of indices into those lists like an odometer.
+     * It can report its size without iterating and can be split into index
+     * ranges to be iterated independently, e.g., in parallel.</p>
      *
      * <h3>Example Usage:</h3>
      * Given an {@code Iterable} of {@code Name} instances and an {@code Iterable}
@@ -1739,12 +2128,17 @@ public class Lazily {
      * @return An {@code Iterable} effectively containing the cartesian product
      *         of all elements in the supplied {@code Iterable} instances.
      */
-    public static <R, S> Iterable<Pair<R, S>> cartesianProduct(
+    public static <R, S> CartesianProduct<Pair<R, S>> cartesianProduct(
             Iterable<R> first,
             Iterable<S> second) {
-        return map(
-                cartesianProduct(iterableWith(first, second)),
-                Mappers.<R, S>toPair());
+        return new CartesianProduct<Pair<R, S>>(
+                Literals.<Iterable<?>>listWith(first, second),
+                new UnaryFunction<Object[], Pair<R, S>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override public Pair<R, S> call(Object[] values) {
+                        return tuple((R) values[0], (S) values[1]);
+                    }
+                });
     }
 
     /**
@@ -1770,12 +2164,14 @@ public class Lazily {
      *
      * <p>If any of the supplied {@code Iterable} instances is empty, the
      * returned {@code Iterable} is effectively empty. If any of the supplied
-     * {@code Iterable} instances are infinite, then the returned
-     * {@code Iterable} will also be infinite. Be aware that in the case of
-     * an infinite {@code Iterable}, the current algorithm will lead to
-     * minimal variability in the returned {@code Triple} instances, i.e.,
-     * there is a possibility only one slot of the returned {@code Triple}
-     * instances will ever change.</p>
+     * {@code Iterable} instances are infinite, the returned {@code Iterable}
+     * cannot be iterated since each supplied {@code Iterable} is copied into a
+     * random access {@code List} when iteration begins.</p>
+     *
+     * <p>The returned {@link CartesianProduct} yields each {@code Triple} in
+     * turn by advancing an array of indices into those lists like an odometer.
+     * It can report its size without iterating and can be split into index
+     * ranges to be iterated independently, e.g., in parallel.</p>
      *
      * <p>This overload of {@code cartesianProduct} is provided to allow the cartesian
      * product to be taken for three {@code Iterable} instances. For equivalent example
@@ -1791,13 +2187,18 @@ public class Lazily {
      * @return An {@code Iterable} effectively containing the cartesian product
      *         of all elements in the supplied {@code Iterable} instances.
      */
-    public static <R, S, T> Iterable<Triple<R, S, T>> cartesianProduct(
+    public static <R, S, T> CartesianProduct<Triple<R, S, T>> cartesianProduct(
             Iterable<R> first,
             Iterable<S> second,
             Iterable<T> third) {
-        return map(
-                cartesianProduct(iterableWith(first, second, third)),
-                Mappers.<R, S, T>toTriple());
+        return new CartesianProduct<Triple<R, S, T>>(
+                Literals.<Iterable<?>>listWith(first, second, third),
+                new UnaryFunction<Object[], Triple<R, S, T>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override public Triple<R, S, T> call(Object[] values) {
+                        return tuple((R) values[0], (S) values[1], (T) values[2]);
+                    }
+                });
     }
 
     /**
@@ -1823,12 +2224,14 @@ public class Lazily {
      *
      * <p>If any of the supplied {@code Iterable} instances is empty, the
      * returned {@code Iterable} is effectively empty. If any of the supplied
-     * {@code Iterable} instances are infinite, then the returned
-     * {@code Iterable} will also be infinite. Be aware that in the case of
-     * an infinite {@code Iterable}, the current algorithm will lead to
-     * minimal variability in the returned {@code Quadruple} instances, i.e.,
-     * there is a possibility only one slot of the returned {@code Quadruple}
-     * instances will ever change.</p>
+     * {@code Iterable} instances are infinite, the returned {@code Iterable}
+     * cannot be iterated since each supplied {@code Iterable} is copied into a
+     * random access {@code List} when iteration begins.</p>
+     *
+     * <p>The returned {@link CartesianProduct} yields each {@code Quadruple} in
+     * turn by advancing an array of indices into those lists like an odometer.
+     * It can report its size without iterating and can be split into index
+     * ranges to be iterated independently, e.g., in parallel.</p>
      *
      * <p>This overload of {@code cartesianProduct} is provided to allow the cartesian
      * product to be taken for four {@code Iterable} instances. For equivalent example
@@ -1846,14 +2249,19 @@ public class Lazily {
      * @return An {@code Iterable} effectively containing the cartesian product
      *         of all elements in the supplied {@code Iterable} instances.
      */
-    public static <R, S, T, U> Iterable<Quadruple<R, S, T, U>> cartesianProduct(
+    public static <R, S, T, U> CartesianProduct<Quadruple<R, S, T, U>> cartesianProduct(
             Iterable<R> first,
             Iterable<S> second,
             Iterable<T> third,
             Iterable<U> fourth) {
-        return map(
-                cartesianProduct(iterableWith(first, second, third, fourth)),
-                Mappers.<R, S, T, U>toQuadruple());
+        return new CartesianProduct<Quadruple<R, S, T, U>>(
+                Literals.<Iterable<?>>listWith(first, second, third, fourth),
+                new UnaryFunction<Object[], Quadruple<R, S, T, U>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override public Quadruple<R, S, T, U> call(Object[] values) {
+                        return tuple((R) values[0], (S) values[1], (T) values[2], (U) values[3]);
+                    }
+                });
     }
 
     /**
@@ -1879,12 +2287,14 @@ public class Lazily {
      *
      * <p>If any of the supplied {@code Iterable} instances is empty, the
      * returned {@code Iterable} is effectively empty. If any of the supplied
-     * {@code Iterable} instances are infinite, then the returned
-     * {@code Iterable} will also be infinite. Be aware that in the case of
-     * an infinite {@code Iterable}, the current algorithm will lead to
-     * minimal variability in the returned {@code Quintuple} instances, i.e.,
-     * there is a possibility only one slot of the returned {@code Quintuple}
-     * instances will ever change.</p>
+     * {@code Iterable} instances are infinite, the returned {@code Iterable}
+     * cannot be iterated since each supplied {@code Iterable} is copied into a
+     * random access {@code List} when iteration begins.</p>
+     *
+     * <p>The returned {@link CartesianProduct} yields each {@code Quintuple} in
+     * turn by advancing an array of indices into those lists like an odometer.
+     * It can report its size without iterating and can be split into index
+     * ranges to be iterated independently, e.g., in parallel.</p>
      *
      * <p>This overload of {@code cartesianProduct} is provided to allow the cartesian
      * product to be taken for five {@code Iterable} instances. For equivalent example
@@ -1904,15 +2314,20 @@ public class Lazily {
      * @return An {@code Iterable} effectively containing the cartesian product
      *         of all elements in the supplied {@code Iterable} instances.
      */
-    public static <R, S, T, U, V> Iterable<Quintuple<R, S, T, U, V>> cartesianProduct(
+    public static <R, S, T, U, V> CartesianProduct<Quintuple<R, S, T, U, V>> cartesianProduct(
             Iterable<R> first,
             Iterable<S> second,
             Iterable<T> third,
             Iterable<U> fourth,
             Iterable<V> fifth) {
-        return map(
-                cartesianProduct(iterableWith(first, second, third, fourth, fifth)),
-                Mappers.<R, S, T, U, V>toQuintuple());
+        return new CartesianProduct<Quintuple<R, S, T, U, V>>(
+                Literals.<Iterable<?>>listWith(first, second, third, fourth, fifth),
+                new UnaryFunction<Object[], Quintuple<R, S, T, U, V>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override public Quintuple<R, S, T, U, V> call(Object[] values) {
+                        return tuple((R) values[0], (S) values[1], (T) values[2], (U) values[3], (V) values[4]);
+                    }
+                });
     }
 
     /**
@@ -1938,12 +2353,14 @@ public class Lazily {
      *
      * <p>If any of the supplied {@code Iterable} instances is empty, the
      * returned {@code Iterable} is effectively empty. If any of the supplied
-     * {@code Iterable} instances are infinite, then the returned
-     * {@code Iterable} will also be infinite. Be aware that in the case of
-     * an infinite {@code Iterable}, the current algorithm will lead to
-     * minimal variability in the returned {@code Sextuple} instances, i.e.,
-     * there is a possibility only one slot of the returned {@code Sextuple}
-     * instances will ever change.</p>
+     * {@code Iterable} instances are infinite, the returned {@code Iterable}
+     * cannot be iterated since each supplied {@code Iterable} is copied into a
+     * random access {@code List} when iteration begins.</p>
+     *
+     * <p>The returned {@link CartesianProduct} yields each {@code Sextuple} in
+     * turn by advancing an array of indices into those lists like an odometer.
+     * It can report its size without iterating and can be split into index
+     * ranges to be iterated independently, e.g., in parallel.</p>
      *
      * <p>This overload of {@code cartesianProduct} is provided to allow the cartesian
      * product to be taken for six {@code Iterable} instances. For equivalent example
@@ -1965,16 +2382,21 @@ public class Lazily {
      * @return An {@code Iterable} effectively containing the cartesian product
      *         of all elements in the supplied {@code Iterable} instances.
      */
-    public static <R, S, T, U, V, W> Iterable<Sextuple<R, S, T, U, V, W>> cartesianProduct(
+    public static <R, S, T, U, V, W> CartesianProduct<Sextuple<R, S, T, U, V, W>> cartesianProduct(
             Iterable<R> first,
             Iterable<S> second,
             Iterable<T> third,
             Iterable<U> fourth,
             Iterable<V> fifth,
             Iterable<W> sixth) {
-        return map(
-                cartesianProduct(iterableWith(first, second, third, fourth, fifth, sixth)),
-                Mappers.<R, S, T, U, V, W>toSextuple());
+        return new CartesianProduct<Sextuple<R, S, T, U, V, W>>(
+                Literals.<Iterable<?>>listWith(first, second, third, fourth, fifth, sixth),
+                new UnaryFunction<Object[], Sextuple<R, S, T, U, V, W>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override public Sextuple<R, S, T, U, V, W> call(Object[] values) {
+                        return tuple((R) values[0], (S) values[1], (T) values[2], (U) values[3], (V) values[4], (W) values[5]);
+                    }
+                });
     }
 
     /**
@@ -2000,12 +2422,14 @@ public class Lazily {
      *
      * <p>If any of the supplied {@code Iterable} instances is empty, the
      * returned {@code Iterable} is effectively empty. If any of the supplied
-     * {@code Iterable} instances are infinite, then the returned
-     * {@code Iterable} will also be infinite. Be aware that in the case of
-     * an infinite {@code Iterable}, the current algorithm will lead to
-     * minimal variability in the returned {@code Septuple} instances, i.e.,
-     * there is a possibility only one slot of the returned {@code Septuple}
-     * instances will ever change.</p>
+     * {@code Iterable} instances are infinite, the returned {@code Iterable}
+     * cannot be iterated since each supplied {@code Iterable} is copied into a
+     * random access {@code List} when iteration begins.</p>
+     *
+     * <p>The returned {@link CartesianProduct} yields each {@code Septuple} in
+     * turn by advancing an array of indices into those lists like an odometer.
+     * It can report its size without iterating and can be split into index
+     * ranges to be iterated independently, e.g., in parallel.</p>
      *
      * <p>This overload of {@code cartesianProduct} is provided to allow the cartesian
      * product to be taken for seven {@code Iterable} instances. For equivalent example
@@ -2029,7 +2453,7 @@ public class Lazily {
      * @return An {@code Iterable} effectively containing the cartesian product
      *         of all elements in the supplied {@code Iterable} instances.
      */
-    public static <R, S, T, U, V, W, X> Iterable<Septuple<R, S, T, U, V, W, X>> cartesianProduct(
+    public static <R, S, T, U, V, W, X> CartesianProduct<Septuple<R, S, T, U, V, W, X>> cartesianProduct(
             Iterable<R> first,
             Iterable<S> second,
             Iterable<T> third,
@@ -2037,9 +2461,14 @@ public class Lazily {
             Iterable<V> fifth,
             Iterable<W> sixth,
             Iterable<X> seventh) {
-        return map(
-                cartesianProduct(iterableWith(first, second, third, fourth, fifth, sixth, seventh)),
-                Mappers.<R, S, T, U, V, W, X>toSeptuple());
+        return new CartesianProduct<Septuple<R, S, T, U, V, W, X>>(
+                Literals.<Iterable<?>>listWith(first, second, third, fourth, fifth, sixth, seventh),
+                new UnaryFunction<Object[], Septuple<R, S, T, U, V, W, X>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override public Septuple<R, S, T, U, V, W, X> call(Object[] values) {
+                        return tuple((R) values[0], (S) values[1], (T) values[2], (U) values[3], (V) values[4], (W) values[5], (X) values[6]);
+                    }
+                });
     }
 
     /**
@@ -2065,12 +2494,14 @@ public class Lazily {
      *
      * <p>If any of the supplied {@code Iterable} instances is empty, the
      * returned {@code Iterable} is effectively empty. If any of the supplied
-     * {@code Iterable} instances are infinite, then the returned
-     * {@code Iterable} will also be infinite. Be aware that in the case of
-     * an infinite {@code Iterable}, the current algorithm will lead to
-     * minimal variability in the returned {@code Octuple} instances, i.e.,
-     * there is a possibility only one slot of the returned {@code Octuple}
-     * instances will ever change.</p>
+     * {@code Iterable} instances are infinite, the returned {@code Iterable}
+     * cannot be iterated since each supplied {@code Iterable} is copied into a
+     * random access {@code List} when iteration begins.</p>
+     *
+     * <p>The returned {@link CartesianProduct} yields each {@code Octuple} in
+     * turn by advancing an array of indices into those lists like an odometer.
+     * It can report its size without iterating and can be split into index
+     * ranges to be iterated independently, e.g., in parallel.</p>
      *
      * <p>This overload of {@code cartesianProduct} is provided to allow the cartesian
      * product to be taken for eight {@code Iterable} instances. For equivalent example
@@ -2096,7 +2527,7 @@ public class Lazily {
      * @return An {@code Iterable} effectively containing the cartesian product
      *         of all elements in the supplied {@code Iterable} instances.
      */
-    public static <R, S, T, U, V, W, X, Y> Iterable<Octuple<R, S, T, U, V, W, X, Y>> cartesianProduct(
+    public static <R, S, T, U, V, W, X, Y> CartesianProduct<Octuple<R, S, T, U, V, W, X, Y>> cartesianProduct(
             Iterable<R> first,
             Iterable<S> second,
             Iterable<T> third,
@@ -2105,9 +2536,14 @@ public class Lazily {
             Iterable<W> sixth,
             Iterable<X> seventh,
             Iterable<Y> eighth) {
-        return map(
-                cartesianProduct(iterableWith(first, second, third, fourth, fifth, sixth, seventh, eighth)),
-                Mappers.<R, S, T, U, V, W, X, Y>toOctuple());
+        return new CartesianProduct<Octuple<R, S, T, U, V, W, X, Y>>(
+                Literals.<Iterable<?>>listWith(first, second, third, fourth, fifth, sixth, seventh, eighth),
+                new UnaryFunction<Object[], Octuple<R, S, T, U, V, W, X, Y>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override public Octuple<R, S, T, U, V, W, X, Y> call(Object[] values) {
+                        return tuple((R) values[0], (S) values[1], (T) values[2], (U) values[3], (V) values[4], (W) values[5], (X) values[6], (Y) values[7]);
+                    }
+                });
     }
 
     /**
@@ -2133,12 +2569,14 @@ public class Lazily {
      *
      * <p>If any of the supplied {@code Iterable} instances is empty, the
      * returned {@code Iterable} is effectively empty. If any of the supplied
-     * {@code Iterable} instances are infinite, then the returned
-     * {@code Iterable} will also be infinite. Be aware that in the case of
-     * an infinite {@code Iterable}, the current algorithm will lead to
-     * minimal variability in the returned {@code Nonuple} instances, i.e.,
-     * there is a possibility only one slot of the returned {@code Nonuple}
-     * instances will ever change.</p>
+     * {@code Iterable} instances are infinite, the returned {@code Iterable}
+     * cannot be iterated since each supplied {@code Iterable} is copied into a
+     * random access {@code List} when iteration begins.</p>
+     *
+     * <p>The returned {@link CartesianProduct} yields each {@code Nonuple} in
+     * turn by advancing an array of indices into those lists like an odometer.
+     * It can report its size without iterating and can be split into index
+     * ranges to be iterated independently, e.g., in parallel.</p>
      *
      * <p>This overload of {@code cartesianProduct} is provided to allow the cartesian
      * product to be taken for nine {@code Iterable} instances. For equivalent example
@@ -2166,7 +2604,7 @@ public class Lazily {
      * @return An {@code Iterable} effectively containing the cartesian product
      *         of all elements in the supplied {@code Iterable} instances.
      */
-    public static <R, S, T, U, V, W, X, Y, Z> Iterable<Nonuple<R, S, T, U, V, W, X, Y, Z>> cartesianProduct(
+    public static <R, S, T, U, V, W, X, Y, Z> CartesianProduct<Nonuple<R, S, T, U, V, W, X, Y, Z>> cartesianProduct(
             Iterable<R> first,
             Iterable<S> second,
             Iterable<T> third,
@@ -2176,9 +2614,14 @@ public class Lazily {
             Iterable<X> seventh,
             Iterable<Y> eighth,
             Iterable<Z> ninth) {
-        return map(
-                cartesianProduct(iterableWith(first, second, third, fourth, fifth, sixth, seventh, eighth, ninth)),
-                Mappers.<R, S, T, U, V, W, X, Y, Z>toNonuple());
+        return new CartesianProduct<Nonuple<R, S, T, U, V, W, X, Y, Z>>(
+                Literals.<Iterable<?>>listWith(first, second, third, fourth, fifth, sixth, seventh, eighth, ninth),
+                new UnaryFunction<Object[], Nonuple<R, S, T, U, V, W, X, Y, Z>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override public Nonuple<R, S, T, U, V, W, X, Y, Z> call(Object[] values) {
+                        return tuple((R) values[0], (S) values[1], (T) values[2], (U) values[3], (V) values[4], (W) values[5], (X) values[6], (Y) values[7], (Z) values[8]);
+                    }
+                });
     }
 
     /**
@@ -2207,12 +2650,14 @@ public class Lazily {
      *
      * <p>If any of the supplied {@code Iterable} instances is empty, the
      * returned {@code Iterable} is effectively empty. If any of the supplied
-     * {@code Iterable} instances are infinite, then the returned
-     * {@code Iterable} will also be infinite. Be aware that in the case of
-     * an infinite {@code Iterable}, the current algorithm will lead to
-     * minimal variability in the returned {@code Iterable} instances, i.e.,
-     * there is a possibility only one position of the returned {@code Iterable}
-     * instances will ever change.</p>
+     * {@code Iterable} instances are infinite, the returned {@code Iterable}
+     * cannot be iterated since each supplied {@code Iterable} is copied into a
+     * random access {@code List} when iteration begins.</p>
+     *
+     * <p>The returned {@link CartesianProduct} yields each {@code Iterable} in
+     * turn by advancing an array of indices into those lists like an odometer.
+     * It can report its size without iterating and can be split into index
+     * ranges to be iterated independently, e.g., in parallel.</p>
      *
      * <p>Note that this overload of {@code cartesianProduct} does not preserve type
      * information and so the returned {@code Iterable} will contain {@code Iterable}
@@ -2254,32 +2699,16 @@ public class Lazily {
      * @return An {@code Iterable} of {@code Iterable} instances representing the
      *         cartesian product of the supplied {@code Iterable} of {@code Iterable}s.
      */
-    public static Iterable<? extends Iterable<?>> cartesianProduct(final Iterable<? extends Iterable<?>> iterables) {
+    public static CartesianProduct<Iterable<?>> cartesianProduct(final Iterable<? extends Iterable<?>> iterables) {
         checkNotNull(iterables);
         returnOrThrowIfContainsNull(iterables);
-        return cartesianProduct(listFrom(iterables));
-    }
-
-    private static Iterable<? extends Iterable<?>> cartesianProduct(final List<? extends Iterable<?>> iterables) {
-        if (iterables.size() == 2) {
-            final Iterable<?> first = first(iterables).get();
-            final Iterable<?> second = first(rest(iterables)).get();
-            return concat(map(first, new Mapper<Object, Iterable<? extends Iterable<?>>>() {
-                public Iterable<? extends Iterable<?>> map(Object input) {
-                    return zip(cycle(iterableWith(input)), second);
-                }
-            }));
-        }
-
-        Iterable<? extends Pair<?, ? extends Iterable<?>>> pairs = cartesianProduct(
-                first(iterables).get(),
-                cartesianProduct(rest(iterables)));
-
-        return map(pairs, new Mapper<Pair<?, ? extends Iterable<?>>, Iterable<?>>() {
-            public Iterable<?> map(Pair<?, ? extends Iterable<?>> input) {
-                return iterableBuilderWith(input.getFirst()).and(input.getSecond()).build();
-            }
-        });
+        return new CartesianProduct<Iterable<?>>(
+                listFrom(iterables),
+                new UnaryFunction<Object[], Iterable<?>>() {
+                    @Override public Iterable<?> call(Object[] values) {
+                        return unmodifiableList(asList(values.clone()));
+                    }
+                });
     }
 
     /**
@@ -2343,9 +2772,17 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S> Iterable<Pair<R, S>> zip(
-            Iterable<R> first,
-            Iterable<S> second) {
-        return map(zip(iterableWith(first, second)), Mappers.<R, S>toPair());
+            final Iterable<R> first,
+            final Iterable<S> second) {
+        checkNotNull(first);
+        checkNotNull(second);
+        return new Iterable<Pair<R, S>>() {
+            public Iterator<Pair<R, S>> iterator() {
+                return new Zip2Iterator<R, S>(
+                        first.iterator(),
+                        second.iterator());
+            }
+        };
     }
 
     /**
@@ -2386,10 +2823,20 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S, T> Iterable<Triple<R, S, T>> zip(
-            Iterable<R> first,
-            Iterable<S> second,
-            Iterable<T> third) {
-        return map(zip(iterableWith(first, second, third)), Mappers.<R, S, T>toTriple());
+            final Iterable<R> first,
+            final Iterable<S> second,
+            final Iterable<T> third) {
+        checkNotNull(first);
+        checkNotNull(second);
+        checkNotNull(third);
+        return new Iterable<Triple<R, S, T>>() {
+            public Iterator<Triple<R, S, T>> iterator() {
+                return new Zip3Iterator<R, S, T>(
+                        first.iterator(),
+                        second.iterator(),
+                        third.iterator());
+            }
+        };
     }
 
     /**
@@ -2432,11 +2879,23 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S, T, U> Iterable<Quadruple<R, S, T, U>> zip(
-            Iterable<R> first,
-            Iterable<S> second,
-            Iterable<T> third,
-            Iterable<U> fourth) {
-        return map(zip(iterableWith(first, second, third, fourth)), Mappers.<R, S, T, U>toQuadruple());
+            final Iterable<R> first,
+            final Iterable<S> second,
+            final Iterable<T> third,
+            final Iterable<U> fourth) {
+        checkNotNull(first);
+        checkNotNull(second);
+        checkNotNull(third);
+        checkNotNull(fourth);
+        return new Iterable<Quadruple<R, S, T, U>>() {
+            public Iterator<Quadruple<R, S, T, U>> iterator() {
+                return new Zip4Iterator<R, S, T, U>(
+                        first.iterator(),
+                        second.iterator(),
+                        third.iterator(),
+                        fourth.iterator());
+            }
+        };
     }
 
     /**
@@ -2481,12 +2940,26 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S, T, U, V> Iterable<Quintuple<R, S, T, U, V>> zip(
-            Iterable<R> first,
-            Iterable<S> second,
-            Iterable<T> third,
-            Iterable<U> fourth,
-            Iterable<V> fifth) {
-        return map(zip(iterableWith(first, second, third, fourth, fifth)), Mappers.<R, S, T, U, V>toQuintuple());
+            final Iterable<R> first,
+            final Iterable<S> second,
+            final Iterable<T> third,
+            final Iterable<U> fourth,
+            final Iterable<V> fifth) {
+        checkNotNull(first);
+        checkNotNull(second);
+        checkNotNull(third);
+        checkNotNull(fourth);
+        checkNotNull(fifth);
+        return new Iterable<Quintuple<R, S, T, U, V>>() {
+            public Iterator<Quintuple<R, S, T, U, V>> iterator() {
+                return new Zip5Iterator<R, S, T, U, V>(
+                        first.iterator(),
+                        second.iterator(),
+                        third.iterator(),
+                        fourth.iterator(),
+                        fifth.iterator());
+            }
+        };
     }
 
     /**
@@ -2533,13 +3006,29 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S, T, U, V, W> Iterable<Sextuple<R, S, T, U, V, W>> zip(
-            Iterable<R> first,
-            Iterable<S> second,
-            Iterable<T> third,
-            Iterable<U> fourth,
-            Iterable<V> fifth,
-            Iterable<W> sixth) {
-        return map(zip(iterableWith(first, second, third, fourth, fifth, sixth)), Mappers.<R, S, T, U, V, W>toSextuple());
+            final Iterable<R> first,
+            final Iterable<S> second,
+            final Iterable<T> third,
+            final Iterable<U> fourth,
+            final Iterable<V> fifth,
+            final Iterable<W> sixth) {
+        checkNotNull(first);
+        checkNotNull(second);
+        checkNotNull(third);
+        checkNotNull(fourth);
+        checkNotNull(fifth);
+        checkNotNull(sixth);
+        return new Iterable<Sextuple<R, S, T, U, V, W>>() {
+            public Iterator<Sextuple<R, S, T, U, V, W>> iterator() {
+                return new Zip6Iterator<R, S, T, U, V, W>(
+                        first.iterator(),
+                        second.iterator(),
+                        third.iterator(),
+                        fourth.iterator(),
+                        fifth.iterator(),
+                        sixth.iterator());
+            }
+        };
     }
 
     /**
@@ -2588,14 +3077,32 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S, T, U, V, W, X> Iterable<Septuple<R, S, T, U, V, W, X>> zip(
-            Iterable<R> first,
-            Iterable<S> second,
-            Iterable<T> third,
-            Iterable<U> fourth,
-            Iterable<V> fifth,
-            Iterable<W> sixth,
-            Iterable<X> seventh) {
-        return map(zip(iterableWith(first, second, third, fourth, fifth, sixth, seventh)), Mappers.<R, S, T, U, V, W, X>toSeptuple());
+            final Iterable<R> first,
+            final Iterable<S> second,
+            final Iterable<T> third,
+            final Iterable<U> fourth,
+            final Iterable<V> fifth,
+            final Iterable<W> sixth,
+            final Iterable<X> seventh) {
+        checkNotNull(first);
+        checkNotNull(second);
+        checkNotNull(third);
+        checkNotNull(fourth);
+        checkNotNull(fifth);
+        checkNotNull(sixth);
+        checkNotNull(seventh);
+        return new Iterable<Septuple<R, S, T, U, V, W, X>>() {
+            public Iterator<Septuple<R, S, T, U, V, W, X>> iterator() {
+                return new Zip7Iterator<R, S, T, U, V, W, X>(
+                        first.iterator(),
+                        second.iterator(),
+                        third.iterator(),
+                        fourth.iterator(),
+                        fifth.iterator(),
+                        sixth.iterator(),
+                        seventh.iterator());
+            }
+        };
     }
 
     /**
@@ -2646,15 +3153,35 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S, T, U, V, W, X, Y> Iterable<Octuple<R, S, T, U, V, W, X, Y>> zip(
-            Iterable<R> first,
-            Iterable<S> second,
-            Iterable<T> third,
-            Iterable<U> fourth,
-            Iterable<V> fifth,
-            Iterable<W> sixth,
-            Iterable<X> seventh,
-            Iterable<Y> eighth) {
-        return map(zip(iterableWith(first, second, third, fourth, fifth, sixth, seventh, eighth)), Mappers.<R, S, T, U, V, W, X, Y>toOctuple());
+            final Iterable<R> first,
+            final Iterable<S> second,
+            final Iterable<T> third,
+            final Iterable<U> fourth,
+            final Iterable<V> fifth,
+            final Iterable<W> sixth,
+            final Iterable<X> seventh,
+            final Iterable<Y> eighth) {
+        checkNotNull(first);
+        checkNotNull(second);
+        checkNotNull(third);
+        checkNotNull(fourth);
+        checkNotNull(fifth);
+        checkNotNull(sixth);
+        checkNotNull(seventh);
+        checkNotNull(eighth);
+        return new Iterable<Octuple<R, S, T, U, V, W, X, Y>>() {
+            public Iterator<Octuple<R, S, T, U, V, W, X, Y>> iterator() {
+                return new Zip8Iterator<R, S, T, U, V, W, X, Y>(
+                        first.iterator(),
+                        second.iterator(),
+                        third.iterator(),
+                        fourth.iterator(),
+                        fifth.iterator(),
+                        sixth.iterator(),
+                        seventh.iterator(),
+                        eighth.iterator());
+            }
+        };
     }
 
     /**
@@ -2707,16 +3234,38 @@ public class Lazily {
      *         elements from the supplied {@code Iterable} instances.
      */
     public static <R, S, T, U, V, W, X, Y, Z> Iterable<Nonuple<R, S, T, U, V, W, X, Y, Z>> zip(
-            Iterable<R> first,
-            Iterable<S> second,
-            Iterable<T> third,
-            Iterable<U> fourth,
-            Iterable<V> fifth,
-            Iterable<W> sixth,
-            Iterable<X> seventh,
-            Iterable<Y> eighth,
-            Iterable<Z> ninth) {
-        return map(zip(iterableWith(first, second, third, fourth, fifth, sixth, seventh, eighth, ninth)), Mappers.<R, S, T, U, V, W, X, Y, Z>toNonuple());
+            final Iterable<R> first,
+            final Iterable<S> second,
+            final Iterable<T> third,
+            final Iterable<U> fourth,
+            final Iterable<V> fifth,
+            final Iterable<W> sixth,
+            final Iterable<X> seventh,
+            final Iterable<Y> eighth,
+            final Iterable<Z> ninth) {
+        checkNotNull(first);
+        checkNotNull(second);
+        checkNotNull(third);
+        checkNotNull(fourth);
+        checkNotNull(fifth);
+        checkNotNull(sixth);
+        checkNotNull(seventh);
+        checkNotNull(eighth);
+        checkNotNull(ninth);
+        return new Iterable<Nonuple<R, S, T, U, V, W, X, Y, Z>>() {
+            public Iterator<Nonuple<R, S, T, U, V, W, X, Y, Z>> iterator() {
+                return new Zip9Iterator<R, S, T, U, V, W, X, Y, Z>(
+                        first.iterator(),
+                        second.iterator(),
+                        third.iterator(),
+                        fourth.iterator(),
+                        fifth.iterator(),
+                        sixth.iterator(),
+                        seventh.iterator(),
+                        eighth.iterator(),
+                        ninth.iterator());
+            }
+        };
     }
 
     /**
@@ -0,0 +1,80 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import static org.javafunk.funk.NumberSum.isIntegral;
+import static org.javafunk.funk.NumberSum.narrowed;
+
+/**
+ * A mutable running product of {@code Number} instances of mixed types, used
+ * by {@link Numbers#productOf(Iterable)}.
+ *
+ * <p>As with {@link NumberSum}, integral values are multiplied in a primitive
+ * {@code long}, widening to a {@code BigInteger} only once the product
+ * overflows, while floating point and {@code BigDecimal} values are
+ * multiplied separately and combined when the result is requested.</p>
+ */
+class NumberProduct {
+    private long integral = 1;
+    private BigInteger overflow = BigInteger.ONE;
+    private boolean floating;
+    private double floatingProduct = 1;
+    private BigDecimal decimal;
+
+    void multiply(Number number) {
+        if (number instanceof Double || number instanceof Float) {
+            multiplyFloating(number.doubleValue());
+        } else if (number instanceof BigInteger) {
+            overflow = overflow.multiply((BigInteger) number);
+        } else if (number instanceof BigDecimal) {
+            decimal = decimal == null ? (BigDecimal) number : decimal.multiply((BigDecimal) number);
+        } else if (isIntegral(number)) {
+            multiplyIntegral(number.longValue());
+        } else {
+            multiplyFloating(number.doubleValue());
+        }
+    }
+
+    Number result() {
+        BigInteger exactIntegral = overflow.multiply(BigInteger.valueOf(integral));
+        if (decimal != null) {
+            BigDecimal result = decimal.multiply(new BigDecimal(exactIntegral));
+            return floating ? result.multiply(BigDecimal.valueOf(floatingProduct)) : result;
+        }
+        if (floating) {
+            return exactIntegral.doubleValue() * floatingProduct;
+        }
+        return narrowed(exactIntegral);
+    }
+
+    static boolean multiplicationOverflows(long first, long second, long product) {
+        if (((Math.abs(first) | Math.abs(second)) >>> 31) == 0) {
+            return false;
+        }
+        return (second != 0 && product / second != first) || (first == Long.MIN_VALUE && second == -1);
+    }
+
+    private void multiplyIntegral(long value) {
+        long product = integral * value;
+        if (multiplicationOverflows(integral, value, product)) {
+            overflow = overflow.multiply(BigInteger.valueOf(integral)).multiply(BigInteger.valueOf(value));
+            integral = 1;
+        } else {
+            integral = product;
+        }
+    }
+
+    private void multiplyFloating(double value) {
+        floatingProduct *= value;
+        floating = true;
+    }
+}
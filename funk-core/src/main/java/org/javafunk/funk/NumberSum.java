@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A mutable running sum of {@code Number} instances of mixed types, used by
+ * {@link Numbers#sumOf(Iterable)} and {@link Parallelly#sum(Iterable)}.
+ *
+ * <p>Integral values are summed in a primitive {@code long}, widening to a
+ * {@code BigInteger} only once the sum overflows. Floating point values are
+ * summed separately in a {@link CompensatedSum}, and
+ * {@code BigDecimal} values are summed exactly. The partial sums are only
+ * combined when the result is requested, in the narrowest of {@code Long},
+ * {@code BigInteger}, {@code Double} and {@code BigDecimal} able to
+ * represent it.</p>
+ */
+class NumberSum {
+    private static final BigInteger LONG_MINIMUM = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger LONG_MAXIMUM = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private long integral;
+    private BigInteger overflow = BigInteger.ZERO;
+    private boolean floating;
+    private final CompensatedSum floatingSum = new CompensatedSum();
+    private BigDecimal decimal;
+    private long count;
+
+    void add(Number number) {
+        if (number instanceof Double || number instanceof Float) {
+            addFloating(number.doubleValue());
+        } else if (number instanceof BigInteger) {
+            overflow = overflow.add((BigInteger) number);
+        } else if (number instanceof BigDecimal) {
+            decimal = decimal == null ? (BigDecimal) number : decimal.add((BigDecimal) number);
+        } else if (isIntegral(number)) {
+            addIntegral(number.longValue());
+        } else {
+            addFloating(number.doubleValue());
+        }
+        count++;
+    }
+
+    void add(NumberSum other) {
+        addIntegral(other.integral);
+        overflow = overflow.add(other.overflow);
+        if (other.floating) {
+            floatingSum.add(other.floatingSum);
+            floating = true;
+        }
+        if (other.decimal != null) {
+            decimal = decimal == null ? other.decimal : decimal.add(other.decimal);
+        }
+        count += other.count;
+    }
+
+    long count() {
+        return count;
+    }
+
+    Number result() {
+        BigInteger exactIntegral = overflow.add(BigInteger.valueOf(integral));
+        if (decimal != null) {
+            BigDecimal result = decimal.add(new BigDecimal(exactIntegral));
+            return floating ? result.add(BigDecimal.valueOf(floatingSum.result())) : result;
+        }
+        if (floating) {
+            CompensatedSum total = floatingSum.copy();
+            total.add(exactIntegral.doubleValue());
+            return total.result();
+        }
+        return narrowed(exactIntegral);
+    }
+
+    static boolean isIntegral(Number number) {
+        return number instanceof Integer
+                || number instanceof Long
+                || number instanceof Short
+                || number instanceof Byte
+                || number instanceof AtomicInteger
+                || number instanceof AtomicLong;
+    }
+
+    static Number narrowed(BigInteger value) {
+        if (value.compareTo(LONG_MINIMUM) >= 0 && value.compareTo(LONG_MAXIMUM) <= 0) {
+            return value.longValue();
+        }
+        return value;
+    }
+
+    private void addIntegral(long value) {
+        long sum = integral + value;
+        if (((integral ^ sum) & (value ^ sum)) < 0) {
+            overflow = overflow.add(BigInteger.valueOf(integral)).add(BigInteger.valueOf(value));
+            integral = 0;
+        } else {
+            integral = sum;
+        }
+    }
+
+    private void addFloating(double value) {
+        floatingSum.add(value);
+        floating = true;
+    }
+}
@@ -8,16 +8,15 @@
  */
 package org.javafunk.funk;
 
-import org.javafunk.funk.functors.Reducer;
-import org.javafunk.funk.functors.functions.BinaryFunction;
 import org.javafunk.funk.monads.Option;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.Iterator;
 import java.util.Map;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static java.lang.String.format;
-import static org.javafunk.funk.Accumulators.*;
 import static org.javafunk.funk.Exceptions.arithmeticFactory;
 import static org.javafunk.funk.Exceptions.nullPointerFactory;
 import static org.javafunk.funk.monads.Option.none;
@@ -54,7 +53,7 @@ public class Numbers {
      *                              the supplied {@code Class} are {@code null}.
      */
     public static <T extends Number> T sumOrThrow(Iterable<T> iterable, Class<T> numberClass) {
-        return process(iterable, numberClass, sumAccumulatorMap, "sum");
+        return process(iterable, numberClass, sumKernelMap, "sum");
     }
 
     /**
@@ -120,7 +119,7 @@ public class Numbers {
      *                              the supplied {@code Class} are {@code null}.
      */
     public static <T extends Number> T multiplyOrThrow(Iterable<T> iterable, Class<T> numberClass) {
-        return process(iterable, numberClass, multiplyAccumulatorMap, "multiply");
+        return process(iterable, numberClass, multiplyKernelMap, "multiply");
     }
 
     /**
@@ -158,31 +157,392 @@ public class Numbers {
         }
     }
 
-    private static final Map<Class<?>, BinaryFunction<?, ?, ?>> sumAccumulatorMap =
-            Literals.<Class<?>, BinaryFunction<?, ?, ?>>mapBuilder()
-                    .withKeyValuePair(Integer.class, integerAdditionAccumulator())
-                    .withKeyValuePair(Long.class, longAdditionAccumulator())
-                    .withKeyValuePair(BigInteger.class, bigIntegerAdditionAccumulator())
-                    .withKeyValuePair(Float.class, floatAdditionAccumulator())
-                    .withKeyValuePair(Double.class, doubleAdditionAccumulator())
-                    .withKeyValuePair(BigDecimal.class, bigDecimalAdditionAccumulator())
+    /**
+     * Sums the supplied {@code Iterable} of {@code Number}s, which may be of
+     * mixed types, without losing precision to overflow.
+     *
+     * <p>Integral numbers are summed in a primitive {@code long} and the sum
+     * is only widened to a {@code BigInteger} if it does not fit in a
+     * {@code long}. {@code Float} and {@code Double} numbers are summed using
+     * compensated (Kahan-Neumaier) summation, so that rounding error does not
+     * accumulate with the number of elements. The result is a {@code Long},
+     * {@code BigInteger}, {@code Double} or, if any {@code BigDecimal}
+     * instances are supplied, a {@code BigDecimal}.</p>
+     *
+     * <p>If the supplied {@code Iterable} is empty, a {@code Long} zero is
+     * returned. If the supplied {@code Iterable} is {@code null} or contains
+     * {@code null} elements, a {@code NullPointerException} is thrown.</p>
+     *
+     * @param iterable An {@code Iterable} of {@code Number}s to be summed.
+     * @return The sum of the supplied numbers.
+     * @throws NullPointerException if the supplied {@code Iterable} is
+     *                              {@code null} or contains {@code null}
+     *                              elements.
+     */
+    public static Number sumOf(Iterable<? extends Number> iterable) {
+        NumberSum sum = new NumberSum();
+        for (Number number : checkNotNull(iterable)) {
+            sum.add(checkNotNull(number));
+        }
+        return sum.result();
+    }
+
+    public static long sumOf(int[] values) {
+        long sum = 0;
+        for (int value : checkNotNull(values)) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * Sums the supplied {@code long} values, returning a {@code Long} if the
+     * sum fits in a {@code long} and a {@code BigInteger} otherwise.
+     */
+    public static Number sumOf(long[] values) {
+        long sum = 0;
+        BigInteger overflow = BigInteger.ZERO;
+        for (long value : checkNotNull(values)) {
+            long next = sum + value;
+            if (((sum ^ next) & (value ^ next)) < 0) {
+                overflow = overflow.add(BigInteger.valueOf(sum)).add(BigInteger.valueOf(value));
+                next = 0;
+            }
+            sum = next;
+        }
+        return overflow.signum() == 0 ? sum : NumberSum.narrowed(overflow.add(BigInteger.valueOf(sum)));
+    }
+
+    /**
+     * Sums the supplied {@code double} values using compensated
+     * (Kahan-Neumaier) summation.
+     */
+    public static double sumOf(double[] values) {
+        CompensatedSum sum = new CompensatedSum();
+        for (double value : checkNotNull(values)) {
+            sum.add(value);
+        }
+        return sum.result();
+    }
+
+    /**
+     * Multiplies the supplied {@code Iterable} of {@code Number}s, which may
+     * be of mixed types, without losing precision to overflow.
+     *
+     * <p>Integral numbers are multiplied in a primitive {@code long} and the
+     * product is only widened to a {@code BigInteger} if it does not fit in
+     * a {@code long}. The result is a {@code Long}, {@code BigInteger},
+     * {@code Double} or, if any {@code BigDecimal} instances are supplied, a
+     * {@code BigDecimal}.</p>
+     *
+     * <p>If the supplied {@code Iterable} is empty, a {@code Long} one is
+     * returned. If the supplied {@code Iterable} is {@code null} or contains
+     * {@code null} elements, a {@code NullPointerException} is thrown.</p>
+     *
+     * @param iterable An {@code Iterable} of {@code Number}s to be multiplied.
+     * @return The product of the supplied numbers.
+     * @throws NullPointerException if the supplied {@code Iterable} is
+     *                              {@code null} or contains {@code null}
+     *                              elements.
+     */
+    public static Number productOf(Iterable<? extends Number> iterable) {
+        NumberProduct product = new NumberProduct();
+        for (Number number : checkNotNull(iterable)) {
+            product.multiply(checkNotNull(number));
+        }
+        return product.result();
+    }
+
+    /**
+     * Multiplies the supplied {@code int} values, returning a {@code Long} if
+     * the product fits in a {@code long} and a {@code BigInteger} otherwise.
+     */
+    public static Number productOf(int[] values) {
+        long[] widened = new long[checkNotNull(values).length];
+        for (int i = 0; i < values.length; i++) {
+            widened[i] = values[i];
+        }
+        return productOf(widened);
+    }
+
+    /**
+     * Multiplies the supplied {@code long} values, returning a {@code Long} if
+     * the product fits in a {@code long} and a {@code BigInteger} otherwise.
+     */
+    public static Number productOf(long[] values) {
+        long product = 1;
+        BigInteger overflow = BigInteger.ONE;
+        for (long value : checkNotNull(values)) {
+            long next = product * value;
+            if (NumberProduct.multiplicationOverflows(product, value, next)) {
+                overflow = overflow.multiply(BigInteger.valueOf(product)).multiply(BigInteger.valueOf(value));
+                next = 1;
+            }
+            product = next;
+        }
+        return overflow.equals(BigInteger.ONE)
+                ? product
+                : NumberSum.narrowed(overflow.multiply(BigInteger.valueOf(product)));
+    }
+
+    public static double productOf(double[] values) {
+        double product = 1;
+        for (double value : checkNotNull(values)) {
+            product *= value;
+        }
+        return product;
+    }
+
+    /**
+     * Returns the smallest of the supplied {@code Number}s, which may be of
+     * mixed types. Numbers are compared by value: integral numbers exactly,
+     * {@code BigInteger} and {@code BigDecimal} numbers as {@code BigDecimal}
+     * and otherwise as {@code double} values ordered as by
+     * {@link Double#compare(double, double)}.
+     *
+     * @param iterable An {@code Iterable} of {@code Number}s.
+     * @param <T>      The type of the {@code Number}s.
+     * @return The smallest of the supplied numbers.
+     * @throws ArithmeticException  if the supplied {@code Iterable} is empty.
+     * @throws NullPointerException if the supplied {@code Iterable} is
+     *                              {@code null} or contains {@code null}
+     *                              elements.
+     */
+    public static <T extends Number> T minOf(Iterable<T> iterable) {
+        return extremeOf(iterable, -1, "find the minimum of");
+    }
+
+    /**
+     * Returns the largest of the supplied {@code Number}s, compared as
+     * described by {@link #minOf(Iterable)}.
+     *
+     * @param iterable An {@code Iterable} of {@code Number}s.
+     * @param <T>      The type of the {@code Number}s.
+     * @return The largest of the supplied numbers.
+     * @throws ArithmeticException  if the supplied {@code Iterable} is empty.
+     * @throws NullPointerException if the supplied {@code Iterable} is
+     *                              {@code null} or contains {@code null}
+     *                              elements.
+     */
+    public static <T extends Number> T maxOf(Iterable<T> iterable) {
+        return extremeOf(iterable, 1, "find the maximum of");
+    }
+
+    public static int minOf(int[] values) {
+        checkNotEmpty(checkNotNull(values).length, "find the minimum of");
+        int minimum = values[0];
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] < minimum) {
+                minimum = values[i];
+            }
+        }
+        return minimum;
+    }
+
+    public static long minOf(long[] values) {
+        checkNotEmpty(checkNotNull(values).length, "find the minimum of");
+        long minimum = values[0];
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] < minimum) {
+                minimum = values[i];
+            }
+        }
+        return minimum;
+    }
+
+    public static double minOf(double[] values) {
+        checkNotEmpty(checkNotNull(values).length, "find the minimum of");
+        double minimum = values[0];
+        for (int i = 1; i < values.length; i++) {
+            if (Double.compare(values[i], minimum) < 0) {
+                minimum = values[i];
+            }
+        }
+        return minimum;
+    }
+
+    public static int maxOf(int[] values) {
+        checkNotEmpty(checkNotNull(values).length, "find the maximum of");
+        int maximum = values[0];
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] > maximum) {
+                maximum = values[i];
+            }
+        }
+        return maximum;
+    }
+
+    public static long maxOf(long[] values) {
+        checkNotEmpty(checkNotNull(values).length, "find the maximum of");
+        long maximum = values[0];
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] > maximum) {
+                maximum = values[i];
+            }
+        }
+        return maximum;
+    }
+
+    public static double maxOf(double[] values) {
+        checkNotEmpty(checkNotNull(values).length, "find the maximum of");
+        double maximum = values[0];
+        for (int i = 1; i < values.length; i++) {
+            if (Double.compare(values[i], maximum) > 0) {
+                maximum = values[i];
+            }
+        }
+        return maximum;
+    }
+
+    /**
+     * Returns the arithmetic mean of the supplied {@code Number}s, which may
+     * be of mixed types. The numbers are first summed exactly as described by
+     * {@link #sumOf(Iterable)}, so the mean is only rounded once.
+     *
+     * @param iterable An {@code Iterable} of {@code Number}s.
+     * @return The mean of the supplied numbers.
+     * @throws ArithmeticException  if the supplied {@code Iterable} is empty.
+     * @throws NullPointerException if the supplied {@code Iterable} is
+     *                              {@code null} or contains {@code null}
+     *                              elements.
+     */
+    public static double meanOf(Iterable<? extends Number> iterable) {
+        NumberSum sum = new NumberSum();
+        for (Number number : checkNotNull(iterable)) {
+            sum.add(checkNotNull(number));
+        }
+        checkNotEmpty(sum.count(), "find the mean of");
+        return sum.result().doubleValue() / sum.count();
+    }
+
+    public static double meanOf(int[] values) {
+        checkNotEmpty(checkNotNull(values).length, "find the mean of");
+        return sumOf(values) / (double) values.length;
+    }
+
+    public static double meanOf(long[] values) {
+        checkNotEmpty(checkNotNull(values).length, "find the mean of");
+        return sumOf(values).doubleValue() / values.length;
+    }
+
+    public static double meanOf(double[] values) {
+        checkNotEmpty(checkNotNull(values).length, "find the mean of");
+        return sumOf(values) / values.length;
+    }
+
+    private static final Map<Class<?>, Kernel> sumKernelMap =
+            Literals.<Class<?>, Kernel>mapBuilder()
+                    .withKeyValuePair(Integer.class, new Kernel() {
+                        @Override public Number process(Iterable<? extends Number> numbers) {
+                            int sum = 0;
+                            for (Number number : numbers) {
+                                sum += number.intValue();
+                            }
+                            return sum;
+                        }
+                    })
+                    .withKeyValuePair(Long.class, new Kernel() {
+                        @Override public Number process(Iterable<? extends Number> numbers) {
+                            long sum = 0;
+                            for (Number number : numbers) {
+                                sum += number.longValue();
+                            }
+                            return sum;
+                        }
+                    })
+                    .withKeyValuePair(BigInteger.class, new Kernel() {
+                        @Override public Number process(Iterable<? extends Number> numbers) {
+                            BigInteger sum = BigInteger.ZERO;
+                            for (Number number : numbers) {
+                                sum = sum.add((BigInteger) number);
+                            }
+                            return sum;
+                        }
+                    })
+                    .withKeyValuePair(Float.class, new Kernel() {
+                        @Override public Number process(Iterable<? extends Number> numbers) {
+                            return (float) compensatedSum(numbers);
+                        }
+                    })
+                    .withKeyValuePair(Double.class, new Kernel() {
+                        @Override public Number process(Iterable<? extends Number> numbers) {
+                            return compensatedSum(numbers);
+                        }
+                    })
+                    .withKeyValuePair(BigDecimal.class, new Kernel() {
+                        @Override public Number process(Iterable<? extends Number> numbers) {
+                            BigDecimal sum = BigDecimal.ZERO;
+                            for (Number number : numbers) {
+                                sum = sum.add((BigDecimal) number);
+                            }
+                            return sum;
+                        }
+                    })
                     .build();
 
-    private static final Map<Class<?>, BinaryFunction<?, ?, ?>> multiplyAccumulatorMap =
-            Literals.<Class<?>, BinaryFunction<?, ?, ?>>mapBuilder()
-                    .withKeyValuePair(Integer.class, integerMultiplicationAccumulator())
-                    .withKeyValuePair(Long.class, longMultiplicationAccumulator())
-                    .withKeyValuePair(BigInteger.class, bigIntegerMultiplicationAccumulator())
-                    .withKeyValuePair(Float.class, floatMultiplicationAccumulator())
-                    .withKeyValuePair(Double.class, doubleMultiplicationAccumulator())
-                    .withKeyValuePair(BigDecimal.class, bigDecimalMultiplicationAccumulator())
+    private static final Map<Class<?>, Kernel> multiplyKernelMap =
+            Literals.<Class<?>, Kernel>mapBuilder()
+                    .withKeyValuePair(Integer.class, new Kernel() {
+                        @Override public Number process(Iterable<? extends Number> numbers) {
+                            int product = 1;
+                            for (Number number : numbers) {
+                                product *= number.intValue();
+                            }
+                            return product;
+                        }
+                    })
+                    .withKeyValuePair(Long.class, new Kernel() {
+                        @Override public Number process(Iterable<? extends Number> numbers) {
+                            long product = 1;
+                            for (Number number : numbers) {
+                                product *= number.longValue();
+                            }
+                            return product;
+                        }
+                    })
+                    .withKeyValuePair(BigInteger.class, new Kernel() {
+                        @Override public Number process(Iterable<? extends Number> numbers) {
+                            BigInteger product = BigInteger.ONE;
+                            for (Number number : numbers) {
+                                product = product.multiply((BigInteger) number);
+                            }
+                            return product;
+                        }
+                    })
+                    .withKeyValuePair(Float.class, new Kernel() {
+                        @Override public Number process(Iterable<? extends Number> numbers) {
+                            float product = 1;
+                            for (Number number : numbers) {
+                                product *= number.floatValue();
+                            }
+                            return product;
+                        }
+                    })
+                    .withKeyValuePair(Double.class, new Kernel() {
+                        @Override public Number process(Iterable<? extends Number> numbers) {
+                            double product = 1;
+                            for (Number number : numbers) {
+                                product *= number.doubleValue();
+                            }
+                            return product;
+                        }
+                    })
+                    .withKeyValuePair(BigDecimal.class, new Kernel() {
+                        @Override public Number process(Iterable<? extends Number> numbers) {
+                            BigDecimal product = BigDecimal.ONE;
+                            for (Number number : numbers) {
+                                product = product.multiply((BigDecimal) number);
+                            }
+                            return product;
+                        }
+                    })
                     .build();
 
     @SuppressWarnings("unchecked")
     private static <T extends Number> T process(
             Iterable<T> iterable,
             Class<T> numberClass,
-            Map<Class<?>, BinaryFunction<?, ?, ?>> reducerMap,
+            Map<Class<?>, Kernel> kernelMap,
             String operation) {
         Checks.returnOrThrowIfNull(iterable,
                 nullPointerFactory(format("Cannot %s a null collection.", operation)));
@@ -191,11 +551,73 @@ public class Numbers {
         Checks.returnOrThrowIfEmpty(iterable,
                 arithmeticFactory(format("Cannot %s a collection containing no numbers.", operation)));
 
-        if (reducerMap.containsKey(numberClass)) {
-            return (T) Eagerly.reduce(iterable, (Reducer<Object, Object>) reducerMap.get(numberClass));
+        if (kernelMap.containsKey(numberClass)) {
+            return (T) kernelMap.get(numberClass).process(iterable);
         } else {
             throw new UnsupportedOperationException(
                     format("Cannot %s numbers of type: %s", operation, numberClass.getSimpleName()));
         }
     }
+
+    private static double compensatedSum(Iterable<? extends Number> numbers) {
+        CompensatedSum sum = new CompensatedSum();
+        for (Number number : numbers) {
+            sum.add(number.doubleValue());
+        }
+        return sum.result();
+    }
+
+    private static <T extends Number> T extremeOf(Iterable<T> iterable, int direction, String operation) {
+        Iterator<T> iterator = checkNotNull(iterable).iterator();
+        checkNotEmpty(iterator.hasNext() ? 1 : 0, operation);
+        T extreme = checkNotNull(iterator.next());
+        while (iterator.hasNext()) {
+            T candidate = checkNotNull(iterator.next());
+            if (Integer.signum(compare(candidate, extreme)) == direction) {
+                extreme = candidate;
+            }
+        }
+        return extreme;
+    }
+
+    private static int compare(Number first, Number second) {
+        if (NumberSum.isIntegral(first) && NumberSum.isIntegral(second)) {
+            return Long.compare(first.longValue(), second.longValue());
+        }
+        if (isArbitraryPrecision(first) || isArbitraryPrecision(second)) {
+            try {
+                return toBigDecimal(first).compareTo(toBigDecimal(second));
+            } catch (NumberFormatException exception) {
+                // Infinite or NaN values are compared as doubles below.
+            }
+        }
+        return Double.compare(first.doubleValue(), second.doubleValue());
+    }
+
+    private static boolean isArbitraryPrecision(Number number) {
+        return number instanceof BigInteger || number instanceof BigDecimal;
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (NumberSum.isIntegral(number)) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        return new BigDecimal(number.doubleValue());
+    }
+
+    private static void checkNotEmpty(long size, String operation) {
+        if (size == 0) {
+            throw new ArithmeticException(format("Cannot %s a collection containing no numbers.", operation));
+        }
+    }
+
+    private interface Kernel {
+        Number process(Iterable<? extends Number> numbers);
+    }
 }
@@ -0,0 +1,680 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import com.google.common.collect.Ordering;
+import org.javafunk.funk.datastructures.Range;
+import org.javafunk.funk.functors.functions.BinaryFunction;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.javafunk.funk.Literals.listFrom;
+
+/**
+ * A suite of eager functions across {@code Iterable} instances which spread
+ * their work across the worker threads of a {@code ForkJoinPool}.
+ *
+ * <p>Each function mirrors its counterpart in {@link Eagerly}. The supplied
+ * {@code Iterable} is split into contiguous chunks of indices, each chunk is
+ * processed by a separate fork-join task and the partial results are
+ * combined so that the ordering of the input is retained in the output.
+ * {@code List} instances implementing {@code RandomAccess} are indexed
+ * directly, any other {@code Iterable} is first copied into a list.</p>
+ *
+ * <p>The supplied functions and predicates are called concurrently and so
+ * must be thread safe. Functions with no {@code ForkJoinPool} argument run
+ * on a pool shared by all such calls, sized to the number of available
+ * processors.</p>
+ *
+ * @see Eagerly
+ * @since 1.0
+ */
+public class Parallelly {
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private Parallelly() {
+    }
+
+    public static <S, T> Collection<T> map(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, T> function) {
+        return map(iterable, function, DefaultPool.INSTANCE);
+    }
+
+    public static <S, T> Collection<T> map(
+            Iterable<S> iterable,
+            final UnaryFunction<? super S, T> function,
+            ForkJoinPool pool) {
+        checkNotNull(function);
+        final List<? extends S> elements = randomAccessListFrom(iterable);
+        final Object[] results = new Object[elements.size()];
+        forEachIndex(elements.size(), pool, new IndexProcedure() {
+            @Override public boolean apply(int index) {
+                results[index] = function.call(elements.get(index));
+                return true;
+            }
+        });
+        return Parallelly.<T>asList(results);
+    }
+
+    public static <T> Collection<T> filter(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate) {
+        return filter(iterable, predicate, DefaultPool.INSTANCE);
+    }
+
+    public static <T> Collection<T> filter(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate,
+            ForkJoinPool pool) {
+        return select(iterable, predicate, true, pool);
+    }
+
+    public static <T> Collection<T> reject(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate) {
+        return reject(iterable, predicate, DefaultPool.INSTANCE);
+    }
+
+    public static <T> Collection<T> reject(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate,
+            ForkJoinPool pool) {
+        return select(iterable, predicate, false, pool);
+    }
+
+    /**
+     * Reduces the supplied {@code Iterable} in parallel. Each chunk of the input
+     * is folded separately, starting from {@code initialValue}, using the supplied
+     * {@code function} and the chunk results are then merged pairwise using the
+     * supplied {@code combiner}.
+     *
+     * <p>For the result to match that of {@link Eagerly#reduce(Iterable, Object, BinaryFunction)},
+     * {@code combiner} must be associative and {@code initialValue} must be an
+     * identity for it.</p>
+     *
+     * @param iterable     The {@code Iterable} of elements to reduce.
+     * @param initialValue The identity value each chunk is folded from.
+     * @param function     The function folding an element into an accumulator.
+     * @param combiner     An associative function merging two accumulators.
+     * @param <S>          The type of the elements being reduced.
+     * @param <T>          The type of the accumulated value.
+     * @return The result of combining the reductions of every chunk.
+     */
+    public static <S, T> T reduce(
+            Iterable<? extends S> iterable,
+            T initialValue,
+            BinaryFunction<T, ? super S, T> function,
+            BinaryFunction<T, T, T> combiner) {
+        return reduce(iterable, initialValue, function, combiner, DefaultPool.INSTANCE);
+    }
+
+    public static <S, T> T reduce(
+            Iterable<? extends S> iterable,
+            T initialValue,
+            BinaryFunction<T, ? super S, T> function,
+            BinaryFunction<T, T, T> combiner,
+            ForkJoinPool pool) {
+        checkNotNull(function);
+        checkNotNull(combiner);
+        checkNotNull(pool);
+        List<? extends S> elements = randomAccessListFrom(iterable);
+        if (elements.isEmpty()) {
+            return initialValue;
+        }
+        return pool.invoke(new ReduceTask<S, T>(
+                elements, 0, elements.size(), chunkSize(elements.size(), pool),
+                true, initialValue, function, combiner));
+    }
+
+    /**
+     * Reduces the supplied non-empty {@code Iterable} in parallel using the
+     * supplied {@code function}, which must be associative. Each chunk is folded
+     * from its own first element and the chunk results are then merged using
+     * the same {@code function}.
+     *
+     * @param iterable The {@code Iterable} of elements to reduce.
+     * @param function An associative function combining two elements.
+     * @param <T>      The type of the elements being reduced.
+     * @return The result of reducing all elements.
+     * @throws NoSuchElementException if the supplied {@code Iterable} is empty.
+     */
+    public static <T> T reduce(
+            Iterable<? extends T> iterable,
+            BinaryFunction<T, ? super T, T> function) {
+        return reduce(iterable, function, DefaultPool.INSTANCE);
+    }
+
+    public static <T> T reduce(
+            Iterable<? extends T> iterable,
+            final BinaryFunction<T, ? super T, T> function,
+            ForkJoinPool pool) {
+        checkNotNull(function);
+        checkNotNull(pool);
+        List<? extends T> elements = randomAccessListFrom(iterable);
+        if (elements.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return pool.invoke(new ReduceTask<T, T>(
+                elements, 0, elements.size(), chunkSize(elements.size(), pool),
+                false, null, function, new BinaryFunction<T, T, T>() {
+                    @Override public T call(T first, T second) {
+                        return function.call(first, second);
+                    }
+                }));
+    }
+
+    /**
+     * Sorts the supplied {@code Iterable} as {@link Eagerly#sortBy(Iterable, UnaryFunction, Comparator)}
+     * does. Keys are computed in parallel, exactly once per element, after
+     * which chunks are sorted in parallel and merged pairwise. Merges prefer
+     * the earlier chunk on equal keys, so the sort remains stable.
+     */
+    public static <T, K> List<T> sortBy(
+            Iterable<T> iterable,
+            UnaryFunction<? super T, K> keyFunction,
+            Comparator<? super K> keyComparator) {
+        return sortBy(iterable, keyFunction, keyComparator, DefaultPool.INSTANCE);
+    }
+
+    public static <T, K> List<T> sortBy(
+            Iterable<T> iterable,
+            final UnaryFunction<? super T, K> keyFunction,
+            Comparator<? super K> keyComparator,
+            ForkJoinPool pool) {
+        checkNotNull(keyFunction);
+        checkNotNull(keyComparator);
+        final List<? extends T> elements = randomAccessListFrom(iterable);
+        final Keyed<T, K>[] keyed = Keyed.newArray(elements.size());
+        forEachIndex(elements.size(), pool, new IndexProcedure() {
+            @Override public boolean apply(int index) {
+                T element = elements.get(index);
+                keyed[index] = new Keyed<T, K>(element, keyFunction.call(element));
+                return true;
+            }
+        });
+        if (keyed.length > 1) {
+            pool.invoke(new SortTask<Keyed<T, K>>(
+                    keyed, Keyed.<T, K>newArray(keyed.length), 0, keyed.length,
+                    chunkSize(keyed.length, pool), Keyed.<T, K>byKey(keyComparator)));
+        }
+        return Keyed.elementsOf(keyed);
+    }
+
+    public static <T, K extends Comparable<? super K>> List<T> sortBy(
+            Iterable<T> iterable,
+            UnaryFunction<? super T, K> keyFunction) {
+        return sortBy(iterable, keyFunction, DefaultPool.INSTANCE);
+    }
+
+    public static <T, K extends Comparable<? super K>> List<T> sortBy(
+            Iterable<T> iterable,
+            UnaryFunction<? super T, K> keyFunction,
+            ForkJoinPool pool) {
+        return sortBy(iterable, keyFunction, Ordering.<K>natural(), pool);
+    }
+
+    /**
+     * Sums the supplied {@code Iterable} of {@code Number}s in parallel as
+     * {@link Numbers#sumOf(Iterable)} does. Each chunk is summed separately,
+     * with integral overflow widening and compensated floating point
+     * summation, and the partial sums are then merged, so the result is
+     * exact for integral and {@code BigDecimal} numbers regardless of how
+     * the input is split.
+     *
+     * @param iterable The {@code Iterable} of {@code Number}s to sum.
+     * @return The sum of the supplied numbers.
+     */
+    public static Number sum(Iterable<? extends Number> iterable) {
+        return sum(iterable, DefaultPool.INSTANCE);
+    }
+
+    public static Number sum(Iterable<? extends Number> iterable, ForkJoinPool pool) {
+        checkNotNull(pool);
+        List<? extends Number> numbers = randomAccessListFrom(iterable);
+        if (numbers.isEmpty()) {
+            return new NumberSum().result();
+        }
+        return pool.invoke(new SumTask(numbers, 0, numbers.size(), chunkSize(numbers.size(), pool))).result();
+    }
+
+    public static <T> Boolean any(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate) {
+        return any(iterable, predicate, DefaultPool.INSTANCE);
+    }
+
+    public static <T> Boolean any(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate,
+            ForkJoinPool pool) {
+        return findAny(iterable, predicate, true, pool);
+    }
+
+    public static <T> Boolean all(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate) {
+        return all(iterable, predicate, DefaultPool.INSTANCE);
+    }
+
+    public static <T> Boolean all(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate,
+            ForkJoinPool pool) {
+        return !findAny(iterable, predicate, false, pool);
+    }
+
+    public static <T> Boolean none(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate) {
+        return none(iterable, predicate, DefaultPool.INSTANCE);
+    }
+
+    public static <T> Boolean none(
+            Iterable<T> iterable,
+            UnaryPredicate<? super T> predicate,
+            ForkJoinPool pool) {
+        return !any(iterable, predicate, pool);
+    }
+
+    /**
+     * Groups the supplied {@code Iterable} as {@link Eagerly#group(Iterable, UnaryFunction)}
+     * does, calling the supplied {@code indexer} in parallel. Elements are added
+     * to their groups in input order.
+     */
+    public static <S, T> Map<T, Collection<S>> group(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, T> indexer) {
+        return group(iterable, indexer, DefaultPool.INSTANCE);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <S, T> Map<T, Collection<S>> group(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, T> indexer,
+            ForkJoinPool pool) {
+        List<S> elements = listFrom(checkNotNull(iterable));
+        Object[] indices = map(elements, indexer, pool).toArray();
+        Map<T, Collection<S>> groupedElements = new HashMap<T, Collection<S>>();
+        for (int i = 0; i < indices.length; i++) {
+            T index = (T) indices[i];
+            Collection<S> group = groupedElements.get(index);
+            if (group == null) {
+                group = new ArrayList<S>();
+                groupedElements.put(index, group);
+            }
+            group.add(elements.get(i));
+        }
+        return groupedElements;
+    }
+
+    /**
+     * Groups and reduces the supplied {@code Iterable} as
+     * {@link Eagerly#groupReduce(Iterable, UnaryFunction, Object, BinaryFunction)}
+     * does. Each chunk of the input is folded into its own partial map,
+     * without any shared state between worker threads, after which the partial
+     * maps are merged pairwise, combining the values of indices present in both
+     * using the supplied {@code combiner}.
+     *
+     * <p>For the result to match that of {@code Eagerly.groupReduce},
+     * {@code combiner} must be associative and {@code initialValue} must be an
+     * identity for it.</p>
+     */
+    public static <S, K, T> Map<K, T> groupReduce(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, K> indexer,
+            T initialValue,
+            BinaryFunction<T, ? super S, T> reducer,
+            BinaryFunction<T, T, T> combiner) {
+        return groupReduce(iterable, indexer, initialValue, reducer, combiner, DefaultPool.INSTANCE);
+    }
+
+    public static <S, K, T> Map<K, T> groupReduce(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, K> indexer,
+            T initialValue,
+            BinaryFunction<T, ? super S, T> reducer,
+            BinaryFunction<T, T, T> combiner,
+            ForkJoinPool pool) {
+        checkNotNull(combiner);
+        GroupReduction<S, K, T> reduction = GroupReduction.reducing(checkNotNull(indexer), initialValue, checkNotNull(reducer));
+        return groupReduce(iterable, reduction, combiner, pool).values();
+    }
+
+    /**
+     * Counts the elements of the supplied {@code Iterable} for each index as
+     * {@link Eagerly#groupCount(Iterable, UnaryFunction)} does, calling the
+     * supplied {@code indexer} in parallel and merging per chunk counts.
+     */
+    public static <S, K> Map<K, Long> groupCount(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, K> indexer) {
+        return groupCount(iterable, indexer, DefaultPool.INSTANCE);
+    }
+
+    public static <S, K> Map<K, Long> groupCount(
+            Iterable<S> iterable,
+            UnaryFunction<? super S, K> indexer,
+            ForkJoinPool pool) {
+        GroupReduction<S, K, Void> reduction = GroupReduction.counting(checkNotNull(indexer));
+        return groupReduce(iterable, reduction, null, pool).counts();
+    }
+
+    private static <S, K, T> GroupReduction<S, K, T> groupReduce(
+            Iterable<S> iterable,
+            GroupReduction<S, K, T> reduction,
+            BinaryFunction<T, T, T> combiner,
+            ForkJoinPool pool) {
+        checkNotNull(pool);
+        List<? extends S> elements = randomAccessListFrom(iterable);
+        if (elements.isEmpty()) {
+            return reduction;
+        }
+        return pool.invoke(new GroupReduceTask<S, K, T>(
+                elements, 0, elements.size(), chunkSize(elements.size(), pool), reduction, combiner));
+    }
+
+    private static <T> Collection<T> select(
+            Iterable<T> iterable,
+            final UnaryPredicate<? super T> predicate,
+            final boolean retainMatching,
+            ForkJoinPool pool) {
+        checkNotNull(predicate);
+        final List<? extends T> elements = randomAccessListFrom(iterable);
+        final boolean[] retained = new boolean[elements.size()];
+        forEachIndex(elements.size(), pool, new IndexProcedure() {
+            @Override public boolean apply(int index) {
+                retained[index] = predicate.evaluate(elements.get(index)) == retainMatching;
+                return true;
+            }
+        });
+        List<T> results = new ArrayList<T>();
+        for (int i = 0; i < retained.length; i++) {
+            if (retained[i]) {
+                results.add(elements.get(i));
+            }
+        }
+        return results;
+    }
+
+    private static <T> boolean findAny(
+            Iterable<T> iterable,
+            final UnaryPredicate<? super T> predicate,
+            final boolean expectedResult,
+            ForkJoinPool pool) {
+        checkNotNull(predicate);
+        final List<? extends T> elements = randomAccessListFrom(iterable);
+        return forEachIndex(elements.size(), pool, new IndexProcedure() {
+            @Override public boolean apply(int index) {
+                return predicate.evaluate(elements.get(index)) != expectedResult;
+            }
+        });
+    }
+
+    private static boolean forEachIndex(int size, ForkJoinPool pool, IndexProcedure procedure) {
+        checkNotNull(pool);
+        AtomicBoolean halted = new AtomicBoolean(false);
+        if (size > 0) {
+            pool.invoke(new IndexRangeAction(procedure, 0, size, chunkSize(size, pool), halted));
+        }
+        return halted.get();
+    }
+
+    private static int chunkSize(int size, ForkJoinPool pool) {
+        int numberOfChunks = pool.getParallelism() * CHUNKS_PER_WORKER;
+        return Math.max(1, (size + numberOfChunks - 1) / numberOfChunks);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<? extends T> randomAccessListFrom(Iterable<? extends T> iterable) {
+        checkNotNull(iterable);
+        if (iterable instanceof List && iterable instanceof RandomAccess) {
+            return (List<? extends T>) iterable;
+        }
+        if (iterable instanceof Range) {
+            return new RangeList<T>((Range<T>) iterable);
+        }
+        return listFrom(iterable);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> asList(Object[] values) {
+        return (List<T>) new ArrayList<Object>(Arrays.asList(values));
+    }
+
+    private interface IndexProcedure {
+        boolean apply(int index);
+    }
+
+    private static class IndexRangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final IndexProcedure procedure;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final AtomicBoolean halted;
+
+        IndexRangeAction(IndexProcedure procedure, int from, int to, int chunkSize, AtomicBoolean halted) {
+            this.procedure = procedure;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.halted = halted;
+        }
+
+        @Override protected void compute() {
+            if (to - from <= chunkSize) {
+                for (int index = from; index < to && !halted.get(); index++) {
+                    if (!procedure.apply(index)) {
+                        halted.set(true);
+                    }
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                        new IndexRangeAction(procedure, from, middle, chunkSize, halted),
+                        new IndexRangeAction(procedure, middle, to, chunkSize, halted));
+            }
+        }
+    }
+
+    private static class ReduceTask<S, T> extends RecursiveTask<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends S> elements;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final boolean seeded;
+        private final T initialValue;
+        private final BinaryFunction<T, ? super S, T> function;
+        private final BinaryFunction<T, T, T> combiner;
+
+        ReduceTask(
+                List<? extends S> elements,
+                int from,
+                int to,
+                int chunkSize,
+                boolean seeded,
+                T initialValue,
+                BinaryFunction<T, ? super S, T> function,
+                BinaryFunction<T, T, T> combiner) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.seeded = seeded;
+            this.initialValue = initialValue;
+            this.function = function;
+            this.combiner = combiner;
+        }
+
+        @Override protected T compute() {
+            if (to - from <= chunkSize) {
+                return reduceChunk();
+            }
+            int middle = (from + to) >>> 1;
+            ReduceTask<S, T> left = new ReduceTask<S, T>(elements, from, middle, chunkSize, seeded, initialValue, function, combiner);
+            ReduceTask<S, T> right = new ReduceTask<S, T>(elements, middle, to, chunkSize, seeded, initialValue, function, combiner);
+            left.fork();
+            T rightResult = right.compute();
+            return combiner.call(left.join(), rightResult);
+        }
+
+        @SuppressWarnings("unchecked")
+        private T reduceChunk() {
+            int index = from;
+            T accumulator = seeded ? initialValue : (T) elements.get(index++);
+            for (; index < to; index++) {
+                accumulator = function.call(accumulator, elements.get(index));
+            }
+            return accumulator;
+        }
+    }
+
+    private static class GroupReduceTask<S, K, T> extends RecursiveTask<GroupReduction<S, K, T>> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends S> elements;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final GroupReduction<S, K, T> prototype;
+        private final BinaryFunction<T, T, T> combiner;
+
+        GroupReduceTask(
+                List<? extends S> elements,
+                int from,
+                int to,
+                int chunkSize,
+                GroupReduction<S, K, T> prototype,
+                BinaryFunction<T, T, T> combiner) {
+            this.elements = elements;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.prototype = prototype;
+            this.combiner = combiner;
+        }
+
+        @Override protected GroupReduction<S, K, T> compute() {
+            if (to - from <= chunkSize) {
+                GroupReduction<S, K, T> reduction = prototype.emptyCopy();
+                for (int index = from; index < to; index++) {
+                    reduction.add(elements.get(index));
+                }
+                return reduction;
+            }
+            int middle = (from + to) >>> 1;
+            GroupReduceTask<S, K, T> left = new GroupReduceTask<S, K, T>(elements, from, middle, chunkSize, prototype, combiner);
+            GroupReduceTask<S, K, T> right = new GroupReduceTask<S, K, T>(elements, middle, to, chunkSize, prototype, combiner);
+            left.fork();
+            GroupReduction<S, K, T> rightResult = right.compute();
+            GroupReduction<S, K, T> leftResult = left.join();
+            leftResult.merge(rightResult, combiner);
+            return leftResult;
+        }
+    }
+
+    private static class SumTask extends RecursiveTask<NumberSum> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<? extends Number> numbers;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        SumTask(List<? extends Number> numbers, int from, int to, int chunkSize) {
+            this.numbers = numbers;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override protected NumberSum compute() {
+            if (to - from <= chunkSize) {
+                NumberSum sum = new NumberSum();
+                for (int index = from; index < to; index++) {
+                    sum.add(checkNotNull(numbers.get(index)));
+                }
+                return sum;
+            }
+            int middle = (from + to) >>> 1;
+            SumTask left = new SumTask(numbers, from, middle, chunkSize);
+            SumTask right = new SumTask(numbers, middle, to, chunkSize);
+            left.fork();
+            NumberSum rightResult = right.compute();
+            NumberSum leftResult = left.join();
+            leftResult.add(rightResult);
+            return leftResult;
+        }
+    }
+
+    private static class SortTask<T> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final T[] elements;
+        private final T[] buffer;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final Comparator<? super T> comparator;
+
+        SortTask(T[] elements, T[] buffer, int from, int to, int chunkSize, Comparator<? super T> comparator) {
+            this.elements = elements;
+            this.buffer = buffer;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.comparator = comparator;
+        }
+
+        @Override protected void compute() {
+            if (to - from <= chunkSize) {
+                java.util.Arrays.sort(elements, from, to, comparator);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(
+                    new SortTask<T>(elements, buffer, from, middle, chunkSize, comparator),
+                    new SortTask<T>(elements, buffer, middle, to, chunkSize, comparator));
+            merge(middle);
+        }
+
+        private void merge(int middle) {
+            if (comparator.compare(elements[middle - 1], elements[middle]) <= 0) {
+                return;
+            }
+            System.arraycopy(elements, from, buffer, from, middle - from);
+            int left = from;
+            int right = middle;
+            int target = from;
+            while (left < middle && right < to) {
+                elements[target++] = comparator.compare(elements[right], buffer[left]) < 0
+                        ? elements[right++]
+                        : buffer[left++];
+            }
+            while (left < middle) {
+                elements[target++] = buffer[left++];
+            }
+        }
+    }
+
+    private static class DefaultPool {
+        private static final ForkJoinPool INSTANCE = new ForkJoinPool();
+    }
+}
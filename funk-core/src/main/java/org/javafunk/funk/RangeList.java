@@ -0,0 +1,57 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.Range;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * An unmodifiable, random access {@code List} view of a {@link Range}, allowing
+ * functions that need positional access to use a range without materialising
+ * it.
+ */
+class RangeList<T> extends AbstractList<T> implements RandomAccess {
+    private final Range<T> range;
+    private final int size;
+
+    RangeList(Range<T> range) {
+        if (range.size() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Range contains too many values to be represented as a list.");
+        }
+        this.range = range;
+        this.size = (int) range.size();
+    }
+
+    @Override
+    public T get(int index) {
+        return range.get(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return range.contains(other);
+    }
+
+    @Override
+    public int indexOf(Object other) {
+        return (int) range.indexOf(other);
+    }
+
+    @Override
+    public int lastIndexOf(Object other) {
+        return indexOf(other);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The {@code Iterable} returned by {@link Lazily#sample(Iterable, int)}. On
+ * each call to {@link #iterator()}, the source {@code Iterable} is traversed
+ * once, holding only a reservoir of {@code sampleSize} elements, using Li's
+ * skip based reservoir algorithm ("Algorithm L"). Rather than drawing a random
+ * number per element, the number of elements to skip before the next
+ * replacement is drawn directly, so the number of random draws grows with
+ * the logarithm of the number of elements rather than linearly.
+ *
+ * <p>If a seed is supplied, each traversal draws from a fresh {@code Random}
+ * with that seed, so every iteration yields the same sample of the same
+ * source. Otherwise random numbers are drawn from {@link ThreadLocalRandom}.</p>
+ */
+class SampledIterable<T> implements Iterable<T> {
+    private final Iterable<? extends T> source;
+    private final int sampleSize;
+    private final Long seed;
+
+    SampledIterable(Iterable<? extends T> source, int sampleSize, Long seed) {
+        this.source = source;
+        this.sampleSize = sampleSize;
+        this.seed = seed;
+    }
+
+    @Override public Iterator<T> iterator() {
+        Random random = seed == null ? ThreadLocalRandom.current() : new Random(seed);
+        return sample(source.iterator(), random).iterator();
+    }
+
+    private List<T> sample(Iterator<? extends T> iterator, Random random) {
+        List<T> reservoir = new ArrayList<T>(sampleSize);
+        if (sampleSize == 0) {
+            return reservoir;
+        }
+        while (reservoir.size() < sampleSize && iterator.hasNext()) {
+            reservoir.add(iterator.next());
+        }
+
+        double weight = Math.exp(Math.log(uniform(random)) / sampleSize);
+        while (iterator.hasNext()) {
+            long skip = (long) Math.floor(Math.log(uniform(random)) / Math.log(1 - weight));
+            while (skip > 0 && iterator.hasNext()) {
+                iterator.next();
+                skip--;
+            }
+            if (!iterator.hasNext()) {
+                break;
+            }
+            reservoir.set(random.nextInt(sampleSize), iterator.next());
+            weight = weight * Math.exp(Math.log(uniform(random)) / sampleSize);
+        }
+        return reservoir;
+    }
+
+    private static double uniform(Random random) {
+        // Strictly positive so that its logarithm is finite.
+        return 1.0 - random.nextDouble();
+    }
+}
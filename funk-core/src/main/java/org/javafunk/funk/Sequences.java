@@ -8,7 +8,8 @@
  */
 package org.javafunk.funk;
 
-import org.javafunk.funk.datastructures.IntegerRange;
+import org.javafunk.funk.datastructures.IntRange;
+import org.javafunk.funk.datastructures.LongRange;
 
 public class Sequences {
     private Sequences() {}
@@ -35,11 +36,21 @@ public class Sequences {
         return Direction.DESCENDING;
     }
 
-    public static Iterable<Integer> integers(Direction direction) {
-        return new IntegerRange(0, null, direction.getMultiplier());
+    public static IntRange integers(Direction direction) {
+        return integersFrom(0, direction);
     }
 
-    public static Iterable<Integer> integersFrom(int startPoint, Direction direction) {
-        return new IntegerRange(startPoint, null, direction.getMultiplier());
+    public static IntRange integersFrom(int startPoint, Direction direction) {
+        int multiplier = direction.getMultiplier();
+        return new IntRange(startPoint, multiplier > 0 ? Integer.MAX_VALUE : Integer.MIN_VALUE, multiplier);
+    }
+
+    public static LongRange longs(Direction direction) {
+        return longsFrom(0, direction);
+    }
+
+    public static LongRange longsFrom(long startPoint, Direction direction) {
+        int multiplier = direction.getMultiplier();
+        return new LongRange(startPoint, multiplier > 0 ? Long.MAX_VALUE : Long.MIN_VALUE, multiplier);
     }
 }
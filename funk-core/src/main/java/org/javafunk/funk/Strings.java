@@ -8,16 +8,18 @@
  */
 package org.javafunk.funk;
 
-import org.apache.commons.lang3.StringUtils;
 import org.javafunk.funk.functors.Mapper;
 import org.javafunk.funk.functors.Predicate;
 import org.javafunk.funk.functors.predicates.UnaryPredicate;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Iterator;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.javafunk.funk.BigDecimals.toPlainString;
-import static org.javafunk.funk.Iterables.materialize;
 import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.funk.Objects.toStringValue;
 import static org.javafunk.funk.Objects.whereNull;
@@ -26,6 +28,10 @@ import static org.javafunk.funk.monads.Option.some;
 import static org.javafunk.funk.predicates.OrPredicate.or;
 
 public class Strings {
+    private static final int DEFAULT_JOINED_LENGTH = 16;
+    private static final int ESTIMATED_ELEMENT_LENGTH = 16;
+    private static final int MAXIMUM_ESTIMATED_LENGTH = 1 << 24;
+
     private Strings() {}
 
     /**
@@ -56,7 +62,88 @@ public class Strings {
      *                              is {@code null}.
      */
     public static <T> String join(Iterable<? extends T> objects, String separator) {
-        return StringUtils.join(materialize(objects), separator);
+        checkNotNull(objects);
+        checkNotNull(separator);
+        return joinTo(new StringBuilder(estimatedLength(objects, separator)), objects, separator).toString();
+    }
+
+    /**
+     * Appends the {@code String} representation of each of the objects
+     * in the supplied {@code Iterable} to the supplied {@code Appendable},
+     * separated by the supplied separator, in the order in which they are
+     * yielded by the {@code Iterable}.
+     *
+     * <p>The objects are streamed into the {@code Appendable} as they are
+     * yielded, so the {@code Iterable} is never copied and may be lazy. Any
+     * {@code CharSequence} elements are appended directly rather than via
+     * {@code #toString} and any {@code null} elements are rendered as
+     * empty. This makes it suitable for writing large joined output straight
+     * to a {@code Writer} or {@code CharBuffer}.</p>
+     *
+     * @param appendable The {@code Appendable} to which the joined objects
+     *                   should be appended.
+     * @param objects    The objects to be joined.
+     * @param separator  A separator to be placed between each of the objects.
+     * @param <A>        The type of the {@code Appendable}.
+     * @return The supplied {@code Appendable}.
+     * @throws IOException          if the {@code Appendable} throws an
+     *                              {@code IOException}.
+     * @throws NullPointerException if any of the supplied arguments are
+     *                              {@code null}.
+     */
+    public static <A extends Appendable> A joinTo(A appendable, Iterable<?> objects, String separator) throws IOException {
+        checkNotNull(appendable);
+        checkNotNull(objects);
+        checkNotNull(separator);
+        appendJoined(appendable, objects.iterator(), separator);
+        return appendable;
+    }
+
+    /**
+     * Appends the objects in the supplied {@code Iterable} to the supplied
+     * {@code StringBuilder} as described by
+     * {@link #joinTo(Appendable, Iterable, String)}. If the supplied
+     * {@code Iterable} is a {@code Collection}, the capacity of the
+     * {@code StringBuilder} is increased up front based on its size.
+     *
+     * @param builder   The {@code StringBuilder} to which the joined objects
+     *                  should be appended.
+     * @param objects   The objects to be joined.
+     * @param separator A separator to be placed between each of the objects.
+     * @return The supplied {@code StringBuilder}.
+     * @throws NullPointerException if any of the supplied arguments are
+     *                              {@code null}.
+     */
+    public static StringBuilder joinTo(StringBuilder builder, Iterable<?> objects, String separator) {
+        checkNotNull(builder);
+        checkNotNull(objects);
+        checkNotNull(separator);
+        builder.ensureCapacity(builder.length() + estimatedLength(objects, separator));
+        try {
+            appendJoined(builder, objects.iterator(), separator);
+        } catch (IOException exception) {
+            throw new IllegalStateException("StringBuilder should never throw an IOException.", exception);
+        }
+        return builder;
+    }
+
+    /**
+     * Appends the objects in the supplied {@code Iterable} to the supplied
+     * {@code Appendable} with no separator, as described by
+     * {@link #joinTo(Appendable, Iterable, String)}.
+     *
+     * @param appendable The {@code Appendable} to which the joined objects
+     *                   should be appended.
+     * @param objects    The objects to be joined.
+     * @param <A>        The type of the {@code Appendable}.
+     * @return The supplied {@code Appendable}.
+     * @throws IOException          if the {@code Appendable} throws an
+     *                              {@code IOException}.
+     * @throws NullPointerException if either of the supplied arguments are
+     *                              {@code null}.
+     */
+    public static <A extends Appendable> A joinTo(A appendable, Iterable<?> objects) throws IOException {
+        return joinTo(appendable, objects, "");
     }
 
     /**
@@ -307,6 +394,33 @@ public class Strings {
         return join(listWith(o1, o2, o3, o4, o5, o6, o7, o8, o9, o10, o11on));
     }
 
+    private static void appendJoined(Appendable appendable, Iterator<?> iterator, String separator) throws IOException {
+        if (!iterator.hasNext()) {
+            return;
+        }
+        appendElement(appendable, iterator.next());
+        while (iterator.hasNext()) {
+            appendable.append(separator);
+            appendElement(appendable, iterator.next());
+        }
+    }
+
+    private static void appendElement(Appendable appendable, Object element) throws IOException {
+        if (element instanceof CharSequence) {
+            appendable.append((CharSequence) element);
+        } else if (element != null) {
+            appendable.append(element.toString());
+        }
+    }
+
+    private static int estimatedLength(Iterable<?> objects, String separator) {
+        if (!(objects instanceof Collection)) {
+            return DEFAULT_JOINED_LENGTH;
+        }
+        long estimate = (long) ((Collection<?>) objects).size() * (ESTIMATED_ELEMENT_LENGTH + separator.length());
+        return (int) Math.min(estimate, MAXIMUM_ESTIMATED_LENGTH);
+    }
+
     public static String toStringOrNull(Object value) {
         return toStringOr(null, value);
     }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.Range;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * A lazy, index based view of a sub-sequence of a random access {@code List},
+ * returned by the {@code slice}, {@code take}, {@code drop} and {@code rest}
+ * functions in {@link Lazily} in place of a
+ * {@link org.javafunk.funk.iterators.SubSequenceIterator} backed
+ * {@code Iterable}. Skipping to the start of the sub-sequence and between
+ * stepped elements is a matter of index arithmetic and the view reports its
+ * exact size. Since the view is evaluated against the underlying {@code List}
+ * on each access, it reflects subsequent changes to it.
+ */
+class SubSequenceList<T> extends AbstractList<T> implements RandomAccess {
+    private final List<T> list;
+    private final int start;
+    private final int stop;
+    private final int step;
+
+    SubSequenceList(List<T> list, Integer start, Integer stop, Integer step) {
+        if (start != null && start < 0) {
+            throw new IllegalArgumentException("Start must not be less than zero.");
+        }
+        if (stop != null && stop < 0) {
+            throw new IllegalArgumentException("Stop must not be less than zero.");
+        }
+        if (start != null && stop != null && stop < start) {
+            throw new IllegalArgumentException("Stop must be greater than start.");
+        }
+        if (step != null && step < 1) {
+            throw new IllegalArgumentException("Step must be greater than zero.");
+        }
+        this.list = list;
+        this.start = start == null ? 0 : start;
+        this.stop = stop == null ? Integer.MAX_VALUE : stop;
+        this.step = step == null ? 1 : step;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> boolean isIndexable(Iterable<T> iterable) {
+        return (iterable instanceof List && iterable instanceof RandomAccess)
+                || (iterable instanceof Range && ((Range<T>) iterable).size() <= Integer.MAX_VALUE);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> List<T> indexableListFrom(Iterable<T> iterable) {
+        return iterable instanceof Range
+                ? new RangeList<T>((Range<T>) iterable)
+                : (List<T>) iterable;
+    }
+
+    @Override
+    public T get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return list.get(start + index * step);
+    }
+
+    @Override
+    public int size() {
+        int end = Math.min(stop, list.size());
+        return end <= start ? 0 : (int) (((long) end - start + step - 1) / step);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new SubSequenceListIterator();
+    }
+
+    private class SubSequenceListIterator implements Iterator<T> {
+        private int cursor = start;
+        private int lastReturned = -1;
+        private int removed = 0;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < Math.min(stop - removed, list.size());
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor;
+            cursor = (int) Math.min((long) cursor + step, Integer.MAX_VALUE);
+            return list.get(lastReturned);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            list.remove(lastReturned);
+            lastReturned = -1;
+            cursor--;
+            removed++;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * A ring buffer retaining at most the last {@code capacity} elements added to
+ * it, used to find the tail of an {@code Iterable} in a single pass without
+ * materialising it. Storage grows with the number of elements seen up to the
+ * capacity, so a large capacity over a short {@code Iterable} stays cheap.
+ */
+class TailBuffer<T> {
+    private static final int INITIAL_LENGTH = 16;
+
+    private final int capacity;
+    private Object[] elements;
+    private int head;
+    private int size;
+
+    TailBuffer(int capacity) {
+        this.capacity = capacity;
+        this.elements = new Object[Math.min(capacity, INITIAL_LENGTH)];
+    }
+
+    /**
+     * Returns, in order, the last {@code count} elements of the supplied
+     * {@code Iterable} satisfying the supplied {@code UnaryPredicate}, or as
+     * many as there are. A {@code List} is read backwards from its end, so only
+     * the required tail is visited.
+     */
+    static <T> List<T> tailOf(Iterable<? extends T> iterable, int count, UnaryPredicate<? super T> predicate) {
+        if (iterable instanceof List) {
+            List<? extends T> list = (List<? extends T>) iterable;
+            List<T> tail = new ArrayList<T>(Math.min(count, list.size()));
+            ListIterator<? extends T> iterator = list.listIterator(list.size());
+            while (tail.size() < count && iterator.hasPrevious()) {
+                T element = iterator.previous();
+                if (predicate.evaluate(element)) {
+                    tail.add(element);
+                }
+            }
+            Collections.reverse(tail);
+            return tail;
+        }
+        TailBuffer<T> buffer = new TailBuffer<T>(count);
+        for (T element : iterable) {
+            if (predicate.evaluate(element)) {
+                buffer.add(element);
+            }
+        }
+        return buffer.toList();
+    }
+
+    void add(T element) {
+        if (capacity == 0) {
+            return;
+        }
+        if (size < capacity) {
+            if (size == elements.length) {
+                grow();
+            }
+            elements[(head + size) % elements.length] = element;
+            size++;
+        } else {
+            elements[head] = element;
+            head = (head + 1) % elements.length;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    List<T> toList() {
+        List<T> list = new ArrayList<T>(size);
+        for (int i = 0; i < size; i++) {
+            list.add((T) elements[(head + i) % elements.length]);
+        }
+        return list;
+    }
+
+    private void grow() {
+        Object[] grown = new Object[(int) Math.min(capacity, Math.max(1L, 2L * elements.length))];
+        for (int i = 0; i < size; i++) {
+            grown[i] = elements[(head + i) % elements.length];
+        }
+        elements = grown;
+        head = 0;
+    }
+}
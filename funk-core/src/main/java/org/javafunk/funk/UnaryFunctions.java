@@ -8,7 +8,14 @@
  */
 package org.javafunk.funk;
 
-import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.datastructures.tuples.*;
+import org.javafunk.funk.functors.functions.*;
+import org.javafunk.funk.memoization.MemoizationCache;
+import org.javafunk.funk.memoization.MemoizationSpec;
+import org.javafunk.funk.memoization.MemoizedFunction;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.javafunk.funk.Literals.tuple;
 
 public class UnaryFunctions {
     private UnaryFunctions() {}
@@ -128,4 +135,146 @@ public class UnaryFunctions {
             }
         };
     }
+
+    public static <A, R> MemoizedFunction<A, R> memoize(
+            UnaryFunction<? super A, ? extends R> function,
+            MemoizationSpec spec) {
+        return new MemoizedFunction<A, R>(function, new MemoizationCache<A, R>(spec));
+    }
+
+    public static <A, B, R> BinaryFunction<A, B, R> memoize(
+            final BinaryFunction<? super A, ? super B, ? extends R> function,
+            MemoizationCache<Pair<A, B>, R> cache) {
+        checkNotNull(function);
+        final MemoizedFunction<Pair<A, B>, R> memoized = new MemoizedFunction<Pair<A, B>, R>(
+                new UnaryFunction<Pair<A, B>, R>() {
+                    @Override public R call(Pair<A, B> arguments) {
+                        return function.call(arguments.getFirst(), arguments.getSecond());
+                    }
+                }, cache);
+        return new BinaryFunction<A, B, R>() {
+            @Override public R call(A first, B second) {
+                return memoized.call(tuple(first, second));
+            }
+        };
+    }
+
+    public static <A, B, C, R> TernaryFunction<A, B, C, R> memoize(
+            final TernaryFunction<? super A, ? super B, ? super C, ? extends R> function,
+            MemoizationCache<Triple<A, B, C>, R> cache) {
+        checkNotNull(function);
+        final MemoizedFunction<Triple<A, B, C>, R> memoized = new MemoizedFunction<Triple<A, B, C>, R>(
+                new UnaryFunction<Triple<A, B, C>, R>() {
+                    @Override public R call(Triple<A, B, C> arguments) {
+                        return function.call(arguments.getFirst(), arguments.getSecond(), arguments.getThird());
+                    }
+                }, cache);
+        return new TernaryFunction<A, B, C, R>() {
+            @Override public R call(A first, B second, C third) {
+                return memoized.call(tuple(first, second, third));
+            }
+        };
+    }
+
+    public static <A, B, C, D, R> QuaternaryFunction<A, B, C, D, R> memoize(
+            final QuaternaryFunction<? super A, ? super B, ? super C, ? super D, ? extends R> function,
+            MemoizationCache<Quadruple<A, B, C, D>, R> cache) {
+        checkNotNull(function);
+        final MemoizedFunction<Quadruple<A, B, C, D>, R> memoized = new MemoizedFunction<Quadruple<A, B, C, D>, R>(
+                new UnaryFunction<Quadruple<A, B, C, D>, R>() {
+                    @Override public R call(Quadruple<A, B, C, D> arguments) {
+                        return function.call(arguments.getFirst(), arguments.getSecond(), arguments.getThird(), arguments.getFourth());
+                    }
+                }, cache);
+        return new QuaternaryFunction<A, B, C, D, R>() {
+            @Override public R call(A first, B second, C third, D fourth) {
+                return memoized.call(tuple(first, second, third, fourth));
+            }
+        };
+    }
+
+    public static <A, B, C, D, E, R> QuinaryFunction<A, B, C, D, E, R> memoize(
+            final QuinaryFunction<? super A, ? super B, ? super C, ? super D, ? super E, ? extends R> function,
+            MemoizationCache<Quintuple<A, B, C, D, E>, R> cache) {
+        checkNotNull(function);
+        final MemoizedFunction<Quintuple<A, B, C, D, E>, R> memoized = new MemoizedFunction<Quintuple<A, B, C, D, E>, R>(
+                new UnaryFunction<Quintuple<A, B, C, D, E>, R>() {
+                    @Override public R call(Quintuple<A, B, C, D, E> arguments) {
+                        return function.call(arguments.getFirst(), arguments.getSecond(), arguments.getThird(), arguments.getFourth(), arguments.getFifth());
+                    }
+                }, cache);
+        return new QuinaryFunction<A, B, C, D, E, R>() {
+            @Override public R call(A first, B second, C third, D fourth, E fifth) {
+                return memoized.call(tuple(first, second, third, fourth, fifth));
+            }
+        };
+    }
+
+    public static <A, B, C, D, E, F, R> SenaryFunction<A, B, C, D, E, F, R> memoize(
+            final SenaryFunction<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? extends R> function,
+            MemoizationCache<Sextuple<A, B, C, D, E, F>, R> cache) {
+        checkNotNull(function);
+        final MemoizedFunction<Sextuple<A, B, C, D, E, F>, R> memoized = new MemoizedFunction<Sextuple<A, B, C, D, E, F>, R>(
+                new UnaryFunction<Sextuple<A, B, C, D, E, F>, R>() {
+                    @Override public R call(Sextuple<A, B, C, D, E, F> arguments) {
+                        return function.call(arguments.getFirst(), arguments.getSecond(), arguments.getThird(), arguments.getFourth(), arguments.getFifth(), arguments.getSixth());
+                    }
+                }, cache);
+        return new SenaryFunction<A, B, C, D, E, F, R>() {
+            @Override public R call(A first, B second, C third, D fourth, E fifth, F sixth) {
+                return memoized.call(tuple(first, second, third, fourth, fifth, sixth));
+            }
+        };
+    }
+
+    public static <A, B, C, D, E, F, G, R> SeptenaryFunction<A, B, C, D, E, F, G, R> memoize(
+            final SeptenaryFunction<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? extends R> function,
+            MemoizationCache<Septuple<A, B, C, D, E, F, G>, R> cache) {
+        checkNotNull(function);
+        final MemoizedFunction<Septuple<A, B, C, D, E, F, G>, R> memoized = new MemoizedFunction<Septuple<A, B, C, D, E, F, G>, R>(
+                new UnaryFunction<Septuple<A, B, C, D, E, F, G>, R>() {
+                    @Override public R call(Septuple<A, B, C, D, E, F, G> arguments) {
+                        return function.call(arguments.getFirst(), arguments.getSecond(), arguments.getThird(), arguments.getFourth(), arguments.getFifth(), arguments.getSixth(), arguments.getSeventh());
+                    }
+                }, cache);
+        return new SeptenaryFunction<A, B, C, D, E, F, G, R>() {
+            @Override public R call(A first, B second, C third, D fourth, E fifth, F sixth, G seventh) {
+                return memoized.call(tuple(first, second, third, fourth, fifth, sixth, seventh));
+            }
+        };
+    }
+
+    public static <A, B, C, D, E, F, G, H, R> OctaryFunction<A, B, C, D, E, F, G, H, R> memoize(
+            final OctaryFunction<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? super H, ? extends R> function,
+            MemoizationCache<Octuple<A, B, C, D, E, F, G, H>, R> cache) {
+        checkNotNull(function);
+        final MemoizedFunction<Octuple<A, B, C, D, E, F, G, H>, R> memoized = new MemoizedFunction<Octuple<A, B, C, D, E, F, G, H>, R>(
+                new UnaryFunction<Octuple<A, B, C, D, E, F, G, H>, R>() {
+                    @Override public R call(Octuple<A, B, C, D, E, F, G, H> arguments) {
+                        return function.call(arguments.getFirst(), arguments.getSecond(), arguments.getThird(), arguments.getFourth(), arguments.getFifth(), arguments.getSixth(), arguments.getSeventh(), arguments.getEighth());
+                    }
+                }, cache);
+        return new OctaryFunction<A, B, C, D, E, F, G, H, R>() {
+            @Override public R call(A first, B second, C third, D fourth, E fifth, F sixth, G seventh, H eighth) {
+                return memoized.call(tuple(first, second, third, fourth, fifth, sixth, seventh, eighth));
+            }
+        };
+    }
+
+    public static <A, B, C, D, E, F, G, H, I, R> NonaryFunction<A, B, C, D, E, F, G, H, I, R> memoize(
+            final NonaryFunction<? super A, ? super B, ? super C, ? super D, ? super E, ? super F, ? super G, ? super H, ? super I, ? extends R> function,
+            MemoizationCache<Nonuple<A, B, C, D, E, F, G, H, I>, R> cache) {
+        checkNotNull(function);
+        final MemoizedFunction<Nonuple<A, B, C, D, E, F, G, H, I>, R> memoized = new MemoizedFunction<Nonuple<A, B, C, D, E, F, G, H, I>, R>(
+                new UnaryFunction<Nonuple<A, B, C, D, E, F, G, H, I>, R>() {
+                    @Override public R call(Nonuple<A, B, C, D, E, F, G, H, I> arguments) {
+                        return function.call(arguments.getFirst(), arguments.getSecond(), arguments.getThird(), arguments.getFourth(), arguments.getFifth(), arguments.getSixth(), arguments.getSeventh(), arguments.getEighth(), arguments.getNinth());
+                    }
+                }, cache);
+        return new NonaryFunction<A, B, C, D, E, F, G, H, I, R>() {
+            @Override public R call(A first, B second, C third, D fourth, E fifth, F sixth, G seventh, H eighth, I ninth) {
+                return memoized.call(tuple(first, second, third, fourth, fifth, sixth, seventh, eighth, ninth));
+            }
+        };
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.iterators.CartesianProductIterator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.javafunk.funk.Checks.returnOrThrowIfContainsNull;
+import static org.javafunk.funk.Literals.listFrom;
+
+/**
+ * A lazy {@code Iterable} over the cartesian product of a number of
+ * {@code Iterable} dimensions, or over a contiguous range of the product's
+ * elements in lexicographic order.
+ *
+ * <p>The first time the product, or any sub-product split from it, is iterated
+ * or sized, every dimension that is not already a random access {@code List}
+ * is copied into one, so the dimensions must be finite. The copies are shared
+ * by the product and all of its sub-products thereafter. Since elements are addressed by index, the product can
+ * report its {@link #size()} without iterating and can be split into
+ * independently iterable sub-ranges using {@link #subProduct(long, long)} or
+ * {@link #split(int)}, e.g., to process it in parallel.</p>
+ *
+ * @param <T> The type of the elements assembled from each selection of
+ *            values from the dimensions.
+ */
+public class CartesianProduct<T> implements Iterable<T> {
+    private final Dimensions dimensions;
+    private final UnaryFunction<? super Object[], ? extends T> assembler;
+    private final long fromIndex;
+    private final long toIndex;
+
+    /**
+     * @param dimensions The {@code Iterable} instances whose cartesian product
+     *                   is required.
+     * @param assembler  A {@code UnaryFunction} building an element of the
+     *                   product from an array of one value per dimension. The
+     *                   array is reused between elements so must not be
+     *                   retained.
+     */
+    public CartesianProduct(
+            List<? extends Iterable<?>> dimensions,
+            UnaryFunction<? super Object[], ? extends T> assembler) {
+        this(new Dimensions(returnOrThrowIfContainsNull(checkNotNull(dimensions))), checkNotNull(assembler), 0, Long.MAX_VALUE);
+    }
+
+    private CartesianProduct(
+            Dimensions dimensions,
+            UnaryFunction<? super Object[], ? extends T> assembler,
+            long fromIndex,
+            long toIndex) {
+        this.dimensions = dimensions;
+        this.assembler = assembler;
+        this.fromIndex = fromIndex;
+        this.toIndex = toIndex;
+    }
+
+    /**
+     * @return The number of elements in this product, i.e., the product of
+     *         the sizes of the dimensions, restricted to this product's range.
+     * @throws ArithmeticException if the product has more than
+     *                             {@code Long.MAX_VALUE} elements.
+     */
+    public long size() {
+        return sizeOf(dimensions.materialised());
+    }
+
+    /**
+     * @return The elements of this product from {@code fromIndex} (inclusive) to
+     *         {@code toIndex} (exclusive).
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative,
+     *                                   {@code toIndex} is greater than the size
+     *                                   of this product or {@code fromIndex} is
+     *                                   greater than {@code toIndex}.
+     */
+    public CartesianProduct<T> subProduct(long fromIndex, long toIndex) {
+        long size = size();
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "From index: " + fromIndex + ", To index: " + toIndex + ", Size: " + size);
+        }
+        return new CartesianProduct<T>(dimensions, assembler, this.fromIndex + fromIndex, this.fromIndex + toIndex);
+    }
+
+    /**
+     * @return Up to {@code numberOfParts} contiguous, non-empty sub-products of
+     *         as equal size as possible which together cover this product in
+     *         order.
+     * @throws IllegalArgumentException if {@code numberOfParts} is not positive.
+     */
+    public List<CartesianProduct<T>> split(int numberOfParts) {
+        if (numberOfParts <= 0) {
+            throw new IllegalArgumentException("Number of parts must be greater than zero.");
+        }
+        long size = size();
+        List<CartesianProduct<T>> parts = new ArrayList<CartesianProduct<T>>(numberOfParts);
+        long start = 0;
+        for (int part = 0; part < numberOfParts && start < size; part++) {
+            long end = start + (size - start + (numberOfParts - part) - 1) / (numberOfParts - part);
+            parts.add(subProduct(start, end));
+            start = end;
+        }
+        return parts;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        List<List<?>> lists = dimensions.materialised();
+        long size = sizeOf(lists);
+        return new CartesianProductIterator<T>(lists, fromIndex, fromIndex + size, assembler);
+    }
+
+    private long sizeOf(List<List<?>> lists) {
+        long total = 1;
+        for (List<?> list : lists) {
+            long dimensionSize = list.size();
+            if (dimensionSize != 0 && total > Long.MAX_VALUE / dimensionSize) {
+                throw new ArithmeticException("Cartesian product contains more than Long.MAX_VALUE elements.");
+            }
+            total *= dimensionSize;
+        }
+        return Math.max(0, Math.min(total, toIndex) - fromIndex);
+    }
+
+    private static class Dimensions {
+        private final List<? extends Iterable<?>> dimensions;
+        private List<List<?>> materialised;
+
+        Dimensions(List<? extends Iterable<?>> dimensions) {
+            this.dimensions = dimensions;
+        }
+
+        synchronized List<List<?>> materialised() {
+            if (materialised == null) {
+                List<List<?>> lists = new ArrayList<List<?>>(dimensions.size());
+                for (Iterable<?> dimension : dimensions) {
+                    lists.add(dimension instanceof List && dimension instanceof RandomAccess
+                            ? (List<?>) dimension
+                            : listFrom(dimension));
+                }
+                materialised = lists;
+            }
+            return materialised;
+        }
+    }
+}
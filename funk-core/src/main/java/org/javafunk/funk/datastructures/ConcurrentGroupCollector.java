@@ -0,0 +1,174 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.javafunk.funk.Literals.tuple;
+
+/**
+ * A thread safe collector grouping elements by the index returned for them
+ * by an indexer, into the same shape as
+ * {@link org.javafunk.funk.Eagerly#group(Iterable, UnaryFunction)}, to which
+ * many threads can add elements concurrently.
+ *
+ * <p>Groups are held in a {@code ConcurrentHashMap} and each group is guarded
+ * by its own lock, so threads adding elements with different indices never
+ * block one another and there is no lock across the whole collector. Within
+ * a group, elements added by a single thread retain the order in which that
+ * thread added them. {@code null} indices are supported.</p>
+ *
+ * <p>Contention is counted as it happens: an add is contended if it had to
+ * wait for another thread to release its group's lock, and a group creation
+ * race is counted each time a thread creates a group only to find that
+ * another thread created it first. See {@link #statistics()}.</p>
+ *
+ * @param <S> The type of the elements.
+ * @param <T> The type of the indices.
+ */
+public class ConcurrentGroupCollector<S, T> {
+    private static final Object NULL_INDEX = new Object();
+
+    private final UnaryFunction<? super S, T> indexer;
+    private final ConcurrentMap<Object, Group<S, T>> groups = new ConcurrentHashMap<Object, Group<S, T>>();
+
+    private final AtomicLong contendedAddCount = new AtomicLong();
+    private final AtomicLong creationRaceCount = new AtomicLong();
+
+    public ConcurrentGroupCollector(UnaryFunction<? super S, T> indexer) {
+        this.indexer = checkNotNull(indexer);
+    }
+
+    /**
+     * Adds the supplied element to the group for the index returned for it by
+     * this collector's indexer. The indexer is called outside of any lock.
+     *
+     * @param element The element to add.
+     */
+    public void add(S element) {
+        T index = indexer.call(element);
+        Group<S, T> group = groupFor(index);
+        if (!group.lock.tryLock()) {
+            contendedAddCount.incrementAndGet();
+            group.lock.lock();
+        }
+        try {
+            group.elements.add(element);
+        } finally {
+            group.lock.unlock();
+        }
+    }
+
+    public void addAll(Iterable<? extends S> elements) {
+        for (S element : checkNotNull(elements)) {
+            add(element);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the groups collected so far. The returned
+     * {@code Map} and its collections are independent of this collector.
+     *
+     * @return A {@code Map} from each index to the elements with that index.
+     */
+    public Map<T, Collection<S>> toMap() {
+        Map<T, Collection<S>> groupedElements = new HashMap<T, Collection<S>>();
+        for (Group<S, T> group : groups.values()) {
+            groupedElements.put(group.index, snapshotOf(group));
+        }
+        return groupedElements;
+    }
+
+    /**
+     * Returns a snapshot of the elements collected so far, each paired with
+     * its index, in the same shape as
+     * {@link org.javafunk.funk.Eagerly#index(Iterable, UnaryFunction)}.
+     * Elements are ordered by group and, within a group, as in {@link #toMap()}.
+     *
+     * @return A {@code Collection} of index and element pairs.
+     */
+    public Collection<Pair<T, S>> toIndex() {
+        List<Pair<T, S>> indexedElements = new ArrayList<Pair<T, S>>();
+        for (Group<S, T> group : groups.values()) {
+            for (S element : snapshotOf(group)) {
+                indexedElements.add(tuple(group.index, element));
+            }
+        }
+        return indexedElements;
+    }
+
+    public GroupingStatistics statistics() {
+        long elementCount = 0;
+        for (Group<S, T> group : groups.values()) {
+            group.lock.lock();
+            try {
+                elementCount += group.elements.size();
+            } finally {
+                group.lock.unlock();
+            }
+        }
+        return new GroupingStatistics(
+                elementCount, groups.size(), contendedAddCount.get(), creationRaceCount.get());
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("indexer", indexer)
+                .append("statistics", statistics())
+                .toString();
+    }
+
+    private Group<S, T> groupFor(T index) {
+        Object key = index == null ? NULL_INDEX : index;
+        Group<S, T> group = groups.get(key);
+        if (group == null) {
+            Group<S, T> created = new Group<S, T>(index);
+            group = groups.putIfAbsent(key, created);
+            if (group == null) {
+                group = created;
+            } else {
+                creationRaceCount.incrementAndGet();
+            }
+        }
+        return group;
+    }
+
+    private static <S, T> Collection<S> snapshotOf(Group<S, T> group) {
+        group.lock.lock();
+        try {
+            return new ArrayList<S>(group.elements);
+        } finally {
+            group.lock.unlock();
+        }
+    }
+
+    private static class Group<S, T> {
+        private final T index;
+        private final List<S> elements = new ArrayList<S>();
+        private final ReentrantLock lock = new ReentrantLock();
+
+        Group(T index) {
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * An immutable snapshot of the counters of a {@link ConcurrentGroupCollector}.
+ *
+ * <p>A contended add is one that had to wait for another thread to finish
+ * adding to the same group. A creation race is counted when two threads
+ * create the same group at once and one of the new groups is discarded.</p>
+ */
+public class GroupingStatistics {
+    private final long elementCount;
+    private final long groupCount;
+    private final long contendedAddCount;
+    private final long creationRaceCount;
+
+    public GroupingStatistics(long elementCount, long groupCount, long contendedAddCount, long creationRaceCount) {
+        this.elementCount = elementCount;
+        this.groupCount = groupCount;
+        this.contendedAddCount = contendedAddCount;
+        this.creationRaceCount = creationRaceCount;
+    }
+
+    public long getElementCount() {
+        return elementCount;
+    }
+
+    public long getGroupCount() {
+        return groupCount;
+    }
+
+    public long getContendedAddCount() {
+        return contendedAddCount;
+    }
+
+    public long getCreationRaceCount() {
+        return creationRaceCount;
+    }
+
+    /**
+     * @return The proportion of adds that were contended, or {@code 0.0} if
+     *         no elements have been added.
+     */
+    public double getContentionRate() {
+        return elementCount == 0 ? 0.0 : (double) contendedAddCount / elementCount;
+    }
+
+    @Override public boolean equals(Object other) {
+        return EqualsBuilder.reflectionEquals(this, other);
+    }
+
+    @Override public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("elementCount", elementCount)
+                .append("groupCount", groupCount)
+                .append("contendedAddCount", contendedAddCount)
+                .append("creationRaceCount", creationRaceCount)
+                .toString();
+    }
+}
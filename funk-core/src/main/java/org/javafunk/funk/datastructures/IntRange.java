@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.functors.procedures.IntProcedure;
+import org.javafunk.funk.iterators.IntIterator;
+
+import java.math.BigInteger;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A range of {@code int} values from {@code start} (inclusive) to {@code end}
+ * (exclusive) in increments of {@code step}, which may be negative.
+ *
+ * <p>As well as being an {@code Iterable<Integer>}, an {@code IntRange} can be
+ * traversed without boxing using {@link #intIterator()} or {@link #forEachInt(IntProcedure)}
+ * and provides {@link #size()}, {@link #get(long)}, {@link #indexOf(Object)},
+ * {@link #sum()} and {@link #toArray()} without iterating at all.</p>
+ */
+public class IntRange implements Range<Integer> {
+    private final int start;
+    private final int end;
+    private final int step;
+    private final long count;
+
+    public IntRange(int start, int end) {
+        this(start, end, 1);
+    }
+
+    public IntRange(int start, int end, int step) {
+        if (step == 0) {
+            throw new IllegalArgumentException("Step size cannot be zero");
+        }
+        this.start = start;
+        this.end = end;
+        this.step = step;
+        this.count = countOf(start, end, step);
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Integer && containsInt((Integer) other);
+    }
+
+    public boolean containsInt(int value) {
+        return indexOfInt(value) >= 0;
+    }
+
+    @Override
+    public long indexOf(Object other) {
+        return other instanceof Integer ? indexOfInt((Integer) other) : -1;
+    }
+
+    public long indexOfInt(int value) {
+        long offset = (long) value - start;
+        if (offset % step != 0) {
+            return -1;
+        }
+        long index = offset / step;
+        return index >= 0 && index < count ? index : -1;
+    }
+
+    @Override
+    public Integer get(long index) {
+        return getInt(index);
+    }
+
+    public int getInt(long index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+        }
+        return (int) (start + index * step);
+    }
+
+    @Override
+    public Integer getStart() {
+        return start;
+    }
+
+    @Override
+    public Integer getEnd() {
+        return end;
+    }
+
+    @Override
+    public Integer getStep() {
+        return step;
+    }
+
+    @Override
+    public long size() {
+        return count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public IntRange subRange(long fromIndex, long toIndex) {
+        if (fromIndex < 0 || toIndex > count || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "From index: " + fromIndex + ", To index: " + toIndex + ", Size: " + count);
+        }
+        if (fromIndex == toIndex) {
+            return new IntRange(start, start, step);
+        }
+        return new IntRange(getInt(fromIndex), toIndex == count ? end : getInt(toIndex), step);
+    }
+
+    @Override
+    public IntRange intersection(Range<Integer> other) {
+        IntRange that = intRangeFrom(checkNotNull(other));
+        if (isEmpty() || that.isEmpty()) {
+            return new IntRange(start, start, step);
+        }
+        BigInteger[] common = Progressions.intersect(
+                BigInteger.valueOf(start), BigInteger.valueOf(last()), BigInteger.valueOf(step),
+                BigInteger.valueOf(that.start), BigInteger.valueOf(that.last()), BigInteger.valueOf(that.step));
+        if (common == null) {
+            return new IntRange(start, start, step);
+        }
+        int lowest = common[0].intValue();
+        int highest = common[1].intValue();
+        int direction = step > 0 ? 1 : -1;
+        if (lowest == highest) {
+            return new IntRange(lowest, lowest + direction, direction);
+        }
+        if (common[2].bitLength() > 31) {
+            throw new IllegalArgumentException("Intersection step cannot be represented as an int.");
+        }
+        int stride = common[2].intValue();
+        return step > 0
+                ? new IntRange(lowest, highest + 1, stride)
+                : new IntRange(highest, lowest - 1, -stride);
+    }
+
+    public long sum() {
+        if (count == 0) {
+            return 0;
+        }
+        long firstPlusLast = (long) start + last();
+        return (count % 2 == 0) ? (count / 2) * firstPlusLast : count * (firstPlusLast / 2);
+    }
+
+    public int[] toArray() {
+        if (count > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Range contains too many values to be represented as an array.");
+        }
+        int[] values = new int[(int) count];
+        int value = start;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = value;
+            value += step;
+        }
+        return values;
+    }
+
+    public void forEachInt(IntProcedure procedure) {
+        checkNotNull(procedure);
+        int value = start;
+        for (long remaining = count; remaining > 0; remaining--) {
+            procedure.execute(value);
+            value += step;
+        }
+    }
+
+    public IntIterator intIterator() {
+        return new IntRangeIterator();
+    }
+
+    @Override
+    public IntIterator iterator() {
+        return intIterator();
+    }
+
+    private int last() {
+        return (int) (start + (count - 1) * step);
+    }
+
+    private static IntRange intRangeFrom(Range<Integer> range) {
+        if (range instanceof IntRange) {
+            return (IntRange) range;
+        }
+        return new IntRange(range.getStart(), range.getEnd(), range.getStep());
+    }
+
+    private static long countOf(long start, long end, long step) {
+        long distance = end - start;
+        if (distance == 0 || (distance > 0) != (step > 0)) {
+            return 0;
+        }
+        return (distance + step + (step > 0 ? -1 : 1)) / step;
+    }
+
+    private class IntRangeIterator implements IntIterator {
+        private int currentValue = start;
+        private long remaining = count;
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (remaining <= 0) {
+                throw new NoSuchElementException();
+            }
+            int next = currentValue;
+            currentValue += step;
+            remaining--;
+            return next;
+        }
+
+        @Override
+        public Integer next() {
+            return nextInt();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -8,88 +8,30 @@
  */
 package org.javafunk.funk.datastructures;
 
-import org.javafunk.funk.Iterators;
-
-import java.util.Iterator;
-import java.util.NoSuchElementException;
-
-public class IntegerRange implements Range<Integer> {
-    private final Integer start;
-    private final Integer end;
-    private final Integer step;
-
+/**
+ * An {@link IntRange} constructed from nullable bounds. A {@code null} start
+ * defaults to zero, a {@code null} step defaults to one and a {@code null} end
+ * defaults to {@code Integer.MAX_VALUE} or {@code Integer.MIN_VALUE} depending
+ * on the direction of the step.
+ */
+public class IntegerRange extends IntRange {
     public IntegerRange(Integer start, Integer end) {
         this(start, end, null);
     }
 
     public IntegerRange(Integer start, Integer end, Integer step) {
-        this.step = (step == null) ? 1 : step;
-        if (this.step == 0) {
-            throw new IllegalArgumentException("Step size cannot be zero");
-        }
-        this.start = (start == null) ? 0 : start;
-        this.end = (end == null) ? ((this.step > 0) ? Integer.MAX_VALUE : Integer.MIN_VALUE) : end;
-    }
-
-    @Override
-    public boolean contains(Object other) {
-        if (other instanceof Integer) {
-            int valueToFind = (Integer) other;
-            for (int valueInRange : this) {
-                if (valueInRange == valueToFind) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
-    @Override
-    public Integer getStart() {
-        return start;
-    }
-
-    @Override
-    public Integer getEnd() {
-        return end;
+        super(startOrDefault(start), endOrDefault(end, step), stepOrDefault(step));
     }
 
-    @Override
-    public Integer getStep() {
-        return step;
+    private static int startOrDefault(Integer start) {
+        return (start == null) ? 0 : start;
     }
 
-    @Override
-    public Iterator<Integer> iterator() {
-        if (start < end && step < 0 || start > end && step > 0) {
-            return Iterators.emptyIterator();
-        }
-
-        return new IntegerRangeIterator();
+    private static int stepOrDefault(Integer step) {
+        return (step == null) ? 1 : step;
     }
 
-    private class IntegerRangeIterator implements Iterator<Integer> {
-        private int currentValue = start;
-
-        @Override
-        public boolean hasNext() {
-            return (step < 0) ? (currentValue > end) : (currentValue < end);
-        }
-
-        @Override
-        public Integer next() {
-            if (hasNext()) {
-                int next = currentValue;
-                currentValue += step;
-                return next;
-            } else {
-                throw new NoSuchElementException();
-            }
-        }
-
-        @Override
-        public void remove() {
-            throw new UnsupportedOperationException();
-        }
+    private static int endOrDefault(Integer end, Integer step) {
+        return (end == null) ? ((stepOrDefault(step) > 0) ? Integer.MAX_VALUE : Integer.MIN_VALUE) : end;
     }
 }
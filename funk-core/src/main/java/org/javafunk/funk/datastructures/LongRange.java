@@ -0,0 +1,270 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.functors.procedures.LongProcedure;
+import org.javafunk.funk.iterators.LongIterator;
+
+import java.math.BigInteger;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A range of {@code long} values from {@code start} (inclusive) to {@code end}
+ * (exclusive) in increments of {@code step}, which may be negative.
+ *
+ * <p>As well as being an {@code Iterable<Long>}, a {@code LongRange} can be
+ * traversed without boxing using {@link #longIterator()} or {@link #forEachLong(LongProcedure)}
+ * and provides {@link #size()}, {@link #get(long)}, {@link #indexOf(Object)},
+ * {@link #sum()} and {@link #toArray()} without iterating at all.</p>
+ *
+ * <p>A range may hold more values than {@code Long.MAX_VALUE}, as do open
+ * ended sequences such as {@code Sequences.longs(decreasing())}. The number
+ * of values is held internally as an unsigned {@code long}, so such ranges
+ * iterate in full, while {@link #size()} saturates at {@code Long.MAX_VALUE}.</p>
+ */
+public class LongRange implements Range<Long> {
+    private final long start;
+    private final long end;
+    private final long step;
+    private final long count;
+
+    public LongRange(long start, long end) {
+        this(start, end, 1);
+    }
+
+    public LongRange(long start, long end, long step) {
+        if (step == 0) {
+            throw new IllegalArgumentException("Step size cannot be zero");
+        }
+        this.start = start;
+        this.end = end;
+        this.step = step;
+        this.count = countOf(start, end, step);
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Long && containsLong((Long) other);
+    }
+
+    public boolean containsLong(long value) {
+        BigInteger[] quotientAndRemainder = quotientAndRemainderOf(value);
+        return quotientAndRemainder != null && quotientAndRemainder[1].signum() == 0;
+    }
+
+    @Override
+    public long indexOf(Object other) {
+        return other instanceof Long ? indexOfLong((Long) other) : -1;
+    }
+
+    /**
+     * @throws IllegalStateException if the value is in the range but its
+     *         index is greater than {@code Long.MAX_VALUE}.
+     */
+    public long indexOfLong(long value) {
+        BigInteger[] quotientAndRemainder = quotientAndRemainderOf(value);
+        if (quotientAndRemainder == null || quotientAndRemainder[1].signum() != 0) {
+            return -1;
+        }
+        if (quotientAndRemainder[0].bitLength() > 63) {
+            throw new IllegalStateException("Index cannot be represented as a long.");
+        }
+        return quotientAndRemainder[0].longValue();
+    }
+
+    @Override
+    public Long get(long index) {
+        return getLong(index);
+    }
+
+    public long getLong(long index) {
+        if (index < 0 || (index >= size() && !exceedsLongMaximum())) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        return start + index * step;
+    }
+
+    @Override
+    public Long getStart() {
+        return start;
+    }
+
+    @Override
+    public Long getEnd() {
+        return end;
+    }
+
+    @Override
+    public Long getStep() {
+        return step;
+    }
+
+    /**
+     * @return The number of values in the range, or {@code Long.MAX_VALUE}
+     *         if there are more.
+     */
+    @Override
+    public long size() {
+        return exceedsLongMaximum() ? Long.MAX_VALUE : count;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public LongRange subRange(long fromIndex, long toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "From index: " + fromIndex + ", To index: " + toIndex + ", Size: " + size());
+        }
+        if (fromIndex == toIndex) {
+            return new LongRange(start, start, step);
+        }
+        return new LongRange(getLong(fromIndex), toIndex == count ? end : getLong(toIndex), step);
+    }
+
+    @Override
+    public LongRange intersection(Range<Long> other) {
+        LongRange that = longRangeFrom(checkNotNull(other));
+        if (isEmpty() || that.isEmpty()) {
+            return new LongRange(start, start, step);
+        }
+        BigInteger[] common = Progressions.intersect(
+                BigInteger.valueOf(start), BigInteger.valueOf(last()), BigInteger.valueOf(step),
+                BigInteger.valueOf(that.start), BigInteger.valueOf(that.last()), BigInteger.valueOf(that.step));
+        if (common == null) {
+            return new LongRange(start, start, step);
+        }
+        long lowest = common[0].longValue();
+        long highest = common[1].longValue();
+        long direction = step > 0 ? 1 : -1;
+        if (lowest == highest) {
+            return new LongRange(lowest, lowest + direction, direction);
+        }
+        if (common[2].bitLength() > 63) {
+            throw new IllegalArgumentException("Intersection step cannot be represented as a long.");
+        }
+        long stride = common[2].longValue();
+        return step > 0
+                ? new LongRange(lowest, highest + 1, stride)
+                : new LongRange(highest, lowest - 1, -stride);
+    }
+
+    public BigInteger sum() {
+        if (count == 0) {
+            return BigInteger.ZERO;
+        }
+        BigInteger first = BigInteger.valueOf(start);
+        BigInteger last = BigInteger.valueOf(last());
+        return unsignedCount().multiply(first.add(last)).shiftRight(1);
+    }
+
+    public long[] toArray() {
+        if (exceedsLongMaximum() || count > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Range contains too many values to be represented as an array.");
+        }
+        long[] values = new long[(int) count];
+        long value = start;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = value;
+            value += step;
+        }
+        return values;
+    }
+
+    public void forEachLong(LongProcedure procedure) {
+        checkNotNull(procedure);
+        long value = start;
+        for (long remaining = count; remaining != 0; remaining--) {
+            procedure.execute(value);
+            value += step;
+        }
+    }
+
+    public LongIterator longIterator() {
+        return new LongRangeIterator();
+    }
+
+    @Override
+    public LongIterator iterator() {
+        return longIterator();
+    }
+
+    private long last() {
+        return start + (count - 1) * step;
+    }
+
+    private boolean exceedsLongMaximum() {
+        return count < 0;
+    }
+
+    private BigInteger unsignedCount() {
+        BigInteger signed = BigInteger.valueOf(count);
+        return exceedsLongMaximum() ? signed.add(BigInteger.ONE.shiftLeft(64)) : signed;
+    }
+
+    private BigInteger[] quotientAndRemainderOf(long value) {
+        if (count == 0 || (step > 0 ? value < start || value >= end : value > start || value <= end)) {
+            return null;
+        }
+        return BigInteger.valueOf(value).subtract(BigInteger.valueOf(start))
+                .divideAndRemainder(BigInteger.valueOf(step));
+    }
+
+    private static LongRange longRangeFrom(Range<Long> range) {
+        if (range instanceof LongRange) {
+            return (LongRange) range;
+        }
+        return new LongRange(range.getStart(), range.getEnd(), range.getStep());
+    }
+
+    private static long countOf(long start, long end, long step) {
+        if (start == end || (end > start) != (step > 0)) {
+            return 0;
+        }
+        BigInteger distance = BigInteger.valueOf(end).subtract(BigInteger.valueOf(start)).abs();
+        BigInteger stepSize = BigInteger.valueOf(step).abs();
+        return distance.add(stepSize).subtract(BigInteger.ONE).divide(stepSize).longValue();
+    }
+
+    private class LongRangeIterator implements LongIterator {
+        private long currentValue = start;
+        private long remaining = count;
+
+        @Override
+        public boolean hasNext() {
+            return remaining != 0;
+        }
+
+        @Override
+        public long nextLong() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            long next = currentValue;
+            currentValue += step;
+            remaining--;
+            return next;
+        }
+
+        @Override
+        public Long next() {
+            return nextLong();
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
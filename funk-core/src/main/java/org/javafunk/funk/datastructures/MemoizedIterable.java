@@ -0,0 +1,95 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@code Iterable} returned by
+ * {@link org.javafunk.funk.Lazily#memoize(Iterable, int)}. The
+ * source {@code Iterable} is iterated at most once, on demand, and every
+ * element pulled from it is retained so that each {@code Iterator} returned
+ * by this {@code Iterable} yields all elements from the beginning. Since a
+ * new {@code Iterator} may be requested at any time, nothing is ever
+ * discarded, however elements beyond the spill threshold are spilled to disk
+ * as described by {@link SpillableBuffer}. The temporary file is therefore
+ * only deleted by {@link #close()}, after which the {@code MemoizedIterable}
+ * can no longer be iterated. Access to the source and the buffer is
+ * synchronised, so iterators may be used from different threads.
+ */
+public class MemoizedIterable<T> implements Iterable<T>, Closeable {
+    private final Iterable<? extends T> source;
+    private final SpillableBuffer<T> buffer;
+    private Iterator<? extends T> iterator;
+    private boolean exhausted;
+    private boolean closed;
+
+    public MemoizedIterable(Iterable<? extends T> source, int spillThreshold) {
+        this.source = source;
+        this.buffer = new SpillableBuffer<T>(spillThreshold);
+    }
+
+    @Override public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private long position;
+
+            @Override public boolean hasNext() {
+                return isAvailable(position);
+            }
+
+            @Override public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return elementAt(position++);
+            }
+
+            @Override public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override public synchronized void close() {
+        closed = true;
+        buffer.close();
+    }
+
+    private synchronized boolean isAvailable(long position) {
+        checkNotClosed();
+        if (position < buffer.end()) {
+            return true;
+        }
+        if (exhausted) {
+            return false;
+        }
+        if (iterator == null) {
+            iterator = source.iterator();
+        }
+        if (iterator.hasNext()) {
+            buffer.add(iterator.next());
+            return true;
+        }
+        exhausted = true;
+        return false;
+    }
+
+    private synchronized T elementAt(long position) {
+        checkNotClosed();
+        return buffer.get(position);
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("A memoized iterable cannot be iterated once closed.");
+        }
+    }
+}
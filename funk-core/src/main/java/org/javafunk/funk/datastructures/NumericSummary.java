@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+/**
+ * An immutable summary of a sequence of numbers, as produced in a single
+ * pass by {@link org.javafunk.funk.Eagerly#summarizeNumbers(Iterable)}.
+ *
+ * <p>The mean and the sum of squared deviations from it are accumulated
+ * using Welford's method, which, unlike summing values and their squares,
+ * does not lose precision when the variance is small relative to the mean.
+ * For an empty sequence, the minimum, maximum, mean and variances are
+ * {@code NaN}.</p>
+ */
+public class NumericSummary {
+    private final long count;
+    private final double minimum;
+    private final double maximum;
+    private final double mean;
+    private final double sumOfSquaredDeviations;
+
+    public NumericSummary(long count, double minimum, double maximum, double mean, double sumOfSquaredDeviations) {
+        this.count = count;
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.mean = mean;
+        this.sumOfSquaredDeviations = sumOfSquaredDeviations;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMinimum() {
+        return minimum;
+    }
+
+    public double getMaximum() {
+        return maximum;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * @return The variance of the numbers, treating them as the whole
+     *         population, or {@code NaN} if there were none.
+     */
+    public double getPopulationVariance() {
+        return count == 0 ? Double.NaN : sumOfSquaredDeviations / count;
+    }
+
+    /**
+     * @return The unbiased variance of the numbers, treating them as a sample,
+     *         or {@code NaN} if there were fewer than two.
+     */
+    public double getSampleVariance() {
+        return count < 2 ? Double.NaN : sumOfSquaredDeviations / (count - 1);
+    }
+
+    public double getPopulationStandardDeviation() {
+        return Math.sqrt(getPopulationVariance());
+    }
+
+    public double getSampleStandardDeviation() {
+        return Math.sqrt(getSampleVariance());
+    }
+
+    @Override public boolean equals(Object other) {
+        return EqualsBuilder.reflectionEquals(this, other);
+    }
+
+    @Override public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("count", count)
+                .append("minimum", minimum)
+                .append("maximum", maximum)
+                .append("mean", mean)
+                .append("sampleVariance", getSampleVariance())
+                .toString();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import java.math.BigInteger;
+
+import static java.math.BigInteger.ONE;
+import static java.math.BigInteger.ZERO;
+
+final class Progressions {
+    private Progressions() {}
+
+    /**
+     * Finds the values common to two non-empty arithmetic progressions, each
+     * described by its first value, last value and step, using the Chinese
+     * remainder theorem rather than iteration.
+     *
+     * @return An array of the lowest common value, the highest common value
+     *         and the stride between common values, or {@code null} if the
+     *         progressions share no values.
+     */
+    static BigInteger[] intersect(
+            BigInteger firstOfFirst, BigInteger lastOfFirst, BigInteger stepOfFirst,
+            BigInteger firstOfSecond, BigInteger lastOfSecond, BigInteger stepOfSecond) {
+        BigInteger lowestOfFirst = firstOfFirst.min(lastOfFirst);
+        BigInteger lowestOfSecond = firstOfSecond.min(lastOfSecond);
+        BigInteger lower = lowestOfFirst.max(lowestOfSecond);
+        BigInteger upper = firstOfFirst.max(lastOfFirst).min(firstOfSecond.max(lastOfSecond));
+        BigInteger strideOfFirst = stepOfFirst.abs();
+        BigInteger strideOfSecond = stepOfSecond.abs();
+
+        BigInteger divisor = strideOfFirst.gcd(strideOfSecond);
+        BigInteger difference = lowestOfSecond.subtract(lowestOfFirst);
+        if (lower.compareTo(upper) > 0 || difference.mod(divisor).signum() != 0) {
+            return null;
+        }
+
+        BigInteger modulus = strideOfSecond.divide(divisor);
+        BigInteger stride = strideOfFirst.multiply(modulus);
+        BigInteger multiplier = modulus.equals(ONE)
+                ? ZERO
+                : difference.divide(divisor)
+                        .multiply(strideOfFirst.divide(divisor).modInverse(modulus))
+                        .mod(modulus);
+        BigInteger anchor = lowestOfFirst.add(strideOfFirst.multiply(multiplier));
+
+        BigInteger first = anchor.add(ceilingDivide(lower.subtract(anchor), stride).multiply(stride));
+        if (first.compareTo(upper) > 0) {
+            return null;
+        }
+        BigInteger last = first.add(upper.subtract(first).divide(stride).multiply(stride));
+        return new BigInteger[]{first, last, stride};
+    }
+
+    private static BigInteger ceilingDivide(BigInteger dividend, BigInteger divisor) {
+        BigInteger[] quotientAndRemainder = dividend.divideAndRemainder(divisor);
+        return quotientAndRemainder[1].signum() > 0
+                ? quotientAndRemainder[0].add(ONE)
+                : quotientAndRemainder[0];
+    }
+}
@@ -8,9 +8,49 @@
  */
 package org.javafunk.funk.datastructures;
 
+/**
+ * An arithmetic progression of values from a start (inclusive) to an end
+ * (exclusive) in increments of a step. Since every value is determined by
+ * its index, membership, size, positional access, sub-ranges and
+ * intersections are all computed without iterating the range.
+ *
+ * @param <T> The type of the values in the range.
+ */
 public interface Range<T> extends Iterable<T> {
     boolean contains(Object other);
     T getStart();
     T getEnd();
     T getStep();
+
+    long size();
+    boolean isEmpty();
+
+    /**
+     * @throws IndexOutOfBoundsException if the index is negative or not less
+     *                                   than the size of the range.
+     */
+    T get(long index);
+
+    /**
+     * @return The index of the supplied value in the range or {@code -1} if
+     *         the range does not contain it.
+     */
+    long indexOf(Object other);
+
+    /**
+     * @return The range of values from {@code fromIndex} (inclusive) to
+     *         {@code toIndex} (exclusive) in this range, with the same step.
+     * @throws IndexOutOfBoundsException if {@code fromIndex} is negative,
+     *                                   {@code toIndex} is greater than the
+     *                                   size of the range or
+     *                                   {@code fromIndex} is greater than
+     *                                   {@code toIndex}.
+     */
+    Range<T> subRange(long fromIndex, long toIndex);
+
+    /**
+     * @return The range of values contained in both this range and the
+     *         supplied range, ordered in the direction of this range.
+     */
+    Range<T> intersection(Range<T> other);
 }
@@ -0,0 +1,272 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.io.*;
+import java.util.Arrays;
+
+/**
+ * A buffer of elements addressed by an ever increasing {@code long} index,
+ * from which elements before a given index can be discarded. Elements are
+ * appended at {@link #end()} and are available from {@link #start()}
+ * (inclusive) to {@link #end()} (exclusive).
+ *
+ * <p>When more than {@code spillThreshold} elements are held in memory, the
+ * oldest are serialised to a temporary file, from which they are read back
+ * when requested, so elements must be {@code Serializable} if the threshold
+ * can be exceeded. The file is emptied once all spilled elements have been
+ * discarded and is compacted whenever discarded elements make up at least
+ * half of it, so it stays proportional to the spilled elements still held even
+ * if they are never all discarded at once. It is deleted by {@link #close()},
+ * or on exit if the buffer is never closed. A threshold of
+ * {@code Integer.MAX_VALUE} never spills.</p>
+ *
+ * <p>A {@code SpillableBuffer} is not thread safe.</p>
+ *
+ * @param <T> The type of the buffered elements.
+ */
+public class SpillableBuffer<T> implements Closeable {
+    private static final int COMPACTION_CHUNK_SIZE = 8192;
+
+    private final int spillThreshold;
+
+    private Object[] memory = new Object[16];
+    private int head;
+    private int memorySize;
+
+    private File spillFile;
+    private RandomAccessFile spillStore;
+    private long[] spillOffsets = new long[16];
+
+    private long start;
+    private long diskStart;
+    private long diskEnd;
+
+    public SpillableBuffer(int spillThreshold) {
+        if (spillThreshold <= 0) {
+            throw new IllegalArgumentException("Spill threshold must be greater than zero.");
+        }
+        this.spillThreshold = spillThreshold;
+    }
+
+    public long start() {
+        return start;
+    }
+
+    public long end() {
+        return diskEnd + memorySize;
+    }
+
+    public boolean isEmpty() {
+        return start == end();
+    }
+
+    public long spilledCount() {
+        return Math.max(0, diskEnd - Math.max(start, diskStart));
+    }
+
+    /**
+     * @return The size in bytes of the spill file, including any discarded
+     *         elements not yet compacted away.
+     */
+    public long spilledBytes() {
+        try {
+            return spillStore == null ? 0 : spillStore.length();
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to read the size of the spill file.", exception);
+        }
+    }
+
+    public void add(T element) {
+        if (memorySize == memory.length) {
+            memory = grow(memory);
+        }
+        memory[(head + memorySize) % memory.length] = element;
+        memorySize++;
+        if (memorySize > spillThreshold) {
+            spill(memorySize - spillThreshold / 2);
+        }
+    }
+
+    public T get(long index) {
+        if (index < start || index >= end()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Start: " + start + ", End: " + end());
+        }
+        if (index < diskEnd) {
+            return readSpilled(index);
+        }
+        return elementAt((int) (index - diskEnd));
+    }
+
+    /**
+     * Discards all elements before the supplied index.
+     */
+    public void trimTo(long index) {
+        start = Math.max(start, Math.min(index, end()));
+        while (diskEnd < start) {
+            memory[head] = null;
+            head = (head + 1) % memory.length;
+            memorySize--;
+            diskEnd++;
+        }
+        if (diskStart != diskEnd && start >= diskEnd) {
+            clearSpilled();
+        } else if (start > diskStart) {
+            compactSpilled();
+        }
+    }
+
+    @Override public void close() {
+        closeSpillStore();
+        if (spillFile != null) {
+            spillFile.delete();
+            spillFile = null;
+        }
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("start", start)
+                .append("end", end())
+                .append("spilled", spilledCount())
+                .append("spillThreshold", spillThreshold)
+                .toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int offset) {
+        return (T) memory[(head + offset) % memory.length];
+    }
+
+    private void spill(int count) {
+        try {
+            RandomAccessFile store = spillStore();
+            for (int i = 0; i < count; i++) {
+                byte[] bytes = serialise(memory[head]);
+                int spilled = (int) (diskEnd - diskStart);
+                if (spilled == spillOffsets.length) {
+                    spillOffsets = Arrays.copyOf(spillOffsets, spilled * 2);
+                }
+                long offset = store.length();
+                spillOffsets[spilled] = offset;
+                store.seek(offset);
+                store.writeInt(bytes.length);
+                store.write(bytes);
+                memory[head] = null;
+                head = (head + 1) % memory.length;
+                memorySize--;
+                diskEnd++;
+            }
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to spill buffered elements to disk.", exception);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T readSpilled(long index) {
+        try {
+            RandomAccessFile store = spillStore();
+            store.seek(spillOffsets[(int) (index - diskStart)]);
+            byte[] bytes = new byte[store.readInt()];
+            store.readFully(bytes);
+            ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes));
+            try {
+                return (T) input.readObject();
+            } finally {
+                input.close();
+            }
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to read spilled element from disk.", exception);
+        } catch (ClassNotFoundException exception) {
+            throw new IllegalStateException("Unable to read spilled element from disk.", exception);
+        }
+    }
+
+    private void clearSpilled() {
+        try {
+            if (spillStore != null) {
+                spillStore.setLength(0);
+            }
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to clear spilled elements.", exception);
+        }
+        diskStart = diskEnd;
+    }
+
+    /**
+     * Moves the spilled elements still held to the start of the spill file,
+     * once the discarded elements before them take up at least half the file.
+     */
+    private void compactSpilled() {
+        int discarded = (int) (start - diskStart);
+        int retained = (int) (diskEnd - start);
+        try {
+            long discardedBytes = spillOffsets[discarded];
+            long length = spillStore.length();
+            if (discardedBytes < length - discardedBytes) {
+                return;
+            }
+            byte[] chunk = new byte[COMPACTION_CHUNK_SIZE];
+            for (long from = discardedBytes; from < length; from += chunk.length) {
+                int read = (int) Math.min(chunk.length, length - from);
+                spillStore.seek(from);
+                spillStore.readFully(chunk, 0, read);
+                spillStore.seek(from - discardedBytes);
+                spillStore.write(chunk, 0, read);
+            }
+            spillStore.setLength(length - discardedBytes);
+            for (int i = 0; i < retained; i++) {
+                spillOffsets[i] = spillOffsets[discarded + i] - discardedBytes;
+            }
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to compact spilled elements.", exception);
+        }
+        diskStart = start;
+    }
+
+    private RandomAccessFile spillStore() throws IOException {
+        if (spillStore == null) {
+            spillFile = File.createTempFile("funk-spill", ".bin");
+            spillFile.deleteOnExit();
+            spillStore = new RandomAccessFile(spillFile, "rw");
+        }
+        return spillStore;
+    }
+
+    private void closeSpillStore() {
+        if (spillStore != null) {
+            try {
+                spillStore.close();
+            } catch (IOException exception) {
+                // Nothing further can be done with the store.
+            }
+            spillStore = null;
+        }
+    }
+
+    private static byte[] serialise(Object element) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream output = new ObjectOutputStream(bytes);
+        output.writeObject(element);
+        output.close();
+        return bytes.toByteArray();
+    }
+
+    private Object[] grow(Object[] current) {
+        Object[] grown = new Object[current.length * 2];
+        for (int i = 0; i < memorySize; i++) {
+            grown[i] = current[(head + i) % current.length];
+        }
+        head = 0;
+        return grown;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.monads.Option;
+
+/**
+ * An immutable summary of the number of elements in a sequence along with
+ * its minimum and maximum elements, as produced in a single pass by
+ * {@link org.javafunk.funk.Eagerly#summarize(Iterable, java.util.Comparator)}.
+ *
+ * <p>The minimum and maximum are {@code None} if the sequence was empty.
+ * Where several elements are equally minimal or maximal, the first of them
+ * is retained.</p>
+ *
+ * @param <T> The type of the summarised elements.
+ */
+public class Summary<T> {
+    private final long count;
+    private final Option<T> minimum;
+    private final Option<T> maximum;
+
+    public Summary(long count, Option<T> minimum, Option<T> maximum) {
+        this.count = count;
+        this.minimum = minimum;
+        this.maximum = maximum;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Option<T> getMinimum() {
+        return minimum;
+    }
+
+    public Option<T> getMaximum() {
+        return maximum;
+    }
+
+    @Override public boolean equals(Object other) {
+        return EqualsBuilder.reflectionEquals(this, other);
+    }
+
+    @Override public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this);
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("count", count)
+                .append("minimum", minimum)
+                .append("maximum", maximum)
+                .toString();
+    }
+}
@@ -14,10 +14,14 @@ import org.apache.commons.lang3.builder.HashCodeBuilder;
 import java.util.Iterator;
 
 import static java.lang.String.format;
-import static org.javafunk.funk.Lazily.zip;
 import static org.javafunk.funk.Strings.join;
 
 public abstract class AbstractTuple implements Iterable<Object> {
+    private static final int INITIAL_HASH_CODE = 17;
+    private static final int HASH_CODE_MULTIPLIER = 37;
+
+    private transient int hashCode;
+
     public abstract Iterable<Object> getValues();
 
     @Override
@@ -39,26 +43,81 @@ public abstract class AbstractTuple implements Iterable<Object> {
             return false;
         }
 
-        EqualsBuilder equalsBuilder = new EqualsBuilder();
-        Iterable<Pair<Object, Object>> zippedValues = zip(this.getValues(), ((AbstractTuple) other).getValues());
-        for (Pair<Object, Object> values : zippedValues) {
-            equalsBuilder.append(values.getFirst(), values.getSecond());
+        AbstractTuple otherTuple = (AbstractTuple) other;
+        if (hashCode != 0 && otherTuple.hashCode != 0 && hashCode != otherTuple.hashCode) {
+            return false;
         }
 
-        return equalsBuilder.isEquals();
+        return valuesEqual(otherTuple);
     }
 
+    /**
+     * Since tuples are immutable, the hash code is computed from the values
+     * on first use and cached thereafter. The values themselves should
+     * therefore not be mutated while the tuple is in use.
+     */
     @Override
     public int hashCode() {
-        HashCodeBuilder hashCodeBuilder = new HashCodeBuilder();
-        for (Object value : getValues()) {
-            hashCodeBuilder.append(value);
+        int hashCode = this.hashCode;
+        if (hashCode == 0) {
+            hashCode = valuesHashCode(INITIAL_HASH_CODE);
+            this.hashCode = hashCode;
         }
-        return hashCodeBuilder.toHashCode();
+        return hashCode;
     }
 
     public Iterator<Object> iterator(){
         return getValues().iterator();
     }
 
+    /**
+     * Compares the values of this tuple with those of the supplied tuple, which
+     * is guaranteed to be of the same class. Subclasses should compare their
+     * own fields directly rather than via {@link #getValues()}.
+     */
+    protected boolean valuesEqual(AbstractTuple other) {
+        Iterator<Object> theseValues = getValues().iterator();
+        Iterator<Object> otherValues = other.getValues().iterator();
+        while (theseValues.hasNext() && otherValues.hasNext()) {
+            if (!valueEquals(theseValues.next(), otherValues.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Accumulates the hash codes of the values of this tuple onto the supplied
+     * hash code. Subclasses should hash their own fields directly rather than
+     * via {@link #getValues()}.
+     */
+    protected int valuesHashCode(int hashCode) {
+        for (Object value : getValues()) {
+            hashCode = appendHashCode(hashCode, value);
+        }
+        return hashCode;
+    }
+
+    protected static boolean valueEquals(Object first, Object second) {
+        if (first == second) {
+            return true;
+        }
+        if (first == null || second == null) {
+            return false;
+        }
+        if (first.getClass().isArray()) {
+            return new EqualsBuilder().append(first, second).isEquals();
+        }
+        return first.equals(second);
+    }
+
+    protected static int appendHashCode(int hashCode, Object value) {
+        if (value == null) {
+            return hashCode * HASH_CODE_MULTIPLIER;
+        }
+        if (value.getClass().isArray()) {
+            return hashCode * HASH_CODE_MULTIPLIER + new HashCodeBuilder().append(value).toHashCode();
+        }
+        return hashCode * HASH_CODE_MULTIPLIER + value.hashCode();
+    }
 }
@@ -73,4 +73,12 @@ public class Nonuple<R, S, T, U, V, W, X, Y, Z>
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getNinth()).build();
     }
+
+    @Override protected boolean valuesEqual(AbstractTuple other) {
+        return super.valuesEqual(other) && valueEquals(ninth, ((Nonuple<?, ?, ?, ?, ?, ?, ?, ?, ?>) other).ninth);
+    }
+
+    @Override protected int valuesHashCode(int hashCode) {
+        return appendHashCode(super.valuesHashCode(hashCode), ninth);
+    }
 }
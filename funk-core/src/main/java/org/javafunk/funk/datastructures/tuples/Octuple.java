@@ -69,4 +69,12 @@ public class Octuple<R, S, T, U, V, W, X, Y>
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getEighth()).build();
     }
+
+    @Override protected boolean valuesEqual(AbstractTuple other) {
+        return super.valuesEqual(other) && valueEquals(eighth, ((Octuple<?, ?, ?, ?, ?, ?, ?, ?>) other).eighth);
+    }
+
+    @Override protected int valuesHashCode(int hashCode) {
+        return appendHashCode(super.valuesHashCode(hashCode), eighth);
+    }
 }
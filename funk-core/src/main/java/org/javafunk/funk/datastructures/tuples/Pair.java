@@ -18,7 +18,7 @@ public class Pair<R, S>
         extends Single<R>
         implements Second<S>,
                    MappableSecond<S, Pair<R, ?>> {
-    private S second;
+    private final S second;
 
     public static <R, S> Pair<R, S> pair(R first, S second) {
         return new Pair<R, S>(first, second);
@@ -44,4 +44,12 @@ public class Pair<R, S>
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getSecond()).build();
     }
+
+    @Override protected boolean valuesEqual(AbstractTuple other) {
+        return super.valuesEqual(other) && valueEquals(second, ((Pair<?, ?>) other).second);
+    }
+
+    @Override protected int valuesHashCode(int hashCode) {
+        return appendHashCode(super.valuesHashCode(hashCode), second);
+    }
 }
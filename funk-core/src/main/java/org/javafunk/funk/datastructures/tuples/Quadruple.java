@@ -18,7 +18,7 @@ public class Quadruple<R, S, T, U>
         extends Triple<R, S, T>
         implements Fourth<U>,
                    MappableFourth<U, Quadruple<R, S, T, ?>> {
-    private U fourth;
+    private final U fourth;
 
     public static <R, S, T, U> Quadruple<R, S, T, U> quadruple(R first, S second, T third, U fourth) {
         return new Quadruple<R, S, T, U>(first, second, third, fourth);
@@ -52,4 +52,12 @@ public class Quadruple<R, S, T, U>
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getFourth()).build();
     }
+
+    @Override protected boolean valuesEqual(AbstractTuple other) {
+        return super.valuesEqual(other) && valueEquals(fourth, ((Quadruple<?, ?, ?, ?>) other).fourth);
+    }
+
+    @Override protected int valuesHashCode(int hashCode) {
+        return appendHashCode(super.valuesHashCode(hashCode), fourth);
+    }
 }
@@ -56,4 +56,12 @@ public class Quintuple<R, S, T, U, V>
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getFifth()).build();
     }
+
+    @Override protected boolean valuesEqual(AbstractTuple other) {
+        return super.valuesEqual(other) && valueEquals(fifth, ((Quintuple<?, ?, ?, ?, ?>) other).fifth);
+    }
+
+    @Override protected int valuesHashCode(int hashCode) {
+        return appendHashCode(super.valuesHashCode(hashCode), fifth);
+    }
 }
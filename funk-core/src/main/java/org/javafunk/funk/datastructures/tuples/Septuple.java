@@ -64,4 +64,12 @@ public class Septuple<R, S, T, U, V, W, X>
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getSeventh()).build();
     }
+
+    @Override protected boolean valuesEqual(AbstractTuple other) {
+        return super.valuesEqual(other) && valueEquals(seventh, ((Septuple<?, ?, ?, ?, ?, ?, ?>) other).seventh);
+    }
+
+    @Override protected int valuesHashCode(int hashCode) {
+        return appendHashCode(super.valuesHashCode(hashCode), seventh);
+    }
 }
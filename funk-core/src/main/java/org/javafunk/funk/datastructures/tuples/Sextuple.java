@@ -60,4 +60,12 @@ public class Sextuple<R, S, T, U, V, W>
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getSixth()).build();
     }
+
+    @Override protected boolean valuesEqual(AbstractTuple other) {
+        return super.valuesEqual(other) && valueEquals(sixth, ((Sextuple<?, ?, ?, ?, ?, ?>) other).sixth);
+    }
+
+    @Override protected int valuesHashCode(int hashCode) {
+        return appendHashCode(super.valuesHashCode(hashCode), sixth);
+    }
 }
@@ -18,7 +18,7 @@ public class Single<R>
         extends AbstractTuple
         implements First<R>,
                    MappableFirst<R, Single<?>> {
-    private R first;
+    private final R first;
 
     public static <R> Single<R> single(R first) {
         return new Single<R>(first);
@@ -39,4 +39,12 @@ public class Single<R>
     @Override public Iterable<Object> getValues() {
         return iterableBuilderOf(Object.class).with(first).build();
     }
+
+    @Override protected boolean valuesEqual(AbstractTuple other) {
+        return valueEquals(first, ((Single<?>) other).first);
+    }
+
+    @Override protected int valuesHashCode(int hashCode) {
+        return appendHashCode(hashCode, first);
+    }
 }
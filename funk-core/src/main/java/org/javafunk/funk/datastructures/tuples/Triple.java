@@ -18,7 +18,7 @@ public class Triple<R, S, T>
         extends Pair<R, S>
         implements Third<T>,
                    MappableThird<T, Triple<R, S, ?>> {
-    private T third;
+    private final T third;
 
     public static <R, S, T> Triple<R, S, T> triple(R first, S second, T third) {
         return new Triple<R, S, T>(first, second, third);
@@ -49,4 +49,12 @@ public class Triple<R, S, T>
     @Override public Iterable<Object> getValues() {
         return iterableBuilderFrom(super.getValues()).with(getThird()).build();
     }
+
+    @Override protected boolean valuesEqual(AbstractTuple other) {
+        return super.valuesEqual(other) && valueEquals(third, ((Triple<?, ?, ?>) other).third);
+    }
+
+    @Override protected int valuesHashCode(int hashCode) {
+        return appendHashCode(super.valuesHashCode(hashCode), third);
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.external;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A single use {@code Iterable} over the result of an external memory
+ * operation, backed by temporary files on disk.
+ *
+ * <p>The temporary files are deleted once the {@code Iterator} is exhausted.
+ * If iteration is abandoned part way through, {@link #close()} should be
+ * called, ideally in a {@code finally} block, to delete them.</p>
+ *
+ * @param <T> The type of the elements.
+ */
+public class ExternalIterable<T> implements Iterable<T>, Closeable {
+    private final Iterator<T> iterator;
+    private final Closeable resources;
+    private boolean iterated;
+
+    public ExternalIterable(Iterator<T> iterator, Closeable resources) {
+        this.iterator = checkNotNull(iterator);
+        this.resources = checkNotNull(resources);
+    }
+
+    /**
+     * @return The {@code Iterator} over the result.
+     * @throws IllegalStateException if called more than once.
+     */
+    @Override public synchronized Iterator<T> iterator() {
+        if (iterated) {
+            throw new IllegalStateException("An external iterable can only be iterated once.");
+        }
+        iterated = true;
+        return iterator;
+    }
+
+    @Override public void close() {
+        try {
+            resources.close();
+        } catch (IOException exception) {
+            throw new IllegalStateException("Unable to delete temporary files.", exception);
+        }
+    }
+}
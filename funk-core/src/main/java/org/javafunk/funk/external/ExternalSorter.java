@@ -0,0 +1,365 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.external;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.*;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Sorts elements by key using external memory, so that the number of
+ * elements sorted is limited by disk space rather than heap.
+ *
+ * <p>Elements are read into memory until the in-memory threshold of the
+ * supplied {@link SpillSpec} is reached, at which point they are sorted and
+ * written as a run to a temporary directory. Once the input is exhausted,
+ * the runs, along with any elements remaining in memory, are lazily k-way
+ * merged using a heap holding one element per run. If there are more runs
+ * than the merge fan in allows, consecutive runs are first merged into longer
+ * runs. Keys are computed once when an element is read from the input and
+ * once each time it is read back from a run.</p>
+ *
+ * <p>The sort is stable. Runs are written in input order and, where keys
+ * compare equal, the merge prefers earlier runs.</p>
+ *
+ * @param <T> The type of the elements to sort.
+ * @param <K> The type of the keys by which elements are sorted.
+ */
+public class ExternalSorter<T, K> {
+    private final UnaryFunction<? super T, ? extends K> keyFunction;
+    private final Comparator<? super K> keyComparator;
+    private final SpillSpec<T> spec;
+
+    public ExternalSorter(
+            UnaryFunction<? super T, ? extends K> keyFunction,
+            Comparator<? super K> keyComparator,
+            SpillSpec<T> spec) {
+        this.keyFunction = checkNotNull(keyFunction);
+        this.keyComparator = checkNotNull(keyComparator);
+        this.spec = checkNotNull(spec);
+    }
+
+    /**
+     * Sorts the supplied {@code Iterable}, reading it in full and spilling
+     * sorted runs to disk as necessary.
+     *
+     * @param iterable The {@code Iterable} to sort.
+     * @return A single use {@code ExternalIterable} lazily merging the sorted runs.
+     * @throws IllegalStateException if the runs cannot be written to disk.
+     */
+    public ExternalIterable<T> sort(Iterable<? extends T> iterable) {
+        checkNotNull(iterable);
+        Runs runs = new Runs();
+        try {
+            List<Entry<T, K>> buffer = new ArrayList<Entry<T, K>>();
+            for (T element : iterable) {
+                buffer.add(new Entry<T, K>(element, keyFunction.call(element)));
+                if (buffer.size() >= spec.getInMemoryThreshold()) {
+                    runs.write(sorted(buffer).iterator());
+                    buffer.clear();
+                }
+            }
+            List<Entry<T, K>> remaining = sorted(buffer);
+            if (runs.isEmpty()) {
+                return new ExternalIterable<T>(new ElementIterator(remaining.iterator(), runs), runs);
+            }
+            runs.consolidate(spec.getMergeFanIn() - (remaining.isEmpty() ? 0 : 1));
+            List<Iterator<Entry<T, K>>> sources = runs.open();
+            sources.add(remaining.iterator());
+            return new ExternalIterable<T>(new ElementIterator(merge(sources), runs), runs);
+        } catch (IOException exception) {
+            runs.close();
+            throw new IllegalStateException("Unable to write sorted run to disk.", exception);
+        } catch (RuntimeException exception) {
+            runs.close();
+            throw exception;
+        }
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("keyFunction", keyFunction)
+                .append("keyComparator", keyComparator)
+                .append("spec", spec)
+                .toString();
+    }
+
+    private List<Entry<T, K>> sorted(List<Entry<T, K>> entries) {
+        Collections.sort(entries, new Comparator<Entry<T, K>>() {
+            @Override public int compare(Entry<T, K> first, Entry<T, K> second) {
+                return keyComparator.compare(first.key, second.key);
+            }
+        });
+        return entries;
+    }
+
+    private Iterator<Entry<T, K>> merge(final List<Iterator<Entry<T, K>>> sources) {
+        final PriorityQueue<Head<T, K>> heads = new PriorityQueue<Head<T, K>>(
+                Math.max(1, sources.size()),
+                new Comparator<Head<T, K>>() {
+                    @Override public int compare(Head<T, K> first, Head<T, K> second) {
+                        int comparison = keyComparator.compare(first.entry.key, second.entry.key);
+                        return comparison != 0 ? comparison : first.source - second.source;
+                    }
+                });
+        for (int source = 0; source < sources.size(); source++) {
+            if (sources.get(source).hasNext()) {
+                heads.add(new Head<T, K>(sources.get(source).next(), source));
+            }
+        }
+        return new Iterator<Entry<T, K>>() {
+            @Override public boolean hasNext() {
+                return !heads.isEmpty();
+            }
+
+            @Override public Entry<T, K> next() {
+                if (heads.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Head<T, K> head = heads.poll();
+                Iterator<Entry<T, K>> source = sources.get(head.source);
+                if (source.hasNext()) {
+                    heads.add(new Head<T, K>(source.next(), head.source));
+                }
+                return head.entry;
+            }
+
+            @Override public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private static class Entry<T, K> {
+        private final T element;
+        private final K key;
+
+        Entry(T element, K key) {
+            this.element = element;
+            this.key = key;
+        }
+    }
+
+    private static class Head<T, K> {
+        private final Entry<T, K> entry;
+        private final int source;
+
+        Head(Entry<T, K> entry, int source) {
+            this.entry = entry;
+            this.source = source;
+        }
+    }
+
+    /**
+     * Yields the elements of the merged entries, deleting the runs once
+     * the last element has been yielded.
+     */
+    private class ElementIterator implements Iterator<T> {
+        private final Iterator<Entry<T, K>> entries;
+        private final Runs runs;
+
+        ElementIterator(Iterator<Entry<T, K>> entries, Runs runs) {
+            this.entries = entries;
+            this.runs = runs;
+        }
+
+        @Override public boolean hasNext() {
+            if (entries.hasNext()) {
+                return true;
+            }
+            runs.close();
+            return false;
+        }
+
+        @Override public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return entries.next().element;
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * The sorted runs written to a temporary directory, which is created
+     * when the first run is written and deleted, along with the runs, on
+     * {@link #close()}.
+     */
+    private class Runs implements Closeable {
+        private final List<Run> runs = new ArrayList<Run>();
+        private final List<RunReader> readers = new ArrayList<RunReader>();
+        private File directory;
+        private boolean closed;
+
+        boolean isEmpty() {
+            return runs.isEmpty();
+        }
+
+        void write(Iterator<Entry<T, K>> entries) throws IOException {
+            runs.add(writeRun(entries));
+        }
+
+        /**
+         * Merges consecutive runs until at most {@code fanIn} remain, so
+         * that the final merge need not hold too many files open at once.
+         * Each merged run replaces its group as soon as it is written, so
+         * that {@link #close()} deletes every run should a merge fail.
+         */
+        void consolidate(int fanIn) throws IOException {
+            int maximumRuns = Math.max(1, fanIn);
+            while (runs.size() > maximumRuns) {
+                for (int from = 0; from < runs.size(); from++) {
+                    List<Run> group = runs.subList(from, Math.min(runs.size(), from + spec.getMergeFanIn()));
+                    if (group.size() == 1) {
+                        continue;
+                    }
+                    List<Iterator<Entry<T, K>>> sources = new ArrayList<Iterator<Entry<T, K>>>();
+                    for (Run run : group) {
+                        sources.add(open(run));
+                    }
+                    Run merged = writeRun(merge(sources));
+                    for (Run run : group) {
+                        delete(run);
+                    }
+                    group.clear();
+                    runs.add(from, merged);
+                }
+            }
+        }
+
+        List<Iterator<Entry<T, K>>> open() throws IOException {
+            List<Iterator<Entry<T, K>>> sources = new ArrayList<Iterator<Entry<T, K>>>();
+            for (Run run : runs) {
+                sources.add(open(run));
+            }
+            return sources;
+        }
+
+        @Override public synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            for (RunReader reader : readers) {
+                reader.close();
+            }
+            for (Run run : runs) {
+                run.file.delete();
+            }
+            if (directory != null) {
+                directory.delete();
+            }
+        }
+
+        private Run writeRun(Iterator<Entry<T, K>> entries) throws IOException {
+            if (directory == null) {
+                directory = Files.createTempDirectory(spec.getTemporaryDirectory().toPath(), "funk-sort").toFile();
+            }
+            File file = File.createTempFile("run", ".bin", directory);
+            long count = 0;
+            boolean written = false;
+            try {
+                DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+                try {
+                    while (entries.hasNext()) {
+                        spec.getSerializer().write(entries.next().element, output);
+                        count++;
+                    }
+                } finally {
+                    output.close();
+                }
+                written = true;
+            } finally {
+                if (!written) {
+                    file.delete();
+                }
+            }
+            return new Run(file, count);
+        }
+
+        private RunReader open(Run run) throws IOException {
+            RunReader reader = new RunReader(run);
+            readers.add(reader);
+            return reader;
+        }
+
+        private void delete(Run run) {
+            for (Iterator<RunReader> iterator = readers.iterator(); iterator.hasNext(); ) {
+                RunReader reader = iterator.next();
+                if (reader.run == run) {
+                    reader.close();
+                    iterator.remove();
+                }
+            }
+            run.file.delete();
+        }
+    }
+
+    private static class Run {
+        private final File file;
+        private final long count;
+
+        Run(File file, long count) {
+            this.file = file;
+            this.count = count;
+        }
+    }
+
+    private class RunReader implements Iterator<Entry<T, K>> {
+        private final Run run;
+        private final DataInputStream input;
+        private long remaining;
+
+        RunReader(Run run) throws IOException {
+            this.run = run;
+            this.input = new DataInputStream(new BufferedInputStream(new FileInputStream(run.file)));
+            this.remaining = run.count;
+        }
+
+        @Override public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override public Entry<T, K> next() {
+            if (remaining == 0) {
+                throw new NoSuchElementException();
+            }
+            try {
+                T element = spec.getSerializer().read(input);
+                if (--remaining == 0) {
+                    close();
+                }
+                return new Entry<T, K>(element, keyFunction.call(element));
+            } catch (IOException exception) {
+                throw new IllegalStateException("Unable to read sorted run from disk.", exception);
+            }
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        void close() {
+            try {
+                input.close();
+            } catch (IOException exception) {
+                // Nothing further can be done with the run.
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.external;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes elements to, and reads them back from, the temporary files used by
+ * external memory operations such as {@link ExternalSorter}. Each element
+ * written must be readable by a single call to {@link #read(DataInput)}
+ * without any knowledge of its length, so serializers of variable length
+ * elements should prefix them with their length.
+ *
+ * @param <T> The type of the serialized elements.
+ * @see Serializers
+ */
+public interface Serializer<T> {
+    void write(T element, DataOutput output) throws IOException;
+
+    T read(DataInput input) throws IOException;
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.external;
+
+import java.io.*;
+import java.nio.charset.Charset;
+
+/**
+ * Factories for common {@link Serializer} implementations.
+ */
+public class Serializers {
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private Serializers() {}
+
+    /**
+     * @return A {@code Serializer} using Java serialization, for elements
+     *         implementing {@code Serializable}. Each element is written with
+     *         its own object stream, so this is considerably slower and larger
+     *         than a dedicated {@code Serializer}.
+     */
+    public static <T> Serializer<T> javaSerializer() {
+        return new Serializer<T>() {
+            @Override public void write(T element, DataOutput output) throws IOException {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                ObjectOutputStream objects = new ObjectOutputStream(bytes);
+                objects.writeObject(element);
+                objects.close();
+                output.writeInt(bytes.size());
+                output.write(bytes.toByteArray());
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override public T read(DataInput input) throws IOException {
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(bytes));
+                try {
+                    return (T) objects.readObject();
+                } catch (ClassNotFoundException exception) {
+                    throw new IOException("Unable to read serialized element.", exception);
+                } finally {
+                    objects.close();
+                }
+            }
+        };
+    }
+
+    /**
+     * @return A {@code Serializer} of non-null {@code String} instances as
+     *         length prefixed UTF-8.
+     */
+    public static Serializer<String> stringSerializer() {
+        return new Serializer<String>() {
+            @Override public void write(String element, DataOutput output) throws IOException {
+                byte[] bytes = element.getBytes(UTF_8);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+
+            @Override public String read(DataInput input) throws IOException {
+                byte[] bytes = new byte[input.readInt()];
+                input.readFully(bytes);
+                return new String(bytes, UTF_8);
+            }
+        };
+    }
+
+    /**
+     * @return A {@code Serializer} of non-null {@code Integer} instances.
+     */
+    public static Serializer<Integer> integerSerializer() {
+        return new Serializer<Integer>() {
+            @Override public void write(Integer element, DataOutput output) throws IOException {
+                output.writeInt(element);
+            }
+
+            @Override public Integer read(DataInput input) throws IOException {
+                return input.readInt();
+            }
+        };
+    }
+
+    /**
+     * @return A {@code Serializer} of non-null {@code Long} instances.
+     */
+    public static Serializer<Long> longSerializer() {
+        return new Serializer<Long>() {
+            @Override public void write(Long element, DataOutput output) throws IOException {
+                output.writeLong(element);
+            }
+
+            @Override public Long read(DataInput input) throws IOException {
+                return input.readLong();
+            }
+        };
+    }
+}
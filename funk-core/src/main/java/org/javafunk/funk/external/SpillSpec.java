@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.external;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.io.File;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An immutable description of how an external memory operation, such as
+ * those in {@link org.javafunk.funk.Externally}, should spill elements to
+ * disk.
+ *
+ * <p>By default, at most {@value #DEFAULT_IN_MEMORY_THRESHOLD} elements are
+ * held in memory before a sorted run is written to a new directory within
+ * the system temporary directory, and at most
+ * {@value #DEFAULT_MERGE_FAN_IN} runs are merged at once. Each {@code with}
+ * method returns a new {@code SpillSpec}, leaving the receiver
+ * unchanged.</p>
+ *
+ * @param <T> The type of the elements to be spilled.
+ */
+public class SpillSpec<T> {
+    public static final int DEFAULT_IN_MEMORY_THRESHOLD = 100000;
+    public static final int DEFAULT_MERGE_FAN_IN = 64;
+
+    private final Serializer<T> serializer;
+    private final int inMemoryThreshold;
+    private final int mergeFanIn;
+    private final File temporaryDirectory;
+
+    private SpillSpec(Serializer<T> serializer, int inMemoryThreshold, int mergeFanIn, File temporaryDirectory) {
+        this.serializer = serializer;
+        this.inMemoryThreshold = inMemoryThreshold;
+        this.mergeFanIn = mergeFanIn;
+        this.temporaryDirectory = temporaryDirectory;
+    }
+
+    /**
+     * @param serializer The {@code Serializer} used to write spilled elements.
+     * @return A {@code SpillSpec} with the default threshold, fan in and
+     *         temporary directory.
+     */
+    public static <T> SpillSpec<T> spillSpec(Serializer<T> serializer) {
+        return new SpillSpec<T>(
+                checkNotNull(serializer),
+                DEFAULT_IN_MEMORY_THRESHOLD,
+                DEFAULT_MERGE_FAN_IN,
+                new File(System.getProperty("java.io.tmpdir")));
+    }
+
+    /**
+     * @param inMemoryThreshold The maximum number of elements to hold in
+     *                          memory before spilling them to disk.
+     * @return A copy of this {@code SpillSpec} with the supplied threshold.
+     * @throws IllegalArgumentException if {@code inMemoryThreshold} is not positive.
+     */
+    public SpillSpec<T> withInMemoryThreshold(int inMemoryThreshold) {
+        if (inMemoryThreshold <= 0) {
+            throw new IllegalArgumentException("In memory threshold must be greater than zero.");
+        }
+        return new SpillSpec<T>(serializer, inMemoryThreshold, mergeFanIn, temporaryDirectory);
+    }
+
+    /**
+     * @param mergeFanIn The maximum number of spilled runs to read at once.
+     *                   Where there are more runs, they are first merged
+     *                   into fewer, longer runs.
+     * @return A copy of this {@code SpillSpec} with the supplied fan in.
+     * @throws IllegalArgumentException if {@code mergeFanIn} is less than two.
+     */
+    public SpillSpec<T> withMergeFanIn(int mergeFanIn) {
+        if (mergeFanIn < 2) {
+            throw new IllegalArgumentException("Merge fan in must be at least two.");
+        }
+        return new SpillSpec<T>(serializer, inMemoryThreshold, mergeFanIn, temporaryDirectory);
+    }
+
+    /**
+     * @param temporaryDirectory The directory in which to create temporary files.
+     * @return A copy of this {@code SpillSpec} with the supplied directory.
+     */
+    public SpillSpec<T> withTemporaryDirectory(File temporaryDirectory) {
+        return new SpillSpec<T>(serializer, inMemoryThreshold, mergeFanIn, checkNotNull(temporaryDirectory));
+    }
+
+    public Serializer<T> getSerializer() {
+        return serializer;
+    }
+
+    public int getInMemoryThreshold() {
+        return inMemoryThreshold;
+    }
+
+    public int getMergeFanIn() {
+        return mergeFanIn;
+    }
+
+    public File getTemporaryDirectory() {
+        return temporaryDirectory;
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("serializer", serializer)
+                .append("inMemoryThreshold", inMemoryThreshold)
+                .append("mergeFanIn", mergeFanIn)
+                .append("temporaryDirectory", temporaryDirectory)
+                .toString();
+    }
+}
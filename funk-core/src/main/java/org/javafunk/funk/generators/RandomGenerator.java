@@ -14,10 +14,23 @@ import org.apache.commons.lang3.builder.ToStringBuilder;
 
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
+import static com.google.common.base.Preconditions.checkNotNull;
 import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
 import static org.javafunk.funk.Iterables.asList;
 
+/**
+ * A {@code Generator} returning elements chosen uniformly at random from a
+ * fixed sequence of elements.
+ *
+ * <p>Unless a {@code Random} is supplied, indices are drawn from
+ * {@link ThreadLocalRandom}, so a single {@code RandomGenerator} can be shared
+ * between threads without contending on a common seed. Supplying a seeded
+ * {@code Random} gives a reproducible sequence of elements.</p>
+ *
+ * @param <T> The type of the generated elements.
+ */
 public class RandomGenerator<T> extends AbstractGenerator<T> {
     private static final String[] excludedFields = new String[]{"random"};
 
@@ -25,16 +38,18 @@ public class RandomGenerator<T> extends AbstractGenerator<T> {
     private final Random random;
 
     public RandomGenerator(Iterable<? extends T> iterable) {
-        this(iterable, new Random());
+        this.random = null;
+        this.elements = asList(iterable);
     }
 
     public RandomGenerator(Iterable<? extends T> iterable, Random random) {
-        this.random = random;
+        this.random = checkNotNull(random);
         this.elements = asList(iterable);
     }
 
     @Override public T next() {
-        return elements.get(random.nextInt(elements.size()));
+        Random source = random == null ? ThreadLocalRandom.current() : random;
+        return elements.get(source.nextInt(elements.size()));
     }
 
     @Override public boolean equals(Object other) {
@@ -42,7 +57,7 @@ public class RandomGenerator<T> extends AbstractGenerator<T> {
     }
 
     @Override public int hashCode() {
-        return HashCodeBuilder.reflectionHashCode(this);
+        return HashCodeBuilder.reflectionHashCode(this, excludedFields);
     }
 
     @Override public String toString() {
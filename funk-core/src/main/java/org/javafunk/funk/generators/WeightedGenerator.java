@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.generators;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
+/**
+ * A {@code Generator} returning elements chosen at random with probability
+ * proportional to their weights.
+ *
+ * <p>At construction time, the weights are converted into an alias table
+ * using Vose's formulation of Walker's alias method, after which each element
+ * is generated in constant time using one random index and one random
+ * {@code double}, regardless of the number of elements.</p>
+ *
+ * <p>Unless a {@code Random} is supplied, random values are drawn from
+ * {@link ThreadLocalRandom}, so a single {@code WeightedGenerator} can be
+ * shared between threads. Supplying a seeded {@code Random} gives a
+ * reproducible sequence of elements.</p>
+ *
+ * @param <T> The type of the generated elements.
+ */
+public class WeightedGenerator<T> extends AbstractGenerator<T> {
+    private static final String[] excludedFields = new String[]{"random"};
+
+    private final Object[] elements;
+    private final double[] probabilities;
+    private final int[] aliases;
+    private final Random random;
+
+    public WeightedGenerator(Map<? extends T, Double> weights) {
+        this(weights, null);
+    }
+
+    public WeightedGenerator(Map<? extends T, Double> weights, Random random) {
+        checkNotNull(weights);
+        int size = weights.size();
+        if (size == 0) {
+            throw new IllegalArgumentException("At least one weight must be supplied.");
+        }
+
+        this.random = random;
+        this.elements = new Object[size];
+        this.probabilities = new double[size];
+        this.aliases = new int[size];
+
+        double[] scaled = new double[size];
+        double total = 0;
+        int index = 0;
+        for (Map.Entry<? extends T, Double> entry : weights.entrySet()) {
+            double weight = checkNotNull(entry.getValue());
+            if (weight < 0 || Double.isNaN(weight) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weights must be finite and non-negative.");
+            }
+            elements[index] = entry.getKey();
+            scaled[index] = weight;
+            total += weight;
+            index++;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one weight must be greater than zero.");
+        }
+
+        buildAliasTable(scaled, total);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override public T next() {
+        Random source = random == null ? ThreadLocalRandom.current() : random;
+        int column = source.nextInt(elements.length);
+        int chosen = source.nextDouble() < probabilities[column] ? column : aliases[column];
+        return (T) elements[chosen];
+    }
+
+    @Override public boolean equals(Object other) {
+        return EqualsBuilder.reflectionEquals(this, other, excludedFields);
+    }
+
+    @Override public int hashCode() {
+        return HashCodeBuilder.reflectionHashCode(this, excludedFields);
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .append("elements", elements)
+                .append("probabilities", probabilities)
+                .append("aliases", aliases)
+                .toString();
+    }
+
+    private void buildAliasTable(double[] scaled, double total) {
+        int size = scaled.length;
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            scaled[i] = scaled[i] * size / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // Whatever remains is within rounding error of a full column.
+        while (largeCount > 0) {
+            int more = large[--largeCount];
+            probabilities[more] = 1.0;
+            aliases[more] = more;
+        }
+        while (smallCount > 0) {
+            int less = small[--smallCount];
+            probabilities[less] = 1.0;
+            aliases[less] = less;
+        }
+    }
+}
@@ -11,7 +11,17 @@ package org.javafunk.funk.iterators;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
+/**
+ * A base for iterators that look ahead for their next element. Subclasses
+ * implement {@link #findNext()} and signal that no elements remain by
+ * returning {@link #endOfElements()} rather than throwing, so that detecting
+ * the end of iteration in {@link #hasNext()} allocates nothing. Only a call to
+ * {@link #next()} on an exhausted iterator throws, and the
+ * {@code NoSuchElementException} it throws does not capture a stack trace.
+ */
 abstract class CachingIterator<T> implements Iterator<T> {
+    private static final Object END_OF_ELEMENTS = new Object();
+
     private IteratorCache<T> matchCache = new IteratorCache<T>();
     private IteratorRemovalFlag removalFlag = new IteratorRemovalFlag();
 
@@ -20,13 +30,13 @@ abstract class CachingIterator<T> implements Iterator<T> {
         if (matchCache.isPopulated()) {
             return true;
         } else {
-            try {
-                matchCache.store(findNext());
-                removalFlag.disable();
-                return true;
-            } catch (NoSuchElementException exception) {
+            T next = findNext();
+            if (next == END_OF_ELEMENTS) {
                 return false;
             }
+            matchCache.store(next);
+            removalFlag.disable();
+            return true;
         }
     }
 
@@ -37,6 +47,9 @@ abstract class CachingIterator<T> implements Iterator<T> {
             return matchCache.fetch();
         } else {
             T next = findNext();
+            if (next == END_OF_ELEMENTS) {
+                throw new EndOfElementsException();
+            }
             removalFlag.enable();
             return next;
         }
@@ -52,8 +65,17 @@ abstract class CachingIterator<T> implements Iterator<T> {
         }
     }
 
+    /**
+     * @return The next element or, if there are no more elements,
+     *         the result of {@link #endOfElements()}.
+     */
     protected abstract T findNext();
 
+    @SuppressWarnings("unchecked")
+    protected final T endOfElements() {
+        return (T) END_OF_ELEMENTS;
+    }
+
     protected abstract void removeLast();
 
     private static class IteratorCache<T> {
@@ -76,6 +98,15 @@ abstract class CachingIterator<T> implements Iterator<T> {
 
     }
 
+    private static class EndOfElementsException extends NoSuchElementException {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
     private static class IteratorRemovalFlag {
         private boolean canRemove = false;
 
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Iterates a range of the cartesian product of a number of random access
+ * {@code List} dimensions in lexicographic order, i.e., with the last dimension
+ * varying fastest. An array of indices into the dimensions is advanced like an
+ * odometer and, for each element, the current selection of values is passed to
+ * an assembler which builds the element to return.
+ *
+ * <p>The array of values passed to the assembler is reused between elements,
+ * so the assembler must copy anything it wants to retain from it.</p>
+ */
+public class CartesianProductIterator<T> implements Iterator<T> {
+    private final List<? extends List<?>> dimensions;
+    private final UnaryFunction<? super Object[], ? extends T> assembler;
+    private final int[] indices;
+    private final Object[] values;
+    private long remaining;
+
+    public CartesianProductIterator(
+            List<? extends List<?>> dimensions,
+            long fromIndex,
+            long toIndex,
+            UnaryFunction<? super Object[], ? extends T> assembler) {
+        this.dimensions = checkNotNull(dimensions);
+        this.assembler = checkNotNull(assembler);
+        if (fromIndex < 0 || toIndex < fromIndex) {
+            throw new IllegalArgumentException("Index range must be non-negative and ascending.");
+        }
+        this.indices = new int[dimensions.size()];
+        this.values = new Object[dimensions.size()];
+        this.remaining = toIndex - fromIndex;
+        if (remaining > 0) {
+            long position = fromIndex;
+            for (int dimension = indices.length - 1; dimension >= 0; dimension--) {
+                List<?> values = dimensions.get(dimension);
+                indices[dimension] = (int) (position % values.size());
+                position /= values.size();
+                this.values[dimension] = values.get(indices[dimension]);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return remaining > 0;
+    }
+
+    @Override
+    public T next() {
+        if (remaining <= 0) {
+            throw new NoSuchElementException();
+        }
+        T next = assembler.call(values);
+        remaining--;
+        if (remaining > 0) {
+            advance();
+        }
+        return next;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("dimensions", dimensions)
+                .append("indices", indices)
+                .append("remaining", remaining)
+                .toString();
+    }
+
+    private void advance() {
+        for (int dimension = indices.length - 1; dimension >= 0; dimension--) {
+            List<?> dimensionValues = dimensions.get(dimension);
+            int index = indices[dimension] + 1;
+            if (index < dimensionValues.size()) {
+                indices[dimension] = index;
+                values[dimension] = dimensionValues.get(index);
+                return;
+            }
+            indices[dimension] = 0;
+            values[dimension] = dimensionValues.get(0);
+        }
+    }
+}
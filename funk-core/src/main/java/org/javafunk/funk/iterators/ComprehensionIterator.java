@@ -2,12 +2,11 @@ package org.javafunk.funk.iterators;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
-import org.javafunk.funk.Eagerly;
 import org.javafunk.funk.functors.functions.UnaryFunction;
 import org.javafunk.funk.functors.predicates.UnaryPredicate;
+import org.javafunk.funk.predicates.CompiledPredicate;
 
 import java.util.Iterator;
-import java.util.NoSuchElementException;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.javafunk.funk.Checks.returnOrThrowIfContainsNull;
@@ -16,6 +15,7 @@ public class ComprehensionIterator<S, T> extends CachingIterator<T> {
     private UnaryFunction<? super S, T> mapper;
     private Iterator<? extends S> iterator;
     private Iterable<? extends UnaryPredicate<? super S>> predicates;
+    private UnaryPredicate<? super S> guard;
 
     public ComprehensionIterator(
             UnaryFunction<? super S, T> mapper,
@@ -24,26 +24,18 @@ public class ComprehensionIterator<S, T> extends CachingIterator<T> {
         this.mapper = checkNotNull(mapper);
         this.iterator = checkNotNull(iterator);
         this.predicates = returnOrThrowIfContainsNull(predicates);
+        this.guard = CompiledPredicate.compileAll(predicates);
     }
 
     @Override
     protected T findNext() {
         while (iterator.hasNext()) {
-            final S next = iterator.next();
-            Boolean passesAllPredicates = Eagerly.all(
-                    predicates,
-                    new UnaryPredicate<UnaryPredicate<? super S>>() {
-                        @Override
-                        public boolean evaluate(UnaryPredicate<? super S> predicate) {
-                            return predicate.evaluate(next);
-                        }
-                    });
-            if (passesAllPredicates) {
+            S next = iterator.next();
+            if (guard.evaluate(next)) {
                 return mapper.call(next);
             }
-
         }
-        throw new NoSuchElementException();
+        return endOfElements();
     }
 
     @Override
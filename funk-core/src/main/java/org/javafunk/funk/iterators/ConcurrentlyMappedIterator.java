@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.javafunk.funk.functors.adapters.CallableNullaryFunctionAdapter.callableNullaryFunction;
+
+/**
+ * Maps each element of an {@code Iterator} on a supplied {@code ExecutorService},
+ * keeping up to {@code maxInFlight} calls running ahead of the consumer while
+ * still returning results in source order.
+ *
+ * <p>Elements are submitted through a {@link MappedIterator} from the source
+ * onto a window of at most {@code maxInFlight} pending {@code Future} instances,
+ * which is topped up whenever the consumer asks for more, so that no more than
+ * {@code maxInFlight} results are ever submitted but not yet returned. An exception thrown by the
+ * mapping function is rethrown when its result is reached, translated as per
+ * {@link org.javafunk.funk.functors.adapters.CallableNullaryFunctionAdapter},
+ * and any calls still in flight at that point are cancelled. The iterator is
+ * then exhausted: later elements of the source are never mapped, so a caller
+ * catching the exception cannot unknowingly skip the cancelled ones.</p>
+ */
+public class ConcurrentlyMappedIterator<S, T> implements Iterator<T> {
+    private final Iterator<Future<T>> submissions;
+    private final ExecutorService executor;
+    private final int maxInFlight;
+    private final ArrayDeque<Future<T>> window;
+    private boolean failed;
+
+    public ConcurrentlyMappedIterator(
+            Iterator<? extends S> iterator,
+            final UnaryFunction<? super S, ? extends T> function,
+            final ExecutorService executor,
+            int maxInFlight) {
+        checkNotNull(iterator);
+        checkNotNull(function);
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("Maximum number in flight must be greater than zero.");
+        }
+        this.executor = checkNotNull(executor);
+        this.maxInFlight = maxInFlight;
+        this.window = new ArrayDeque<Future<T>>(maxInFlight);
+        this.submissions = new MappedIterator<S, Future<T>>(iterator, new UnaryFunction<S, Future<T>>() {
+            @Override public Future<T> call(final S element) {
+                return executor.submit(new Callable<T>() {
+                    @Override public T call() throws Exception {
+                        return function.call(element);
+                    }
+                });
+            }
+        });
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (failed) {
+            return false;
+        }
+        fillWindow();
+        return !window.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return await(window.removeFirst());
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("submissions", submissions)
+                .append("executor", executor)
+                .append("maxInFlight", maxInFlight)
+                .append("inFlight", window.size())
+                .append("failed", failed)
+                .toString();
+    }
+
+    private void fillWindow() {
+        while (window.size() < maxInFlight && submissions.hasNext()) {
+            window.addLast(submissions.next());
+        }
+    }
+
+    private T await(final Future<T> future) {
+        try {
+            return callableNullaryFunction(new Callable<T>() {
+                @Override public T call() throws Exception {
+                    try {
+                        return future.get();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                        throw exception;
+                    } catch (ExecutionException exception) {
+                        Throwable cause = exception.getCause();
+                        if (cause instanceof Error) {
+                            throw (Error) cause;
+                        }
+                        throw (Exception) cause;
+                    }
+                }
+            }).call();
+        } catch (RuntimeException exception) {
+            cancelInFlight();
+            throw exception;
+        } catch (Error error) {
+            cancelInFlight();
+            throw error;
+        }
+    }
+
+    private void cancelInFlight() {
+        failed = true;
+        for (Future<T> future : window) {
+            future.cancel(true);
+        }
+        window.clear();
+    }
+}
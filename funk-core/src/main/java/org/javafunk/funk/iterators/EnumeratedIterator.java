@@ -0,0 +1,49 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.datastructures.IntRange;
+import org.javafunk.funk.datastructures.tuples.Pair;
+
+import java.util.Iterator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+public class EnumeratedIterator<T> implements Iterator<Pair<Integer, T>> {
+    private final Iterator<? extends T> iterator;
+    private final IntIterator indices = new IntRange(0, Integer.MAX_VALUE).intIterator();
+
+    public EnumeratedIterator(Iterator<? extends T> iterator) {
+        this.iterator = checkNotNull(iterator);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return iterator.hasNext() && indices.hasNext();
+    }
+
+    @Override
+    public Pair<Integer, T> next() {
+        T next = iterator.next();
+        return new Pair<Integer, T>(indices.nextInt(), next);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("iterator", iterator)
+                .toString();
+    }
+}
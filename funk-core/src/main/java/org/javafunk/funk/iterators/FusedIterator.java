@@ -0,0 +1,139 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An iterator applying a sequence of map, filter, reject and take stages to
+ * the elements of an underlying iterator in a single loop, rather than as a
+ * chain of one wrapping iterator per stage.
+ *
+ * <p>Each element pulled from the underlying iterator is passed through the
+ * stages in order. A map stage replaces the element with the result of its
+ * function, a filter or reject stage discards the element and moves on to the
+ * next one when its predicate does not hold or holds respectively, and a take
+ * stage lets through only its first {@code n} elements after which no further
+ * elements are pulled from the underlying iterator.</p>
+ *
+ * @param <T> The type of the elements produced by the final stage.
+ */
+public class FusedIterator<T> extends CachingIterator<T> {
+    private static final int MAP = 0;
+    private static final int FILTER = 1;
+    private static final int REJECT = 2;
+    private static final int TAKE = 3;
+
+    private final Iterator<?> iterator;
+    private final int[] kinds;
+    private final Object[] operations;
+    private final int[] remaining;
+    private boolean exhausted;
+
+    public FusedIterator(Iterator<?> iterator, List<Stage> stages) {
+        this.iterator = checkNotNull(iterator);
+        int numberOfStages = checkNotNull(stages).size();
+        this.kinds = new int[numberOfStages];
+        this.operations = new Object[numberOfStages];
+        this.remaining = new int[numberOfStages];
+        for (int i = 0; i < numberOfStages; i++) {
+            Stage stage = stages.get(i);
+            kinds[i] = stage.kind;
+            operations[i] = stage.operation;
+            remaining[i] = stage.count;
+            if (stage.kind == TAKE && stage.count == 0) {
+                exhausted = true;
+            }
+        }
+    }
+
+    public static Stage map(UnaryFunction<?, ?> function) {
+        return new Stage(MAP, checkNotNull(function), 0);
+    }
+
+    public static Stage filter(UnaryPredicate<?> predicate) {
+        return new Stage(FILTER, checkNotNull(predicate), 0);
+    }
+
+    public static Stage reject(UnaryPredicate<?> predicate) {
+        return new Stage(REJECT, checkNotNull(predicate), 0);
+    }
+
+    public static Stage take(int numberToTake) {
+        if (numberToTake < 0) throw new IllegalArgumentException("Cannot take a negative number of elements.");
+        return new Stage(TAKE, null, numberToTake);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected T findNext() {
+        nextElement:
+        while (!exhausted && iterator.hasNext()) {
+            Object element = iterator.next();
+            for (int i = 0; i < kinds.length; i++) {
+                switch (kinds[i]) {
+                    case MAP:
+                        element = ((UnaryFunction<Object, Object>) operations[i]).call(element);
+                        break;
+                    case FILTER:
+                        if (!((UnaryPredicate<Object>) operations[i]).evaluate(element)) continue nextElement;
+                        break;
+                    case REJECT:
+                        if (((UnaryPredicate<Object>) operations[i]).evaluate(element)) continue nextElement;
+                        break;
+                    default:
+                        if (--remaining[i] == 0) exhausted = true;
+                }
+            }
+            return (T) element;
+        }
+        return endOfElements();
+    }
+
+    @Override
+    protected void removeLast() {
+        iterator.remove();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("iterator", iterator)
+                .append("operations", operations)
+                .append("remaining", remaining)
+                .toString();
+    }
+
+    public static final class Stage {
+        private final int kind;
+        private final Object operation;
+        private final int count;
+
+        private Stage(int kind, Object operation, int count) {
+            this.kind = kind;
+            this.operation = operation;
+            this.count = count;
+        }
+
+        @Override public String toString() {
+            return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                    .append("kind", kind)
+                    .append("operation", operation)
+                    .append("count", count)
+                    .toString();
+        }
+    }
+}
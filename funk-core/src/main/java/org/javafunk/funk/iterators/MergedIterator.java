@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Merges a number of {@code Iterator} instances, each of which yields its
+ * elements in the order imposed by the supplied {@code Comparator}, into a
+ * single {@code Iterator} yielding all of their elements in that order.
+ *
+ * <p>The next element of each underlying {@code Iterator} is held in a heap,
+ * so each element costs {@code O(log k)} comparisons for {@code k} underlying
+ * iterators and only one element per underlying {@code Iterator} is held in
+ * memory at any time. Underlying iterators are only advanced when their
+ * current element is yielded. Where elements from different iterators compare
+ * equal, those from earlier iterators are yielded first, so the merge is
+ * stable.</p>
+ *
+ * <p>If an underlying {@code Iterator} is not itself ordered, the output is
+ * unspecified.</p>
+ */
+public class MergedIterator<T> implements Iterator<T> {
+    private final List<Iterator<? extends T>> iterators;
+    private final PriorityQueue<Head<T>> heads;
+    private boolean started;
+
+    public MergedIterator(Iterator<? extends Iterator<? extends T>> iterators, final Comparator<? super T> comparator) {
+        checkNotNull(comparator);
+        this.iterators = new ArrayList<Iterator<? extends T>>();
+        while (checkNotNull(iterators).hasNext()) {
+            this.iterators.add(checkNotNull(iterators.next()));
+        }
+        this.heads = new PriorityQueue<Head<T>>(Math.max(1, this.iterators.size()), new Comparator<Head<T>>() {
+            @Override public int compare(Head<T> first, Head<T> second) {
+                int comparison = comparator.compare(first.element, second.element);
+                return comparison != 0 ? comparison : first.source - second.source;
+            }
+        });
+    }
+
+    @Override public boolean hasNext() {
+        start();
+        return !heads.isEmpty();
+    }
+
+    @Override public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Head<T> head = heads.poll();
+        T element = head.element;
+        advance(head.source);
+        return element;
+    }
+
+    @Override public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("iterators", iterators)
+                .toString();
+    }
+
+    private void start() {
+        if (!started) {
+            started = true;
+            for (int source = 0; source < iterators.size(); source++) {
+                advance(source);
+            }
+        }
+    }
+
+    private void advance(int source) {
+        Iterator<? extends T> iterator = iterators.get(source);
+        if (iterator.hasNext()) {
+            heads.add(new Head<T>(iterator.next(), source));
+        }
+    }
+
+    private static class Head<T> {
+        private final T element;
+        private final int source;
+
+        Head(T element, int source) {
+            this.element = element;
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
+/**
+ * Splits a single traversal of an {@code Iterator} into two {@code Iterator}
+ * instances, one over the elements satisfying a {@code UnaryPredicate} and one
+ * over those that do not. The predicate is evaluated exactly once per element.
+ *
+ * <p>Whichever side is consumed further ahead pulls elements from the
+ * underlying {@code Iterator} and queues those belonging to the other side
+ * until they are consumed. At most {@code bufferCapacity} elements are queued
+ * for a lagging side; an {@code IllegalStateException} is thrown if the
+ * leading side would need to queue more.</p>
+ */
+public class Partitioner<T> {
+    private static final Object NULL = new Object();
+
+    private final Iterator<? extends T> iterator;
+    private final UnaryPredicate<? super T> predicate;
+    private final int bufferCapacity;
+    private final ArrayDeque<Object> matchingBuffer = new ArrayDeque<Object>();
+    private final ArrayDeque<Object> nonMatchingBuffer = new ArrayDeque<Object>();
+    private final Iterator<T> matching = new Side(true);
+    private final Iterator<T> nonMatching = new Side(false);
+
+    public Partitioner(Iterator<? extends T> iterator, UnaryPredicate<? super T> predicate, int bufferCapacity) {
+        if (bufferCapacity < 0) {
+            throw new IllegalArgumentException("Buffer capacity must not be less than zero.");
+        }
+        this.iterator = checkNotNull(iterator);
+        this.predicate = checkNotNull(predicate);
+        this.bufferCapacity = bufferCapacity;
+    }
+
+    public Iterator<T> matching() {
+        return matching;
+    }
+
+    public Iterator<T> nonMatching() {
+        return nonMatching;
+    }
+
+    private ArrayDeque<Object> bufferFor(boolean matches) {
+        return matches ? matchingBuffer : nonMatchingBuffer;
+    }
+
+    private boolean advance(boolean side) {
+        ArrayDeque<Object> buffer = bufferFor(side);
+        ArrayDeque<Object> otherBuffer = bufferFor(!side);
+        while (buffer.isEmpty() && iterator.hasNext()) {
+            T element = iterator.next();
+            if (predicate.evaluate(element) == side) {
+                buffer.addLast(mask(element));
+            } else {
+                if (otherBuffer.size() >= bufferCapacity) {
+                    throw new IllegalStateException(
+                            "Partition buffer capacity of " + bufferCapacity + " exceeded.");
+                }
+                otherBuffer.addLast(mask(element));
+            }
+        }
+        return !buffer.isEmpty();
+    }
+
+    private static Object mask(Object element) {
+        return element == null ? NULL : element;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unmask(Object element) {
+        return element == NULL ? null : (T) element;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .append("iterator", iterator)
+                .append("predicate", predicate)
+                .append("bufferCapacity", bufferCapacity)
+                .toString();
+    }
+
+    private class Side implements Iterator<T> {
+        private final boolean matches;
+
+        Side(boolean matches) {
+            this.matches = matches;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return advance(matches);
+        }
+
+        @Override
+        public T next() {
+            if (!advance(matches)) {
+                throw new NoSuchElementException();
+            }
+            return unmask(bufferFor(matches).removeFirst());
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
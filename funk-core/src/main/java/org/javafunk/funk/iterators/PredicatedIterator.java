@@ -13,7 +13,6 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 import org.javafunk.funk.functors.predicates.UnaryPredicate;
 
 import java.util.Iterator;
-import java.util.NoSuchElementException;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
@@ -34,7 +33,7 @@ public class PredicatedIterator<T> extends CachingIterator<T> {
                 return next;
             }
         }
-        throw new NoSuchElementException();
+        return endOfElements();
     }
 
     @Override
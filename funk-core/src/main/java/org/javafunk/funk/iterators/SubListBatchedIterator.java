@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Batches a {@code List} into read-only {@code subList} views rather than
+ * copying each batch. The views are backed by the supplied {@code List}, so
+ * it must not be structurally modified while batches are in use.
+ */
+public class SubListBatchedIterator<T> implements Iterator<Iterable<T>> {
+    private List<T> list;
+    private int batchSize;
+    private int cursor = 0;
+
+    public SubListBatchedIterator(List<T> list, int batchSize) {
+        this.list = checkNotNull(list);
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be greater than zero.");
+        }
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor < list.size();
+    }
+
+    @Override
+    public Iterable<T> next() {
+        if (hasNext()) {
+            int from = cursor;
+            cursor = (int) Math.min((long) from + batchSize, list.size());
+            return unmodifiableList(list.subList(from, cursor));
+        } else {
+            throw new NoSuchElementException();
+        }
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("batchSize", batchSize)
+                .append("cursor", cursor)
+                .append("list", list)
+                .toString();
+    }
+}
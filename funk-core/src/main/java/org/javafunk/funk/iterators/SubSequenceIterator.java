@@ -13,7 +13,6 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 import org.javafunk.funk.functors.Action;
 
 import java.util.Iterator;
-import java.util.NoSuchElementException;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.javafunk.funk.Eagerly.times;
@@ -43,14 +42,14 @@ public class SubSequenceIterator<T> extends CachingIterator<T> {
     @Override
     protected T findNext() {
         if (shouldStop()) {
-            throw new NoSuchElementException();
+            return endOfElements();
         } else {
             progressToNext();
             incrementCursor();
             if (iterator.hasNext()) {
                 return iterator.next();
             } else {
-                throw new NoSuchElementException();
+                return endOfElements();
             }
         }
     }
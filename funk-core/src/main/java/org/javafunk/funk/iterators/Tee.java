@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.javafunk.funk.datastructures.SpillableBuffer;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.apache.commons.lang3.builder.ToStringStyle.SHORT_PREFIX_STYLE;
+
+/**
+ * Splits a single traversal of an {@code Iterator} into a fixed number of
+ * independent consumer {@code Iterator} instances, each of which yields every
+ * element of the underlying {@code Iterator}.
+ *
+ * <p>Whichever consumer is furthest ahead pulls elements from the underlying
+ * {@code Iterator}, which is therefore traversed exactly once. When
+ * constructed from an {@code Iterable}, its {@code Iterator} is only
+ * requested once a consumer first needs an element. Elements are
+ * buffered only until the slowest consumer has passed them, i.e., the buffer
+ * holds the window between the slowest and fastest consumers. Beyond
+ * {@code spillThreshold} elements, the oldest buffered elements are spilled
+ * to disk as described by {@link SpillableBuffer}.</p>
+ *
+ * <p>The buffer is closed, deleting any temporary file, once every consumer
+ * has been exhausted, or earlier by {@link #close()}, after which the
+ * consumers can no longer be used.</p>
+ *
+ * <p>Consumers may be used from different threads; access to the underlying
+ * {@code Iterator} and the buffer is synchronised on the {@code Tee}.</p>
+ */
+public class Tee<T> implements Closeable {
+    private final Iterable<? extends T> iterable;
+    private final SpillableBuffer<T> buffer;
+    private final long[] positions;
+    private final List<Iterator<T>> consumers;
+    private Iterator<? extends T> iterator;
+    private boolean exhausted;
+    private boolean closed;
+
+    public Tee(Iterator<? extends T> iterator, int numberOfConsumers, int spillThreshold) {
+        this(null, checkNotNull(iterator), numberOfConsumers, spillThreshold);
+    }
+
+    public Tee(Iterable<? extends T> iterable, int numberOfConsumers, int spillThreshold) {
+        this(checkNotNull(iterable), null, numberOfConsumers, spillThreshold);
+    }
+
+    private Tee(Iterable<? extends T> iterable, Iterator<? extends T> iterator, int numberOfConsumers, int spillThreshold) {
+        if (numberOfConsumers <= 0) {
+            throw new IllegalArgumentException("Number of consumers must be greater than zero.");
+        }
+        this.iterable = iterable;
+        this.iterator = iterator;
+        this.buffer = new SpillableBuffer<T>(spillThreshold);
+        this.positions = new long[numberOfConsumers];
+        this.consumers = new ArrayList<Iterator<T>>(numberOfConsumers);
+        for (int i = 0; i < numberOfConsumers; i++) {
+            consumers.add(new Consumer(i));
+        }
+    }
+
+    public Iterator<T> consumer(int index) {
+        if (index < 0 || index >= consumers.size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Consumers: " + consumers.size());
+        }
+        return consumers.get(index);
+    }
+
+    public synchronized long bufferedCount() {
+        return buffer.end() - buffer.start();
+    }
+
+    @Override public synchronized void close() {
+        closed = true;
+        buffer.close();
+    }
+
+    @Override public synchronized String toString() {
+        return new ToStringBuilder(this, SHORT_PREFIX_STYLE)
+                .append("iterator", iterator)
+                .append("buffer", buffer)
+                .append("consumers", consumers.size())
+                .toString();
+    }
+
+    private synchronized boolean hasNext(int consumer) {
+        if (closed) {
+            throw new IllegalStateException("A tee cannot be consumed once closed.");
+        }
+        return positions[consumer] < buffer.end() || pull();
+    }
+
+    private synchronized T next(int consumer) {
+        if (!hasNext(consumer)) {
+            throw new NoSuchElementException();
+        }
+        long position = positions[consumer];
+        T next = buffer.get(position);
+        positions[consumer] = position + 1;
+        if (position == buffer.start()) {
+            buffer.trimTo(slowestPosition());
+            if (exhausted && buffer.isEmpty()) {
+                buffer.close();
+            }
+        }
+        return next;
+    }
+
+    private boolean pull() {
+        if (!exhausted && iterator == null) {
+            iterator = iterable.iterator();
+        }
+        if (!exhausted && iterator.hasNext()) {
+            buffer.add(iterator.next());
+            return true;
+        }
+        exhausted = true;
+        return false;
+    }
+
+    private long slowestPosition() {
+        long slowest = Long.MAX_VALUE;
+        for (long position : positions) {
+            slowest = Math.min(slowest, position);
+        }
+        return slowest;
+    }
+
+    private class Consumer implements Iterator<T> {
+        private final int index;
+
+        Consumer(int index) {
+            this.index = index;
+        }
+
+        @Override public boolean hasNext() {
+            return Tee.this.hasNext(index);
+        }
+
+        @Override public T next() {
+            return Tee.this.next(index);
+        }
+
+        @Override public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
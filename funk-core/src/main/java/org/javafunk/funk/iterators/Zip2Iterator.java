@@ -0,0 +1,61 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.datastructures.tuples.Pair;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Zips two {@code Iterator} instances into {@code Pair} instances,
+ * stopping as soon as any of them is exhausted. Unlike {@link ZippedIterator},
+ * each {@code Pair} is constructed directly from the underlying iterators
+ * without any intermediate collections.
+ */
+public class Zip2Iterator<R, S> implements Iterator<Pair<R, S>> {
+    private final Iterator<? extends R> first;
+    private final Iterator<? extends S> second;
+
+    public Zip2Iterator(
+            Iterator<? extends R> first,
+            Iterator<? extends S> second) {
+        this.first = checkNotNull(first);
+        this.second = checkNotNull(second);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return first.hasNext() && second.hasNext();
+    }
+
+    @Override
+    public Pair<R, S> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return new Pair<R, S>(first.next(), second.next());
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("first", first)
+                .append("second", second)
+                .toString();
+    }
+}
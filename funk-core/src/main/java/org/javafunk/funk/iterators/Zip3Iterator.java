@@ -0,0 +1,65 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.datastructures.tuples.Triple;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Zips three {@code Iterator} instances into {@code Triple} instances,
+ * stopping as soon as any of them is exhausted. Unlike {@link ZippedIterator},
+ * each {@code Triple} is constructed directly from the underlying iterators
+ * without any intermediate collections.
+ */
+public class Zip3Iterator<R, S, T> implements Iterator<Triple<R, S, T>> {
+    private final Iterator<? extends R> first;
+    private final Iterator<? extends S> second;
+    private final Iterator<? extends T> third;
+
+    public Zip3Iterator(
+            Iterator<? extends R> first,
+            Iterator<? extends S> second,
+            Iterator<? extends T> third) {
+        this.first = checkNotNull(first);
+        this.second = checkNotNull(second);
+        this.third = checkNotNull(third);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return first.hasNext() && second.hasNext() && third.hasNext();
+    }
+
+    @Override
+    public Triple<R, S, T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return new Triple<R, S, T>(first.next(), second.next(), third.next());
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("first", first)
+                .append("second", second)
+                .append("third", third)
+                .toString();
+    }
+}
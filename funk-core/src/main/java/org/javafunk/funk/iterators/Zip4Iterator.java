@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.datastructures.tuples.Quadruple;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Zips four {@code Iterator} instances into {@code Quadruple} instances,
+ * stopping as soon as any of them is exhausted. Unlike {@link ZippedIterator},
+ * each {@code Quadruple} is constructed directly from the underlying iterators
+ * without any intermediate collections.
+ */
+public class Zip4Iterator<R, S, T, U> implements Iterator<Quadruple<R, S, T, U>> {
+    private final Iterator<? extends R> first;
+    private final Iterator<? extends S> second;
+    private final Iterator<? extends T> third;
+    private final Iterator<? extends U> fourth;
+
+    public Zip4Iterator(
+            Iterator<? extends R> first,
+            Iterator<? extends S> second,
+            Iterator<? extends T> third,
+            Iterator<? extends U> fourth) {
+        this.first = checkNotNull(first);
+        this.second = checkNotNull(second);
+        this.third = checkNotNull(third);
+        this.fourth = checkNotNull(fourth);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return first.hasNext() && second.hasNext() && third.hasNext() && fourth.hasNext();
+    }
+
+    @Override
+    public Quadruple<R, S, T, U> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return new Quadruple<R, S, T, U>(first.next(), second.next(), third.next(), fourth.next());
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("first", first)
+                .append("second", second)
+                .append("third", third)
+                .append("fourth", fourth)
+                .toString();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.datastructures.tuples.Quintuple;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Zips five {@code Iterator} instances into {@code Quintuple} instances,
+ * stopping as soon as any of them is exhausted. Unlike {@link ZippedIterator},
+ * each {@code Quintuple} is constructed directly from the underlying iterators
+ * without any intermediate collections.
+ */
+public class Zip5Iterator<R, S, T, U, V> implements Iterator<Quintuple<R, S, T, U, V>> {
+    private final Iterator<? extends R> first;
+    private final Iterator<? extends S> second;
+    private final Iterator<? extends T> third;
+    private final Iterator<? extends U> fourth;
+    private final Iterator<? extends V> fifth;
+
+    public Zip5Iterator(
+            Iterator<? extends R> first,
+            Iterator<? extends S> second,
+            Iterator<? extends T> third,
+            Iterator<? extends U> fourth,
+            Iterator<? extends V> fifth) {
+        this.first = checkNotNull(first);
+        this.second = checkNotNull(second);
+        this.third = checkNotNull(third);
+        this.fourth = checkNotNull(fourth);
+        this.fifth = checkNotNull(fifth);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return first.hasNext() &&
+                second.hasNext() &&
+                third.hasNext() &&
+                fourth.hasNext() &&
+                fifth.hasNext();
+    }
+
+    @Override
+    public Quintuple<R, S, T, U, V> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return new Quintuple<R, S, T, U, V>(
+                first.next(),
+                second.next(),
+                third.next(),
+                fourth.next(),
+                fifth.next());
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("first", first)
+                .append("second", second)
+                .append("third", third)
+                .append("fourth", fourth)
+                .append("fifth", fifth)
+                .toString();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.datastructures.tuples.Sextuple;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Zips six {@code Iterator} instances into {@code Sextuple} instances,
+ * stopping as soon as any of them is exhausted. Unlike {@link ZippedIterator},
+ * each {@code Sextuple} is constructed directly from the underlying iterators
+ * without any intermediate collections.
+ */
+public class Zip6Iterator<R, S, T, U, V, W> implements Iterator<Sextuple<R, S, T, U, V, W>> {
+    private final Iterator<? extends R> first;
+    private final Iterator<? extends S> second;
+    private final Iterator<? extends T> third;
+    private final Iterator<? extends U> fourth;
+    private final Iterator<? extends V> fifth;
+    private final Iterator<? extends W> sixth;
+
+    public Zip6Iterator(
+            Iterator<? extends R> first,
+            Iterator<? extends S> second,
+            Iterator<? extends T> third,
+            Iterator<? extends U> fourth,
+            Iterator<? extends V> fifth,
+            Iterator<? extends W> sixth) {
+        this.first = checkNotNull(first);
+        this.second = checkNotNull(second);
+        this.third = checkNotNull(third);
+        this.fourth = checkNotNull(fourth);
+        this.fifth = checkNotNull(fifth);
+        this.sixth = checkNotNull(sixth);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return first.hasNext() &&
+                second.hasNext() &&
+                third.hasNext() &&
+                fourth.hasNext() &&
+                fifth.hasNext() &&
+                sixth.hasNext();
+    }
+
+    @Override
+    public Sextuple<R, S, T, U, V, W> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return new Sextuple<R, S, T, U, V, W>(
+                first.next(),
+                second.next(),
+                third.next(),
+                fourth.next(),
+                fifth.next(),
+                sixth.next());
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("first", first)
+                .append("second", second)
+                .append("third", third)
+                .append("fourth", fourth)
+                .append("fifth", fifth)
+                .append("sixth", sixth)
+                .toString();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.datastructures.tuples.Nonuple;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Zips nine {@code Iterator} instances into {@code Nonuple} instances,
+ * stopping as soon as any of them is exhausted. Unlike {@link ZippedIterator},
+ * each {@code Nonuple} is constructed directly from the underlying iterators
+ * without any intermediate collections.
+ */
+public class Zip9Iterator<R, S, T, U, V, W, X, Y, Z> implements Iterator<Nonuple<R, S, T, U, V, W, X, Y, Z>> {
+    private final Iterator<? extends R> first;
+    private final Iterator<? extends S> second;
+    private final Iterator<? extends T> third;
+    private final Iterator<? extends U> fourth;
+    private final Iterator<? extends V> fifth;
+    private final Iterator<? extends W> sixth;
+    private final Iterator<? extends X> seventh;
+    private final Iterator<? extends Y> eighth;
+    private final Iterator<? extends Z> ninth;
+
+    public Zip9Iterator(
+            Iterator<? extends R> first,
+            Iterator<? extends S> second,
+            Iterator<? extends T> third,
+            Iterator<? extends U> fourth,
+            Iterator<? extends V> fifth,
+            Iterator<? extends W> sixth,
+            Iterator<? extends X> seventh,
+            Iterator<? extends Y> eighth,
+            Iterator<? extends Z> ninth) {
+        this.first = checkNotNull(first);
+        this.second = checkNotNull(second);
+        this.third = checkNotNull(third);
+        this.fourth = checkNotNull(fourth);
+        this.fifth = checkNotNull(fifth);
+        this.sixth = checkNotNull(sixth);
+        this.seventh = checkNotNull(seventh);
+        this.eighth = checkNotNull(eighth);
+        this.ninth = checkNotNull(ninth);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return first.hasNext() &&
+                second.hasNext() &&
+                third.hasNext() &&
+                fourth.hasNext() &&
+                fifth.hasNext() &&
+                sixth.hasNext() &&
+                seventh.hasNext() &&
+                eighth.hasNext() &&
+                ninth.hasNext();
+    }
+
+    @Override
+    public Nonuple<R, S, T, U, V, W, X, Y, Z> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return new Nonuple<R, S, T, U, V, W, X, Y, Z>(
+                first.next(),
+                second.next(),
+                third.next(),
+                fourth.next(),
+                fifth.next(),
+                sixth.next(),
+                seventh.next(),
+                eighth.next(),
+                ninth.next());
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("first", first)
+                .append("second", second)
+                .append("third", third)
+                .append("fourth", fourth)
+                .append("fifth", fifth)
+                .append("sixth", sixth)
+                .append("seventh", seventh)
+                .append("eighth", eighth)
+                .append("ninth", ninth)
+                .toString();
+    }
+}
@@ -2,11 +2,11 @@ package org.javafunk.funk.iterators;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
-import org.javafunk.funk.Eagerly;
-import org.javafunk.funk.functors.Mapper;
-import org.javafunk.funk.functors.Predicate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -14,29 +14,35 @@ import static org.javafunk.funk.Checks.returnOrThrowIfContainsNull;
 
 public class ZippedIterator implements Iterator<Iterable<?>> {
     private final Iterable<? extends Iterator<?>> iterators;
+    private final Iterator<?>[] iteratorArray;
 
     public ZippedIterator(Iterable<? extends Iterator<?>> iterators) {
         this.iterators = returnOrThrowIfContainsNull(checkNotNull(iterators));
+        List<Iterator<?>> iteratorList = new ArrayList<Iterator<?>>();
+        for (Iterator<?> iterator : iterators) {
+            iteratorList.add(iterator);
+        }
+        this.iteratorArray = iteratorList.toArray(new Iterator<?>[iteratorList.size()]);
     }
 
     public boolean hasNext() {
-        return Eagerly.all(iterators, new Predicate<Iterator<?>>() {
-            public boolean evaluate(Iterator<?> iterator) {
-                return iterator.hasNext();
+        for (Iterator<?> iterator : iteratorArray) {
+            if (!iterator.hasNext()) {
+                return false;
             }
-        });
+        }
+        return true;
     }
 
     public Iterable<?> next() {
-        if (hasNext()) {
-            return Eagerly.map(iterators, new Mapper<Iterator<?>, Object>() {
-                public Object map(Iterator<?> iterator) {
-                    return iterator.next();
-                }
-            });
-        } else {
+        if (!hasNext()) {
             throw new NoSuchElementException();
         }
+        Object[] values = new Object[iteratorArray.length];
+        for (int i = 0; i < iteratorArray.length; i++) {
+            values[i] = iteratorArray[i].next();
+        }
+        return Arrays.asList(values);
     }
 
     public void remove() {
@@ -0,0 +1,253 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.memoization;
+
+import com.google.common.base.Throwables;
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+
+import java.util.Comparator;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.util.concurrent.Uninterruptibles.getUninterruptibly;
+
+/**
+ * A thread safe cache of the results of a function, bounded as described by
+ * a {@link MemoizationSpec}.
+ *
+ * <p>Results are computed at most once per key at a time: if several threads
+ * request the same missing key concurrently, one computes the result and the
+ * others wait for it. If the computation throws, the exception is rethrown to
+ * all waiting threads and nothing is retained, so the next request computes
+ * the result again. {@code null} keys and results are supported.</p>
+ *
+ * <p>For a bounded cache, the order in which results are evicted is tracked
+ * under a lock which requests only try to acquire, so under heavy contention
+ * some accesses are not recorded and eviction is approximate. Expired results
+ * are discarded when they are next requested or when they are evicted.</p>
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the results.
+ */
+public class MemoizationCache<K, V> {
+    private static final Object NULL_KEY = new Object();
+
+    private final MemoizationSpec spec;
+    private final ConcurrentMap<Object, Entry<V>> entries = new ConcurrentHashMap<Object, Entry<V>>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TreeSet<Entry<V>> evictionOrder;
+    private long sequence;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong expirationCount = new AtomicLong();
+
+    public MemoizationCache(MemoizationSpec spec) {
+        this.spec = checkNotNull(spec);
+        this.evictionOrder = new TreeSet<Entry<V>>(spec.getEviction() == MemoizationSpec.Eviction.LEAST_FREQUENTLY_USED
+                ? new LeastFrequentlyUsedFirst()
+                : new LeastRecentlyUsedFirst());
+    }
+
+    /**
+     * Returns the result for the supplied key, computing it using the supplied
+     * loader if it is not already present.
+     *
+     * @param key    The key whose result is required.
+     * @param loader The {@code UnaryFunction} computing the result for a key.
+     * @return The result for the supplied key.
+     */
+    public V get(final K key, final UnaryFunction<? super K, ? extends V> loader) {
+        checkNotNull(loader);
+        Object entryKey = key == null ? NULL_KEY : key;
+        while (true) {
+            Entry<V> entry = entries.get(entryKey);
+            if (entry == null) {
+                Entry<V> created = new Entry<V>(entryKey, new FutureTask<V>(new Callable<V>() {
+                    @Override public V call() {
+                        return loader.call(key);
+                    }
+                }));
+                entry = entries.putIfAbsent(entryKey, created);
+                if (entry == null) {
+                    missCount.incrementAndGet();
+                    return load(created);
+                }
+            }
+            if (isExpired(entry)) {
+                if (entries.remove(entryKey, entry)) {
+                    expirationCount.incrementAndGet();
+                    forget(entry);
+                }
+                continue;
+            }
+            hitCount.incrementAndGet();
+            recordAccess(entry);
+            return resultOf(entry);
+        }
+    }
+
+    /**
+     * @return The number of results retained or being computed.
+     */
+    public long size() {
+        return entries.size();
+    }
+
+    /**
+     * Discards all retained results. Statistics are not reset.
+     */
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+            for (Entry<V> entry : evictionOrder) {
+                entry.tracked = false;
+            }
+            evictionOrder.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public MemoizationStatistics statistics() {
+        return new MemoizationStatistics(
+                hitCount.get(), missCount.get(), evictionCount.get(), expirationCount.get());
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("spec", spec)
+                .append("size", size())
+                .append("statistics", statistics())
+                .toString();
+    }
+
+    private V load(Entry<V> entry) {
+        entry.task.run();
+        try {
+            V result = getUninterruptibly(entry.task);
+            entry.writtenAt = spec.isExpiring() ? spec.getTicker().call() : 0;
+            entry.loaded = true;
+            track(entry);
+            return result;
+        } catch (ExecutionException exception) {
+            entries.remove(entry.key, entry);
+            throw Throwables.propagate(exception.getCause());
+        }
+    }
+
+    private V resultOf(Entry<V> entry) {
+        try {
+            return getUninterruptibly(entry.task);
+        } catch (ExecutionException exception) {
+            throw Throwables.propagate(exception.getCause());
+        }
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return spec.isExpiring()
+                && entry.loaded
+                && spec.getTicker().call() - entry.writtenAt >= spec.getExpiryNanos();
+    }
+
+    private void track(Entry<V> entry) {
+        if (!spec.isBounded()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (entries.get(entry.key) != entry) {
+                return;
+            }
+            entry.sequence = ++sequence;
+            entry.frequency = 1;
+            entry.tracked = true;
+            evictionOrder.add(entry);
+            while (evictionOrder.size() > spec.getMaximumSize()) {
+                Entry<V> evicted = evictionOrder.pollFirst();
+                evicted.tracked = false;
+                if (entries.remove(evicted.key, evicted)) {
+                    evictionCount.incrementAndGet();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordAccess(Entry<V> entry) {
+        if (!spec.isBounded() || !lock.tryLock()) {
+            return;
+        }
+        try {
+            if (entry.tracked) {
+                evictionOrder.remove(entry);
+                entry.sequence = ++sequence;
+                entry.frequency++;
+                evictionOrder.add(entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void forget(Entry<V> entry) {
+        if (!spec.isBounded()) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (entry.tracked) {
+                evictionOrder.remove(entry);
+                entry.tracked = false;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static class Entry<V> {
+        private final Object key;
+        private final FutureTask<V> task;
+        private volatile long writtenAt;
+        private volatile boolean loaded;
+        private long sequence;
+        private long frequency;
+        private boolean tracked;
+
+        Entry(Object key, FutureTask<V> task) {
+            this.key = key;
+            this.task = task;
+        }
+    }
+
+    private static class LeastRecentlyUsedFirst implements Comparator<Entry<?>> {
+        @Override public int compare(Entry<?> first, Entry<?> second) {
+            return Long.compare(first.sequence, second.sequence);
+        }
+    }
+
+    private static class LeastFrequentlyUsedFirst implements Comparator<Entry<?>> {
+        @Override public int compare(Entry<?> first, Entry<?> second) {
+            int byFrequency = Long.compare(first.frequency, second.frequency);
+            return byFrequency != 0 ? byFrequency : Long.compare(first.sequence, second.sequence);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.memoization;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.functors.functions.NullaryFunction;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * An immutable description of how a {@link MemoizationCache} should bound
+ * the results it retains.
+ *
+ * <p>By default, a cache is unbounded and results never expire. A maximum
+ * size can be imposed, in which case the least recently used or least
+ * frequently used result is evicted when the maximum is exceeded, and results
+ * can be made to expire a fixed duration after they were computed. Each
+ * {@code with} method returns a new {@code MemoizationSpec}, leaving the
+ * receiver unchanged.</p>
+ */
+public class MemoizationSpec {
+    /**
+     * The policy used to choose a result to evict when a bounded
+     * {@link MemoizationCache} exceeds its maximum size.
+     */
+    public enum Eviction {
+        LEAST_RECENTLY_USED,
+        LEAST_FREQUENTLY_USED
+    }
+
+    private static final NullaryFunction<Long> SYSTEM_TICKER = new NullaryFunction<Long>() {
+        @Override public Long call() {
+            return System.nanoTime();
+        }
+    };
+
+    private final long maximumSize;
+    private final Eviction eviction;
+    private final long expiryNanos;
+    private final NullaryFunction<Long> ticker;
+
+    private MemoizationSpec(long maximumSize, Eviction eviction, long expiryNanos, NullaryFunction<Long> ticker) {
+        this.maximumSize = maximumSize;
+        this.eviction = eviction;
+        this.expiryNanos = expiryNanos;
+        this.ticker = ticker;
+    }
+
+    /**
+     * @return A {@code MemoizationSpec} for an unbounded cache whose results
+     *         never expire.
+     */
+    public static MemoizationSpec memoizationSpec() {
+        return new MemoizationSpec(Long.MAX_VALUE, Eviction.LEAST_RECENTLY_USED, 0, SYSTEM_TICKER);
+    }
+
+    /**
+     * @param maximumSize The maximum number of results to retain.
+     * @return A copy of this {@code MemoizationSpec} retaining at most
+     *         {@code maximumSize} results.
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive.
+     */
+    public MemoizationSpec withMaximumSize(long maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be greater than zero.");
+        }
+        return new MemoizationSpec(maximumSize, eviction, expiryNanos, ticker);
+    }
+
+    /**
+     * @param eviction The policy choosing which result to evict when the
+     *                 maximum size is exceeded.
+     * @return A copy of this {@code MemoizationSpec} using the supplied
+     *         eviction policy.
+     */
+    public MemoizationSpec withEviction(Eviction eviction) {
+        return new MemoizationSpec(maximumSize, checkNotNull(eviction), expiryNanos, ticker);
+    }
+
+    /**
+     * @param duration The length of time for which a result is retained after
+     *                 it was computed.
+     * @param unit     The unit of {@code duration}.
+     * @return A copy of this {@code MemoizationSpec} whose results expire the
+     *         supplied duration after they were computed.
+     * @throws IllegalArgumentException if {@code duration} is not positive.
+     */
+    public MemoizationSpec withExpiryAfterWrite(long duration, TimeUnit unit) {
+        if (duration <= 0) {
+            throw new IllegalArgumentException("Expiry duration must be greater than zero.");
+        }
+        return new MemoizationSpec(maximumSize, eviction, checkNotNull(unit).toNanos(duration), ticker);
+    }
+
+    /**
+     * @param ticker A {@code NullaryFunction} returning the current time in
+     *               nanoseconds, used to determine expiry. Defaults to
+     *               {@code System.nanoTime()}.
+     * @return A copy of this {@code MemoizationSpec} using the supplied ticker.
+     */
+    public MemoizationSpec withTicker(NullaryFunction<Long> ticker) {
+        return new MemoizationSpec(maximumSize, eviction, expiryNanos, checkNotNull(ticker));
+    }
+
+    public long getMaximumSize() {
+        return maximumSize;
+    }
+
+    public boolean isBounded() {
+        return maximumSize != Long.MAX_VALUE;
+    }
+
+    public Eviction getEviction() {
+        return eviction;
+    }
+
+    public long getExpiryNanos() {
+        return expiryNanos;
+    }
+
+    public boolean isExpiring() {
+        return expiryNanos > 0;
+    }
+
+    public NullaryFunction<Long> getTicker() {
+        return ticker;
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("maximumSize", maximumSize)
+                .append("eviction", eviction)
+                .append("expiryNanos", expiryNanos)
+                .toString();
+    }
+}
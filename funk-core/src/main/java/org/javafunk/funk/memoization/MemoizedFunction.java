@@ -0,0 +1,51 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.memoization;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@code UnaryFunction} returning the results of a delegate
+ * {@code UnaryFunction} retained in a {@link MemoizationCache}.
+ *
+ * @param <A> The type of the argument.
+ * @param <R> The type of the result.
+ */
+public class MemoizedFunction<A, R> implements UnaryFunction<A, R> {
+    private final UnaryFunction<? super A, ? extends R> function;
+    private final MemoizationCache<A, R> cache;
+
+    public MemoizedFunction(UnaryFunction<? super A, ? extends R> function, MemoizationCache<A, R> cache) {
+        this.function = checkNotNull(function);
+        this.cache = checkNotNull(cache);
+    }
+
+    @Override public R call(A argument) {
+        return cache.get(argument, function);
+    }
+
+    public MemoizationStatistics statistics() {
+        return cache.statistics();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("function", function)
+                .append("cache", cache)
+                .toString();
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.predicates;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.commons.lang3.builder.ToStringStyle;
+import org.javafunk.funk.functors.Predicate;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * {@code CompiledPredicate} is a {@code Predicate} implementation that
+ * flattens a tree of {@link AndPredicate}, {@link OrPredicate} and
+ * {@link NotPredicate} instances into fixed arrays of delegate
+ * {@code UnaryPredicate} instances, evaluated with plain indexed loops.
+ *
+ * <p>During compilation, nested conjunctions and disjunctions are merged
+ * into their parents, double negations are removed and
+ * {@link TruePredicate} and {@link FalsePredicate} instances are folded
+ * away. The result of evaluating a {@code CompiledPredicate} is always the
+ * same as that of evaluating the predicate it was compiled from.</p>
+ *
+ * <p>An adaptive {@code CompiledPredicate}, obtained using
+ * {@link #compileAdaptively(UnaryPredicate)} or
+ * {@link #compileAllAdaptively(Iterable)}, additionally records how often
+ * each delegate short circuits its conjunction or disjunction and,
+ * periodically, how long each takes to evaluate. Every
+ * {@value #REORDERING_INTERVAL} evaluations the delegates are reordered so
+ * that those which are cheap and most likely to short circuit are evaluated
+ * first. Adaptive compilation must therefore only be used for delegates that
+ * are free of side effects and that do not rely on being evaluated in the
+ * order supplied, e.g., a delegate must not assume that an earlier
+ * delegate has already rejected {@code null} values. Statistics are not
+ * synchronised, so under concurrent use they are approximate. The
+ * delegates are reordered by one thread at a time, from a snapshot of
+ * those statistics, so results are unaffected by concurrent use.</p>
+ *
+ * @param <T> The type of object this {@code CompiledPredicate} can evaluate.
+ */
+public class CompiledPredicate<T> implements Predicate<T> {
+    static final int REORDERING_INTERVAL = 4096;
+    private static final int TIMING_SAMPLE_MASK = 15;
+
+    private static final UnaryPredicate<Object> TRUE = new Constant(true);
+    private static final UnaryPredicate<Object> FALSE = new Constant(false);
+
+    private final UnaryPredicate<Object> root;
+
+    private CompiledPredicate(UnaryPredicate<Object> root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the supplied {@code UnaryPredicate}, flattening any tree
+     * of {@code AndPredicate}, {@code OrPredicate} and {@code NotPredicate}
+     * instances it consists of.
+     *
+     * @param predicate The {@code UnaryPredicate} to compile.
+     * @param <T>       The type of object the compiled predicate can evaluate.
+     * @return A {@code CompiledPredicate} equivalent to the supplied
+     *         {@code UnaryPredicate}.
+     */
+    public static <T> CompiledPredicate<T> compile(UnaryPredicate<? super T> predicate) {
+        return new CompiledPredicate<T>(new Compiler(false).compile(checkNotNull(predicate)));
+    }
+
+    /**
+     * Compiles the conjunction of all {@code UnaryPredicate} instances in
+     * the supplied {@code Iterable}, i.e., the compiled predicate is satisfied
+     * only if all of the supplied predicates are satisfied.
+     *
+     * @param predicates The {@code UnaryPredicate} instances to compile.
+     * @param <T>        The type of object the compiled predicate can evaluate.
+     * @return A {@code CompiledPredicate} equivalent to an {@code AndPredicate}
+     *         over the supplied {@code UnaryPredicate} instances.
+     */
+    public static <T> CompiledPredicate<T> compileAll(Iterable<? extends UnaryPredicate<? super T>> predicates) {
+        return new CompiledPredicate<T>(new Compiler(false).compileJunction(false, checkNotNull(predicates)));
+    }
+
+    /**
+     * Compiles the supplied {@code UnaryPredicate} as with
+     * {@link #compile(UnaryPredicate)} such that the delegates of each
+     * conjunction or disjunction are reordered according to their observed
+     * selectivity and cost.
+     *
+     * @param predicate The {@code UnaryPredicate} to compile.
+     * @param <T>       The type of object the compiled predicate can evaluate.
+     * @return An adaptive {@code CompiledPredicate} equivalent to the
+     *         supplied {@code UnaryPredicate}.
+     */
+    public static <T> CompiledPredicate<T> compileAdaptively(UnaryPredicate<? super T> predicate) {
+        return new CompiledPredicate<T>(new Compiler(true).compile(checkNotNull(predicate)));
+    }
+
+    /**
+     * Compiles the conjunction of all {@code UnaryPredicate} instances in
+     * the supplied {@code Iterable} as with {@link #compileAll(Iterable)}
+     * such that the delegates of each conjunction or disjunction are
+     * reordered according to their observed selectivity and cost.
+     *
+     * @param predicates The {@code UnaryPredicate} instances to compile.
+     * @param <T>        The type of object the compiled predicate can evaluate.
+     * @return An adaptive {@code CompiledPredicate} equivalent to an
+     *         {@code AndPredicate} over the supplied {@code UnaryPredicate}
+     *         instances.
+     */
+    public static <T> CompiledPredicate<T> compileAllAdaptively(Iterable<? extends UnaryPredicate<? super T>> predicates) {
+        return new CompiledPredicate<T>(new Compiler(true).compileJunction(false, checkNotNull(predicates)));
+    }
+
+    @Override public boolean evaluate(T instance) {
+        return root.evaluate(instance);
+    }
+
+    @Override public String toString() {
+        return new ToStringBuilder(this, ToStringStyle.SHORT_PREFIX_STYLE)
+                .append("predicate", root)
+                .toString();
+    }
+
+    private static class Compiler {
+        private final boolean adaptive;
+
+        Compiler(boolean adaptive) {
+            this.adaptive = adaptive;
+        }
+
+        @SuppressWarnings("unchecked")
+        UnaryPredicate<Object> compile(UnaryPredicate<?> predicate) {
+            if (predicate instanceof CompiledPredicate) {
+                return ((CompiledPredicate<?>) predicate).root;
+            }
+            if (predicate instanceof AndPredicate) {
+                return compileJunction(false, ((AndPredicate<?>) predicate).getPredicates());
+            }
+            if (predicate instanceof OrPredicate) {
+                return compileJunction(true, ((OrPredicate<?>) predicate).getPredicates());
+            }
+            if (predicate instanceof NotPredicate) {
+                return negate(compile(((NotPredicate<?>) predicate).getPredicate()));
+            }
+            if (predicate instanceof TruePredicate) {
+                return TRUE;
+            }
+            if (predicate instanceof FalsePredicate) {
+                return FALSE;
+            }
+            return (UnaryPredicate<Object>) checkNotNull(predicate);
+        }
+
+        UnaryPredicate<Object> compileJunction(boolean shortCircuitResult, Iterable<? extends UnaryPredicate<?>> predicates) {
+            UnaryPredicate<Object> shortCircuit = shortCircuitResult ? TRUE : FALSE;
+            List<UnaryPredicate<Object>> terms = new ArrayList<UnaryPredicate<Object>>();
+            for (UnaryPredicate<?> predicate : checkNotNull(predicates)) {
+                UnaryPredicate<Object> term = compile(predicate);
+                if (term == shortCircuit) {
+                    return shortCircuit;
+                }
+                if (term instanceof Constant) {
+                    continue;
+                }
+                if (term instanceof Compound && ((Compound) term).shortCircuitResult() == shortCircuitResult) {
+                    terms.addAll(((Compound) term).terms());
+                } else {
+                    terms.add(term);
+                }
+            }
+            if (terms.isEmpty()) {
+                return shortCircuitResult ? FALSE : TRUE;
+            }
+            if (terms.size() == 1) {
+                return terms.get(0);
+            }
+            return adaptive
+                    ? new AdaptiveJunction(shortCircuitResult, terms)
+                    : new Junction(shortCircuitResult, terms);
+        }
+
+        private UnaryPredicate<Object> negate(UnaryPredicate<Object> predicate) {
+            if (predicate instanceof Negation) {
+                return ((Negation) predicate).predicate;
+            }
+            if (predicate instanceof Constant) {
+                return predicate == TRUE ? FALSE : TRUE;
+            }
+            return new Negation(predicate);
+        }
+    }
+
+    private static class Constant implements UnaryPredicate<Object> {
+        private final boolean result;
+
+        Constant(boolean result) {
+            this.result = result;
+        }
+
+        @Override public boolean evaluate(Object instance) {
+            return result;
+        }
+
+        @Override public String toString() {
+            return String.valueOf(result);
+        }
+    }
+
+    private static class Negation implements UnaryPredicate<Object> {
+        private final UnaryPredicate<Object> predicate;
+
+        Negation(UnaryPredicate<Object> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override public boolean evaluate(Object instance) {
+            return !predicate.evaluate(instance);
+        }
+
+        @Override public String toString() {
+            return "not(" + predicate + ")";
+        }
+    }
+
+    /**
+     * A conjunction or disjunction of terms, either of which may be merged
+     * into an enclosing junction of the same kind during compilation.
+     */
+    private interface Compound extends UnaryPredicate<Object> {
+        boolean shortCircuitResult();
+
+        List<UnaryPredicate<Object>> terms();
+    }
+
+    private static class Junction implements Compound {
+        private final boolean shortCircuitResult;
+        private final UnaryPredicate<Object>[] terms;
+
+        Junction(boolean shortCircuitResult, List<UnaryPredicate<Object>> terms) {
+            this.shortCircuitResult = shortCircuitResult;
+            this.terms = arrayOf(terms);
+        }
+
+        @Override public boolean shortCircuitResult() {
+            return shortCircuitResult;
+        }
+
+        @Override public List<UnaryPredicate<Object>> terms() {
+            return Arrays.asList(terms);
+        }
+
+        @Override public boolean evaluate(Object instance) {
+            UnaryPredicate<Object>[] terms = this.terms;
+            for (int i = 0; i < terms.length; i++) {
+                if (terms[i].evaluate(instance) == shortCircuitResult) {
+                    return shortCircuitResult;
+                }
+            }
+            return !shortCircuitResult;
+        }
+
+        @Override public String toString() {
+            return (shortCircuitResult ? "or" : "and") + Arrays.toString(terms);
+        }
+    }
+
+    private static class AdaptiveJunction implements Compound {
+        private final boolean shortCircuitResult;
+        private final AtomicBoolean reordering = new AtomicBoolean();
+        private volatile Term[] terms;
+        private long evaluations;
+
+        AdaptiveJunction(boolean shortCircuitResult, List<UnaryPredicate<Object>> predicates) {
+            this.shortCircuitResult = shortCircuitResult;
+            this.terms = new Term[predicates.size()];
+            for (int i = 0; i < terms.length; i++) {
+                terms[i] = new Term(predicates.get(i));
+            }
+        }
+
+        @Override public boolean shortCircuitResult() {
+            return shortCircuitResult;
+        }
+
+        @Override public List<UnaryPredicate<Object>> terms() {
+            List<UnaryPredicate<Object>> predicates = new ArrayList<UnaryPredicate<Object>>();
+            for (Term term : terms) {
+                predicates.add(term.predicate);
+            }
+            return predicates;
+        }
+
+        @Override public boolean evaluate(Object instance) {
+            Term[] terms = this.terms;
+            long evaluation = ++evaluations;
+            boolean timed = (evaluation & TIMING_SAMPLE_MASK) == 0;
+            boolean result = !shortCircuitResult;
+            for (int i = 0; i < terms.length; i++) {
+                Term term = terms[i];
+                boolean termResult;
+                if (timed) {
+                    long start = System.nanoTime();
+                    termResult = term.predicate.evaluate(instance);
+                    term.timedNanos += System.nanoTime() - start;
+                    term.timings++;
+                } else {
+                    termResult = term.predicate.evaluate(instance);
+                }
+                term.evaluations++;
+                if (termResult == shortCircuitResult) {
+                    term.shortCircuits++;
+                    result = shortCircuitResult;
+                    break;
+                }
+            }
+            if (evaluation % REORDERING_INTERVAL == 0 && reordering.compareAndSet(false, true)) {
+                try {
+                    reorder(this.terms);
+                } finally {
+                    reordering.set(false);
+                }
+            }
+            return result;
+        }
+
+        private void reorder(Term[] current) {
+            final double[] ranks = new double[current.length];
+            Integer[] order = new Integer[current.length];
+            for (int i = 0; i < current.length; i++) {
+                ranks[i] = current[i].rank();
+                order[i] = i;
+            }
+            Arrays.sort(order, new Comparator<Integer>() {
+                @Override public int compare(Integer first, Integer second) {
+                    return Double.compare(ranks[first], ranks[second]);
+                }
+            });
+            Term[] reordered = new Term[current.length];
+            for (int i = 0; i < order.length; i++) {
+                reordered[i] = current[order[i]];
+                reordered[i].decay();
+            }
+            this.terms = reordered;
+        }
+
+        @Override public String toString() {
+            return (shortCircuitResult ? "or" : "and") + Arrays.toString(terms);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static UnaryPredicate<Object>[] arrayOf(List<UnaryPredicate<Object>> predicates) {
+        return predicates.toArray((UnaryPredicate<Object>[]) new UnaryPredicate<?>[predicates.size()]);
+    }
+
+    private static class Term {
+        private final UnaryPredicate<Object> predicate;
+        private long evaluations;
+        private long shortCircuits;
+        private long timedNanos;
+        private long timings;
+
+        Term(UnaryPredicate<Object> predicate) {
+            this.predicate = predicate;
+        }
+
+        double rank() {
+            double cost = timings == 0 ? 1 : Math.max(1, (double) timedNanos / timings);
+            double shortCircuitProbability = (shortCircuits + 1.0) / (evaluations + 2.0);
+            return cost / shortCircuitProbability;
+        }
+
+        void decay() {
+            evaluations >>= 1;
+            shortCircuits >>= 1;
+            timedNanos >>= 1;
+            timings >>= 1;
+        }
+
+        @Override public String toString() {
+            return String.valueOf(predicate);
+        }
+    }
+}
@@ -59,6 +59,10 @@ public class NotPredicate<T> implements Predicate<T> {
         return !predicate.evaluate(instance);
     }
 
+    UnaryPredicate<? super T> getPredicate() {
+        return predicate;
+    }
+
     /**
      * Implements value equality for {@code NotPredicate} instances. Two
      * {@code NotPredicate}s are considered equal if the {@code UnaryPredicate}
@@ -6,8 +6,6 @@ import org.javafunk.funk.Literals;
 import org.javafunk.funk.functors.Predicate;
 import org.javafunk.funk.functors.predicates.UnaryPredicate;
 
-import static org.javafunk.funk.Eagerly.any;
-
 /**
  * {@code OrPredicate} is a {@code Predicate} implementation that
  * returns {@code true} if any {@code UnaryPredicate} instance that the
@@ -26,6 +24,7 @@ import static org.javafunk.funk.Eagerly.any;
  */
 public class OrPredicate<T> implements Predicate<T> {
     private Iterable<UnaryPredicate<? super T>> predicates;
+    private transient Predicate<T> compiled;
 
     /**
      * Constructs an {@code OrPredicate} instance over all
@@ -59,16 +58,25 @@ public class OrPredicate<T> implements Predicate<T> {
      * instances in the order in which they were supplied to the
      * {@code OrPredicate}.</p>
      *
+     * <p>On first evaluation, the delegate {@code UnaryPredicate} instances
+     * are flattened into a {@link CompiledPredicate}, so any later changes
+     * to the {@code Iterable} supplied at initialisation are not observed.</p>
+     *
      * @param instance An instance of type {@code T} to evaluate.
      * @return {@code true} if any delegate {@code UnaryPredicate} instances
      *         return {@code true}, {@code false} otherwise.
      */
-    @Override public boolean evaluate(final T instance) {
-        return any(predicates, new UnaryPredicate<UnaryPredicate<? super T>>() {
-            @Override public boolean evaluate(UnaryPredicate<? super T> predicate) {
-                return predicate.evaluate(instance);
-            }
-        });
+    @Override public boolean evaluate(T instance) {
+        Predicate<T> compiled = this.compiled;
+        if (compiled == null) {
+            compiled = CompiledPredicate.compile(this);
+            this.compiled = compiled;
+        }
+        return compiled.evaluate(instance);
+    }
+
+    Iterable<UnaryPredicate<? super T>> getPredicates() {
+        return predicates;
     }
 
     /**
@@ -15,6 +15,7 @@ import org.junit.Test;
 import java.util.Collection;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Literals.collectionWith;
 import static org.javafunk.funk.Literals.iterableWith;
 import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
@@ -158,4 +159,25 @@ public class EagerlyFilterRejectPartitionTest {
 
         // Then a NullPointerException is thrown
     }
+
+    @Test
+    public void shouldEvaluateThePredicateOncePerElementWhenPartitioning() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4, 5);
+        final int[] evaluations = new int[1];
+
+        // When
+        Pair<Collection<Integer>, Collection<Integer>> partitionResults = Eagerly.partition(input,
+                new Predicate<Integer>() {
+                    public boolean evaluate(Integer item) {
+                        evaluations[0]++;
+                        return item % 2 == 0;
+                    }
+                });
+
+        // Then
+        assertThat(evaluations[0], is(5));
+        assertThat(partitionResults.getFirst(), hasOnlyItemsInOrder(2, 4));
+        assertThat(partitionResults.getSecond(), hasOnlyItemsInOrder(1, 3, 5));
+    }
 }
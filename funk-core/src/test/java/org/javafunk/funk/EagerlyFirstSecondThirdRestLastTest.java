@@ -1318,4 +1318,29 @@ public class EagerlyFirstSecondThirdRestLastTest {
 
         // Then a NullPointerException is thrown
     }
+
+    @Test
+    public void shouldReturnTheLastElementOfAnIterableContainingNulls() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("first", "second", null);
+
+        // When
+        Option<String> output = Eagerly.last(input);
+
+        // Then
+        assertThat(output.hasValue(), is(true));
+        assertThat(output.get(), is((String) null));
+    }
+
+    @Test
+    public void shouldReturnTheLastNElementsOfAOneShotIterable() throws Exception {
+        // Given
+        Iterable<Integer> input = Iterators.asIterable(listWith(1, 2, 3, 4, 5, 6).iterator());
+
+        // When
+        Collection<Integer> output = Eagerly.lastN(input, 4);
+
+        // Then
+        assertThat(output, hasOnlyItemsInOrder(3, 4, 5, 6));
+    }
 }
@@ -10,6 +10,7 @@ package org.javafunk.funk;
 
 import org.javafunk.funk.datastructures.tuples.Pair;
 import org.javafunk.funk.functors.Indexer;
+import org.javafunk.funk.functors.functions.BinaryFunction;
 import org.junit.Test;
 
 import java.util.Collection;
@@ -128,4 +129,72 @@ public class EagerlyGroupIndexTest {
 
         // Then a NullPointerException is thrown
     }
+
+    @Test
+    public void shouldFoldTheElementsOfEachGroupUsingTheSuppliedReducer() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("apple", "pear", "lemon", "apricot", "orange", "papaya", "banana");
+        Indexer<String, Integer> byLength = new Indexer<String, Integer>() {
+            @Override public Integer index(String string) {
+                return string.length();
+            }
+        };
+        BinaryFunction<String, String, String> initials = new BinaryFunction<String, String, String>() {
+            @Override public String call(String accumulator, String element) {
+                return accumulator + element.charAt(0);
+            }
+        };
+
+        Map<Integer, String> expectedOutput =
+                mapBuilderWithKeyValuePair(4, "p")
+                        .andKeyValuePair(5, "al")
+                        .andKeyValuePair(6, "opb")
+                        .andKeyValuePair(7, "a")
+                        .build();
+
+        // When
+        Map<Integer, String> actualOutput = Eagerly.groupReduce(input, byLength, "", initials);
+
+        // Then
+        assertThat(actualOutput, is(expectedOutput));
+    }
+
+    @Test
+    public void shouldCountTheElementsInEachGroup() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("apple", "pear", "lemon", "apricot", "orange", "papaya", "banana");
+
+        Map<Integer, Long> expectedOutput =
+                mapBuilderWithKeyValuePair(4, 1L)
+                        .andKeyValuePair(5, 2L)
+                        .andKeyValuePair(6, 3L)
+                        .andKeyValuePair(7, 1L)
+                        .build();
+
+        // When
+        Map<Integer, Long> actualOutput = Eagerly.groupCount(input, new Indexer<String, Integer>() {
+            @Override public Integer index(String string) {
+                return string.length();
+            }
+        });
+
+        // Then
+        assertThat(actualOutput, is(expectedOutput));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfTheReducerSuppliedToGroupReduceIsNull() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("apple", "pear");
+        BinaryFunction<Integer, String, Integer> reducer = null;
+
+        // When
+        Eagerly.groupReduce(input, new Indexer<String, Integer>() {
+            @Override public Integer index(String string) {
+                return string.length();
+            }
+        }, 0, reducer);
+
+        // Then a NullPointerException is thrown
+    }
 }
@@ -417,4 +417,17 @@ public class EagerlySliceTest {
 
         // Then a NullPointerException is thrown.
     }
+
+    @Test
+    public void shouldSliceRangesWithoutIteratingThem() throws Exception {
+        // Given
+        Iterable<Integer> input = Sequences.integers(Sequences.increasing());
+
+        // When
+        Collection<Integer> actualOutput = Eagerly.slice(input, -3, null, 1);
+
+        // Then
+        assertThat(actualOutput, hasOnlyItemsInOrder(
+                Integer.MAX_VALUE - 3, Integer.MAX_VALUE - 2, Integer.MAX_VALUE - 1));
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class EagerlySortByTest {
+    private final AtomicInteger keyCalls = new AtomicInteger();
+    private final UnaryFunction<String, Integer> length = new UnaryFunction<String, Integer>() {
+        @Override public Integer call(String input) {
+            keyCalls.incrementAndGet();
+            return input.length();
+        }
+    };
+
+    @Test
+    public void shouldSortElementsByTheirKeys() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("ccc", "a", "dddd", "bb");
+
+        // When
+        List<String> sorted = Eagerly.sortBy(iterable, length);
+
+        // Then
+        assertThat(sorted, hasOnlyItemsInOrder("a", "bb", "ccc", "dddd"));
+    }
+
+    @Test
+    public void shouldComputeEachKeyExactlyOnce() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("eeeee", "ccc", "a", "dddd", "bb", "ffffff");
+
+        // When
+        Eagerly.sortBy(iterable, length);
+
+        // Then
+        assertThat(keyCalls.get(), is(6));
+    }
+
+    @Test
+    public void shouldRetainTheRelativeOrderOfElementsWithEqualKeys() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("bb", "x", "aa", "y", "cc", "z");
+
+        // When
+        List<String> sorted = Eagerly.sortBy(iterable, length);
+
+        // Then
+        assertThat(sorted, hasOnlyItemsInOrder("x", "y", "z", "bb", "aa", "cc"));
+    }
+
+    @Test
+    public void shouldSortByKeysUsingTheSuppliedKeyComparator() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("ccc", "a", "dddd", "bb");
+
+        // When
+        List<String> sorted = Eagerly.sortBy(iterable, length, Collections.<Integer>reverseOrder());
+
+        // Then
+        assertThat(sorted, hasOnlyItemsInOrder("dddd", "ccc", "bb", "a"));
+    }
+
+    @Test
+    public void shouldReturnAnEmptyListWhenSortingAnEmptyIterable() throws Exception {
+        // When
+        List<String> sorted = Eagerly.sortBy(Literals.<String>iterable(), length);
+
+        // Then
+        assertThat(sorted.isEmpty(), is(true));
+    }
+}
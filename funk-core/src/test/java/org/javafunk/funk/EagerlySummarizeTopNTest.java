@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.NumericSummary;
+import org.javafunk.funk.datastructures.Summary;
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.monads.Option;
+import org.junit.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iterable;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.tuple;
+import static org.javafunk.funk.Sequences.increasing;
+import static org.javafunk.funk.Sequences.integers;
+import static org.javafunk.funk.monads.Option.some;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class EagerlySummarizeTopNTest {
+    private static final Comparator<Pair<String, Integer>> BY_SECOND = new Comparator<Pair<String, Integer>>() {
+        @Override public int compare(Pair<String, Integer> first, Pair<String, Integer> second) {
+            return first.getSecond().compareTo(second.getSecond());
+        }
+    };
+
+    @Test
+    public void shouldSummarizeTheCountMinimumAndMaximumInASinglePass() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("m", "c", "x", "a", "q");
+
+        // When
+        Summary<String> summary = Eagerly.summarize(iterable);
+
+        // Then
+        assertThat(summary, is(new Summary<String>(5, some("a"), some("x"))));
+    }
+
+    @Test
+    public void shouldSummarizeAnEmptyIterableWithNoMinimumOrMaximum() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterable();
+
+        // When
+        Summary<Integer> summary = Eagerly.summarize(iterable, new Comparator<Integer>() {
+            @Override public int compare(Integer first, Integer second) {
+                return first.compareTo(second);
+            }
+        });
+
+        // Then
+        assertThat(summary, is(new Summary<Integer>(0, Option.<Integer>none(), Option.<Integer>none())));
+    }
+
+    @Test
+    public void shouldRetainTheFirstOfEquallyMinimalAndMaximalElements() throws Exception {
+        // Given
+        Iterable<Pair<String, Integer>> iterable = iterableWith(
+                tuple("first", 1), tuple("second", 1), tuple("third", 3), tuple("fourth", 3));
+
+        // When
+        Summary<Pair<String, Integer>> summary = Eagerly.summarize(iterable, BY_SECOND);
+
+        // Then
+        assertThat(summary.getMinimum(), is(some(tuple("first", 1))));
+        assertThat(summary.getMaximum(), is(some(tuple("third", 3))));
+    }
+
+    @Test
+    public void shouldSummarizeNumbersIncludingMeanAndVariance() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(2, 4, 4, 4, 5, 5, 7, 9);
+
+        // When
+        NumericSummary summary = Eagerly.summarizeNumbers(iterable);
+
+        // Then
+        assertThat(summary.getCount(), is(8L));
+        assertThat(summary.getMinimum(), is(2.0D));
+        assertThat(summary.getMaximum(), is(9.0D));
+        assertThat(summary.getMean(), is(5.0D));
+        assertThat(summary.getPopulationVariance(), is(4.0D));
+        assertThat(summary.getPopulationStandardDeviation(), is(2.0D));
+        assertThat(summary.getSampleVariance(), is(closeTo(32.0D / 7, 1e-12)));
+    }
+
+    @Test
+    public void shouldComputeTheVarianceAccuratelyForValuesWithALargeMean() throws Exception {
+        // Given
+        Iterable<Double> iterable = iterableWith(1e9 + 4, 1e9 + 7, 1e9 + 13, 1e9 + 16);
+
+        // When
+        NumericSummary summary = Eagerly.summarizeNumbers(iterable);
+
+        // Then
+        assertThat(summary.getSampleVariance(), is(closeTo(30.0D, 1e-9)));
+    }
+
+    @Test
+    public void shouldSummarizeNoNumbersAsNaN() throws Exception {
+        // When
+        NumericSummary summary = Eagerly.summarizeNumbers(Literals.<Double>iterable());
+
+        // Then
+        assertThat(summary.getCount(), is(0L));
+        assertThat(Double.isNaN(summary.getMean()), is(true));
+        assertThat(Double.isNaN(summary.getPopulationVariance()), is(true));
+    }
+
+    @Test
+    public void shouldReturnTheGreatestElementsGreatestFirst() throws Exception {
+        // Given
+        Iterable<Integer> iterable = Lazily.take(integers(increasing()), 1000);
+
+        // When
+        List<Integer> top = Eagerly.topN(iterable, 3);
+
+        // Then
+        assertThat(top, hasOnlyItemsInOrder(999, 998, 997));
+    }
+
+    @Test
+    public void shouldReturnTheLeastElementsLeastFirst() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(5, 3, 9, 1, 7, 2);
+
+        // When
+        List<Integer> bottom = Eagerly.bottomN(iterable, 4);
+
+        // Then
+        assertThat(bottom, hasOnlyItemsInOrder(1, 2, 3, 5));
+    }
+
+    @Test
+    public void shouldPreferEarlierElementsWhereElementsCompareEqual() throws Exception {
+        // Given
+        Iterable<Pair<String, Integer>> iterable = iterableWith(
+                tuple("a", 2), tuple("b", 5), tuple("c", 2), tuple("d", 5), tuple("e", 1), tuple("f", 5));
+
+        // When
+        List<Pair<String, Integer>> top = Eagerly.topN(iterable, 2, BY_SECOND);
+        List<Pair<String, Integer>> bottom = Eagerly.bottomN(iterable, 2, BY_SECOND);
+
+        // Then
+        assertThat(top, hasOnlyItemsInOrder(tuple("b", 5), tuple("d", 5)));
+        assertThat(bottom, hasOnlyItemsInOrder(tuple("e", 1), tuple("a", 2)));
+    }
+
+    @Test
+    public void shouldReturnAllElementsIfFewerThanRequested() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(2, 3, 1);
+
+        // When
+        List<Integer> top = Eagerly.topN(iterable, 5);
+
+        // Then
+        assertThat(top, hasOnlyItemsInOrder(3, 2, 1));
+    }
+
+    @Test
+    public void shouldNotAllocateForTheRequestedNumberOfElementsUpFront() throws Exception {
+        // Given
+        Iterable<Integer> iterable = iterableWith(3, 1, 2);
+
+        // When
+        List<Integer> top = Eagerly.topN(iterable, Integer.MAX_VALUE);
+        List<Integer> bottom = Eagerly.bottomN(iterable, Integer.MAX_VALUE);
+
+        // Then
+        assertThat(top, hasOnlyItemsInOrder(3, 2, 1));
+        assertThat(bottom, hasOnlyItemsInOrder(1, 2, 3));
+    }
+
+    @Test
+    public void shouldReturnNoElementsIfZeroRequested() throws Exception {
+        // When
+        List<Integer> top = Eagerly.topN(iterableWith(2, 3, 1), 0);
+
+        // Then
+        assertThat(top.isEmpty(), is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfANegativeNumberIsRequestedFromTopN() throws Exception {
+        // When
+        Eagerly.topN(iterableWith(2, 3, 1), -1);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test
+    public void shouldReturnTheFirstElementWithTheGreatestAndLeastKeys() throws Exception {
+        // Given
+        Iterable<String> iterable = iterableWith("bb", "a", "ccc", "ddd", "e");
+        UnaryFunction<String, Integer> length = new UnaryFunction<String, Integer>() {
+            @Override public Integer call(String input) {
+                return input.length();
+            }
+        };
+
+        // When
+        String longest = Eagerly.maxBy(iterable, length);
+        String shortest = Eagerly.minBy(iterable, length);
+
+        // Then
+        assertThat(longest, is("ccc"));
+        assertThat(shortest, is("a"));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionIfAnEmptyIterableIsSuppliedToMaxBy() throws Exception {
+        // When
+        Eagerly.maxBy(Literals.<String>iterable(), new UnaryFunction<String, Integer>() {
+            @Override public Integer call(String input) {
+                return input.length();
+            }
+        });
+
+        // Then a NoSuchElementException is thrown
+    }
+}
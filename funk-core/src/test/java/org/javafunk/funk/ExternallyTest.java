@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.external.ExternalIterable;
+import org.javafunk.funk.external.SpillSpec;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.funk.Literals.tuple;
+import static org.javafunk.funk.external.Serializers.integerSerializer;
+import static org.javafunk.funk.external.Serializers.stringSerializer;
+import static org.javafunk.funk.external.SpillSpec.spillSpec;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class ExternallyTest {
+    private static final SpillSpec<Integer> SPILLING_INTEGERS = spillSpec(integerSerializer()).withInMemoryThreshold(3);
+
+    @Test
+    public void shouldSortElementsInNaturalOrder() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(9, 2, 7, 4, 5, 6, 3, 8, 1);
+
+        // When
+        ExternalIterable<Integer> sorted = Externally.sort(input, SPILLING_INTEGERS);
+
+        // Then
+        assertThat(materialize(sorted), hasOnlyItemsInOrder(1, 2, 3, 4, 5, 6, 7, 8, 9));
+    }
+
+    @Test
+    public void shouldSortElementsUsingTheSuppliedComparator() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(9, 2, 7, 4, 5);
+
+        // When
+        ExternalIterable<Integer> sorted = Externally.sort(input, Collections.<Integer>reverseOrder(), SPILLING_INTEGERS);
+
+        // Then
+        assertThat(materialize(sorted), hasOnlyItemsInOrder(9, 7, 5, 4, 2));
+    }
+
+    @Test
+    public void shouldGroupElementsByKeyInKeyOrderRetainingInputOrderWithinGroups() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("cat", "ant", "cow", "bee", "asp", "bat", "cod");
+        UnaryFunction<String, Character> firstLetter = new UnaryFunction<String, Character>() {
+            @Override public Character call(String input) {
+                return input.charAt(0);
+            }
+        };
+
+        // When
+        ExternalIterable<Pair<Character, Collection<String>>> groups = Externally.group(
+                input, firstLetter, spillSpec(stringSerializer()).withInMemoryThreshold(2));
+
+        // Then
+        List<Pair<Character, Collection<String>>> expected = listWith(
+                tuple('a', (Collection<String>) listWith("ant", "asp")),
+                tuple('b', (Collection<String>) listWith("bee", "bat")),
+                tuple('c', (Collection<String>) listWith("cat", "cow", "cod")));
+        assertThat(materialize(groups), hasOnlyItemsInOrder(expected));
+    }
+
+    @Test
+    public void shouldReturnNoGroupsForAnEmptyIterable() throws Exception {
+        // When
+        ExternalIterable<Pair<Integer, Collection<Integer>>> groups = Externally.group(
+                Literals.<Integer>iterable(),
+                new UnaryFunction<Integer, Integer>() {
+                    @Override public Integer call(Integer input) {
+                        return input % 2;
+                    }
+                },
+                SPILLING_INTEGERS);
+
+        // Then
+        assertThat(materialize(groups).isEmpty(), is(true));
+    }
+}
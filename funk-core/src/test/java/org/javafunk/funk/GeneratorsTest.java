@@ -8,15 +8,22 @@
  */
 package org.javafunk.funk;
 
+import org.javafunk.funk.behaviours.Generatable;
 import org.javafunk.funk.behaviours.Generator;
 import org.javafunk.funk.generators.ConstantGenerator;
 import org.javafunk.funk.generators.FiniteGenerator;
+import org.javafunk.funk.generators.WeightedGenerator;
 import org.junit.Test;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Generators.constantGenerator;
 import static org.javafunk.funk.Generators.finiteGenerator;
+import static org.javafunk.funk.Generators.toGeneratable;
+import static org.javafunk.funk.Generators.weightedGenerator;
 import static org.javafunk.funk.Literals.iterableWith;
 
 public class GeneratorsTest {
@@ -32,6 +39,21 @@ public class GeneratorsTest {
         assertThat(actualGenerator, is(expectedGenerator));
     }
 
+    @Test
+    public void shouldConstructAWeightedGeneratorUsingTheSpecifiedWeights() throws Exception {
+        // Given
+        Map<String, Double> weights = new LinkedHashMap<String, Double>();
+        weights.put("heads", 1.0);
+        weights.put("tails", 1.0);
+        Generator<String> expectedGenerator = new WeightedGenerator<String>(weights);
+
+        // When
+        Generator<String> actualGenerator = weightedGenerator(weights);
+
+        // Then
+        assertThat(actualGenerator, is(expectedGenerator));
+    }
+
     @Test
     public void shouldConstructAFiniteGeneratorUsingTheSpecifiedIterable() throws Exception {
         // Given
@@ -51,4 +73,18 @@ public class GeneratorsTest {
 
         // Then a NullPointerException is thrown
     }
+
+    @Test
+    public void shouldConstructAGeneratableWhoseIteratorsContinueFromTheGeneratorWithoutRetainingValues() throws Exception {
+        // Given
+        Generator<Integer> generator = finiteGenerator(iterableWith(1, 2, 3));
+
+        // When
+        Generatable<Integer> generatable = toGeneratable(generator);
+
+        // Then
+        assertThat(generatable.iterator().next(), is(1));
+        assertThat(generatable.iterator().next(), is(2));
+        assertThat(generatable.iterator() == generator, is(true));
+    }
 }
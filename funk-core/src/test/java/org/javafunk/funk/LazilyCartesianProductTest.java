@@ -10,6 +10,7 @@ package org.javafunk.funk;
 
 import org.hamcrest.Matchers;
 import org.javafunk.funk.annotations.ToDo;
+import org.javafunk.funk.datastructures.CartesianProduct;
 import org.javafunk.funk.datastructures.tuples.*;
 import org.javafunk.funk.functors.Action;
 import org.javafunk.funk.testclasses.Age;
@@ -21,6 +22,8 @@ import org.junit.Test;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -525,4 +528,96 @@ public class LazilyCartesianProductTest {
 
         // Then a NullPointerException is thrown.
     }
+
+    @Test
+    public void shouldReportTheSizeOfTheCartesianProductWithoutIteratingIt() throws Exception {
+        // Given
+        Iterable<Integer> input1 = iterableWith(1, 2, 3);
+        Iterable<String> input2 = iterableWith("a", "b");
+        Iterable<Long> input3 = iterableWith(1L, 2L, 3L, 4L);
+
+        // When
+        long size = Lazily.cartesianProduct(input1, input2, input3).size();
+
+        // Then
+        assertThat(size, is(24L));
+    }
+
+    @Test
+    public void shouldAllowASubRangeOfTheCartesianProductToBeIterated() throws Exception {
+        // Given
+        Iterable<Integer> input1 = iterableWith(1, 2, 3);
+        Iterable<String> input2 = iterableWith("a", "b", "c");
+
+        // When
+        Collection<Pair<Integer, String>> actual = materialize(Lazily.cartesianProduct(input1, input2).subProduct(2, 5));
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder(tuple(1, "c"), tuple(2, "a"), tuple(2, "b")));
+    }
+
+    @Test
+    public void shouldSplitTheCartesianProductIntoContiguousPartsCoveringItInOrder() throws Exception {
+        // Given
+        CartesianProduct<Pair<Integer, String>> product = Lazily.cartesianProduct(
+                iterableWith(1, 2, 3), iterableWith("a", "b", "c"));
+
+        // When
+        List<CartesianProduct<Pair<Integer, String>>> parts = product.split(4);
+
+        // Then
+        assertThat(parts.size(), is(4));
+        assertThat(materialize(parts.get(0)), hasOnlyItemsInOrder(tuple(1, "a"), tuple(1, "b"), tuple(1, "c")));
+        assertThat(materialize(parts.get(1)), hasOnlyItemsInOrder(tuple(2, "a"), tuple(2, "b")));
+        assertThat(materialize(parts.get(2)), hasOnlyItemsInOrder(tuple(2, "c"), tuple(3, "a")));
+        assertThat(materialize(parts.get(3)), hasOnlyItemsInOrder(tuple(3, "b"), tuple(3, "c")));
+    }
+
+    @Test
+    public void shouldCopyDimensionsOnlyOnceAcrossSplittingAndIteratingParts() throws Exception {
+        // Given
+        final AtomicInteger traversals = new AtomicInteger();
+        Iterable<Integer> counted = new Iterable<Integer>() {
+            @Override public Iterator<Integer> iterator() {
+                traversals.incrementAndGet();
+                return iteratorWith(1, 2, 3);
+            }
+        };
+        CartesianProduct<Pair<Integer, String>> product = Lazily.cartesianProduct(counted, iterableWith("a", "b"));
+
+        // When
+        List<CartesianProduct<Pair<Integer, String>>> parts = product.split(3);
+        for (CartesianProduct<Pair<Integer, String>> part : parts) {
+            materialize(part);
+        }
+
+        // Then
+        assertThat(parts.size(), is(3));
+        assertThat(traversals.get(), is(1));
+    }
+
+    @Test
+    public void shouldReturnFewerPartsThanRequestedIfTheCartesianProductIsSmaller() throws Exception {
+        // Given
+        CartesianProduct<Pair<Integer, String>> product = Lazily.cartesianProduct(
+                iterableWith(1, 2), iterableWith("a"));
+
+        // When
+        List<CartesianProduct<Pair<Integer, String>>> parts = product.split(5);
+
+        // Then
+        assertThat(parts.size(), is(2));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowIndexOutOfBoundsExceptionIfSubProductExceedsTheCartesianProduct() throws Exception {
+        // Given
+        CartesianProduct<Pair<Integer, String>> product = Lazily.cartesianProduct(
+                iterableWith(1, 2), iterableWith("a", "b"));
+
+        // When
+        product.subProduct(1, 5);
+
+        // Then an IndexOutOfBoundsException is thrown
+    }
 }
@@ -242,4 +242,39 @@ public class LazilyFilterRejectPartitionTest {
 
         // Then a NullPointerException is thrown.
     }
+
+    @Test
+    public void shouldTraverseTheSuppliedIterableOnlyOnceWhenPartitioningWithABuffer() throws Exception {
+        // Given
+        Iterable<Integer> input = Iterators.asIterable(listWith(1, 2, 3, 4, 5, 6, 7, 8).iterator());
+
+        // When
+        Pair<Iterable<Integer>, Iterable<Integer>> partitionResults = Lazily.partition(input,
+                new Predicate<Integer>() {
+                    public boolean evaluate(Integer item) {
+                        return item % 2 == 0;
+                    }
+                }, 8);
+
+        // Then
+        assertThat(materialize(partitionResults.getFirst()), hasOnlyItemsInOrder(2, 4, 6, 8));
+        assertThat(materialize(partitionResults.getSecond()), hasOnlyItemsInOrder(1, 3, 5, 7));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrowIllegalStateExceptionIfPartitionBufferCapacityIsExceeded() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 3, 5, 7, 2);
+
+        // When
+        Pair<Iterable<Integer>, Iterable<Integer>> partitionResults = Lazily.partition(input,
+                new Predicate<Integer>() {
+                    public boolean evaluate(Integer item) {
+                        return item % 2 == 0;
+                    }
+                }, 3);
+        materialize(partitionResults.getFirst());
+
+        // Then an IllegalStateException is thrown
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.tuple;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class LazilyMergeSortedTest {
+    @Test
+    public void shouldMergeSortedIterablesIntoASingleSortedIterable() throws Exception {
+        // Given
+        Iterable<Iterable<Integer>> shards = Literals.<Iterable<Integer>>iterableWith(
+                iterableWith(1, 4, 7, 10),
+                Literals.<Integer>iterable(),
+                iterableWith(2, 3, 11),
+                iterableWith(5, 6, 8, 9));
+
+        // When
+        Iterable<Integer> merged = Lazily.mergeSorted(shards);
+
+        // Then
+        assertThat(materialize(merged), hasOnlyItemsInOrder(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11));
+    }
+
+    @Test
+    public void shouldYieldEqualElementsFromEarlierIterablesFirst() throws Exception {
+        // Given
+        Comparator<Pair<String, Integer>> bySecond = new Comparator<Pair<String, Integer>>() {
+            @Override public int compare(Pair<String, Integer> first, Pair<String, Integer> second) {
+                return first.getSecond().compareTo(second.getSecond());
+            }
+        };
+        Iterable<Iterable<Pair<String, Integer>>> shards = Literals.<Iterable<Pair<String, Integer>>>iterableWith(
+                iterableWith(tuple("a", 1), tuple("a", 2)),
+                iterableWith(tuple("b", 1), tuple("b", 2)));
+
+        // When
+        Iterable<Pair<String, Integer>> merged = Lazily.mergeSorted(shards, bySecond);
+
+        // Then
+        assertThat(materialize(merged), hasOnlyItemsInOrder(
+                tuple("a", 1), tuple("b", 1), tuple("a", 2), tuple("b", 2)));
+    }
+
+    @Test
+    public void shouldMergeUsingTheSuppliedComparator() throws Exception {
+        // Given
+        Iterable<Iterable<Integer>> shards = Literals.<Iterable<Integer>>iterableWith(
+                iterableWith(9, 5, 1),
+                iterableWith(8, 2));
+
+        // When
+        Iterable<Integer> merged = Lazily.mergeSorted(shards, Collections.<Integer>reverseOrder());
+
+        // Then
+        assertThat(materialize(merged), hasOnlyItemsInOrder(9, 8, 5, 2, 1));
+    }
+
+    @Test
+    public void shouldOnlyAdvanceInputsAsTheirElementsAreRequired() throws Exception {
+        // Given
+        Iterable<Integer> infinite = Lazily.repeat(5);
+        Iterable<Iterable<Integer>> shards = Literals.<Iterable<Integer>>iterableWith(
+                iterableWith(1, 2, 3), infinite);
+
+        // When
+        Iterable<Integer> merged = Lazily.take(Lazily.mergeSorted(shards), 5);
+
+        // Then
+        assertThat(materialize(merged), hasOnlyItemsInOrder(1, 2, 3, 5, 5));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionWhenNoElementsRemain() throws Exception {
+        // Given
+        Iterator<Integer> iterator = Lazily.mergeSorted(
+                Literals.<Iterable<Integer>>iterableWith(iterableWith(1))).iterator();
+        iterator.next();
+
+        // When
+        iterator.next();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test
+    public void shouldBeIterableMoreThanOnce() throws Exception {
+        // Given
+        Iterable<Integer> merged = Lazily.mergeSorted(
+                Literals.<Iterable<Integer>>iterableWith(iterableWith(1, 3), iterableWith(2)));
+
+        // When
+        materialize(merged);
+
+        // Then
+        assertThat(materialize(merged), hasOnlyItemsInOrder(1, 2, 3));
+    }
+}
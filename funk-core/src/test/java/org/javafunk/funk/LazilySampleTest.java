@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.funk.Iterators.asIterable;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.iteratorWith;
+import static org.javafunk.funk.Sequences.increasing;
+import static org.javafunk.funk.Sequences.integers;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class LazilySampleTest {
+    @Test
+    public void shouldSampleTheRequestedNumberOfDistinctElementsFromTheIterable() throws Exception {
+        // Given
+        Iterable<Integer> input = Lazily.take(integers(increasing()), 10000);
+
+        // When
+        Collection<Integer> sample = materialize(Lazily.sample(input, 50));
+
+        // Then
+        assertThat(sample.size(), is(50));
+        assertThat(new HashSet<Integer>(sample).size(), is(50));
+        for (Integer element : sample) {
+            assertThat(element >= 0 && element < 10000, is(true));
+        }
+    }
+
+    @Test
+    public void shouldReturnTheSameSampleForTheSameSeed() throws Exception {
+        // Given
+        Iterable<Integer> input = Lazily.take(integers(increasing()), 10000);
+
+        // When
+        Collection<Integer> firstSample = materialize(Lazily.sample(input, 20, 1234L));
+        Collection<Integer> secondSample = materialize(Lazily.sample(input, 20, 1234L));
+
+        // Then
+        assertThat(firstSample, is(secondSample));
+    }
+
+    @Test
+    public void shouldReturnAllElementsInOrderIfTheIterableHasFewerThanTheSampleSize() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("a", "b", "c");
+
+        // When
+        Iterable<String> sample = Lazily.sample(input, 5);
+
+        // Then
+        assertThat(materialize(sample), hasOnlyItemsInOrder("a", "b", "c"));
+    }
+
+    @Test
+    public void shouldReturnAnEmptyIterableIfTheSampleSizeIsZero() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("a", "b", "c");
+
+        // When
+        Iterable<String> sample = Lazily.sample(input, 0);
+
+        // Then
+        assertThat(materialize(sample).isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldSampleFromASingleTraversalOfAOneShotSource() throws Exception {
+        // Given
+        Iterable<Integer> input = asIterable(iteratorWith(1, 2, 3, 4, 5));
+        Iterable<Integer> sample = Lazily.sample(input, 2, 99L);
+
+        // When
+        Collection<Integer> elements = materialize(sample);
+
+        // Then
+        assertThat(elements.size(), is(2));
+    }
+
+    @Test
+    public void shouldSampleEachElementWithEqualProbability() throws Exception {
+        // Given
+        Iterable<Integer> input = Lazily.take(integers(increasing()), 10);
+        int[] counts = new int[10];
+        int trials = 20000;
+
+        // When
+        for (int trial = 0; trial < trials; trial++) {
+            for (Integer element : Lazily.sample(input, 3, trial)) {
+                counts[element]++;
+            }
+        }
+
+        // Then
+        Set<Boolean> withinTolerance = new HashSet<Boolean>();
+        for (int count : counts) {
+            withinTolerance.add(Math.abs(count / (double) trials - 0.3) < 0.02);
+        }
+        assertThat(withinTolerance, is(Literals.setWith(true)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowAnIllegalArgumentExceptionIfTheSampleSizeIsNegative() throws Exception {
+        // When
+        Lazily.sample(iterableWith(1, 2, 3), -1);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowANullPointerExceptionIfTheIterableIsNull() throws Exception {
+        // Given
+        Iterable<Integer> input = null;
+
+        // When
+        Lazily.sample(input, 1);
+
+        // Then a NullPointerException is thrown
+    }
+}
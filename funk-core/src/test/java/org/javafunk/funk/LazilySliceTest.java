@@ -17,6 +17,7 @@ import static org.hamcrest.Matchers.is;
 import static org.javafunk.funk.Iterables.materialize;
 import static org.javafunk.funk.Literals.collectionWith;
 import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
 import static org.junit.Assert.assertThat;
 
@@ -76,4 +77,30 @@ public class LazilySliceTest {
 
         // Then a NullPointerException is thrown
     }
+
+    @Test
+    public void shouldReturnASizedViewWhenSlicingARandomAccessList() throws Exception {
+        // Given
+        Iterable<Integer> input = listWith(1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        // When
+        Iterable<Integer> output = Lazily.slice(input, 2, 8, 2);
+
+        // Then
+        assertThat(output instanceof Collection, is(true));
+        assertThat(((Collection<Integer>) output).size(), is(3));
+        assertThat(output, hasOnlyItemsInOrder(3, 5, 7));
+    }
+
+    @Test
+    public void shouldSliceRangesWithoutIteratingThem() throws Exception {
+        // Given
+        Iterable<Integer> input = Sequences.integers(Sequences.increasing());
+
+        // When
+        Iterable<Integer> output = Lazily.slice(input, Integer.MAX_VALUE - 2, null, 1);
+
+        // Then
+        assertThat(output, hasOnlyItemsInOrder(Integer.MAX_VALUE - 2, Integer.MAX_VALUE - 1));
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.datastructures.MemoizedIterable;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.funk.Iterators.asIterable;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.iteratorWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class LazilyTeeMemoizeTest {
+    @Test
+    public void shouldFeedSeveralPipelinesFromASingleTraversalOfAOneShotSource() throws Exception {
+        // Given
+        Iterable<Integer> source = asIterable(iteratorWith(1, 2, 3, 4));
+
+        // When
+        List<Iterable<Integer>> consumers = Lazily.tee(source, 2);
+
+        // Then
+        assertThat(consumers.size(), is(2));
+        assertThat(materialize(Lazily.take(consumers.get(0), 3)), hasOnlyItemsInOrder(1, 2, 3));
+        assertThat(materialize(consumers.get(1)), hasOnlyItemsInOrder(1, 2, 3, 4));
+        assertThat(materialize(consumers.get(0)), hasOnlyItemsInOrder(4));
+    }
+
+    @Test
+    public void shouldSpillTeeBufferToDiskBeyondThreshold() throws Exception {
+        // Given
+        Iterable<Integer> source = iterableWith(1, 2, 3, 4, 5, 6);
+
+        // When
+        List<Iterable<Integer>> consumers = Lazily.tee(source, 2, 2);
+
+        // Then
+        assertThat(materialize(consumers.get(0)), hasOnlyItemsInOrder(1, 2, 3, 4, 5, 6));
+        assertThat(materialize(consumers.get(1)), hasOnlyItemsInOrder(1, 2, 3, 4, 5, 6));
+    }
+
+    @Test
+    public void shouldNotIterateTheSourceUntilATeeConsumerIsIterated() throws Exception {
+        // Given
+        final int[] iterations = new int[1];
+        Iterable<Integer> source = new Iterable<Integer>() {
+            @Override public Iterator<Integer> iterator() {
+                iterations[0]++;
+                return iteratorWith(1, 2);
+            }
+        };
+
+        // When
+        List<Iterable<Integer>> consumers = Lazily.tee(source, 2);
+        int iterationsBefore = iterations[0];
+        Iterable<Integer> first = materialize(consumers.get(0));
+        Iterable<Integer> second = materialize(consumers.get(1));
+
+        // Then
+        assertThat(iterationsBefore, is(0));
+        assertThat(iterations[0], is(1));
+        assertThat(first, hasOnlyItemsInOrder(1, 2));
+        assertThat(second, hasOnlyItemsInOrder(1, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfNumberOfConsumersIsNotPositive() throws Exception {
+        // When
+        Lazily.tee(iterableWith(1, 2), 0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test
+    public void shouldAllowAMemoizedOneShotSourceToBeIteratedRepeatedly() throws Exception {
+        // Given
+        Iterable<Integer> memoized = Lazily.memoize(asIterable(iteratorWith(1, 2, 3)));
+
+        // When
+        Iterator<Integer> partial = memoized.iterator();
+        partial.next();
+        Iterable<Integer> first = materialize(memoized);
+        Iterable<Integer> second = materialize(memoized);
+
+        // Then
+        assertThat(first, hasOnlyItemsInOrder(1, 2, 3));
+        assertThat(second, hasOnlyItemsInOrder(1, 2, 3));
+        assertThat(partial.next(), is(2));
+    }
+
+    @Test
+    public void shouldNotIterateTheSourceUntilTheMemoizedIterableIsIterated() throws Exception {
+        // Given
+        final int[] iterations = new int[1];
+        Iterable<Integer> source = new Iterable<Integer>() {
+            @Override public Iterator<Integer> iterator() {
+                iterations[0]++;
+                return iteratorWith(1, 2);
+            }
+        };
+
+        // When
+        Iterable<Integer> memoized = Lazily.memoize(source);
+        int iterationsBefore = iterations[0];
+        materialize(memoized);
+        materialize(memoized);
+
+        // Then
+        assertThat(iterationsBefore, is(0));
+        assertThat(iterations[0], is(1));
+    }
+
+    @Test
+    public void shouldReadBackSpilledElementsOfAMemoizedIterable() throws Exception {
+        // Given
+        Iterable<String> memoized = Lazily.memoize(iterableWith("a", "b", "c", "d", "e"), 2);
+
+        // When
+        Iterable<String> first = materialize(memoized);
+        Iterable<String> second = materialize(memoized);
+
+        // Then
+        assertThat(first, hasOnlyItemsInOrder("a", "b", "c", "d", "e"));
+        assertThat(second, hasOnlyItemsInOrder("a", "b", "c", "d", "e"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrowIllegalStateExceptionIfAMemoizedIterableIsIteratedOnceClosed() throws Exception {
+        // Given
+        MemoizedIterable<String> memoized = Lazily.memoize(iterableWith("a", "b", "c", "d", "e"), 2);
+        materialize(memoized);
+        memoized.close();
+
+        // When
+        memoized.iterator().hasNext();
+
+        // Then an IllegalStateException is thrown
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.javafunk.funk.Literals.iterableWith;
+
+public class NumbersKernelsTest {
+    @Test
+    public void shouldSumIntegralNumbersOfMixedTypesAsALong() throws Exception {
+        // Given
+        Iterable<Number> numbers = Literals.<Number>iterableWith(1, 2L, (short) 3, (byte) 4);
+
+        // When
+        Number sum = Numbers.sumOf(numbers);
+
+        // Then
+        assertThat(sum, is((Number) 10L));
+    }
+
+    @Test
+    public void shouldWidenTheSumToABigIntegerOnlyWhenItOverflowsALong() throws Exception {
+        // Given
+        Iterable<Long> numbers = iterableWith(Long.MAX_VALUE, Long.MAX_VALUE, 2L);
+
+        // When
+        Number sum = Numbers.sumOf(numbers);
+
+        // Then
+        assertThat(sum, is((Number) BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1).add(BigInteger.valueOf(2))));
+    }
+
+    @Test
+    public void shouldNarrowTheSumBackToALongIfItReturnsToTheLongRange() throws Exception {
+        // Given
+        Iterable<Long> numbers = iterableWith(Long.MAX_VALUE, 1L, -2L);
+
+        // When
+        Number sum = Numbers.sumOf(numbers);
+
+        // Then
+        assertThat(sum, is((Number) (Long.MAX_VALUE - 1)));
+    }
+
+    @Test
+    public void shouldSumDoublesWithoutAccumulatingRoundingError() throws Exception {
+        // Given
+        List<Double> numbers = new ArrayList<Double>();
+        for (int i = 0; i < 1000000; i++) {
+            numbers.add(0.1D);
+        }
+        numbers.add(1e100);
+        numbers.add(-1e100);
+
+        // When
+        Number sum = Numbers.sumOf(numbers);
+
+        // Then
+        assertThat(sum.doubleValue(), is(closeTo(100000D, 1e-6)));
+    }
+
+    @Test
+    public void shouldSumExactlyAsABigDecimalIfAnyBigDecimalIsSupplied() throws Exception {
+        // Given
+        Iterable<Number> numbers = Literals.<Number>iterableWith(new BigDecimal("0.1"), 2, new BigDecimal("0.2"));
+
+        // When
+        Number sum = Numbers.sumOf(numbers);
+
+        // Then
+        assertThat(sum, is((Number) new BigDecimal("2.3")));
+    }
+
+    @Test
+    public void shouldReturnZeroWhenSummingNoNumbers() throws Exception {
+        // When
+        Number sum = Numbers.sumOf(Literals.<Number>iterable());
+
+        // Then
+        assertThat(sum, is((Number) 0L));
+    }
+
+    @Test
+    public void shouldWidenTheProductToABigIntegerWhenItOverflowsALong() throws Exception {
+        // Given
+        Iterable<Integer> numbers = iterableWith(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        // When
+        Number product = Numbers.productOf(numbers);
+
+        // Then
+        assertThat(product, is((Number) BigInteger.valueOf(Integer.MAX_VALUE).pow(3)));
+    }
+
+    @Test
+    public void shouldMultiplyIntegralAndFloatingNumbersAsADouble() throws Exception {
+        // Given
+        Iterable<Number> numbers = Literals.<Number>iterableWith(3, 0.5D, 4L);
+
+        // When
+        Number product = Numbers.productOf(numbers);
+
+        // Then
+        assertThat(product, is((Number) 6.0D));
+    }
+
+    @Test
+    public void shouldReturnTheSmallestAndLargestOfNumbersOfMixedTypes() throws Exception {
+        // Given
+        Iterable<Number> numbers = Literals.<Number>iterableWith(
+                3, -2.5D, new BigDecimal("-2.25"), BigInteger.TEN.pow(20), 7L);
+
+        // When
+        Number minimum = Numbers.minOf(numbers);
+        Number maximum = Numbers.maxOf(numbers);
+
+        // Then
+        assertThat(minimum, is((Number) (-2.5D)));
+        assertThat(maximum, is((Number) BigInteger.TEN.pow(20)));
+    }
+
+    @Test
+    public void shouldCompareLargeLongsExactly() throws Exception {
+        // Given
+        Iterable<Long> numbers = iterableWith(Long.MAX_VALUE, Long.MAX_VALUE - 1);
+
+        // When
+        Long minimum = Numbers.minOf(numbers);
+
+        // Then
+        assertThat(minimum, is(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void shouldReturnTheMeanOfTheSuppliedNumbers() throws Exception {
+        // Given
+        Iterable<Long> numbers = iterableWith(Long.MAX_VALUE, Long.MAX_VALUE);
+
+        // When
+        double mean = Numbers.meanOf(numbers);
+
+        // Then
+        assertThat(mean, is((double) Long.MAX_VALUE));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void shouldThrowArithmeticExceptionWhenFindingTheMinimumOfNoNumbers() throws Exception {
+        // When
+        Numbers.minOf(Literals.<Integer>iterable());
+
+        // Then an ArithmeticException is thrown
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void shouldThrowArithmeticExceptionWhenFindingTheMeanOfNoNumbers() throws Exception {
+        // When
+        Numbers.meanOf(Literals.<Double>iterable());
+
+        // Then an ArithmeticException is thrown
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfAnElementIsNullOnSumOf() throws Exception {
+        // When
+        Numbers.sumOf(iterableWith(1, null, 3));
+
+        // Then a NullPointerException is thrown
+    }
+
+    @Test
+    public void shouldSumPrimitiveIntsIntoALongWithoutOverflowing() throws Exception {
+        // When
+        long sum = Numbers.sumOf(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE, 1});
+
+        // Then
+        assertThat(sum, is(2L * Integer.MAX_VALUE + 1));
+    }
+
+    @Test
+    public void shouldWidenThePrimitiveLongSumOnlyWhenItOverflows() throws Exception {
+        // When
+        Number fits = Numbers.sumOf(new long[]{1L, 2L, 3L});
+        Number overflows = Numbers.sumOf(new long[]{Long.MIN_VALUE, -1L});
+
+        // Then
+        assertThat(fits, is((Number) 6L));
+        assertThat(overflows, is((Number) BigInteger.valueOf(Long.MIN_VALUE).subtract(BigInteger.ONE)));
+    }
+
+    @Test
+    public void shouldSumPrimitiveDoublesUsingCompensatedSummation() throws Exception {
+        // When
+        double sum = Numbers.sumOf(new double[]{1.0D, 1e100, 1.0D, -1e100});
+
+        // Then
+        assertThat(sum, is(2.0D));
+    }
+
+    @Test
+    public void shouldWidenThePrimitiveProductOnlyWhenItOverflows() throws Exception {
+        // When
+        Number fits = Numbers.productOf(new int[]{2, 3, 4});
+        Number overflows = Numbers.productOf(new long[]{Long.MAX_VALUE, 2L});
+        double floating = Numbers.productOf(new double[]{0.5D, 4.0D});
+
+        // Then
+        assertThat(fits, is((Number) 24L));
+        assertThat(overflows, is((Number) BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1)));
+        assertThat(floating, is(2.0D));
+    }
+
+    @Test
+    public void shouldFindTheMinimumMaximumAndMeanOfPrimitiveArrays() throws Exception {
+        // Given
+        int[] ints = new int[]{4, -1, 9, 2};
+        long[] longs = new long[]{4L, -1L, 9L, 2L};
+        double[] doubles = new double[]{4.0D, -1.0D, 9.0D, 2.0D};
+
+        // Then
+        assertThat(Numbers.minOf(ints), is(-1));
+        assertThat(Numbers.maxOf(ints), is(9));
+        assertThat(Numbers.meanOf(ints), is(3.5D));
+        assertThat(Numbers.minOf(longs), is(-1L));
+        assertThat(Numbers.maxOf(longs), is(9L));
+        assertThat(Numbers.meanOf(longs), is(3.5D));
+        assertThat(Numbers.minOf(doubles), is(-1.0D));
+        assertThat(Numbers.maxOf(doubles), is(9.0D));
+        assertThat(Numbers.meanOf(doubles), is(3.5D));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void shouldThrowArithmeticExceptionWhenFindingTheMaximumOfAnEmptyArray() throws Exception {
+        // When
+        Numbers.maxOf(new double[0]);
+
+        // Then an ArithmeticException is thrown
+    }
+
+    @Test
+    public void shouldReturnInfinityRatherThanNaNWhenSummingInfiniteOrOverflowingDoubles() throws Exception {
+        // Given
+        Iterable<Double> infinite = iterableWith(Double.POSITIVE_INFINITY, 1.0);
+        Iterable<Double> overflowing = iterableWith(1e308, 1e308);
+
+        // When
+        Double infiniteSum = Numbers.sumOrThrow(infinite, Double.class);
+        Double overflowingSum = Numbers.sumOrThrow(overflowing, Double.class);
+
+        // Then
+        assertThat(infiniteSum, is(Double.POSITIVE_INFINITY));
+        assertThat(overflowingSum, is(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    public void shouldReturnInfinityFromTheWideningSumAndMeanOfInfiniteOrOverflowingValues() throws Exception {
+        // Given
+        double[] overflowing = new double[]{1e308, 1e308, -1.0};
+        Iterable<Number> infinite = Literals.<Number>iterableWith(1L, Double.NEGATIVE_INFINITY, 2.5);
+
+        // When
+        double arraySum = Numbers.sumOf(overflowing);
+        Number iterableSum = Numbers.sumOf(infinite);
+        double mean = Numbers.meanOf(overflowing);
+
+        // Then
+        assertThat(arraySum, is(Double.POSITIVE_INFINITY));
+        assertThat(iterableSum, is((Number) Double.NEGATIVE_INFINITY));
+        assertThat(mean, is(Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    public void shouldReturnNaNWhenSummingOppositeInfinities() throws Exception {
+        // When
+        double sum = Numbers.sumOf(new double[]{Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY});
+
+        // Then
+        assertThat(Double.isNaN(sum), is(true));
+    }
+}
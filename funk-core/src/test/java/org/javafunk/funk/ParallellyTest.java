@@ -0,0 +1,368 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.Indexer;
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.Predicate;
+import org.javafunk.funk.functors.Reducer;
+import org.javafunk.funk.functors.functions.BinaryFunction;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.javafunk.funk.Literals.collectionWith;
+import static org.javafunk.funk.Literals.listFrom;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.funk.Sequences.increasing;
+import static org.javafunk.funk.Sequences.integers;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+import static org.junit.Assert.assertThat;
+
+public class ParallellyTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @Test
+    public void shouldMapEachElementRetainingTheOrderOfTheInput() throws Exception {
+        // Given
+        List<Integer> inputs = listFrom(Lazily.take(integers(increasing()), 1000));
+        Collection<String> expectedOutputs = Eagerly.map(inputs, toStringMapper());
+
+        // When
+        Collection<String> actualOutputs = Parallelly.map(inputs, toStringMapper(), POOL);
+
+        // Then
+        assertThat(actualOutputs, hasOnlyItemsInOrder(expectedOutputs));
+    }
+
+    @Test
+    public void shouldMapIterablesWhichAreNotRandomAccessLists() throws Exception {
+        // Given
+        List<Integer> inputs = new LinkedList<Integer>(listWith(5, 4, 3, 2, 1));
+        Collection<String> expectedOutputs = collectionWith("5", "4", "3", "2", "1");
+
+        // When
+        Collection<String> actualOutputs = Parallelly.map(inputs, toStringMapper(), POOL);
+
+        // Then
+        assertThat(actualOutputs, hasOnlyItemsInOrder(expectedOutputs));
+    }
+
+    @Test
+    public void shouldReturnAnEmptyCollectionWhenMappingAnEmptyIterable() throws Exception {
+        // Given
+        List<Integer> inputs = Literals.list();
+
+        // When
+        Collection<String> actualOutputs = Parallelly.map(inputs, toStringMapper());
+
+        // Then
+        assertThat(actualOutputs.isEmpty(), is(true));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfFunctionSuppliedToMapIsNull() throws Exception {
+        // Given
+        List<Integer> inputs = listWith(1, 2, 3);
+        Mapper<Integer, String> mapper = null;
+
+        // When
+        Parallelly.map(inputs, mapper);
+
+        // Then a NullPointerException is thrown.
+    }
+
+    @Test
+    public void shouldFilterAndRejectRetainingTheOrderOfTheInput() throws Exception {
+        // Given
+        List<Integer> inputs = listFrom(Lazily.take(integers(increasing()), 1000));
+        Collection<Integer> expectedEvens = Eagerly.filter(inputs, isEven());
+        Collection<Integer> expectedOdds = Eagerly.reject(inputs, isEven());
+
+        // When
+        Collection<Integer> actualEvens = Parallelly.filter(inputs, isEven(), POOL);
+        Collection<Integer> actualOdds = Parallelly.reject(inputs, isEven(), POOL);
+
+        // Then
+        assertThat(actualEvens, hasOnlyItemsInOrder(expectedEvens));
+        assertThat(actualOdds, hasOnlyItemsInOrder(expectedOdds));
+    }
+
+    @Test
+    public void shouldReduceUsingTheSuppliedCombinerToMergeChunkResults() throws Exception {
+        // Given
+        List<Integer> inputs = listFrom(Lazily.take(integers(increasing()), 1000));
+        BinaryFunction<Long, Integer, Long> accumulator = new BinaryFunction<Long, Integer, Long>() {
+            @Override public Long call(Long total, Integer element) {
+                return total + element;
+            }
+        };
+        BinaryFunction<Long, Long, Long> combiner = new BinaryFunction<Long, Long, Long>() {
+            @Override public Long call(Long first, Long second) {
+                return first + second;
+            }
+        };
+
+        // When
+        Long actual = Parallelly.reduce(inputs, 0L, accumulator, combiner, POOL);
+
+        // Then
+        assertThat(actual, is(499500L));
+    }
+
+    @Test
+    public void shouldReturnTheInitialValueWhenReducingAnEmptyIterable() throws Exception {
+        // Given
+        List<Integer> inputs = Literals.list();
+
+        // When
+        String actual = Parallelly.reduce(inputs, "initial", new BinaryFunction<String, Integer, String>() {
+            @Override public String call(String accumulator, Integer element) {
+                return accumulator + element;
+            }
+        }, new BinaryFunction<String, String, String>() {
+            @Override public String call(String first, String second) {
+                return first + second;
+            }
+        });
+
+        // Then
+        assertThat(actual, is("initial"));
+    }
+
+    @Test
+    public void shouldReduceUsingAnAssociativeFunctionWithoutAnInitialValue() throws Exception {
+        // Given
+        List<String> inputs = listFrom(Eagerly.map(Lazily.take(integers(increasing()), 100), toStringMapper()));
+        String expected = Eagerly.reduce(inputs, concatenation());
+
+        // When
+        String actual = Parallelly.reduce(inputs, concatenation(), POOL);
+
+        // Then
+        assertThat(actual, is(expected));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionWhenReducingAnEmptyIterableWithoutAnInitialValue() throws Exception {
+        // Given
+        List<String> inputs = Literals.list();
+
+        // When
+        Parallelly.reduce(inputs, concatenation());
+
+        // Then a NoSuchElementException is thrown.
+    }
+
+    @Test
+    public void shouldEvaluateAnyAllAndNone() throws Exception {
+        // Given
+        List<Integer> evens = listWith(2, 4, 6, 8, 10, 12, 14, 16);
+        List<Integer> mixed = listWith(2, 4, 6, 8, 10, 12, 14, 15);
+
+        // When / Then
+        assertThat(Parallelly.any(evens, isEven(), POOL), is(true));
+        assertThat(Parallelly.all(evens, isEven(), POOL), is(true));
+        assertThat(Parallelly.none(evens, isEven(), POOL), is(false));
+        assertThat(Parallelly.all(mixed, isEven(), POOL), is(false));
+        assertThat(Parallelly.any(mixed, isOdd(), POOL), is(true));
+        assertThat(Parallelly.none(evens, isOdd(), POOL), is(true));
+        assertThat(Parallelly.any(Literals.<Integer>list(), isOdd(), POOL), is(false));
+        assertThat(Parallelly.all(Literals.<Integer>list(), isOdd(), POOL), is(true));
+    }
+
+    @Test
+    public void shouldStopEvaluatingPredicatesOnceAnyHasFoundAMatch() throws Exception {
+        // Given
+        List<Integer> inputs = listFrom(Lazily.take(integers(increasing()), 100000));
+        final AtomicInteger evaluations = new AtomicInteger();
+
+        // When
+        Boolean result = Parallelly.any(inputs, new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                evaluations.incrementAndGet();
+                return true;
+            }
+        }, POOL);
+
+        // Then
+        assertThat(result, is(true));
+        assertThat(evaluations.get(), lessThan(100000));
+    }
+
+    @Test
+    public void shouldGroupElementsRetainingTheOrderOfTheInputWithinEachGroup() throws Exception {
+        // Given
+        List<Integer> inputs = listFrom(Lazily.take(integers(increasing()), 1000));
+        Indexer<Integer, Integer> byRemainder = new Indexer<Integer, Integer>() {
+            @Override public Integer index(Integer item) {
+                return item % 3;
+            }
+        };
+        Map<Integer, Collection<Integer>> expected = Eagerly.group(inputs, byRemainder);
+
+        // When
+        Map<Integer, Collection<Integer>> actual = Parallelly.group(inputs, byRemainder, POOL);
+
+        // Then
+        assertThat(actual.keySet(), is(expected.keySet()));
+        for (Integer key : expected.keySet()) {
+            assertThat(actual.get(key), hasOnlyItemsInOrder(expected.get(key)));
+        }
+    }
+
+    @Test
+    public void shouldGroupReduceRetainingTheOrderOfTheInputWithinEachGroup() throws Exception {
+        // Given
+        List<Integer> inputs = listFrom(Lazily.take(integers(increasing()), 1000));
+        Indexer<Integer, Integer> byRemainder = new Indexer<Integer, Integer>() {
+            @Override public Integer index(Integer item) {
+                return item % 7;
+            }
+        };
+        BinaryFunction<String, Integer, String> append = new BinaryFunction<String, Integer, String>() {
+            @Override public String call(String accumulator, Integer element) {
+                return accumulator + element + ",";
+            }
+        };
+        BinaryFunction<String, String, String> concatenate = new BinaryFunction<String, String, String>() {
+            @Override public String call(String first, String second) {
+                return first + second;
+            }
+        };
+
+        // When
+        Map<Integer, String> actual = Parallelly.groupReduce(inputs, byRemainder, "", append, concatenate, POOL);
+
+        // Then
+        assertThat(actual, is(Eagerly.groupReduce(inputs, byRemainder, "", append)));
+    }
+
+    @Test
+    public void shouldGroupCountAcrossChunks() throws Exception {
+        // Given
+        List<Integer> inputs = listFrom(Lazily.take(integers(increasing()), 10000));
+        Indexer<Integer, Integer> byRemainder = new Indexer<Integer, Integer>() {
+            @Override public Integer index(Integer item) {
+                return item % 3;
+            }
+        };
+
+        // When
+        Map<Integer, Long> actual = Parallelly.groupCount(inputs, byRemainder, POOL);
+
+        // Then
+        assertThat(actual, is(Eagerly.groupCount(inputs, byRemainder)));
+        assertThat(actual.get(0), is(3334L));
+    }
+
+    private static Mapper<Integer, String> toStringMapper() {
+        return new Mapper<Integer, String>() {
+            @Override public String map(Integer input) {
+                return String.valueOf(input);
+            }
+        };
+    }
+
+    private static Predicate<Integer> isEven() {
+        return new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input % 2 == 0;
+            }
+        };
+    }
+
+    private static Predicate<Integer> isOdd() {
+        return new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input % 2 != 0;
+            }
+        };
+    }
+
+    private static Reducer<String, String> concatenation() {
+        return new Reducer<String, String>() {
+            @Override public String accumulate(String accumulator, String element) {
+                return accumulator + element;
+            }
+        };
+    }
+
+    @Test
+    public void shouldSumNumbersExactlyAcrossChunks() {
+        // Given
+        List<Long> numbers = new LinkedList<Long>();
+        for (int i = 0; i < 1000; i++) {
+            numbers.add(Long.MAX_VALUE);
+        }
+
+        // When
+        Number sum = Parallelly.sum(numbers, POOL);
+
+        // Then
+        assertThat(sum, is((Number) BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(1000))));
+    }
+
+    @Test
+    public void shouldSumMixedNumbersAsNumbersSumOfDoes() {
+        // Given
+        Collection<Number> numbers = Literals.<Number>collectionWith(1, 2.5D, 3L, 0.25F, 10);
+
+        // When
+        Number sum = Parallelly.sum(numbers, POOL);
+
+        // Then
+        assertThat(sum, is(Numbers.sumOf(numbers)));
+    }
+
+    @Test
+    public void shouldSumInfiniteNumbersToInfinityAcrossChunks() {
+        // Given
+        List<Double> numbers = new ArrayList<Double>();
+        for (int i = 0; i < 1000; i++) {
+            numbers.add(i == 500 ? Double.POSITIVE_INFINITY : 1e306);
+        }
+
+        // When
+        Number sum = Parallelly.sum(numbers, POOL);
+
+        // Then
+        assertThat(sum, is((Number) Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    public void shouldSortByKeysStablyAcrossChunks() {
+        // Given
+        List<Integer> numbers = listFrom(Lazily.take(integers(increasing()), 10000));
+        Indexer<Integer, Integer> lastDigit = new Indexer<Integer, Integer>() {
+            @Override public Integer index(Integer input) {
+                return input % 10;
+            }
+        };
+
+        // When
+        List<Integer> sorted = Parallelly.sortBy(numbers, lastDigit, POOL);
+
+        // Then
+        assertThat(sorted, is(Eagerly.sortBy(numbers, lastDigit)));
+        assertThat(sorted.get(0), is(0));
+        assertThat(sorted.get(1), is(10));
+        assertThat(sorted.get(9999), is(9999));
+    }
+}
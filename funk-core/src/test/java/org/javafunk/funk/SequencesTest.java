@@ -167,4 +167,38 @@ public class SequencesTest {
         assertThat(firstIterator.next(), is(12));
         assertThat(secondIterator.next(), is(13));
     }
+
+    @Test
+    public void shouldReturnASequenceOfDecreasingLongsStartingAtZero() throws Exception {
+        // Given
+        Iterable<Long> sequence = Sequences.longs(decreasing());
+
+        // When
+        Iterator<Long> sequenceIterator = sequence.iterator();
+        long first = sequenceIterator.next();
+        long second = sequenceIterator.next();
+        long third = sequenceIterator.next();
+
+        // Then
+        assertThat(first, is(0L));
+        assertThat(second, is(-1L));
+        assertThat(third, is(-2L));
+    }
+
+    @Test
+    public void shouldReturnASequenceOfIncreasingLongsStartingAtANegativeValue() throws Exception {
+        // Given
+        Iterable<Long> sequence = Sequences.longsFrom(-1, increasing());
+
+        // When
+        Iterator<Long> sequenceIterator = sequence.iterator();
+        long first = sequenceIterator.next();
+        long second = sequenceIterator.next();
+        long third = sequenceIterator.next();
+
+        // Then
+        assertThat(first, is(-1L));
+        assertThat(second, is(0L));
+        assertThat(third, is(1L));
+    }
 }
@@ -10,15 +10,21 @@ package org.javafunk.funk;
 
 import org.junit.Test;
 
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.nio.CharBuffer;
 import java.util.Collection;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.javafunk.funk.Literals.collectionWith;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
 import static org.javafunk.funk.Strings.join;
+import static org.javafunk.funk.Strings.joinTo;
 
 public class StringsTest {
     @Test
@@ -69,6 +75,68 @@ public class StringsTest {
         // Then a NullPointerException is thrown
     }
 
+    @Test
+    public void joinsNullElementsAsEmpty() {
+        // Given
+        Iterable<String> strings = iterableWith("First", null, "Third");
+
+        // When
+        String joinedStrings = join(strings, ",");
+
+        // Then
+        assertThat(joinedStrings, is("First,,Third"));
+    }
+
+    @Test
+    public void streamsJoinedObjectsIntoTheSuppliedAppendable() throws Exception {
+        // Given
+        Iterable<Object> objects = Literals.<Object>iterableWith(new StringBuilder("one"), 2, null, "four");
+        StringWriter writer = new StringWriter();
+
+        // When
+        StringWriter result = joinTo(writer, objects, "\t");
+
+        // Then
+        assertThat(result, is(sameInstance(writer)));
+        assertThat(writer.toString(), is("one\t2\t\tfour"));
+    }
+
+    @Test
+    public void appendsJoinedObjectsToTheExistingContentsOfTheSuppliedStringBuilder() {
+        // Given
+        StringBuilder builder = new StringBuilder("row: ");
+
+        // When
+        joinTo(builder, listWith(1, 2, 3), ", ");
+
+        // Then
+        assertThat(builder.toString(), is("row: 1, 2, 3"));
+    }
+
+    @Test
+    public void streamsJoinedObjectsIntoTheSuppliedCharBufferWithNoSeparator() throws Exception {
+        // Given
+        CharBuffer buffer = CharBuffer.allocate(16);
+
+        // When
+        joinTo(buffer, iterableWith("a", "b", "c"));
+
+        // Then
+        buffer.flip();
+        assertThat(buffer.toString(), is("abc"));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void throwsANullPointerExceptionIfAppendablePassedToJoinToIsNull() throws Exception {
+        // Given
+        Appendable appendable = null;
+
+        // When
+        joinTo(appendable, iterableWith("a", "b"), ",");
+
+        // Then a NullPointerException is thrown
+    }
+
     @Test
     public void joinsAllPassedStringWithNoSeparator() {
         // When
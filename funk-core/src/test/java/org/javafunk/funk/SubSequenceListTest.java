@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class SubSequenceListTest {
+    @Test
+    public void shouldReportTheExactSizeOfTheSubSequence() throws Exception {
+        // Given
+        List<Integer> list = listWith(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        // Then
+        assertThat(new SubSequenceList<Integer>(list, 2, 9, 3).size(), is(3));
+        assertThat(new SubSequenceList<Integer>(list, 2, null, 3).size(), is(3));
+        assertThat(new SubSequenceList<Integer>(list, 12, null, 1).size(), is(0));
+        assertThat(new SubSequenceList<Integer>(list, 0, 100, 1).size(), is(10));
+    }
+
+    @Test
+    public void shouldReturnElementsByIndexArithmetic() throws Exception {
+        // Given
+        List<Integer> list = listWith(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        // When
+        SubSequenceList<Integer> subSequence = new SubSequenceList<Integer>(list, 1, 8, 2);
+
+        // Then
+        assertThat(subSequence.get(2), is(5));
+        assertThat(subSequence, hasOnlyItemsInOrder(1, 3, 5, 7));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowIndexOutOfBoundsExceptionForIndicesBeyondTheSubSequence() throws Exception {
+        new SubSequenceList<Integer>(listWith(0, 1, 2, 3), 1, 3, 1).get(2);
+    }
+
+    @Test
+    public void shouldReflectChangesToTheUnderlyingList() throws Exception {
+        // Given
+        List<Integer> list = new ArrayList<Integer>(listWith(0, 1, 2));
+        SubSequenceList<Integer> subSequence = new SubSequenceList<Integer>(list, 1, null, 1);
+
+        // When
+        list.add(3);
+
+        // Then
+        assertThat(subSequence, hasOnlyItemsInOrder(1, 2, 3));
+    }
+
+    @Test
+    public void shouldRemoveElementsFromTheUnderlyingListWithoutDisturbingTheStep() throws Exception {
+        // Given
+        List<Integer> list = new ArrayList<Integer>(listWith(0, 1, 2, 3, 4, 5, 6, 7));
+        Iterator<Integer> iterator = new SubSequenceList<Integer>(list, 1, 7, 2).iterator();
+
+        // When
+        List<Integer> seen = new ArrayList<Integer>();
+        while (iterator.hasNext()) {
+            seen.add(iterator.next());
+            iterator.remove();
+        }
+
+        // Then
+        assertThat(seen, hasOnlyItemsInOrder(1, 3, 5));
+        assertThat(list, hasOnlyItemsInOrder(0, 2, 4, 6, 7));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfStepIsLessThanOne() throws Exception {
+        new SubSequenceList<Integer>(listWith(0, 1, 2), 0, 2, 0);
+    }
+}
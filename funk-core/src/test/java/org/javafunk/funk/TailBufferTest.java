@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk;
+
+import org.javafunk.funk.functors.Predicate;
+import org.junit.Test;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class TailBufferTest {
+    private static final Predicate<Integer> IS_EVEN = new Predicate<Integer>() {
+        @Override public boolean evaluate(Integer item) {
+            return item % 2 == 0;
+        }
+    };
+
+    @Test
+    public void shouldRetainOnlyTheLastElementsAddedInOrder() throws Exception {
+        // Given
+        TailBuffer<Integer> buffer = new TailBuffer<Integer>(3);
+
+        // When
+        for (int i = 1; i <= 40; i++) {
+            buffer.add(i);
+        }
+
+        // Then
+        assertThat(buffer.toList(), hasOnlyItemsInOrder(38, 39, 40));
+    }
+
+    @Test
+    public void shouldGrowUpToItsCapacity() throws Exception {
+        // Given
+        TailBuffer<Integer> buffer = new TailBuffer<Integer>(40);
+
+        // When
+        for (int i = 1; i <= 50; i++) {
+            buffer.add(i);
+        }
+
+        // Then
+        List<Integer> tail = buffer.toList();
+        assertThat(tail.size(), is(40));
+        assertThat(tail.get(0), is(11));
+        assertThat(tail.get(39), is(50));
+    }
+
+    @Test
+    public void shouldReturnTheMatchingTailOfAnIterable() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        // When
+        List<Integer> tail = TailBuffer.tailOf(input, 2, IS_EVEN);
+
+        // Then
+        assertThat(tail, hasOnlyItemsInOrder(6, 8));
+    }
+
+    @Test
+    public void shouldReturnTheMatchingTailOfAListByReadingBackwards() throws Exception {
+        // Given
+        List<Integer> input = new LinkedList<Integer>(listWith(1, 2, 3, 4, 5, 6, 7, 8, 9));
+
+        // When
+        List<Integer> tail = TailBuffer.tailOf(input, 3, IS_EVEN);
+
+        // Then
+        assertThat(tail, hasOnlyItemsInOrder(4, 6, 8));
+    }
+
+    @Test
+    public void shouldReturnAsManyElementsAsPossibleIfTooFewMatch() throws Exception {
+        // Given
+        List<Integer> input = listWith(1, 2, 3, 4);
+
+        // When
+        List<Integer> tail = TailBuffer.tailOf(input, 5, IS_EVEN);
+
+        // Then
+        assertThat(tail, hasOnlyItemsInOrder(2, 4));
+    }
+}
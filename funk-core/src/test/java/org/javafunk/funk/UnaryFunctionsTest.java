@@ -8,12 +8,17 @@
  */
 package org.javafunk.funk;
 
+import org.javafunk.funk.datastructures.tuples.Pair;
 import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.functions.BinaryFunction;
 import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.javafunk.funk.memoization.MemoizationCache;
+import org.javafunk.funk.memoization.MemoizedFunction;
 import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -24,6 +29,7 @@ import static org.javafunk.funk.Floats.fromDoubleToFloat;
 import static org.javafunk.funk.Integers.fromLongToInteger;
 import static org.javafunk.funk.Longs.fromBigDecimalToLong;
 import static org.javafunk.funk.Objects.toStringValueFor;
+import static org.javafunk.funk.memoization.MemoizationSpec.memoizationSpec;
 
 public class UnaryFunctionsTest {
     @Test
@@ -192,4 +198,55 @@ public class UnaryFunctionsTest {
             }
         };
     }
-}
\ No newline at end of file
+
+    @Test
+    public void memoizesAUnaryFunctionRecordingHitsAndMisses() {
+        // Given
+        final AtomicInteger calls = new AtomicInteger();
+        MemoizedFunction<Integer, String> memoized = UnaryFunctions.memoize(
+                new UnaryFunction<Integer, String>() {
+                    @Override public String call(Integer input) {
+                        calls.incrementAndGet();
+                        return String.valueOf(input);
+                    }
+                },
+                memoizationSpec().withMaximumSize(10));
+
+        // When
+        memoized.call(1);
+        memoized.call(2);
+        String result = memoized.call(1);
+
+        // Then
+        assertThat(result, is("1"));
+        assertThat(calls.get(), is(2));
+        assertThat(memoized.statistics().getHitCount(), is(1L));
+        assertThat(memoized.statistics().getMissCount(), is(2L));
+    }
+
+    @Test
+    public void memoizesABinaryFunctionKeyedByPairsOfArguments() {
+        // Given
+        final AtomicInteger calls = new AtomicInteger();
+        MemoizationCache<Pair<Integer, Integer>, Integer> cache =
+                new MemoizationCache<Pair<Integer, Integer>, Integer>(memoizationSpec());
+        BinaryFunction<Integer, Integer, Integer> memoized = UnaryFunctions.memoize(
+                new BinaryFunction<Integer, Integer, Integer>() {
+                    @Override public Integer call(Integer first, Integer second) {
+                        calls.incrementAndGet();
+                        return first + second;
+                    }
+                },
+                cache);
+
+        // When
+        memoized.call(1, 2);
+        memoized.call(2, 1);
+        Integer result = memoized.call(1, 2);
+
+        // Then
+        assertThat(result, is(3));
+        assertThat(calls.get(), is(2));
+        assertThat(cache.statistics().getHitCount(), is(1L));
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.Eagerly;
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.javafunk.funk.Literals.collectionWith;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.tuple;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInAnyOrder;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class ConcurrentGroupCollectorTest {
+    private static final UnaryFunction<String, Integer> BY_LENGTH = new UnaryFunction<String, Integer>() {
+        @Override public Integer call(String input) {
+            return input == null ? null : input.length();
+        }
+    };
+    private static final UnaryFunction<Integer, Integer> BY_LAST_DIGIT = new UnaryFunction<Integer, Integer>() {
+        @Override public Integer call(Integer input) {
+            return input % 10;
+        }
+    };
+
+    @Test
+    public void shouldGroupElementsAsEagerlyGroupDoes() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("apple", "pear", "lemon", "apricot", "orange", "papaya", "banana");
+        ConcurrentGroupCollector<String, Integer> collector = new ConcurrentGroupCollector<String, Integer>(BY_LENGTH);
+
+        // When
+        collector.addAll(input);
+
+        // Then
+        Map<Integer, Collection<String>> expected = Eagerly.group(input, BY_LENGTH);
+        Map<Integer, Collection<String>> actual = collector.toMap();
+        assertThat(actual.keySet(), is(expected.keySet()));
+        for (Integer length : expected.keySet()) {
+            assertThat(actual.get(length), hasOnlyItemsInOrder(expected.get(length)));
+        }
+        assertThat(collector.statistics(), is(new GroupingStatistics(7, 4, 0, 0)));
+    }
+
+    @Test
+    public void shouldSupportNullIndices() throws Exception {
+        // Given
+        ConcurrentGroupCollector<String, Integer> collector = new ConcurrentGroupCollector<String, Integer>(BY_LENGTH);
+
+        // When
+        collector.addAll(iterableWith("one", null, "two", null));
+
+        // Then
+        Map<Integer, Collection<String>> groups = collector.toMap();
+        assertThat(groups.get(3), hasOnlyItemsInOrder("one", "two"));
+        assertThat(groups.get(null).size(), is(2));
+    }
+
+    @Test
+    public void shouldIndexElementsAsEagerlyIndexDoes() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("pear", "lemon", "apple");
+        ConcurrentGroupCollector<String, Integer> collector = new ConcurrentGroupCollector<String, Integer>(BY_LENGTH);
+
+        // When
+        collector.addAll(input);
+
+        // Then
+        Collection<Pair<Integer, String>> expected = collectionWith(
+                tuple(4, "pear"), tuple(5, "lemon"), tuple(5, "apple"));
+        assertThat(collector.toIndex(), hasOnlyItemsInAnyOrder(expected));
+    }
+
+    @Test
+    public void shouldCollectElementsAddedConcurrentlyRetainingTheOrderOfEachThread() throws Exception {
+        // Given
+        final int threads = 4;
+        final int elementsPerThread = 10000;
+        final ConcurrentGroupCollector<Integer, Integer> collector = new ConcurrentGroupCollector<Integer, Integer>(BY_LAST_DIGIT);
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Void>> results = new ArrayList<Future<Void>>();
+
+        try {
+            // When
+            for (int thread = 0; thread < threads; thread++) {
+                final int offset = thread * elementsPerThread;
+                results.add(executor.submit(new Callable<Void>() {
+                    @Override public Void call() throws Exception {
+                        start.await();
+                        for (int i = 0; i < elementsPerThread; i++) {
+                            collector.add(offset + i);
+                        }
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get(10, TimeUnit.SECONDS);
+            }
+
+            // Then
+            Map<Integer, Collection<Integer>> groups = collector.toMap();
+            assertThat(groups.size(), is(10));
+            for (Map.Entry<Integer, Collection<Integer>> group : groups.entrySet()) {
+                assertThat(group.getValue().size(), is(threads * elementsPerThread / 10));
+                int[] lastSeen = new int[threads];
+                for (Integer element : group.getValue()) {
+                    assertThat(element % 10, is(group.getKey()));
+                    int thread = element / elementsPerThread;
+                    assertThat(lastSeen[thread], lessThanOrEqualTo(element));
+                    lastSeen[thread] = element;
+                }
+            }
+            GroupingStatistics statistics = collector.statistics();
+            assertThat(statistics.getElementCount(), is((long) threads * elementsPerThread));
+            assertThat(statistics.getGroupCount(), is(10L));
+            assertThat(statistics.getContendedAddCount(), lessThanOrEqualTo(statistics.getElementCount()));
+            assertThat(statistics.getCreationRaceCount(), lessThanOrEqualTo((long) (threads - 1) * 10));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfTheIndexerIsNull() throws Exception {
+        // Given
+        UnaryFunction<String, Integer> indexer = null;
+
+        // When
+        new ConcurrentGroupCollector<String, Integer>(indexer);
+
+        // Then a NullPointerException is thrown
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.functors.procedures.IntProcedure;
+import org.javafunk.funk.iterators.IntIterator;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class IntRangeTest {
+    @Test
+    public void shouldIterateFromStartToEndExclusiveUsingStep() throws Exception {
+        // Given
+        IntRange range = new IntRange(1, 10, 3);
+
+        // When
+        Iterable<Integer> values = materialize(range);
+
+        // Then
+        assertThat(values, hasOnlyItemsInOrder(1, 4, 7));
+    }
+
+    @Test
+    public void shouldIterateDownwardsForNegativeStep() throws Exception {
+        // Given
+        IntRange range = new IntRange(5, 0, -2);
+
+        // When
+        Iterable<Integer> values = materialize(range);
+
+        // Then
+        assertThat(values, hasOnlyItemsInOrder(5, 3, 1));
+    }
+
+    @Test
+    public void shouldBeEmptyIfStepMovesAwayFromEnd() throws Exception {
+        // Given
+        IntRange range = new IntRange(0, 10, -1);
+
+        // When
+        long size = range.size();
+
+        // Then
+        assertThat(size, is(0L));
+        assertThat(range.iterator().hasNext(), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfStepIsZero() throws Exception {
+        new IntRange(0, 10, 0);
+    }
+
+    @Test
+    public void shouldSizeRangesSpanningTheWholeIntegerDomainWithoutOverflowing() throws Exception {
+        // Given
+        IntRange range = new IntRange(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        // When
+        long size = range.size();
+
+        // Then
+        assertThat(size, is((long) Integer.MAX_VALUE - Integer.MIN_VALUE));
+    }
+
+    @Test
+    public void shouldNotWrapAroundWhenIteratingUpToIntegerMaximum() throws Exception {
+        // Given
+        IntIterator iterator = new IntRange(Integer.MAX_VALUE - 2, Integer.MAX_VALUE).intIterator();
+
+        // When
+        int first = iterator.nextInt();
+        int second = iterator.nextInt();
+
+        // Then
+        assertThat(first, is(Integer.MAX_VALUE - 2));
+        assertThat(second, is(Integer.MAX_VALUE - 1));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionWhenIteratorIsExhausted() throws Exception {
+        // Given
+        IntIterator iterator = new IntRange(0, 1).intIterator();
+        iterator.nextInt();
+
+        // When
+        iterator.nextInt();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test
+    public void shouldContainOnlyValuesOnTheStep() throws Exception {
+        // Given
+        IntRange range = new IntRange(2, 12, 5);
+
+        // Then
+        assertThat(range.containsInt(2), is(true));
+        assertThat(range.containsInt(7), is(true));
+        assertThat(range.containsInt(12), is(false));
+        assertThat(range.containsInt(4), is(false));
+        assertThat(range.containsInt(-3), is(false));
+        assertThat(range.contains(7), is(true));
+        assertThat(range.contains(7L), is(false));
+    }
+
+    @Test
+    public void shouldSumTheRangeArithmetically() throws Exception {
+        // Given
+        IntRange range = new IntRange(1, 101);
+
+        // When
+        long sum = range.sum();
+
+        // Then
+        assertThat(sum, is(5050L));
+    }
+
+    @Test
+    public void shouldSumLargeRangesWithoutOverflowing() throws Exception {
+        // Given
+        IntRange range = new IntRange(0, Integer.MAX_VALUE);
+
+        // When
+        long sum = range.sum();
+
+        // Then
+        assertThat(sum, is((long) Integer.MAX_VALUE * (Integer.MAX_VALUE - 1L) / 2));
+    }
+
+    @Test
+    public void shouldReturnValuesAsAPrimitiveArray() throws Exception {
+        // Given
+        IntRange range = new IntRange(10, 0, -4);
+
+        // When
+        int[] values = range.toArray();
+
+        // Then
+        assertThat(values, is(new int[]{10, 6, 2}));
+    }
+
+    @Test
+    public void shouldPassEachValueToTheSuppliedProcedure() throws Exception {
+        // Given
+        IntRange range = new IntRange(0, 4);
+        final List<Integer> seen = new ArrayList<Integer>();
+
+        // When
+        range.forEachInt(new IntProcedure() {
+            @Override public void execute(int argument) {
+                seen.add(argument);
+            }
+        });
+
+        // Then
+        assertThat(seen, hasOnlyItemsInOrder(0, 1, 2, 3));
+    }
+
+    @Test
+    public void shouldReturnTheValueAtTheSuppliedIndex() throws Exception {
+        // Given
+        IntRange range = new IntRange(10, -10, -3);
+
+        // When
+        Integer value = range.get(4);
+
+        // Then
+        assertThat(value, is(-2));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowIndexOutOfBoundsExceptionIfIndexIsNotLessThanSize() throws Exception {
+        new IntRange(0, 10, 5).get(2);
+    }
+
+    @Test
+    public void shouldReturnTheIndexOfAContainedValue() throws Exception {
+        // Given
+        IntRange range = new IntRange(10, -10, -3);
+
+        // When
+        long index = range.indexOf(-2);
+
+        // Then
+        assertThat(index, is(4L));
+    }
+
+    @Test
+    public void shouldReturnMinusOneAsTheIndexOfAValueNotInTheRange() throws Exception {
+        // Given
+        IntRange range = new IntRange(0, Integer.MAX_VALUE, 2);
+
+        // Then
+        assertThat(range.indexOf(7), is(-1L));
+        assertThat(range.indexOf(-2), is(-1L));
+        assertThat(range.indexOf("2"), is(-1L));
+    }
+
+    @Test
+    public void shouldReturnTheSubRangeBetweenTheSuppliedIndices() throws Exception {
+        // Given
+        IntRange range = new IntRange(0, 20, 2);
+
+        // When
+        IntRange subRange = range.subRange(2, 5);
+
+        // Then
+        assertThat(materialize(subRange), hasOnlyItemsInOrder(4, 6, 8));
+    }
+
+    @Test
+    public void shouldReturnTheSubRangeToTheEndOfARangeEndingAtIntegerMaximum() throws Exception {
+        // Given
+        IntRange range = new IntRange(0, Integer.MAX_VALUE, 2);
+
+        // When
+        IntRange subRange = range.subRange(range.size() - 2, range.size());
+
+        // Then
+        assertThat(materialize(subRange), hasOnlyItemsInOrder(Integer.MAX_VALUE - 3, Integer.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void shouldReturnAnEmptySubRangeIfIndicesAreEqual() throws Exception {
+        // Given
+        IntRange range = new IntRange(0, 20, 2);
+
+        // When
+        IntRange subRange = range.subRange(3, 3);
+
+        // Then
+        assertThat(subRange.isEmpty(), is(true));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowIndexOutOfBoundsExceptionIfSubRangeEndsBeyondRange() throws Exception {
+        new IntRange(0, 20, 2).subRange(3, 11);
+    }
+
+    @Test
+    public void shouldReturnTheValuesCommonToBothRanges() throws Exception {
+        // Given
+        IntRange first = new IntRange(1, 100, 4);
+        IntRange second = new IntRange(3, 60, 6);
+
+        // When
+        IntRange intersection = first.intersection(second);
+
+        // Then
+        assertThat(materialize(intersection), hasOnlyItemsInOrder(9, 21, 33, 45, 57));
+    }
+
+    @Test
+    public void shouldOrderTheIntersectionInTheDirectionOfTheFirstRange() throws Exception {
+        // Given
+        IntRange first = new IntRange(30, 0, -5);
+        IntRange second = new IntRange(0, 30, 3);
+
+        // When
+        IntRange intersection = first.intersection(second);
+
+        // Then
+        assertThat(materialize(intersection), hasOnlyItemsInOrder(15));
+        assertThat(materialize(second.intersection(new IntRange(30, -1, -5))), hasOnlyItemsInOrder(0, 15));
+    }
+
+    @Test
+    public void shouldReturnAnEmptyIntersectionIfRangesShareNoValues() throws Exception {
+        // Given
+        IntRange evens = new IntRange(0, 100, 2);
+        IntRange odds = new IntRange(1, 100, 2);
+
+        // When
+        IntRange intersection = evens.intersection(odds);
+
+        // Then
+        assertThat(intersection.isEmpty(), is(true));
+    }
+
+    @Test
+    public void shouldIntersectWithOtherRangeImplementations() throws Exception {
+        // Given
+        IntRange range = new IntRange(0, 10);
+        Range<Integer> other = new IntegerRange(5, null, 5);
+
+        // When
+        IntRange intersection = range.intersection(other);
+
+        // Then
+        assertThat(materialize(intersection), hasOnlyItemsInOrder(5));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.javafunk.funk.functors.procedures.LongProcedure;
+import org.javafunk.funk.iterators.LongIterator;
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class LongRangeTest {
+    @Test
+    public void shouldIterateFromStartToEndExclusiveUsingStep() throws Exception {
+        // Given
+        LongRange range = new LongRange(1L, 10L, 3L);
+
+        // When
+        Iterable<Long> values = materialize(range);
+
+        // Then
+        assertThat(values, hasOnlyItemsInOrder(1L, 4L, 7L));
+    }
+
+    @Test
+    public void shouldIterateDownwardsForNegativeStep() throws Exception {
+        // Given
+        LongRange range = new LongRange(5L, 0L, -2L);
+
+        // When
+        Iterable<Long> values = materialize(range);
+
+        // Then
+        assertThat(values, hasOnlyItemsInOrder(5L, 3L, 1L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfStepIsZero() throws Exception {
+        new LongRange(0L, 10L, 0L);
+    }
+
+    @Test
+    public void shouldSaturateSizeButIterateAllValuesOfRangesLargerThanLongMaximum() throws Exception {
+        // Given
+        LongRange range = new LongRange(Long.MIN_VALUE, Long.MAX_VALUE);
+
+        // When
+        long size = range.size();
+        LongIterator iterator = range.longIterator();
+
+        // Then
+        assertThat(size, is(Long.MAX_VALUE));
+        assertThat(range.isEmpty(), is(false));
+        assertThat(iterator.nextLong(), is(Long.MIN_VALUE));
+        assertThat(iterator.nextLong(), is(Long.MIN_VALUE + 1));
+        assertThat(range.getLong(Long.MAX_VALUE), is(-1L));
+        assertThat(range.containsLong(Long.MAX_VALUE - 1), is(true));
+        assertThat(range.containsLong(Long.MAX_VALUE), is(false));
+        assertThat(range.sum(), is(BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE).negate()));
+    }
+
+    @Test
+    public void shouldNotWrapAroundWhenIteratingUpToLongMaximum() throws Exception {
+        // Given
+        LongIterator iterator = new LongRange(Long.MAX_VALUE - 2, Long.MAX_VALUE).longIterator();
+
+        // When
+        long first = iterator.nextLong();
+        long second = iterator.nextLong();
+
+        // Then
+        assertThat(first, is(Long.MAX_VALUE - 2));
+        assertThat(second, is(Long.MAX_VALUE - 1));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldContainOnlyValuesOnTheStep() throws Exception {
+        // Given
+        LongRange range = new LongRange(2L, 12L, 5L);
+
+        // Then
+        assertThat(range.containsLong(2L), is(true));
+        assertThat(range.containsLong(7L), is(true));
+        assertThat(range.containsLong(12L), is(false));
+        assertThat(range.containsLong(4L), is(false));
+        assertThat(range.contains(7L), is(true));
+        assertThat(range.contains(7), is(false));
+    }
+
+    @Test
+    public void shouldSumLargeRangesWithoutOverflowing() throws Exception {
+        // Given
+        LongRange range = new LongRange(Long.MAX_VALUE - 2, Long.MAX_VALUE);
+
+        // When
+        BigInteger sum = range.sum();
+
+        // Then
+        assertThat(sum, is(BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1).subtract(BigInteger.valueOf(3))));
+    }
+
+    @Test
+    public void shouldReturnValuesAsAPrimitiveArray() throws Exception {
+        // Given
+        LongRange range = new LongRange(10L, 0L, -4L);
+
+        // When
+        long[] values = range.toArray();
+
+        // Then
+        assertThat(values, is(new long[]{10L, 6L, 2L}));
+    }
+
+    @Test
+    public void shouldPassEachValueToTheSuppliedProcedure() throws Exception {
+        // Given
+        LongRange range = new LongRange(0L, 4L);
+        final List<Long> seen = new ArrayList<Long>();
+
+        // When
+        range.forEachLong(new LongProcedure() {
+            @Override public void execute(long argument) {
+                seen.add(argument);
+            }
+        });
+
+        // Then
+        assertThat(seen, hasOnlyItemsInOrder(0L, 1L, 2L, 3L));
+    }
+
+    @Test
+    public void shouldReturnTheValueAndIndexArithmeticallyForRangesNearLongBounds() throws Exception {
+        // Given
+        LongRange range = new LongRange(Long.MAX_VALUE - 1, Long.MIN_VALUE, -Long.MAX_VALUE);
+
+        // Then
+        assertThat(range.size(), is(2L));
+        assertThat(range.get(1), is(-1L));
+        assertThat(range.indexOf(-1L), is(1L));
+        assertThat(range.indexOf(0L), is(-1L));
+    }
+
+    @Test
+    public void shouldReturnTheSubRangeBetweenTheSuppliedIndices() throws Exception {
+        // Given
+        LongRange range = new LongRange(0L, 20L, 2L);
+
+        // When
+        LongRange subRange = range.subRange(2, 5);
+
+        // Then
+        assertThat(materialize(subRange), hasOnlyItemsInOrder(4L, 6L, 8L));
+    }
+
+    @Test
+    public void shouldReturnTheValuesCommonToBothRanges() throws Exception {
+        // Given
+        LongRange first = new LongRange(101L, 0L, -4L);
+        LongRange second = new LongRange(3L, 60L, 6L);
+
+        // When
+        LongRange intersection = first.intersection(second);
+
+        // Then
+        assertThat(materialize(intersection), hasOnlyItemsInOrder(57L, 45L, 33L, 21L, 9L));
+    }
+
+    @Test
+    public void shouldReturnAnEmptyIntersectionIfRangesDoNotOverlap() throws Exception {
+        // Given
+        LongRange first = new LongRange(0L, 10L);
+        LongRange second = new LongRange(10L, 20L);
+
+        // When
+        LongRange intersection = first.intersection(second);
+
+        // Then
+        assertThat(intersection.isEmpty(), is(true));
+    }
+}
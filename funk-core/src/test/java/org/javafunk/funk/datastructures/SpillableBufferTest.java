@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.datastructures;
+
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class SpillableBufferTest {
+    @Test
+    public void shouldReturnElementsByIndexFromStartToEnd() throws Exception {
+        // Given
+        SpillableBuffer<String> buffer = new SpillableBuffer<String>(Integer.MAX_VALUE);
+
+        // When
+        for (int i = 0; i < 40; i++) {
+            buffer.add("element-" + i);
+        }
+
+        // Then
+        assertThat(buffer.start(), is(0L));
+        assertThat(buffer.end(), is(40L));
+        assertThat(buffer.get(0), is("element-0"));
+        assertThat(buffer.get(39), is("element-39"));
+        assertThat(buffer.spilledCount(), is(0L));
+    }
+
+    @Test
+    public void shouldDiscardElementsBeforeTrimmedIndex() throws Exception {
+        // Given
+        SpillableBuffer<Integer> buffer = new SpillableBuffer<Integer>(Integer.MAX_VALUE);
+        for (int i = 0; i < 20; i++) {
+            buffer.add(i);
+        }
+
+        // When
+        buffer.trimTo(15);
+        buffer.add(20);
+
+        // Then
+        assertThat(buffer.start(), is(15L));
+        assertThat(buffer.end(), is(21L));
+        assertThat(buffer.get(15), is(15));
+        assertThat(buffer.get(20), is(20));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldThrowIndexOutOfBoundsExceptionForTrimmedIndex() throws Exception {
+        // Given
+        SpillableBuffer<Integer> buffer = new SpillableBuffer<Integer>(Integer.MAX_VALUE);
+        buffer.add(1);
+        buffer.add(2);
+        buffer.trimTo(1);
+
+        // When
+        buffer.get(0);
+
+        // Then an IndexOutOfBoundsException is thrown
+    }
+
+    @Test
+    public void shouldSpillOldestElementsToDiskBeyondThresholdAndReadThemBack() throws Exception {
+        // Given
+        SpillableBuffer<String> buffer = new SpillableBuffer<String>(4);
+
+        try {
+            // When
+            for (int i = 0; i < 10; i++) {
+                buffer.add("element-" + i);
+            }
+
+            // Then
+            assertThat(buffer.spilledCount() > 0, is(true));
+            for (int i = 0; i < 10; i++) {
+                assertThat(buffer.get(i), is("element-" + i));
+            }
+        } finally {
+            buffer.close();
+        }
+    }
+
+    @Test
+    public void shouldDiscardSpilledElementsOnceTrimmedPast() throws Exception {
+        // Given
+        SpillableBuffer<Integer> buffer = new SpillableBuffer<Integer>(2);
+        try {
+            for (int i = 0; i < 10; i++) {
+                buffer.add(i);
+            }
+
+            // When
+            buffer.trimTo(9);
+            buffer.add(10);
+            buffer.add(11);
+            buffer.add(12);
+
+            // Then
+            assertThat(buffer.get(9), is(9));
+            assertThat(buffer.get(12), is(12));
+        } finally {
+            buffer.close();
+        }
+    }
+
+    @Test
+    public void shouldKeepTheSpillFileBoundedWhileTheSlowestConsumerSteadilyLags() throws Exception {
+        // Given
+        SpillableBuffer<String> buffer = new SpillableBuffer<String>(8);
+        long largestSpillFile = 0;
+
+        try {
+            // When
+            for (int i = 0; i < 5000; i++) {
+                buffer.add("element-" + i);
+                buffer.trimTo(i - 100);
+                largestSpillFile = Math.max(largestSpillFile, buffer.spilledBytes());
+            }
+
+            // Then
+            assertThat(buffer.spilledCount() > 0, is(true));
+            assertThat(largestSpillFile < 200 * 100, is(true));
+            for (long i = buffer.start(); i < buffer.end(); i++) {
+                assertThat(buffer.get(i), is("element-" + i));
+            }
+        } finally {
+            buffer.close();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfSpillThresholdIsNotPositive() throws Exception {
+        // When
+        new SpillableBuffer<Integer>(0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
@@ -141,6 +141,50 @@ public class PairTest {
         assertThat(secondDirection, is(false));
     }
 
+    @Test
+    public void shouldHaveEqualHashCodesIfEqual() throws Exception {
+        // Given
+        Pair<Integer, String> first = tuple(5, null);
+        Pair<Integer, String> second = tuple(5, null);
+
+        // When
+        int firstHashCode = first.hashCode();
+        int secondHashCode = second.hashCode();
+
+        // Then
+        assertThat(firstHashCode, is(secondHashCode));
+        assertThat(first.hashCode(), is(firstHashCode));
+    }
+
+    @Test
+    public void shouldCompareArrayValuesByContents() throws Exception {
+        // Given
+        Pair<Integer, int[]> first = tuple(5, new int[]{1, 2, 3});
+        Pair<Integer, int[]> second = tuple(5, new int[]{1, 2, 3});
+
+        // When
+        boolean isEqual = first.equals(second);
+
+        // Then
+        assertThat(isEqual, is(true));
+        assertThat(first.hashCode(), is(second.hashCode()));
+    }
+
+    @Test
+    public void shouldNotBeEqualToAPairWithADifferentHashCode() throws Exception {
+        // Given
+        Pair<Integer, String> first = tuple(5, "five");
+        Pair<Integer, String> second = tuple(5, "six");
+        first.hashCode();
+        second.hashCode();
+
+        // When
+        boolean isEqual = first.equals(second);
+
+        // Then
+        assertThat(isEqual, is(false));
+    }
+
     @Test
     public void shouldBeIterable() {
         // Given
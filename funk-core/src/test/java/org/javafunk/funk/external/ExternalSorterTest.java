@@ -0,0 +1,223 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.external;
+
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.external.Serializers.integerSerializer;
+import static org.javafunk.funk.external.Serializers.stringSerializer;
+import static org.javafunk.funk.external.SpillSpec.spillSpec;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class ExternalSorterTest {
+    private static final UnaryFunction<Integer, Integer> IDENTITY = new UnaryFunction<Integer, Integer>() {
+        @Override public Integer call(Integer input) {
+            return input;
+        }
+    };
+    private static final Comparator<Integer> NATURAL = new Comparator<Integer>() {
+        @Override public int compare(Integer first, Integer second) {
+            return first.compareTo(second);
+        }
+    };
+
+    private File directory;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("funk-sorter-test").toFile();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        directory.delete();
+    }
+
+    @Test
+    public void shouldSortInputsLargerThanTheInMemoryThresholdUsingMultipleMergePasses() throws Exception {
+        // Given
+        List<Integer> input = new ArrayList<Integer>();
+        Random random = new Random(17);
+        for (int i = 0; i < 5000; i++) {
+            input.add(random.nextInt(1000));
+        }
+        ExternalSorter<Integer, Integer> sorter = new ExternalSorter<Integer, Integer>(IDENTITY, NATURAL,
+                spillSpec(integerSerializer())
+                        .withInMemoryThreshold(37)
+                        .withMergeFanIn(3)
+                        .withTemporaryDirectory(directory));
+
+        // When
+        List<Integer> sorted = new ArrayList<Integer>(materialize(sorter.sort(input)));
+
+        // Then
+        List<Integer> expected = new ArrayList<Integer>(input);
+        Collections.sort(expected);
+        assertThat(sorted, is(expected));
+        assertThat(directory.list().length, is(0));
+    }
+
+    @Test
+    public void shouldRetainTheInputOrderOfElementsWithEqualKeysAcrossRuns() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("b1", "a1", "b2", "a2", "b3", "a3", "b4");
+        ExternalSorter<String, Character> sorter = new ExternalSorter<String, Character>(
+                new UnaryFunction<String, Character>() {
+                    @Override public Character call(String input) {
+                        return input.charAt(0);
+                    }
+                },
+                new Comparator<Character>() {
+                    @Override public int compare(Character first, Character second) {
+                        return first.compareTo(second);
+                    }
+                },
+                spillSpec(stringSerializer()).withInMemoryThreshold(2).withTemporaryDirectory(directory));
+
+        // When
+        Iterable<String> sorted = sorter.sort(input);
+
+        // Then
+        assertThat(materialize(sorted), hasOnlyItemsInOrder("a1", "a2", "a3", "b1", "b2", "b3", "b4"));
+    }
+
+    @Test
+    public void shouldDeleteTemporaryFilesWhenClosedBeforeBeingExhausted() throws Exception {
+        // Given
+        ExternalSorter<Integer, Integer> sorter = new ExternalSorter<Integer, Integer>(IDENTITY, NATURAL,
+                spillSpec(integerSerializer()).withInMemoryThreshold(2).withTemporaryDirectory(directory));
+        ExternalIterable<Integer> sorted = sorter.sort(iterableWith(5, 4, 3, 2, 1));
+        Iterator<Integer> iterator = sorted.iterator();
+        iterator.next();
+        assertThat(directory.list().length, is(1));
+
+        // When
+        sorted.close();
+
+        // Then
+        assertThat(directory.list().length, is(0));
+    }
+
+    @Test
+    public void shouldNotWriteToDiskIfTheInputFitsInMemory() throws Exception {
+        // Given
+        ExternalSorter<Integer, Integer> sorter = new ExternalSorter<Integer, Integer>(IDENTITY, NATURAL,
+                spillSpec(integerSerializer()).withTemporaryDirectory(directory));
+
+        // When
+        ExternalIterable<Integer> sorted = sorter.sort(iterableWith(3, 1, 2));
+
+        // Then
+        assertThat(directory.list().length, is(0));
+        assertThat(materialize(sorted), hasOnlyItemsInOrder(1, 2, 3));
+    }
+
+    @Test
+    public void shouldDeleteTemporaryFilesWhenWritingARunFails() throws Exception {
+        // Given
+        ExternalSorter<String, Integer> sorter = new ExternalSorter<String, Integer>(
+                new UnaryFunction<String, Integer>() {
+                    @Override public Integer call(String input) {
+                        return input == null ? 0 : input.length();
+                    }
+                },
+                NATURAL,
+                spillSpec(stringSerializer()).withInMemoryThreshold(2).withTemporaryDirectory(directory));
+        boolean thrown = false;
+
+        // When
+        try {
+            sorter.sort(iterableWith("one", "three", "four", null, "five"));
+        } catch (NullPointerException exception) {
+            thrown = true;
+        }
+
+        // Then
+        assertThat(thrown, is(true));
+        assertThat(directory.list().length, is(0));
+    }
+
+    @Test
+    public void shouldDeleteTemporaryFilesWhenConsolidatingRunsFails() throws Exception {
+        // Given
+        final Serializer<Integer> delegate = integerSerializer();
+        Serializer<Integer> failingSerializer = new Serializer<Integer>() {
+            private int reads;
+
+            @Override public void write(Integer element, DataOutput output) throws IOException {
+                delegate.write(element, output);
+            }
+
+            @Override public Integer read(DataInput input) throws IOException {
+                if (++reads == 5) {
+                    throw new IOException("Failed to read.");
+                }
+                return delegate.read(input);
+            }
+        };
+        ExternalSorter<Integer, Integer> sorter = new ExternalSorter<Integer, Integer>(IDENTITY, NATURAL,
+                spillSpec(failingSerializer)
+                        .withInMemoryThreshold(2)
+                        .withMergeFanIn(2)
+                        .withTemporaryDirectory(directory));
+        boolean thrown = false;
+
+        // When
+        try {
+            sorter.sort(iterableWith(9, 3, 7, 1, 8, 2, 6, 0, 5, 4));
+        } catch (IllegalStateException exception) {
+            thrown = true;
+        }
+
+        // Then
+        assertThat(thrown, is(true));
+        assertThat(directory.list().length, is(0));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrowIllegalStateExceptionIfIteratedMoreThanOnce() throws Exception {
+        // Given
+        ExternalSorter<Integer, Integer> sorter = new ExternalSorter<Integer, Integer>(IDENTITY, NATURAL,
+                spillSpec(integerSerializer()));
+        ExternalIterable<Integer> sorted = sorter.sort(iterableWith(3, 1, 2));
+        sorted.iterator();
+
+        // When
+        sorted.iterator();
+
+        // Then an IllegalStateException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTheMergeFanInIsLessThanTwo() throws Exception {
+        // When
+        spillSpec(integerSerializer()).withMergeFanIn(1);
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.external;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.math.BigDecimal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.external.Serializers.javaSerializer;
+import static org.javafunk.funk.external.Serializers.longSerializer;
+import static org.javafunk.funk.external.Serializers.stringSerializer;
+
+public class SerializersTest {
+    @Test
+    public void shouldReadBackConsecutiveElementsWrittenBySerializers() throws Exception {
+        // Given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+        Serializer<BigDecimal> decimals = javaSerializer();
+        stringSerializer().write("héllo", output);
+        decimals.write(new BigDecimal("1.25"), output);
+        longSerializer().write(Long.MIN_VALUE, output);
+        stringSerializer().write("", output);
+        output.close();
+
+        // When
+        DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        String first = stringSerializer().read(input);
+        BigDecimal second = decimals.read(input);
+        Long third = longSerializer().read(input);
+        String fourth = stringSerializer().read(input);
+
+        // Then
+        assertThat(first, is("héllo"));
+        assertThat(second, is(new BigDecimal("1.25")));
+        assertThat(third, is(Long.MIN_VALUE));
+        assertThat(fourth, is(""));
+        assertThat(input.available(), is(0));
+    }
+}
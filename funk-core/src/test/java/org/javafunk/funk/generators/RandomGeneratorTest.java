@@ -66,6 +66,35 @@ public class RandomGeneratorTest {
         assertThat(equal, is(false));
     }
 
+    @Test
+    public void shouldOnlyGenerateElementsFromTheSuppliedIterableWhenNoRandomIsSupplied() throws Exception {
+        // Given
+        RandomGenerator<String> generator = new RandomGenerator<String>(iterableWith("zeroth", "first", "second"));
+
+        // When
+        boolean allSupplied = true;
+        for (int i = 0; i < 100; i++) {
+            String value = generator.next();
+            allSupplied = allSupplied && (value.equals("zeroth") || value.equals("first") || value.equals("second"));
+        }
+
+        // Then
+        assertThat(allSupplied, is(true));
+    }
+
+    @Test
+    public void shouldHaveTheSameHashCodeIfSuppliedIterablesAreTheSame() throws Exception {
+        // Given
+        RandomGenerator<Integer> firstGenerator = new RandomGenerator<Integer>(iterableWith(1, 2, 3), new Random(1));
+        RandomGenerator<Integer> secondGenerator = new RandomGenerator<Integer>(iterableWith(1, 2, 3), new Random(2));
+
+        // When
+        boolean sameHashCode = firstGenerator.hashCode() == secondGenerator.hashCode();
+
+        // Then
+        assertThat(sameHashCode, is(true));
+    }
+
     @Test(expected = NullPointerException.class)
     public void shouldThrowANullPointerExceptionIfIterableSuppliedAtConstructionTimeIsNull() throws Exception {
         // Given
@@ -0,0 +1,135 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.generators;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+
+public class WeightedGeneratorTest {
+    @Test
+    public void shouldGenerateElementsInProportionToTheirWeights() throws Exception {
+        // Given
+        Map<String, Double> weights = new LinkedHashMap<String, Double>();
+        weights.put("rare", 1.0);
+        weights.put("common", 3.0);
+        weights.put("frequent", 6.0);
+        WeightedGenerator<String> generator = new WeightedGenerator<String>(weights, new Random(42));
+        Map<String, Integer> counts = new HashMap<String, Integer>();
+        int draws = 100000;
+
+        // When
+        for (int i = 0; i < draws; i++) {
+            String element = generator.next();
+            Integer count = counts.get(element);
+            counts.put(element, count == null ? 1 : count + 1);
+        }
+
+        // Then
+        assertThat(counts.get("rare") / (double) draws, closeTo(0.1, 0.01));
+        assertThat(counts.get("common") / (double) draws, closeTo(0.3, 0.01));
+        assertThat(counts.get("frequent") / (double) draws, closeTo(0.6, 0.01));
+    }
+
+    @Test
+    public void shouldNeverGenerateElementsWithAZeroWeight() throws Exception {
+        // Given
+        Map<String, Double> weights = new LinkedHashMap<String, Double>();
+        weights.put("never", 0.0);
+        weights.put("always", 2.5);
+        WeightedGenerator<String> generator = new WeightedGenerator<String>(weights);
+
+        // When
+        boolean onlyAlways = true;
+        for (int i = 0; i < 1000; i++) {
+            onlyAlways = onlyAlways && generator.next().equals("always");
+        }
+
+        // Then
+        assertThat(onlyAlways, is(true));
+    }
+
+    @Test
+    public void shouldGenerateTheSameSequenceForTheSameSeed() throws Exception {
+        // Given
+        Map<Integer, Double> weights = new LinkedHashMap<Integer, Double>();
+        for (int i = 0; i < 10; i++) {
+            weights.put(i, (double) i + 1);
+        }
+        WeightedGenerator<Integer> firstGenerator = new WeightedGenerator<Integer>(weights, new Random(7));
+        WeightedGenerator<Integer> secondGenerator = new WeightedGenerator<Integer>(weights, new Random(7));
+
+        // When
+        boolean same = true;
+        for (int i = 0; i < 100; i++) {
+            same = same && firstGenerator.next().equals(secondGenerator.next());
+        }
+
+        // Then
+        assertThat(same, is(true));
+    }
+
+    @Test
+    public void shouldBeEqualIfSuppliedWeightsAreTheSame() throws Exception {
+        // Given
+        Map<String, Double> weights = new LinkedHashMap<String, Double>();
+        weights.put("first", 1.0);
+        weights.put("second", 2.0);
+        WeightedGenerator<String> firstGenerator = new WeightedGenerator<String>(weights);
+        WeightedGenerator<String> secondGenerator = new WeightedGenerator<String>(weights, new Random());
+
+        // When
+        boolean equal = firstGenerator.equals(secondGenerator);
+
+        // Then
+        assertThat(equal, is(true));
+        assertThat(firstGenerator.hashCode(), is(secondGenerator.hashCode()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowAnIllegalArgumentExceptionIfAWeightIsNegative() throws Exception {
+        // Given
+        Map<String, Double> weights = new LinkedHashMap<String, Double>();
+        weights.put("first", 1.0);
+        weights.put("second", -1.0);
+
+        // When
+        new WeightedGenerator<String>(weights);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowAnIllegalArgumentExceptionIfAllWeightsAreZero() throws Exception {
+        // Given
+        Map<String, Double> weights = new LinkedHashMap<String, Double>();
+        weights.put("first", 0.0);
+        weights.put("second", 0.0);
+
+        // When
+        new WeightedGenerator<String>(weights);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowAnIllegalArgumentExceptionIfNoWeightsAreSupplied() throws Exception {
+        // When
+        new WeightedGenerator<String>(new HashMap<String, Double>());
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.javafunk.funk.Literals;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Iterators.asIterable;
+import static org.javafunk.funk.Literals.list;
+import static org.javafunk.funk.Literals.listFrom;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+
+public class CartesianProductIteratorTest {
+    private static final UnaryFunction<Object[], String> CONCATENATE = new UnaryFunction<Object[], String>() {
+        @Override public String call(Object[] values) {
+            StringBuilder builder = new StringBuilder();
+            for (Object value : values) {
+                builder.append(value);
+            }
+            return builder.toString();
+        }
+    };
+
+    @Test
+    public void shouldIterateTheProductWithTheLastDimensionVaryingFastest() throws Exception {
+        // Given
+        List<List<?>> dimensions = Literals.<List<?>>listWith(listWith(1, 2), listWith("a", "b"), listWith(true));
+        Iterator<String> iterator = new CartesianProductIterator<String>(dimensions, 0, 4, CONCATENATE);
+
+        // When
+        List<String> actual = listFrom(asIterable(iterator));
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder("1atrue", "1btrue", "2atrue", "2btrue"));
+    }
+
+    @Test
+    public void shouldStartFromTheSuppliedIndexAndStopBeforeTheSuppliedEndIndex() throws Exception {
+        // Given
+        List<List<?>> dimensions = Literals.<List<?>>listWith(listWith(1, 2, 3), listWith("a", "b", "c"));
+        Iterator<String> iterator = new CartesianProductIterator<String>(dimensions, 2, 7, CONCATENATE);
+
+        // When
+        List<String> actual = listFrom(asIterable(iterator));
+
+        // Then
+        assertThat(actual, hasOnlyItemsInOrder("1c", "2a", "2b", "2c", "3a"));
+    }
+
+    @Test
+    public void shouldHaveNoElementsIfTheIndexRangeIsEmpty() throws Exception {
+        // Given
+        List<List<?>> dimensions = Literals.<List<?>>listWith(listWith(1, 2), list());
+
+        // When
+        Iterator<String> iterator = new CartesianProductIterator<String>(dimensions, 0, 0, CONCATENATE);
+
+        // Then
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionIfNextCalledWhenNoMoreElements() throws Exception {
+        // Given
+        List<List<?>> dimensions = Literals.<List<?>>listWith(listWith(1), listWith("a"));
+        Iterator<String> iterator = new CartesianProductIterator<String>(dimensions, 0, 1, CONCATENATE);
+        iterator.next();
+
+        // When
+        iterator.next();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotSupportRemove() throws Exception {
+        // Given
+        List<List<?>> dimensions = Literals.<List<?>>listWith(listWith(1, 2), listWith("a"));
+        Iterator<String> iterator = new CartesianProductIterator<String>(dimensions, 0, 2, CONCATENATE);
+        iterator.next();
+
+        // When
+        iterator.remove();
+
+        // Then an UnsupportedOperationException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfIndexRangeIsDescending() throws Exception {
+        // Given
+        List<List<?>> dimensions = Literals.<List<?>>listWith(listWith(1, 2), listWith("a"));
+
+        // When
+        new CartesianProductIterator<String>(dimensions, 2, 1, CONCATENATE);
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.javafunk.funk.Iterators;
+import org.javafunk.funk.Lazily;
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.Predicate;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.javafunk.funk.Iterables.materialize;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.iteratorWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+import static org.junit.Assert.assertThat;
+
+public class ConcurrentlyMappedIteratorTest {
+    private ExecutorService executor;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void shouldReturnMappedElementsInSourceOrderRegardlessOfCompletionOrder() throws Exception {
+        // Given
+        Iterator<Integer> input = iteratorWith(40, 30, 20, 10, 0);
+        Mapper<Integer, Integer> sleepThenHalve = new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer millis) {
+                try {
+                    Thread.sleep(millis);
+                } catch (InterruptedException exception) {
+                    throw new RuntimeException(exception);
+                }
+                return millis / 2;
+            }
+        };
+
+        // When
+        Iterator<Integer> iterator = new ConcurrentlyMappedIterator<Integer, Integer>(input, sleepThenHalve, executor, 3);
+
+        // Then
+        assertThat(materialize(Iterators.asIterable(iterator)), hasOnlyItemsInOrder(20, 15, 10, 5, 0));
+    }
+
+    @Test
+    public void shouldNeverHaveMoreThanTheMaximumNumberOfCallsInFlight() throws Exception {
+        // Given
+        final AtomicInteger submitted = new AtomicInteger();
+        final AtomicInteger consumed = new AtomicInteger();
+        final AtomicInteger maximumInFlight = new AtomicInteger();
+        Mapper<Integer, Integer> recordingIdentity = new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                int inFlight = submitted.incrementAndGet() - consumed.get();
+                synchronized (maximumInFlight) {
+                    maximumInFlight.set(Math.max(maximumInFlight.get(), inFlight));
+                }
+                return input;
+            }
+        };
+        Iterator<Integer> iterator = new ConcurrentlyMappedIterator<Integer, Integer>(
+                iteratorWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), recordingIdentity, executor, 2);
+
+        // When
+        while (iterator.hasNext()) {
+            iterator.next();
+            consumed.incrementAndGet();
+        }
+
+        // Then
+        assertThat(submitted.get(), is(10));
+        assertThat(maximumInFlight.get(), is(lessThanOrEqualTo(2)));
+    }
+
+    @Test
+    public void shouldNotSubmitAnyCallsUntilIterated() throws Exception {
+        // Given
+        final AtomicInteger calls = new AtomicInteger();
+        Mapper<Integer, Integer> countingIdentity = new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                calls.incrementAndGet();
+                return input;
+            }
+        };
+
+        // When
+        Iterable<Integer> mapped = Lazily.mapConcurrently(iterableWith(1, 2, 3), countingIdentity, executor, 2);
+
+        // Then
+        assertThat(calls.get(), is(0));
+        assertThat(materialize(mapped), hasOnlyItemsInOrder(1, 2, 3));
+    }
+
+    @Test
+    public void shouldComposeWithOtherLazyFunctions() throws Exception {
+        // Given
+        Iterable<Integer> input = iterableWith(1, 2, 3, 4, 5, 6);
+        Mapper<Integer, Integer> square = new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                return input * input;
+            }
+        };
+
+        // When
+        Iterable<Integer> evenSquares = Lazily.filter(Lazily.mapConcurrently(input, square, executor, 4), new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input % 2 == 0;
+            }
+        });
+
+        // Then
+        assertThat(materialize(evenSquares), hasOnlyItemsInOrder(4, 16, 36));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRethrowExceptionsThrownByTheMappingFunction() throws Exception {
+        // Given
+        Mapper<Integer, Integer> failing = new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                if (input == 2) {
+                    throw new IllegalStateException("Boom");
+                }
+                return input;
+            }
+        };
+        Iterator<Integer> iterator = new ConcurrentlyMappedIterator<Integer, Integer>(
+                iteratorWith(1, 2, 3), failing, executor, 2);
+
+        // When
+        iterator.next();
+        iterator.next();
+
+        // Then an IllegalStateException is thrown
+    }
+
+    @Test
+    public void shouldEndIterationOnceTheMappingFunctionHasFailed() throws Exception {
+        // Given
+        Mapper<Integer, Integer> failing = new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                if (input == 2) {
+                    throw new IllegalStateException("Boom");
+                }
+                return input;
+            }
+        };
+        Iterator<Integer> iterator = new ConcurrentlyMappedIterator<Integer, Integer>(
+                iteratorWith(1, 2, 3, 4, 5, 6), failing, executor, 3);
+        iterator.next();
+        boolean thrown = false;
+        try {
+            iterator.next();
+        } catch (IllegalStateException exception) {
+            thrown = true;
+        }
+
+        // When
+        boolean hasNext = iterator.hasNext();
+
+        // Then
+        assertThat(thrown, is(true));
+        assertThat(hasNext, is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfMaximumInFlightIsNotPositive() throws Exception {
+        Lazily.mapConcurrently(iterableWith(1), new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                return input;
+            }
+        }, executor, 0);
+    }
+}
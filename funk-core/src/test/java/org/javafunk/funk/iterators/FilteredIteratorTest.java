@@ -305,4 +305,41 @@ public class FilteredIteratorTest {
         // Then
         assertThat(toString, containsString("the-predicate"));
     }
+
+    @Test
+    public void shouldThrowAStacklessNoSuchElementExceptionFromNextWhenExhausted() throws Exception {
+        // Given
+        Iterator<Integer> iterator = new FilteredIterator<Integer>(iteratorWith(1, 3), new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input % 2 == 0;
+            }
+        });
+
+        // When
+        try {
+            iterator.next();
+            fail("Expected a NoSuchElementException");
+        } catch (NoSuchElementException exception) {
+            // Then
+            assertThat(exception.getStackTrace().length, is(0));
+        }
+    }
+
+    @Test
+    public void shouldReturnElementsEqualToNullFromTheUnderlyingIterator() throws Exception {
+        // Given
+        Iterator<String> iterator = new FilteredIterator<String>(
+                iteratorWith("a", null, "b"), Predicates.<String>alwaysTrue());
+
+        // When
+        iterator.next();
+        boolean hasNullNext = iterator.hasNext();
+        String nullElement = iterator.next();
+
+        // Then
+        assertThat(hasNullNext, is(true));
+        assertThat(nullElement, is(nullValue()));
+        assertThat(iterator.next(), is("b"));
+        assertThat(iterator.hasNext(), is(false));
+    }
 }
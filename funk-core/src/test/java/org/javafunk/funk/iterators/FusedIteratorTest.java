@@ -0,0 +1,171 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.javafunk.funk.Iterators;
+import org.javafunk.funk.functors.Mapper;
+import org.javafunk.funk.functors.Predicate;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.*;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class FusedIteratorTest {
+    @Test
+    public void shouldApplyEachStageInOrderToEveryElement() {
+        // Given
+        Iterator<Integer> input = iteratorWith(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        List<FusedIterator.Stage> stages = listWith(
+                FusedIterator.filter(isEven()),
+                FusedIterator.map(timesTen()),
+                FusedIterator.reject(equalTo(40)),
+                FusedIterator.map(toStringMapper()));
+
+        // When
+        FusedIterator<String> iterator = new FusedIterator<String>(input, stages);
+
+        // Then
+        assertThat(Iterators.asList(iterator), hasOnlyItemsInOrder("20", "60", "80", "100"));
+    }
+
+    @Test
+    public void shouldStopPullingFromTheUnderlyingIteratorOnceATakeStageIsExhausted() {
+        // Given
+        @SuppressWarnings("unchecked")
+        Iterator<Integer> input = (Iterator<Integer>) mock(Iterator.class);
+        when(input.hasNext()).thenReturn(true);
+        when(input.next()).thenReturn(1, 2, 3, 4, 5, 6);
+        List<FusedIterator.Stage> stages = listWith(
+                FusedIterator.filter(isEven()),
+                FusedIterator.take(2));
+
+        // When
+        FusedIterator<Integer> iterator = new FusedIterator<Integer>(input, stages);
+
+        // Then
+        assertThat(iterator.next(), is(2));
+        assertThat(iterator.next(), is(4));
+        assertThat(iterator.hasNext(), is(false));
+        verify(input, times(4)).next();
+    }
+
+    @Test
+    public void shouldNotPullFromTheUnderlyingIteratorIfTakingZeroElements() {
+        // Given
+        @SuppressWarnings("unchecked")
+        Iterator<Integer> input = (Iterator<Integer>) mock(Iterator.class);
+        List<FusedIterator.Stage> stages = listWith(
+                FusedIterator.map(timesTen()),
+                FusedIterator.take(0));
+
+        // When
+        FusedIterator<Integer> iterator = new FusedIterator<Integer>(input, stages);
+
+        // Then
+        assertThat(iterator.hasNext(), is(false));
+        verify(input, never()).next();
+    }
+
+    @Test
+    public void shouldAllowHasNextToBeCalledMultipleTimesWithoutProgressingTheIterator() {
+        // Given
+        Iterator<Integer> input = iteratorWith(1, 2, 3, 4);
+        List<FusedIterator.Stage> stages = listWith(FusedIterator.filter(isEven()));
+
+        // When
+        FusedIterator<Integer> iterator = new FusedIterator<Integer>(input, stages);
+
+        // Then
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.hasNext(), is(true));
+        assertThat(iterator.next(), is(2));
+        assertThat(iterator.next(), is(4));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionIfDoesntHaveNext() {
+        // Given
+        Iterator<Integer> input = iteratorWith(1, 3);
+        List<FusedIterator.Stage> stages = listWith(FusedIterator.filter(isEven()));
+
+        // When
+        FusedIterator<Integer> iterator = new FusedIterator<Integer>(input, stages);
+        iterator.next();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test
+    public void shouldRemoveTheLastReturnedElementFromTheUnderlyingIterator() {
+        // Given
+        List<Integer> input = new ArrayList<Integer>(listWith(1, 2, 3, 4));
+        List<FusedIterator.Stage> stages = listWith(FusedIterator.filter(isEven()));
+
+        // When
+        FusedIterator<Integer> iterator = new FusedIterator<Integer>(input.iterator(), stages);
+        iterator.next();
+        iterator.remove();
+
+        // Then
+        assertThat(input, hasOnlyItemsInOrder(1, 3, 4));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfTakeStageIsGivenANegativeNumber() {
+        // When
+        FusedIterator.take(-1);
+
+        // Then an IllegalArgumentException is thrown
+    }
+
+    private static Predicate<Integer> isEven() {
+        return new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input % 2 == 0;
+            }
+        };
+    }
+
+    private static Predicate<Integer> equalTo(final Integer value) {
+        return new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer input) {
+                return input.equals(value);
+            }
+        };
+    }
+
+    private static Mapper<Integer, Integer> timesTen() {
+        return new Mapper<Integer, Integer>() {
+            @Override public Integer map(Integer input) {
+                return input * 10;
+            }
+        };
+    }
+
+    private static Mapper<Integer, String> toStringMapper() {
+        return new Mapper<Integer, String>() {
+            @Override public String map(Integer input) {
+                return String.valueOf(input);
+            }
+        };
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.javafunk.funk.functors.Predicate;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.javafunk.funk.Literals.iteratorWith;
+
+public class PartitionerTest {
+    private static final Predicate<Integer> IS_EVEN = new Predicate<Integer>() {
+        @Override public boolean evaluate(Integer item) {
+            return item != null && item % 2 == 0;
+        }
+    };
+
+    @Test
+    public void shouldAllowBothSidesToBeConsumedInAnyOrder() throws Exception {
+        // Given
+        Partitioner<Integer> partitioner = new Partitioner<Integer>(iteratorWith(1, 2, 3, 4, 5, 6), IS_EVEN, 10);
+        Iterator<Integer> evens = partitioner.matching();
+        Iterator<Integer> odds = partitioner.nonMatching();
+
+        // Then
+        assertThat(odds.next(), is(1));
+        assertThat(evens.next(), is(2));
+        assertThat(evens.next(), is(4));
+        assertThat(evens.next(), is(6));
+        assertThat(evens.hasNext(), is(false));
+        assertThat(odds.next(), is(3));
+        assertThat(odds.next(), is(5));
+        assertThat(odds.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldEvaluateThePredicateOncePerElement() throws Exception {
+        // Given
+        final int[] evaluations = new int[1];
+        Partitioner<Integer> partitioner = new Partitioner<Integer>(iteratorWith(1, 2, 3, 4), new Predicate<Integer>() {
+            @Override public boolean evaluate(Integer item) {
+                evaluations[0]++;
+                return item % 2 == 0;
+            }
+        }, 10);
+
+        // When
+        Iterator<Integer> evens = partitioner.matching();
+        Iterator<Integer> odds = partitioner.nonMatching();
+        while (evens.hasNext()) evens.next();
+        while (odds.hasNext()) odds.next();
+
+        // Then
+        assertThat(evaluations[0], is(4));
+    }
+
+    @Test
+    public void shouldPassThroughNullElements() throws Exception {
+        // Given
+        Partitioner<Integer> partitioner = new Partitioner<Integer>(iteratorWith(2, null, 4), IS_EVEN, 1);
+
+        // When
+        Iterator<Integer> evens = partitioner.matching();
+        Iterator<Integer> others = partitioner.nonMatching();
+        evens.next();
+        evens.next();
+
+        // Then
+        assertThat(others.next(), is(nullValue()));
+        assertThat(others.hasNext(), is(false));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrowIllegalStateExceptionIfLaggingSideExceedsBufferCapacity() throws Exception {
+        // Given
+        Partitioner<Integer> partitioner = new Partitioner<Integer>(iteratorWith(1, 3, 5, 2), IS_EVEN, 2);
+
+        // When
+        partitioner.matching().next();
+
+        // Then an IllegalStateException is thrown
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionIfSideIsExhausted() throws Exception {
+        // Given
+        Partitioner<Integer> partitioner = new Partitioner<Integer>(iteratorWith(1, 3), IS_EVEN, 2);
+
+        // When
+        partitioner.matching().next();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfBufferCapacityIsNegative() throws Exception {
+        new Partitioner<Integer>(iteratorWith(1, 2), IS_EVEN, -1);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.javafunk.funk.Lazily;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.iteratorWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+import static org.junit.Assert.assertThat;
+
+public class RecyclingBatchedIteratorTest {
+    @Test
+    public void shouldRefillTheSameBatchWithEachSuccessiveBatchOfElements() throws Exception {
+        // Given
+        Iterator<Iterable<Integer>> iterator = new RecyclingBatchedIterator<Integer>(iteratorWith(1, 2, 3, 4, 5), 2);
+
+        // When
+        Iterable<Integer> firstBatch = iterator.next();
+        assertThat(firstBatch, hasOnlyItemsInOrder(1, 2));
+        Iterable<Integer> secondBatch = iterator.next();
+        assertThat(secondBatch, hasOnlyItemsInOrder(3, 4));
+        Iterable<Integer> thirdBatch = iterator.next();
+
+        // Then
+        assertThat(thirdBatch, hasOnlyItemsInOrder(5));
+        assertThat(thirdBatch, is(sameInstance(firstBatch)));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldReturnRecycledBatchesFromLazilyBatchReusingBuffer() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("a", "b", "c");
+
+        // When
+        Iterator<Iterable<String>> iterator = Lazily.batchReusingBuffer(input, 2).iterator();
+
+        // Then
+        assertThat(iterator.next(), hasOnlyItemsInOrder("a", "b"));
+        assertThat(iterator.next(), hasOnlyItemsInOrder("c"));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionIfNoBatchesRemain() throws Exception {
+        // Given
+        Iterator<Iterable<Integer>> iterator = new RecyclingBatchedIterator<Integer>(iteratorWith(1), 2);
+        iterator.next();
+
+        // When
+        iterator.next();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfBatchSizeIsNotPositive() throws Exception {
+        Lazily.batchReusingBuffer(iterableWith(1), 0);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.javafunk.funk.Eagerly;
+import org.javafunk.funk.Lazily;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iterableWith;
+import static org.javafunk.funk.Literals.listWith;
+import static org.javafunk.matchbox.Matchers.hasOnlyItemsInOrder;
+import static org.junit.Assert.assertThat;
+
+public class SubListBatchedIteratorTest {
+    @Test
+    public void shouldReturnSubListViewsOfTheSpecifiedSize() throws Exception {
+        // Given
+        List<String> input = listWith("a", "b", "c", "d", "e");
+
+        // When
+        Iterator<Iterable<String>> iterator = new SubListBatchedIterator<String>(input, 2);
+
+        // Then
+        assertThat(iterator.next(), hasOnlyItemsInOrder("a", "b"));
+        assertThat(iterator.next(), hasOnlyItemsInOrder("c", "d"));
+        assertThat(iterator.next(), hasOnlyItemsInOrder("e"));
+        assertThat(iterator.hasNext(), is(false));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldReturnReadOnlyBatches() throws Exception {
+        // Given
+        List<String> input = listWith("a", "b", "c");
+
+        // When
+        Collection<String> batch = (Collection<String>) new SubListBatchedIterator<String>(input, 2).next();
+        batch.clear();
+
+        // Then an UnsupportedOperationException is thrown
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionIfNoBatchesRemain() throws Exception {
+        // Given
+        Iterator<Iterable<String>> iterator = new SubListBatchedIterator<String>(listWith("a"), 2);
+        iterator.next();
+
+        // When
+        iterator.next();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfBatchSizeIsNotPositive() throws Exception {
+        new SubListBatchedIterator<String>(listWith("a"), 0);
+    }
+
+    @Test
+    public void shouldFallBackToCopyingBatchesForNonListIterables() throws Exception {
+        // Given
+        Iterable<String> input = iterableWith("a", "b", "c");
+
+        // When
+        Iterator<Iterable<String>> iterator = Lazily.batchAsViews(input, 2).iterator();
+
+        // Then
+        assertThat(iterator.next(), hasOnlyItemsInOrder("a", "b"));
+        assertThat(iterator.next(), hasOnlyItemsInOrder("c"));
+    }
+
+    @Test
+    public void shouldEagerlyBatchListsIntoViews() throws Exception {
+        // Given
+        List<Integer> input = listWith(1, 2, 3, 4, 5, 6, 7);
+
+        // When
+        Collection<Collection<Integer>> batches = Eagerly.batchAsViews(input, 3);
+
+        // Then
+        assertThat(batches.size(), is(3));
+        assertThat(batches.iterator().next(), hasOnlyItemsInOrder(1, 2, 3));
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iteratorWith;
+
+public class TeeTest {
+    @Test
+    public void shouldYieldEveryElementToEachConsumer() throws Exception {
+        // Given
+        Tee<Integer> tee = new Tee<Integer>(iteratorWith(1, 2, 3), 2, Integer.MAX_VALUE);
+        Iterator<Integer> first = tee.consumer(0);
+        Iterator<Integer> second = tee.consumer(1);
+
+        // When
+        Integer firstOfFirst = first.next();
+        Integer secondOfFirst = first.next();
+        Integer firstOfSecond = second.next();
+        Integer thirdOfFirst = first.next();
+        Integer secondOfSecond = second.next();
+        Integer thirdOfSecond = second.next();
+
+        // Then
+        assertThat(firstOfFirst, is(1));
+        assertThat(secondOfFirst, is(2));
+        assertThat(thirdOfFirst, is(3));
+        assertThat(firstOfSecond, is(1));
+        assertThat(secondOfSecond, is(2));
+        assertThat(thirdOfSecond, is(3));
+        assertThat(first.hasNext(), is(false));
+        assertThat(second.hasNext(), is(false));
+    }
+
+    @Test
+    public void shouldPullEachElementFromTheUnderlyingIteratorExactlyOnce() throws Exception {
+        // Given
+        final Iterator<Integer> elements = iteratorWith(1, 2);
+        final int[] pulls = new int[1];
+        Iterator<Integer> iterator = new Iterator<Integer>() {
+            @Override public boolean hasNext() {
+                return elements.hasNext();
+            }
+
+            @Override public Integer next() {
+                pulls[0]++;
+                return elements.next();
+            }
+
+            @Override public void remove() {
+                throw new UnsupportedOperationException();
+            }
+        };
+        Tee<Integer> tee = new Tee<Integer>(iterator, 3, Integer.MAX_VALUE);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            Iterator<Integer> consumer = tee.consumer(i);
+            while (consumer.hasNext()) {
+                consumer.next();
+            }
+        }
+
+        // Then
+        assertThat(pulls[0], is(2));
+    }
+
+    @Test
+    public void shouldOnlyBufferElementsBetweenSlowestAndFastestConsumers() throws Exception {
+        // Given
+        Tee<Integer> tee = new Tee<Integer>(iteratorWith(1, 2, 3, 4, 5), 2, Integer.MAX_VALUE);
+        Iterator<Integer> first = tee.consumer(0);
+        Iterator<Integer> second = tee.consumer(1);
+        first.next();
+        first.next();
+        first.next();
+
+        // When
+        second.next();
+        second.next();
+
+        // Then
+        assertThat(tee.bufferedCount(), is(1L));
+    }
+
+    @Test
+    public void shouldSpillBufferedElementsBeyondThreshold() throws Exception {
+        // Given
+        Tee<Integer> tee = new Tee<Integer>(iteratorWith(1, 2, 3, 4, 5, 6, 7, 8), 2, 2);
+        Iterator<Integer> first = tee.consumer(0);
+        Iterator<Integer> second = tee.consumer(1);
+        while (first.hasNext()) {
+            first.next();
+        }
+
+        // When
+        StringBuilder elements = new StringBuilder();
+        while (second.hasNext()) {
+            elements.append(second.next());
+        }
+
+        // Then
+        assertThat(elements.toString(), is("12345678"));
+        assertThat(tee.bufferedCount(), is(0L));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionIfConsumerExhausted() throws Exception {
+        // Given
+        Tee<Integer> tee = new Tee<Integer>(iteratorWith(1), 2, Integer.MAX_VALUE);
+        Iterator<Integer> consumer = tee.consumer(1);
+        consumer.next();
+
+        // When
+        consumer.next();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldThrowIllegalStateExceptionIfConsumedOnceClosed() throws Exception {
+        // Given
+        Tee<Integer> tee = new Tee<Integer>(iteratorWith(1, 2, 3, 4, 5, 6), 2, 2);
+        Iterator<Integer> first = tee.consumer(0);
+        while (first.hasNext()) {
+            first.next();
+        }
+        tee.close();
+
+        // When
+        tee.consumer(1).hasNext();
+
+        // Then an IllegalStateException is thrown
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfNumberOfConsumersIsNotPositive() throws Exception {
+        // When
+        new Tee<Integer>(iteratorWith(1), 0, Integer.MAX_VALUE);
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
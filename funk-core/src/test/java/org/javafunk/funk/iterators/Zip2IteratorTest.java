@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.javafunk.funk.datastructures.tuples.Pair;
+import org.junit.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iterator;
+import static org.javafunk.funk.Literals.iteratorWith;
+import static org.javafunk.funk.Literals.tuple;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class Zip2IteratorTest {
+    @Test
+    public void shouldZipElementsIntoPairsUntilTheShortestIteratorIsExhausted() throws Exception {
+        // Given
+        Iterator<Integer> first = iteratorWith(1, 2, 3);
+        Iterator<String> second = iteratorWith("a", "b");
+        Iterator<Pair<Integer, String>> iterator = new Zip2Iterator<Integer, String>(first, second);
+
+        // When
+        Pair<Integer, String> firstPair = iterator.next();
+        Pair<Integer, String> secondPair = iterator.next();
+        boolean hasNext = iterator.hasNext();
+
+        // Then
+        assertThat(firstPair, is(tuple(1, "a")));
+        assertThat(secondPair, is(tuple(2, "b")));
+        assertThat(hasNext, is(false));
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void shouldThrowNoSuchElementExceptionIfAnyIteratorIsExhausted() throws Exception {
+        // Given
+        Iterator<Integer> first = iteratorWith(1);
+        Iterator<String> second = iterator();
+        Iterator<Pair<Integer, String>> iterator = new Zip2Iterator<Integer, String>(first, second);
+
+        // When
+        iterator.next();
+
+        // Then a NoSuchElementException is thrown
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void shouldNotSupportRemove() throws Exception {
+        // Given
+        Iterator<Pair<Integer, String>> iterator = new Zip2Iterator<Integer, String>(
+                iteratorWith(1), iteratorWith("a"));
+        iterator.next();
+
+        // When
+        iterator.remove();
+
+        // Then an UnsupportedOperationException is thrown
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfAnySuppliedIteratorIsNull() throws Exception {
+        // Given
+        Iterator<Integer> first = iteratorWith(1, 2);
+        Iterator<String> second = null;
+
+        // When
+        new Zip2Iterator<Integer, String>(first, second);
+
+        // Then a NullPointerException is thrown
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldIncludeIteratorsInToStringRepresentation() throws Exception {
+        // Given
+        Iterator<Integer> first = (Iterator<Integer>) mock(Iterator.class);
+        Iterator<String> second = (Iterator<String>) mock(Iterator.class);
+        Zip2Iterator<Integer, String> iterator = new Zip2Iterator<Integer, String>(first, second);
+
+        when(first.toString()).thenReturn("the-first-iterator");
+        when(second.toString()).thenReturn("the-second-iterator");
+
+        // When
+        String toString = iterator.toString();
+
+        // Then
+        assertThat(toString, containsString("the-first-iterator"));
+        assertThat(toString, containsString("the-second-iterator"));
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.iterators;
+
+import org.javafunk.funk.datastructures.tuples.Nonuple;
+import org.junit.Test;
+
+import java.util.Iterator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Literals.iteratorWith;
+import static org.javafunk.funk.Literals.tuple;
+
+public class Zip9IteratorTest {
+    @Test
+    public void shouldZipElementsIntoNonuplesUntilTheShortestIteratorIsExhausted() throws Exception {
+        // Given
+        Iterator<Nonuple<Integer, String, Boolean, Long, Character, Double, Integer, String, Boolean>> iterator =
+                new Zip9Iterator<Integer, String, Boolean, Long, Character, Double, Integer, String, Boolean>(
+                        iteratorWith(1, 2), iteratorWith("a", "b"), iteratorWith(true, false),
+                        iteratorWith(1L, 2L), iteratorWith('a', 'b'), iteratorWith(1.0, 2.0),
+                        iteratorWith(10), iteratorWith("z", "y"), iteratorWith(false, true));
+
+        // When
+        Nonuple<Integer, String, Boolean, Long, Character, Double, Integer, String, Boolean> nonuple = iterator.next();
+        boolean hasNext = iterator.hasNext();
+
+        // Then
+        assertThat(nonuple, is(tuple(1, "a", true, 1L, 'a', 1.0, 10, "z", false)));
+        assertThat(hasNext, is(false));
+    }
+}
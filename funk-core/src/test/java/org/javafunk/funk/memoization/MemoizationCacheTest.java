@@ -0,0 +1,230 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.memoization;
+
+import org.javafunk.funk.functors.functions.NullaryFunction;
+import org.javafunk.funk.functors.functions.UnaryFunction;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.javafunk.funk.memoization.MemoizationSpec.memoizationSpec;
+
+public class MemoizationCacheTest {
+    private final AtomicInteger calls = new AtomicInteger();
+    private final UnaryFunction<Integer, String> countingToString = new UnaryFunction<Integer, String>() {
+        @Override public String call(Integer input) {
+            calls.incrementAndGet();
+            return String.valueOf(input);
+        }
+    };
+
+    @Test
+    public void shouldComputeEachResultOnlyOnce() throws Exception {
+        // Given
+        MemoizationCache<Integer, String> cache = new MemoizationCache<Integer, String>(memoizationSpec());
+
+        // When
+        String first = cache.get(1, countingToString);
+        String second = cache.get(1, countingToString);
+
+        // Then
+        assertThat(first, is("1"));
+        assertThat(second, is("1"));
+        assertThat(calls.get(), is(1));
+        assertThat(cache.statistics(), is(new MemoizationStatistics(1, 1, 0, 0)));
+    }
+
+    @Test
+    public void shouldSupportNullKeysAndResults() throws Exception {
+        // Given
+        MemoizationCache<Integer, String> cache = new MemoizationCache<Integer, String>(memoizationSpec());
+        UnaryFunction<Integer, String> function = new UnaryFunction<Integer, String>() {
+            @Override public String call(Integer input) {
+                calls.incrementAndGet();
+                return null;
+            }
+        };
+
+        // When
+        cache.get(null, function);
+        String result = cache.get(null, function);
+
+        // Then
+        assertThat(result, is(nullValue()));
+        assertThat(calls.get(), is(1));
+    }
+
+    @Test
+    public void shouldEvictTheLeastRecentlyUsedResultWhenMaximumSizeExceeded() throws Exception {
+        // Given
+        MemoizationCache<Integer, String> cache = new MemoizationCache<Integer, String>(
+                memoizationSpec().withMaximumSize(2));
+        cache.get(1, countingToString);
+        cache.get(2, countingToString);
+        cache.get(1, countingToString);
+
+        // When
+        cache.get(3, countingToString);
+        cache.get(1, countingToString);
+        cache.get(2, countingToString);
+
+        // Then
+        assertThat(calls.get(), is(4));
+        assertThat(cache.statistics().getEvictionCount(), is(2L));
+    }
+
+    @Test
+    public void shouldEvictTheLeastFrequentlyUsedResultWhenMaximumSizeExceeded() throws Exception {
+        // Given
+        MemoizationCache<Integer, String> cache = new MemoizationCache<Integer, String>(
+                memoizationSpec().withMaximumSize(2).withEviction(MemoizationSpec.Eviction.LEAST_FREQUENTLY_USED));
+        cache.get(1, countingToString);
+        cache.get(1, countingToString);
+        cache.get(1, countingToString);
+        cache.get(2, countingToString);
+        cache.get(2, countingToString);
+
+        // When
+        cache.get(3, countingToString);
+        cache.get(1, countingToString);
+        cache.get(2, countingToString);
+
+        // Then
+        assertThat(calls.get(), is(3));
+        assertThat(cache.statistics().getEvictionCount(), is(1L));
+    }
+
+    @Test
+    public void shouldRecomputeResultsOnceExpired() throws Exception {
+        // Given
+        final AtomicLong time = new AtomicLong();
+        MemoizationCache<Integer, String> cache = new MemoizationCache<Integer, String>(memoizationSpec()
+                .withExpiryAfterWrite(10, TimeUnit.NANOSECONDS)
+                .withTicker(new NullaryFunction<Long>() {
+                    @Override public Long call() {
+                        return time.get();
+                    }
+                }));
+        cache.get(1, countingToString);
+        time.set(9);
+        cache.get(1, countingToString);
+
+        // When
+        time.set(10);
+        cache.get(1, countingToString);
+
+        // Then
+        assertThat(calls.get(), is(2));
+        assertThat(cache.statistics(), is(new MemoizationStatistics(1, 2, 0, 1)));
+    }
+
+    @Test
+    public void shouldNotRetainResultIfComputationThrows() throws Exception {
+        // Given
+        MemoizationCache<Integer, String> cache = new MemoizationCache<Integer, String>(memoizationSpec());
+        UnaryFunction<Integer, String> failing = new UnaryFunction<Integer, String>() {
+            @Override public String call(Integer input) {
+                calls.incrementAndGet();
+                throw new IllegalStateException("failed");
+            }
+        };
+        try {
+            cache.get(1, failing);
+        } catch (IllegalStateException exception) {
+            // expected
+        }
+
+        // When
+        String result = cache.get(1, countingToString);
+
+        // Then
+        assertThat(result, is("1"));
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void shouldRethrowRuntimeExceptionsThrownByTheComputation() throws Exception {
+        // Given
+        MemoizationCache<Integer, String> cache = new MemoizationCache<Integer, String>(memoizationSpec());
+
+        // When
+        cache.get(1, new UnaryFunction<Integer, String>() {
+            @Override public String call(Integer input) {
+                throw new IllegalStateException("failed");
+            }
+        });
+
+        // Then an IllegalStateException is thrown
+    }
+
+    @Test
+    public void shouldComputeResultOnlyOnceWhenRequestedConcurrently() throws Exception {
+        // Given
+        final MemoizationCache<Integer, String> cache = new MemoizationCache<Integer, String>(memoizationSpec());
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final UnaryFunction<Integer, String> slow = new UnaryFunction<Integer, String>() {
+            @Override public String call(Integer input) {
+                calls.incrementAndGet();
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException exception) {
+                    throw new IllegalStateException(exception);
+                }
+                return String.valueOf(input);
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<String>> results = new ArrayList<Future<String>>();
+
+        try {
+            // When
+            for (int i = 0; i < 4; i++) {
+                results.add(executor.submit(new Callable<String>() {
+                    @Override public String call() {
+                        return cache.get(7, slow);
+                    }
+                }));
+                started.await();
+            }
+            release.countDown();
+
+            // Then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS), is("7"));
+            }
+            assertThat(calls.get(), is(1));
+            assertThat(cache.statistics().getMissCount(), is(1L));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowIllegalArgumentExceptionIfMaximumSizeIsNotPositive() throws Exception {
+        // When
+        memoizationSpec().withMaximumSize(0);
+
+        // Then an IllegalArgumentException is thrown
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (C) 2011-Present Funk committers.
+ * All rights reserved.
+ *
+ * The software in this package is published under the terms of the BSD
+ * style license a copy of which has been included with this distribution in
+ * the LICENSE.txt file.
+ */
+package org.javafunk.funk.predicates;
+
+import org.javafunk.funk.Literals;
+import org.javafunk.funk.functors.Predicate;
+import org.javafunk.funk.functors.predicates.UnaryPredicate;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.javafunk.funk.Predicates.alwaysFalse;
+import static org.javafunk.funk.Predicates.alwaysTrue;
+import static org.javafunk.funk.Predicates.equalTo;
+import static org.javafunk.funk.Predicates.not;
+import static org.javafunk.funk.predicates.AndPredicate.and;
+import static org.javafunk.funk.predicates.OrPredicate.or;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.anyObject;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CompiledPredicateTest {
+    @Mock private Predicate<Object> firstPredicate;
+    @Mock private Predicate<Object> secondPredicate;
+    @Mock private Predicate<Object> thirdPredicate;
+
+    @Test
+    public void shouldEvaluateToTheSameResultAsTheNestedPredicateItWasCompiledFrom() throws Exception {
+        // Given
+        Predicate<Integer> nested = or(
+                and(not(equalTo(1)), not(equalTo(2))),
+                and(equalTo(1), not(not(equalTo(1)))));
+
+        // When
+        CompiledPredicate<Integer> compiled = CompiledPredicate.compile(nested);
+
+        // Then
+        for (int value = 0; value < 4; value++) {
+            assertThat(compiled.evaluate(value), is(nested.evaluate(value)));
+        }
+    }
+
+    @Test
+    public void shouldFlattenNestedConjunctionsAndRemoveDoubleNegations() throws Exception {
+        // Given
+        Predicate<Object> nested = and(firstPredicate, and(not(not(secondPredicate)), thirdPredicate));
+
+        // When
+        CompiledPredicate<Object> compiled = CompiledPredicate.compile(nested);
+
+        // Then
+        assertThat(compiled.toString().contains(
+                "and[" + firstPredicate + ", " + secondPredicate + ", " + thirdPredicate + "]"), is(true));
+    }
+
+    @Test
+    public void shouldFlattenNestedConjunctionsWhenCompilingAdaptively() throws Exception {
+        // Given
+        Predicate<Object> nested = and(and(firstPredicate, secondPredicate), thirdPredicate);
+
+        // When
+        CompiledPredicate<Object> compiled = CompiledPredicate.compileAdaptively(nested);
+
+        // Then
+        assertThat(compiled.toString().contains(
+                "and[" + firstPredicate + ", " + secondPredicate + ", " + thirdPredicate + "]"), is(true));
+    }
+
+    @Test
+    public void shouldNotCallSubsequentPredicatesIfEarlierPredicateShortCircuits() throws Exception {
+        // Given
+        given(firstPredicate.evaluate(anyObject())).willReturn(true);
+        given(secondPredicate.evaluate(anyObject())).willReturn(false);
+        CompiledPredicate<Object> compiled = CompiledPredicate.compileAll(
+                Literals.<UnaryPredicate<Object>>iterableWith(firstPredicate, secondPredicate, thirdPredicate));
+
+        // When
+        boolean result = compiled.evaluate(new Object());
+
+        // Then
+        assertThat(result, is(false));
+        verify(thirdPredicate, never()).evaluate(anyObject());
+    }
+
+    @Test
+    public void shouldFoldAwayConstantPredicates() throws Exception {
+        // Given
+        Predicate<Object> nested = or(and(firstPredicate, alwaysFalse()), and(alwaysTrue(), secondPredicate));
+        given(secondPredicate.evaluate(anyObject())).willReturn(true);
+
+        // When
+        boolean result = CompiledPredicate.compile(nested).evaluate(new Object());
+
+        // Then
+        assertThat(result, is(true));
+        verify(firstPredicate, never()).evaluate(anyObject());
+    }
+
+    @Test
+    public void shouldReturnTrueForAnEmptyConjunction() throws Exception {
+        // Given
+        Iterable<UnaryPredicate<Object>> predicates = Literals.iterable();
+
+        // When
+        boolean result = CompiledPredicate.compileAll(predicates).evaluate(new Object());
+
+        // Then
+        assertThat(result, is(true));
+    }
+
+    @Test
+    public void shouldEvaluateAdaptivelyCompiledPredicateCorrectlyUnderConcurrentUse() throws Exception {
+        // Given
+        final Predicate<Integer> nested = or(
+                and(not(equalTo(1)), not(equalTo(2)), not(equalTo(3))),
+                and(equalTo(1), not(not(equalTo(1)))));
+        final CompiledPredicate<Integer> compiled = CompiledPredicate.compileAdaptively(nested);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+
+        // When
+        try {
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(new Callable<Boolean>() {
+                    @Override public Boolean call() {
+                        for (int i = 0; i < CompiledPredicate.REORDERING_INTERVAL * 50; i++) {
+                            int value = i % 5;
+                            if (compiled.evaluate(value) != nested.evaluate(value)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+                }));
+            }
+
+            // Then
+            for (Future<Boolean> future : futures) {
+                assertThat(future.get(), is(true));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReorderAdaptiveConjunctionSoThatTheMostSelectivePredicateIsEvaluatedFirst() throws Exception {
+        // Given
+        given(firstPredicate.evaluate(anyObject())).willReturn(true);
+        given(secondPredicate.evaluate(anyObject())).willReturn(false);
+        CompiledPredicate<Object> compiled = CompiledPredicate.compileAllAdaptively(
+                Literals.<UnaryPredicate<Object>>iterableWith(firstPredicate, secondPredicate));
+        Object instance = new Object();
+
+        // When
+        for (int i = 0; i < CompiledPredicate.REORDERING_INTERVAL * 2; i++) {
+            assertThat(compiled.evaluate(instance), is(false));
+        }
+
+        // Then
+        verify(secondPredicate, times(CompiledPredicate.REORDERING_INTERVAL * 2)).evaluate(instance);
+        verify(firstPredicate, times(CompiledPredicate.REORDERING_INTERVAL)).evaluate(instance);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldThrowNullPointerExceptionIfAnySuppliedPredicateIsNull() throws Exception {
+        // Given
+        Iterable<UnaryPredicate<Object>> predicates = Literals.<UnaryPredicate<Object>>iterableWith(firstPredicate, null);
+
+        // When
+        CompiledPredicate.compileAll(predicates);
+
+        // Then a NullPointerException is thrown
+    }
+}